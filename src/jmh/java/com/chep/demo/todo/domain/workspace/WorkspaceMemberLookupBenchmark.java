@@ -0,0 +1,88 @@
+package com.chep.demo.todo.domain.workspace;
+
+import com.chep.demo.todo.domain.user.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// ./gradlew jmh -Pjmh.includes=WorkspaceMemberLookupBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WorkspaceMemberLookupBenchmark {
+
+    @Param({"100", "10000"})
+    private int memberCount;
+
+    private Workspace workspace;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        workspace = Workspace.of(user(1L), "org", null);
+        for (long userId = 2; userId <= memberCount; userId++) {
+            WorkspaceMember member = workspace.addMember(user(userId));
+            setId(WorkspaceMember.class, member, userId * 10);
+        }
+    }
+
+    @Benchmark
+    public WorkspaceMember requireActiveMember() {
+        return workspace.requireActiveMember(randomUserId());
+    }
+
+    @Benchmark
+    public WorkspaceMember requireMemberById() {
+        return workspace.requireMember(randomUserId() * 10);
+    }
+
+    @Benchmark
+    public boolean hasActiveMemberMiss() {
+        return workspace.hasActiveMember(-1L);
+    }
+
+    @Benchmark
+    public long countActiveMembers() {
+        return workspace.countActiveMembers();
+    }
+
+    // 로딩 직후 첫 접근에서 인덱스를 만드는 비용
+    @Benchmark
+    public Object buildIndex() {
+        return new WorkspaceMemberIndex(workspace.getMembers());
+    }
+
+    private long randomUserId() {
+        return ThreadLocalRandom.current().nextLong(2, memberCount + 1L);
+    }
+
+    private static User user(long id) throws ReflectiveOperationException {
+        User user = User.builder()
+                .name("user" + id)
+                .email("user" + id + "@example.com")
+                .password("12345678")
+                .build();
+        setId(User.class, user, id);
+        return user;
+    }
+
+    private static void setId(Class<?> type, Object target, long id) throws ReflectiveOperationException {
+        Field field = type.getDeclaredField("id");
+        field.setAccessible(true);
+        field.set(target, id);
+    }
+}
@@ -1,8 +1,14 @@
 package com.chep.demo.todo.config;
 
+import com.chep.demo.todo.infrastructure.idempotency.IdempotencyFilter;
 import com.chep.demo.todo.security.JwtAuthenticationFilter;
+import com.chep.demo.todo.security.RateLimitFilter;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -10,16 +16,30 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
 
+import java.util.List;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final IdempotencyFilter idempotencyFilter;
+    private final List<IpAddressMatcher> actuatorAllowedAddresses;
 
-    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter) {
+    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter,
+                          RateLimitFilter rateLimitFilter,
+                          IdempotencyFilter idempotencyFilter,
+                          @Value("${management.allowed-addresses:127.0.0.1/32,::1/128}") List<String> actuatorAllowedAddresses) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.rateLimitFilter = rateLimitFilter;
+        this.idempotencyFilter = idempotencyFilter;
+        this.actuatorAllowedAddresses = actuatorAllowedAddresses.stream()
+                .map(IpAddressMatcher::new)
+                .toList();
     }
 
     @Bean
@@ -29,15 +49,32 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
                 .authorizeHttpRequests(auth -> auth
+                        // SSE/스트리밍 응답이 끝날 때의 ASYNC 디스패치는 이미 인증된 요청의 연속이다.
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/api/auth/register", "/api/auth/login", "/api/auth/refresh").permitAll()
                         .requestMatchers("/api/auth/me").authenticated()
                         .requestMatchers("/api/todos/**").authenticated()
                         .requestMatchers("/api/workspaces/**").authenticated()
+                        .requestMatchers("/api/labels/**").authenticated()
+                        .requestMatchers("/api/recurring-todos/**").authenticated()
+                        // 보드 소켓은 핸드셰이크 인터셉터에서 토큰과 멤버십을 직접 확인한다.
+                        .requestMatchers("/ws/**").permitAll()
+                        // health는 로드밸런서/프로브용으로 열어 두고, 나머지 actuator는 허용된 주소에서만 본다.
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                        .requestMatchers("/actuator/**").access(fromAllowedAddress())
                         .anyRequest().permitAll()
                 )
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class)
+                .addFilterAfter(idempotencyFilter, RateLimitFilter.class);
         return http.build();
     }
+
+    private AuthorizationManager<RequestAuthorizationContext> fromAllowedAddress() {
+        return (authentication, context) -> new AuthorizationDecision(actuatorAllowedAddresses.stream()
+                .anyMatch(matcher -> matcher.matches(context.getRequest())));
+    }
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
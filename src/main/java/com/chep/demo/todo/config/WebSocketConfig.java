@@ -0,0 +1,32 @@
+package com.chep.demo.todo.config;
+
+import com.chep.demo.todo.controller.board.BoardHandshakeInterceptor;
+import com.chep.demo.todo.controller.board.BoardSocketHandler;
+import com.chep.demo.todo.service.board.BoardSocketProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+@Configuration
+@EnableWebSocket
+public class WebSocketConfig implements WebSocketConfigurer {
+    private final BoardSocketHandler boardSocketHandler;
+    private final BoardHandshakeInterceptor boardHandshakeInterceptor;
+    private final BoardSocketProperties boardSocketProperties;
+
+    public WebSocketConfig(BoardSocketHandler boardSocketHandler,
+                           BoardHandshakeInterceptor boardHandshakeInterceptor,
+                           BoardSocketProperties boardSocketProperties) {
+        this.boardSocketHandler = boardSocketHandler;
+        this.boardHandshakeInterceptor = boardHandshakeInterceptor;
+        this.boardSocketProperties = boardSocketProperties;
+    }
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(boardSocketHandler, "/ws/workspaces/{workspaceId}/projects/{projectId}/board")
+                .addInterceptors(boardHandshakeInterceptor)
+                .setAllowedOriginPatterns(boardSocketProperties.allowedOriginPatterns().toArray(String[]::new));
+    }
+}
@@ -0,0 +1,96 @@
+package com.chep.demo.todo.controller.board;
+
+import com.chep.demo.todo.domain.project.ProjectRepository;
+import com.chep.demo.todo.security.JwtTokenProvider;
+import com.chep.demo.todo.service.workspace.WorkspaceAuthorization;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriTemplate;
+
+import java.util.Map;
+
+/**
+ * 보드 소켓 핸드셰이크에서 JWT와 워크스페이스 멤버십을 확인한다.
+ * 브라우저 WebSocket은 헤더를 붙일 수 없으므로 access_token 쿼리 파라미터도 받는다.
+ */
+@Component
+public class BoardHandshakeInterceptor implements HandshakeInterceptor {
+    static final String PATH = "/ws/workspaces/{workspaceId}/projects/{projectId}/board";
+    static final String USER_ID = "userId";
+    static final String WORKSPACE_ID = "workspaceId";
+    static final String PROJECT_ID = "projectId";
+
+    private static final UriTemplate PATH_TEMPLATE = new UriTemplate(PATH);
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final WorkspaceAuthorization workspaceAuthorization;
+    private final ProjectRepository projectRepository;
+
+    public BoardHandshakeInterceptor(JwtTokenProvider jwtTokenProvider,
+                                     WorkspaceAuthorization workspaceAuthorization,
+                                     ProjectRepository projectRepository) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.workspaceAuthorization = workspaceAuthorization;
+        this.projectRepository = projectRepository;
+    }
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request,
+                                   ServerHttpResponse response,
+                                   WebSocketHandler wsHandler,
+                                   Map<String, Object> attributes) {
+        String token = resolveToken(request);
+        if (token == null || !jwtTokenProvider.validateToken(token) || !jwtTokenProvider.isAccessToken(token)) {
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+        Long userId = jwtTokenProvider.getUserIdFromToken(token);
+
+        Map<String, String> variables = PATH_TEMPLATE.match(request.getURI().getPath());
+        Long workspaceId;
+        Long projectId;
+        try {
+            workspaceId = Long.valueOf(variables.get(WORKSPACE_ID));
+            projectId = Long.valueOf(variables.get(PROJECT_ID));
+        } catch (NumberFormatException e) {
+            response.setStatusCode(HttpStatus.NOT_FOUND);
+            return false;
+        }
+
+        if (workspaceAuthorization.findActiveMember(workspaceId, userId).isEmpty()) {
+            response.setStatusCode(HttpStatus.FORBIDDEN);
+            return false;
+        }
+        if (projectRepository.findByIdAndWorkspaceId(projectId, workspaceId).isEmpty()) {
+            response.setStatusCode(HttpStatus.NOT_FOUND);
+            return false;
+        }
+
+        attributes.put(USER_ID, userId);
+        attributes.put(WORKSPACE_ID, workspaceId);
+        attributes.put(PROJECT_ID, projectId);
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request,
+                               ServerHttpResponse response,
+                               WebSocketHandler wsHandler,
+                               Exception exception) {
+    }
+
+    private String resolveToken(ServerHttpRequest request) {
+        String authHeader = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authHeader != null && authHeader.startsWith("Bearer ")) {
+            return authHeader.substring(7);
+        }
+        return UriComponentsBuilder.fromUri(request.getURI()).build()
+                .getQueryParams().getFirst("access_token");
+    }
+}
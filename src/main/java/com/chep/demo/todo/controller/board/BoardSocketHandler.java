@@ -0,0 +1,53 @@
+package com.chep.demo.todo.controller.board;
+
+import com.chep.demo.todo.service.board.BoardBroadcaster;
+import com.chep.demo.todo.service.board.BoardSession;
+import com.chep.demo.todo.service.board.BoardSocketProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.util.Map;
+
+/**
+ * 보드 변경을 받기만 하는 채널이다. 변경은 기존 REST API로 보낸다.
+ */
+@Component
+public class BoardSocketHandler extends TextWebSocketHandler {
+    private final BoardBroadcaster boardBroadcaster;
+    private final BoardSocketProperties properties;
+
+    public BoardSocketHandler(BoardBroadcaster boardBroadcaster, BoardSocketProperties properties) {
+        this.boardBroadcaster = boardBroadcaster;
+        this.properties = properties;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        // 느린 연결의 전송 대기가 한도를 넘으면 TERMINATE 전략으로 세션을 닫는다.
+        WebSocketSession decorated = new ConcurrentWebSocketSessionDecorator(
+                session,
+                (int) properties.sendTimeLimit().toMillis(),
+                properties.sendBufferSize(),
+                ConcurrentWebSocketSessionDecorator.OverflowStrategy.TERMINATE);
+        Map<String, Object> attributes = session.getAttributes();
+        boardBroadcaster.register(new BoardSession(
+                decorated,
+                (Long) attributes.get(BoardHandshakeInterceptor.USER_ID),
+                (Long) attributes.get(BoardHandshakeInterceptor.WORKSPACE_ID),
+                (Long) attributes.get(BoardHandshakeInterceptor.PROJECT_ID)));
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+        // 클라이언트 메시지는 무시한다.
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        boardBroadcaster.unregister(session.getId());
+    }
+}
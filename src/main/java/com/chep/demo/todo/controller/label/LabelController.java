@@ -0,0 +1,81 @@
+package com.chep.demo.todo.controller.label;
+
+import com.chep.demo.todo.domain.label.Label;
+import com.chep.demo.todo.dto.label.CreateLabelRequest;
+import com.chep.demo.todo.dto.label.LabelResponse;
+import com.chep.demo.todo.service.label.LabelService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.util.List;
+
+@Tag(name = "Label", description = "라벨 관리 API")
+@RestController
+@RequestMapping("/api/labels")
+public class LabelController {
+    private final LabelService labelService;
+
+    public LabelController(LabelService labelService) {
+        this.labelService = labelService;
+    }
+
+    private Long currentUserId() {
+        return (Long) SecurityContextHolder.getContext()
+                .getAuthentication()
+                .getPrincipal();
+    }
+
+    @Operation(summary = "라벨 목록", description = "현재 사용자의 라벨을 이름 순으로 반환합니다.")
+    @GetMapping
+    ResponseEntity<List<LabelResponse>> getLabels() {
+        Long userId = currentUserId();
+        List<LabelResponse> labels = labelService.getLabels(userId)
+                .stream()
+                .map(this::toResponse)
+                .toList();
+        return ResponseEntity.ok(labels);
+    }
+
+    @Operation(summary = "라벨 생성", description = "새 라벨을 생성합니다. 같은 이름의 라벨은 하나만 만들 수 있습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "생성 성공"),
+            @ApiResponse(responseCode = "400", description = "이름 누락 또는 중복")
+    })
+    @PostMapping
+    ResponseEntity<LabelResponse> createLabel(@Valid @RequestBody CreateLabelRequest request) {
+        Long userId = currentUserId();
+        Label label = labelService.createLabel(userId, request.name());
+
+        URI location = ServletUriComponentsBuilder
+                .fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(label.getId())
+                .toUri();
+
+        return ResponseEntity.created(location).body(toResponse(label));
+    }
+
+    @Operation(summary = "라벨 삭제", description = "라벨을 삭제하고 모든 Todo에서 떼어냅니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "삭제 성공"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않거나 권한이 없는 라벨 ID")
+    })
+    @DeleteMapping("/{id}")
+    ResponseEntity<Void> deleteLabel(@PathVariable Long id) {
+        Long userId = currentUserId();
+        labelService.deleteLabel(userId, id);
+        return ResponseEntity.noContent().build();
+    }
+
+    private LabelResponse toResponse(Label label) {
+        return new LabelResponse(label.getId(), label.getName());
+    }
+}
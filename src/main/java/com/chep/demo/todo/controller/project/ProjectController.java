@@ -1,9 +1,13 @@
 package com.chep.demo.todo.controller.project;
 
 import com.chep.demo.todo.domain.project.Project;
+import com.chep.demo.todo.domain.project.ProjectSummary;
 import com.chep.demo.todo.dto.project.CreateProjectRequest;
+import com.chep.demo.todo.dto.project.ProjectPageResponse;
 import com.chep.demo.todo.dto.project.ProjectResponse;
+import com.chep.demo.todo.dto.project.ProjectSummaryResponse;
 import com.chep.demo.todo.dto.project.UpdateProjectRequest;
+import com.chep.demo.todo.service.project.ProjectPage;
 import com.chep.demo.todo.service.project.ProjectService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -33,15 +37,20 @@ public class ProjectController {
                 .getPrincipal();
     }
 
-    @Operation(summary = "프로젝트 목록", description = "워크스페이스 내 프로젝트 목록을 반환합니다.")
+    @Operation(summary = "프로젝트 목록", description = "워크스페이스 내 프로젝트 목록을 커서 기반으로 반환합니다.")
     @GetMapping
-    ResponseEntity<List<ProjectResponse>> getProjects(@PathVariable Long workspaceId) {
+    ResponseEntity<ProjectPageResponse> getProjects(
+            @PathVariable Long workspaceId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "50") int size
+    ) {
         Long userId = currentUserId();
-        List<ProjectResponse> responses = projectService.getProjects(workspaceId, userId)
+        ProjectPage page = projectService.getProjects(workspaceId, userId, cursor, size);
+        List<ProjectSummaryResponse> items = page.projects()
                 .stream()
-                .map(this::toResponse)
+                .map(this::toSummaryResponse)
                 .toList();
-        return ResponseEntity.ok(responses);
+        return ResponseEntity.ok(new ProjectPageResponse(items, page.nextCursor()));
     }
 
     @Operation(summary = "프로젝트 상세", description = "프로젝트 정보를 반환합니다.")
@@ -100,4 +109,17 @@ public class ProjectController {
                 project.isDefaultProject()
         );
     }
+
+    private ProjectSummaryResponse toSummaryResponse(ProjectSummary project) {
+        return new ProjectSummaryResponse(
+                project.id(),
+                project.name(),
+                project.description(),
+                project.workspaceId(),
+                project.createdById(),
+                project.createdByName(),
+                project.defaultProject(),
+                project.todoCount()
+        );
+    }
 }
@@ -0,0 +1,245 @@
+package com.chep.demo.todo.controller.project;
+
+import com.chep.demo.todo.domain.todo.Todo;
+import com.chep.demo.todo.domain.todo.TodoStatus;
+import com.chep.demo.todo.dto.todo.BoardColumnResponse;
+import com.chep.demo.todo.dto.todo.CreateTodoRequest;
+import com.chep.demo.todo.dto.todo.MoveBoardCardRequest;
+import com.chep.demo.todo.dto.todo.MoveTodoRequest;
+import com.chep.demo.todo.dto.todo.TodoPageResponse;
+import com.chep.demo.todo.dto.todo.TodoResponse;
+import com.chep.demo.todo.dto.todo.UpdateAssigneesRequest;
+import com.chep.demo.todo.dto.todo.UpdateDueDateRequest;
+import com.chep.demo.todo.dto.todo.UpdatePriorityRequest;
+import com.chep.demo.todo.dto.todo.UpdateTodoRequest;
+import com.chep.demo.todo.service.dependency.TodoDependencyService;
+import com.chep.demo.todo.service.todo.BoardColumnPage;
+import com.chep.demo.todo.service.todo.ProjectTodoService;
+import com.chep.demo.todo.service.todo.TodoBoardService;
+import com.chep.demo.todo.service.todo.TodoPage;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.util.List;
+
+@Tag(name = "Project Todo", description = "프로젝트 Todo 보드 API")
+@RestController
+@RequestMapping("/api/workspaces/{workspaceId}/projects/{projectId}/todos")
+public class ProjectTodoController {
+    private final ProjectTodoService projectTodoService;
+    private final TodoBoardService todoBoardService;
+    private final TodoDependencyService todoDependencyService;
+
+    public ProjectTodoController(ProjectTodoService projectTodoService,
+                                 TodoBoardService todoBoardService,
+                                 TodoDependencyService todoDependencyService) {
+        this.projectTodoService = projectTodoService;
+        this.todoBoardService = todoBoardService;
+        this.todoDependencyService = todoDependencyService;
+    }
+
+    private Long currentUserId() {
+        return (Long) SecurityContextHolder.getContext()
+                .getAuthentication()
+                .getPrincipal();
+    }
+
+    @Operation(summary = "프로젝트 Todo 목록", description = "프로젝트의 Todo를 orderIndex 오름차순으로 커서 기반 조회합니다.")
+    @GetMapping
+    ResponseEntity<TodoPageResponse> getTodos(
+            @PathVariable Long workspaceId,
+            @PathVariable Long projectId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "100") int size
+    ) {
+        Long userId = currentUserId();
+        TodoPage page = projectTodoService.getTodos(workspaceId, projectId, userId, cursor, size);
+        List<TodoResponse> items = page.todos()
+                .stream()
+                .map(this::toResponse)
+                .toList();
+        return ResponseEntity.ok(new TodoPageResponse(items, page.nextCursor()));
+    }
+
+    @Operation(summary = "시작 가능한 프로젝트 Todo", description = "끝나지 않은 선행 작업이 없는 미완료 Todo를 orderIndex 순으로 반환합니다.")
+    @GetMapping("/ready")
+    ResponseEntity<List<TodoResponse>> getReady(
+            @PathVariable Long workspaceId,
+            @PathVariable Long projectId,
+            @RequestParam(defaultValue = "50") int limit
+    ) {
+        Long userId = currentUserId();
+        List<TodoResponse> items = todoDependencyService.getProjectReady(workspaceId, projectId, userId, limit)
+                .stream()
+                .map(this::toResponse)
+                .toList();
+        return ResponseEntity.ok(items);
+    }
+
+    @Operation(summary = "프로젝트 Todo 생성", description = "프로젝트에 Todo를 생성합니다. orderIndex가 null이면 마지막 순서에 배치됩니다.")
+    @PostMapping
+    ResponseEntity<TodoResponse> createTodo(
+            @PathVariable Long workspaceId,
+            @PathVariable Long projectId,
+            @Valid @RequestBody CreateTodoRequest request
+    ) {
+        Long userId = currentUserId();
+        Todo created = projectTodoService.createTodo(workspaceId, projectId, userId, request);
+
+        URI location = ServletUriComponentsBuilder
+                .fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(created.getId())
+                .toUri();
+
+        return ResponseEntity.created(location).body(toResponse(created));
+    }
+
+    @Operation(summary = "프로젝트 Todo 수정", description = "프로젝트 Todo의 제목과 내용을 수정합니다. 워크스페이스 활성 멤버면 누구나 수정할 수 있습니다.")
+    @PutMapping("/{todoId}")
+    ResponseEntity<TodoResponse> updateTodo(
+            @PathVariable Long workspaceId,
+            @PathVariable Long projectId,
+            @PathVariable Long todoId,
+            @Valid @RequestBody UpdateTodoRequest request
+    ) {
+        Long userId = currentUserId();
+        Todo updated = projectTodoService.updateTodo(workspaceId, projectId, userId, todoId, request);
+        return ResponseEntity.ok(toResponse(updated));
+    }
+
+    @Operation(summary = "프로젝트 Todo 담당자 변경", description = "프로젝트 Todo의 담당자를 교체합니다. 담당자는 워크스페이스 활성 멤버여야 합니다.")
+    @PatchMapping("/{todoId}/assignees")
+    ResponseEntity<TodoResponse> updateAssignees(
+            @PathVariable Long workspaceId,
+            @PathVariable Long projectId,
+            @PathVariable Long todoId,
+            @Valid @RequestBody UpdateAssigneesRequest request
+    ) {
+        Long userId = currentUserId();
+        Todo updated = projectTodoService.updateAssignees(workspaceId, projectId, userId, todoId, request);
+        return ResponseEntity.ok(toResponse(updated));
+    }
+
+    @Operation(summary = "프로젝트 Todo 마감일 변경", description = "프로젝트 Todo의 dueDate 값을 변경합니다.")
+    @PatchMapping("/{todoId}/due-date")
+    ResponseEntity<TodoResponse> updateDueDate(
+            @PathVariable Long workspaceId,
+            @PathVariable Long projectId,
+            @PathVariable Long todoId,
+            @Valid @RequestBody UpdateDueDateRequest request
+    ) {
+        Long userId = currentUserId();
+        Todo updated = projectTodoService.updateDueDate(workspaceId, projectId, userId, todoId, request);
+        return ResponseEntity.ok(toResponse(updated));
+    }
+
+    @Operation(summary = "프로젝트 Todo 우선순위 변경", description = "프로젝트 Todo의 priority(LOW, MEDIUM, HIGH, URGENT)를 변경합니다.")
+    @PatchMapping("/{todoId}/priority")
+    ResponseEntity<TodoResponse> updatePriority(
+            @PathVariable Long workspaceId,
+            @PathVariable Long projectId,
+            @PathVariable Long todoId,
+            @Valid @RequestBody UpdatePriorityRequest request
+    ) {
+        Long userId = currentUserId();
+        Todo updated = projectTodoService.updatePriority(workspaceId, projectId, userId, todoId, request.priority());
+        return ResponseEntity.ok(toResponse(updated));
+    }
+
+    @Operation(summary = "프로젝트 Todo 완료 토글", description = "프로젝트 Todo의 completed 상태를 토글합니다.")
+    @PatchMapping("/{todoId}/toggle")
+    ResponseEntity<Void> toggleTodoComplete(
+            @PathVariable Long workspaceId,
+            @PathVariable Long projectId,
+            @PathVariable Long todoId
+    ) {
+        Long userId = currentUserId();
+        projectTodoService.toggleTodoComplete(workspaceId, projectId, userId, todoId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "프로젝트 Todo 순서 이동", description = "프로젝트 안에서 Todo의 orderIndex를 재배치합니다.")
+    @PatchMapping("/{todoId}/move")
+    ResponseEntity<Void> moveTodo(
+            @PathVariable Long workspaceId,
+            @PathVariable Long projectId,
+            @PathVariable Long todoId,
+            @Valid @RequestBody MoveTodoRequest request
+    ) {
+        Long userId = currentUserId();
+        projectTodoService.move(workspaceId, projectId, userId, todoId, request);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "프로젝트 Todo 삭제", description = "프로젝트 Todo를 soft delete 방식으로 삭제합니다.")
+    @DeleteMapping("/{todoId}")
+    ResponseEntity<Void> deleteTodo(
+            @PathVariable Long workspaceId,
+            @PathVariable Long projectId,
+            @PathVariable Long todoId
+    ) {
+        Long userId = currentUserId();
+        projectTodoService.deleteTodo(workspaceId, projectId, userId, todoId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "프로젝트 보드 컬럼 조회", description = "프로젝트 보드에서 한 컬럼(status)의 카드를 순서대로 커서 기반 조회합니다.")
+    @GetMapping("/board")
+    ResponseEntity<BoardColumnResponse> getBoardColumn(
+            @PathVariable Long workspaceId,
+            @PathVariable Long projectId,
+            @RequestParam TodoStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        Long userId = currentUserId();
+        BoardColumnPage page = todoBoardService.getProjectColumn(workspaceId, projectId, userId, status, cursor, size);
+        return ResponseEntity.ok(new BoardColumnResponse(
+                page.status(),
+                page.todos().stream().map(this::toResponse).toList(),
+                page.nextCursor()
+        ));
+    }
+
+    @Operation(summary = "프로젝트 보드 카드 이동", description = "카드를 지정한 컬럼의 afterTodoId 뒤(없으면 맨 앞)로 이동합니다.")
+    @PatchMapping("/{todoId}/board")
+    ResponseEntity<TodoResponse> moveBoardCard(
+            @PathVariable Long workspaceId,
+            @PathVariable Long projectId,
+            @PathVariable Long todoId,
+            @Valid @RequestBody MoveBoardCardRequest request
+    ) {
+        Long userId = currentUserId();
+        Todo moved = todoBoardService.moveProjectCard(
+                workspaceId, projectId, userId, todoId, request.status(), request.afterTodoId());
+        return ResponseEntity.ok(toResponse(moved));
+    }
+
+    private TodoResponse toResponse(Todo todo) {
+        return new TodoResponse(
+                todo.getId(),
+                todo.getTitle(),
+                todo.getContent(),
+                todo.isCompleted(),
+                todo.getStatus(),
+                todo.getOrderIndex(),
+                todo.getDueDate(),
+                todo.getAssignees().stream()
+                        .map(assignee -> assignee.getUser().getId())
+                        .toList(),
+                todo.getProject() == null ? null : todo.getProject().getId(),
+                todo.getParent() == null ? null : todo.getParent().getId(),
+                todo.getLabels().stream()
+                        .map(label -> label.getId())
+                        .toList(),
+                todo.getPriority()
+        );
+    }
+}
@@ -0,0 +1,153 @@
+package com.chep.demo.todo.controller.recurrence;
+
+import com.chep.demo.todo.domain.recurrence.RecurrenceRule;
+import com.chep.demo.todo.domain.recurrence.RecurringTodo;
+import com.chep.demo.todo.dto.recurrence.CreateRecurringTodoRequest;
+import com.chep.demo.todo.dto.recurrence.RecurringTodoResponse;
+import com.chep.demo.todo.dto.recurrence.TodoOccurrenceResponse;
+import com.chep.demo.todo.dto.recurrence.UpdateOccurrenceRequest;
+import com.chep.demo.todo.service.recurrence.RecurringTodoService;
+import com.chep.demo.todo.service.recurrence.TodoOccurrence;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.List;
+
+@Tag(name = "Recurring Todo", description = "반복 Todo API")
+@RestController
+@RequestMapping("/api/recurring-todos")
+public class RecurringTodoController {
+    private final RecurringTodoService recurringTodoService;
+
+    public RecurringTodoController(RecurringTodoService recurringTodoService) {
+        this.recurringTodoService = recurringTodoService;
+    }
+
+    private Long currentUserId() {
+        return (Long) SecurityContextHolder.getContext()
+                .getAuthentication()
+                .getPrincipal();
+    }
+
+    @Operation(summary = "반복 Todo 목록", description = "현재 사용자의 반복 규칙을 반환합니다.")
+    @GetMapping
+    ResponseEntity<List<RecurringTodoResponse>> getRecurringTodos() {
+        Long userId = currentUserId();
+        List<RecurringTodoResponse> recurringTodos = recurringTodoService.getRecurringTodos(userId)
+                .stream()
+                .map(this::toResponse)
+                .toList();
+        return ResponseEntity.ok(recurringTodos);
+    }
+
+    @Operation(
+            summary = "반복 Todo 생성",
+            description = "반복 규칙을 생성합니다. frequency는 DAILY, WEEKLY, MONTHLY, CRON 중 하나이며 "
+                    + "CRON이 아니면 time이 필요합니다. 발생은 미리 만들지 않고 조회할 때 계산합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "생성 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 규칙, cron 식 또는 zone")
+    })
+    @PostMapping
+    ResponseEntity<RecurringTodoResponse> createRecurringTodo(@Valid @RequestBody CreateRecurringTodoRequest request) {
+        Long userId = currentUserId();
+        RecurringTodo recurringTodo = recurringTodoService.createRecurringTodo(userId, request);
+
+        URI location = ServletUriComponentsBuilder
+                .fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(recurringTodo.getId())
+                .toUri();
+
+        return ResponseEntity.created(location).body(toResponse(recurringTodo));
+    }
+
+    @Operation(summary = "반복 Todo 삭제", description = "반복 규칙과 저장된 발생을 모두 삭제합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "삭제 성공"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않거나 권한이 없는 ID")
+    })
+    @DeleteMapping("/{id}")
+    ResponseEntity<Void> deleteRecurringTodo(@PathVariable Long id) {
+        Long userId = currentUserId();
+        recurringTodoService.deleteRecurringTodo(userId, id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(
+            summary = "발생 조회",
+            description = "[from, to) 구간의 발생을 시각 순으로 반환합니다. 건너뛴 발생은 제외됩니다. (최대 92일)"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 구간 또는 zone")
+    })
+    @GetMapping("/occurrences")
+    ResponseEntity<List<TodoOccurrenceResponse>> getOccurrences(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "UTC") String zone) {
+        Long userId = currentUserId();
+        List<TodoOccurrenceResponse> occurrences = recurringTodoService.getOccurrences(userId, from, to, zone)
+                .stream()
+                .map(this::toResponse)
+                .toList();
+        return ResponseEntity.ok(occurrences);
+    }
+
+    @Operation(
+            summary = "발생 수정",
+            description = "occursAt 발생 하나의 제목/내용을 바꾸거나 완료 또는 건너뛰기로 표시합니다. null인 필드는 바꾸지 않습니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "수정 성공"),
+            @ApiResponse(responseCode = "400", description = "규칙에 없는 발생 시각"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않거나 권한이 없는 ID")
+    })
+    @PatchMapping("/{id}/occurrences")
+    ResponseEntity<TodoOccurrenceResponse> updateOccurrence(@PathVariable Long id,
+                                                            @Valid @RequestBody UpdateOccurrenceRequest request) {
+        Long userId = currentUserId();
+        TodoOccurrence occurrence = recurringTodoService.updateOccurrence(userId, id, request);
+        return ResponseEntity.ok(toResponse(occurrence));
+    }
+
+    private RecurringTodoResponse toResponse(RecurringTodo recurringTodo) {
+        RecurrenceRule rule = recurringTodo.rule();
+        return new RecurringTodoResponse(
+                recurringTodo.getId(),
+                recurringTodo.getTitle(),
+                recurringTodo.getContent(),
+                rule.getFrequency(),
+                rule.getInterval(),
+                rule.getDaysOfWeek(),
+                rule.getCronExpression(),
+                rule.getStartDate(),
+                rule.getTime(),
+                rule.getZone().getId(),
+                rule.getUntilDate()
+        );
+    }
+
+    private TodoOccurrenceResponse toResponse(TodoOccurrence occurrence) {
+        return new TodoOccurrenceResponse(
+                occurrence.recurringTodoId(),
+                occurrence.occursAt(),
+                occurrence.title(),
+                occurrence.content(),
+                occurrence.completed(),
+                occurrence.materialized()
+        );
+    }
+}
@@ -0,0 +1,152 @@
+package com.chep.demo.todo.controller.todo;
+
+import com.chep.demo.todo.domain.todo.CalendarDayCount;
+import com.chep.demo.todo.domain.todo.CalendarEntry;
+import com.chep.demo.todo.dto.todo.CalendarCountsResponse;
+import com.chep.demo.todo.dto.todo.CalendarDayCountResponse;
+import com.chep.demo.todo.dto.todo.CalendarItemResponse;
+import com.chep.demo.todo.service.todo.CalendarRange;
+import com.chep.demo.todo.service.todo.TodoCalendarService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.List;
+
+@Tag(name = "Todo Calendar", description = "마감일 캘린더 API")
+@RestController
+@RequestMapping("/api/todos/calendar")
+public class TodoCalendarController {
+    private final TodoCalendarService todoCalendarService;
+    private final ObjectMapper objectMapper;
+
+    public TodoCalendarController(TodoCalendarService todoCalendarService, ObjectMapper objectMapper) {
+        this.todoCalendarService = todoCalendarService;
+        this.objectMapper = objectMapper;
+    }
+
+    private Long currentUserId() {
+        return (Long) SecurityContextHolder.getContext()
+                .getAuthentication()
+                .getPrincipal();
+    }
+
+    @Operation(
+            summary = "캘린더 조회",
+            description = "내가 만들었거나 담당자로 지정된 Todo 중 dueDate가 [from, to) 구간인 Todo를 zone 기준 날짜별로 묶어 반환합니다. "
+                    + "응답: { from, to, zone, days: [ { date, items: [ { id, title, completed, status, dueDate, projectId } ] } ] }. "
+                    + "큰 구간도 한 번에 메모리에 올리지 않고 날짜 순서대로 스트리밍합니다. (최대 366일)"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 구간 또는 zone (지역 ID만 허용, 예: Asia/Seoul)")
+    })
+    @GetMapping
+    ResponseEntity<StreamingResponseBody> getCalendar(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "UTC") String zone
+    ) {
+        Long userId = currentUserId();
+        CalendarRange range = todoCalendarService.range(from, to, zone);
+
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                writeCalendar(generator, userId, range);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    @Operation(
+            summary = "캘린더 날짜별 개수 조회",
+            description = "countsOnly=true 이면 Todo 목록 대신 날짜별 전체/완료 개수만 반환합니다. Todo가 없는 날은 포함하지 않습니다."
+    )
+    @GetMapping(params = "countsOnly=true")
+    ResponseEntity<CalendarCountsResponse> getCalendarCounts(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "UTC") String zone
+    ) {
+        Long userId = currentUserId();
+        CalendarRange range = todoCalendarService.range(from, to, zone);
+        List<CalendarDayCountResponse> days = todoCalendarService.countByDay(userId, range)
+                .stream()
+                .map(this::toCountResponse)
+                .toList();
+        return ResponseEntity.ok(new CalendarCountsResponse(range.from(), range.to(), range.zone().getId(), days));
+    }
+
+    // 결과가 dueDate 순이므로 날짜가 바뀔 때마다 이전 날의 배열을 닫는다.
+    private void writeCalendar(JsonGenerator generator, Long userId, CalendarRange range) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("from", range.from().toString());
+        generator.writeStringField("to", range.to().toString());
+        generator.writeStringField("zone", range.zone().getId());
+        generator.writeArrayFieldStart("days");
+
+        LocalDate[] currentDay = new LocalDate[1];
+        try {
+            todoCalendarService.stream(userId, range, entry -> {
+                try {
+                    LocalDate day = LocalDate.ofInstant(entry.dueDate(), range.zone());
+                    if (!day.equals(currentDay[0])) {
+                        if (currentDay[0] != null) {
+                            generator.writeEndArray();
+                            generator.writeEndObject();
+                            generator.flush();
+                        }
+                        currentDay[0] = day;
+                        generator.writeStartObject();
+                        generator.writeStringField("date", day.toString());
+                        generator.writeArrayFieldStart("items");
+                    }
+                    generator.writeObject(toItemResponse(entry));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        if (currentDay[0] != null) {
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private CalendarItemResponse toItemResponse(CalendarEntry entry) {
+        return new CalendarItemResponse(
+                entry.id(),
+                entry.title(),
+                entry.completed(),
+                entry.status(),
+                entry.dueDate(),
+                entry.projectId()
+        );
+    }
+
+    private CalendarDayCountResponse toCountResponse(CalendarDayCount count) {
+        return new CalendarDayCountResponse(count.date(), count.total(), count.completed());
+    }
+}
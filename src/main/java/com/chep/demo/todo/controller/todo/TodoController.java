@@ -1,29 +1,66 @@
 package com.chep.demo.todo.controller.todo;
 
 import com.chep.demo.todo.domain.todo.Todo;
+import com.chep.demo.todo.domain.todo.TodoStatus;
+import com.chep.demo.todo.domain.todo.TodoTreeNode;
 import com.chep.demo.todo.dto.todo.*;
+import com.chep.demo.todo.service.dependency.TodoDependencyService;
+import com.chep.demo.todo.service.label.LabelService;
+import com.chep.demo.todo.service.nextup.NextUpService;
+import com.chep.demo.todo.service.search.TodoSearchService;
+import com.chep.demo.todo.service.stream.TodoEventHub;
+import com.chep.demo.todo.service.todo.BoardColumnPage;
+import com.chep.demo.todo.service.todo.TodoBoardService;
+import com.chep.demo.todo.service.todo.TodoHierarchyService;
 import com.chep.demo.todo.service.todo.TodoService;
+import com.chep.demo.todo.service.todo.TodoTree;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.net.URI;
+import java.util.HashMap;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 @Tag(name = "Todo", description = "Todo 관리 API")
 @RestController
 @RequestMapping("/api/todos")
 public class TodoController {
     private final TodoService todoService;
+    private final TodoBoardService todoBoardService;
+    private final TodoHierarchyService todoHierarchyService;
+    private final LabelService labelService;
+    private final TodoSearchService todoSearchService;
+    private final NextUpService nextUpService;
+    private final TodoDependencyService todoDependencyService;
+    private final TodoEventHub todoEventHub;
 
-    public TodoController(TodoService todoService) {
+    public TodoController(TodoService todoService,
+                          TodoBoardService todoBoardService,
+                          TodoHierarchyService todoHierarchyService,
+                          LabelService labelService,
+                          TodoSearchService todoSearchService,
+                          NextUpService nextUpService,
+                          TodoDependencyService todoDependencyService,
+                          TodoEventHub todoEventHub) {
         this.todoService = todoService;
+        this.todoBoardService = todoBoardService;
+        this.todoHierarchyService = todoHierarchyService;
+        this.labelService = labelService;
+        this.todoSearchService = todoSearchService;
+        this.nextUpService = nextUpService;
+        this.todoDependencyService = todoDependencyService;
+        this.todoEventHub = todoEventHub;
     }
 
     private Long currentUserId() {
@@ -76,7 +113,7 @@ public class TodoController {
 
     @Operation(
             summary = "Todo 수정",
-            description = "Todo의 제목(title)과 내용(content)을 수정합니다. 순서(orderIndex)는 이 API에서 수정하지 않습니다."
+            description = "개인 Todo의 제목(title)과 내용(content)을 수정합니다. 순서(orderIndex)는 이 API에서 수정하지 않습니다. 프로젝트 Todo는 프로젝트 Todo API를 사용합니다."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "수정 성공"),
@@ -112,7 +149,7 @@ public class TodoController {
 
     @Operation(
             summary = "Todo 완료 토글",
-            description = "Todo의 completed 상태를 true/false로 토글합니다."
+            description = "개인 Todo의 completed 상태를 true/false로 토글합니다. 프로젝트 Todo는 프로젝트 Todo API를 사용합니다."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "204", description = "토글 성공"),
@@ -184,17 +221,336 @@ public class TodoController {
         return ResponseEntity.ok(toResponse(updated));
     }
 
+    @Operation(
+            summary = "Todo 변경 스트림",
+            description = "내가 만들었거나 담당자로 지정된 Todo의 변경을 SSE로 받습니다. "
+                    + "이벤트 이름은 변경 종류(CREATED, UPDATED, DELETED ...)이고 data는 { type, todoId, projectId, at } 입니다. "
+                    + "RESYNC를 받으면 놓친 이벤트가 있으므로 목록을 다시 조회해야 합니다. 주기적으로 heartbeat 주석이 옵니다."
+    )
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    SseEmitter events() {
+        Long userId = currentUserId();
+        return todoEventHub.subscribe(userId);
+    }
+
+    @Operation(
+            summary = "Todo 우선순위 변경",
+            description = "Todo의 priority(LOW, MEDIUM, HIGH, URGENT)를 변경합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "변경 성공"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않거나 권한이 없는 Todo ID")
+    })
+    @PatchMapping("/{id}/priority")
+    ResponseEntity<TodoResponse> updatePriority(
+            @PathVariable Long id,
+            @Valid @RequestBody UpdatePriorityRequest request
+    ) {
+        Long userId = currentUserId();
+        Todo updated = todoService.updatePriority(userId, id, request.priority());
+        return ResponseEntity.ok(toResponse(updated));
+    }
+
+    @Operation(
+            summary = "다음 할 일",
+            description = "내가 만들었거나 담당자로 지정된 미완료 Todo를 마감일, 우선순위, 방치된 기간을 합친 순위로 limit개 반환합니다. "
+                    + "마감일이 있으면 우선순위만큼 앞당긴 마감일, 없으면 생성 시각에 우선순위별 유예 기간을 더한 시각이 빠른 순서입니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "limit 범위 초과")
+    })
+    @GetMapping("/next")
+    ResponseEntity<List<TodoResponse>> next(@RequestParam(defaultValue = "10") int limit) {
+        Long userId = currentUserId();
+        List<TodoResponse> todos = nextUpService.next(userId, limit)
+                .stream()
+                .map(this::toResponse)
+                .toList();
+        return ResponseEntity.ok(todos);
+    }
+
+    @Operation(
+            summary = "선행 작업 추가",
+            description = "blockerId가 끝나야 이 Todo를 시작할 수 있도록 연결합니다. 두 Todo는 같은 목록에 있어야 합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "추가 성공 (이미 있으면 그대로)"),
+            @ApiResponse(responseCode = "400", description = "자기 자신이거나 다른 목록의 Todo"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않거나 권한이 없는 Todo ID"),
+            @ApiResponse(responseCode = "409", description = "순환 의존이 생기는 경우")
+    })
+    @PostMapping("/{id}/blockers")
+    ResponseEntity<Void> addBlocker(
+            @PathVariable Long id,
+            @Valid @RequestBody AddBlockerRequest request
+    ) {
+        Long userId = currentUserId();
+        todoDependencyService.addBlocker(userId, id, request.blockerId());
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(summary = "선행 작업 제거", description = "선행 작업 연결을 끊습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "제거 성공"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않거나 권한이 없는 Todo ID")
+    })
+    @DeleteMapping("/{id}/blockers/{blockerId}")
+    ResponseEntity<Void> removeBlocker(@PathVariable Long id, @PathVariable Long blockerId) {
+        Long userId = currentUserId();
+        todoDependencyService.removeBlocker(userId, id, blockerId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @Operation(
+            summary = "막고 있는 작업 조회",
+            description = "이 Todo를 직접 또는 간접적으로 막고 있는 미완료 선행 작업을 먼저 해야 하는 순서대로 반환합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않거나 권한이 없는 Todo ID")
+    })
+    @GetMapping("/{id}/blocked-chain")
+    ResponseEntity<List<TodoResponse>> getBlockedChain(@PathVariable Long id) {
+        Long userId = currentUserId();
+        List<TodoResponse> todos = todoDependencyService.getBlockedChain(userId, id)
+                .stream()
+                .map(this::toResponse)
+                .toList();
+        return ResponseEntity.ok(todos);
+    }
+
+    @Operation(
+            summary = "시작 가능한 Todo",
+            description = "끝나지 않은 선행 작업이 없는 미완료 개인 Todo를 orderIndex 순으로 반환합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "limit 범위 초과")
+    })
+    @GetMapping("/ready")
+    ResponseEntity<List<TodoResponse>> getReady(@RequestParam(defaultValue = "50") int limit) {
+        Long userId = currentUserId();
+        List<TodoResponse> todos = todoDependencyService.getPersonalReady(userId, limit)
+                .stream()
+                .map(this::toResponse)
+                .toList();
+        return ResponseEntity.ok(todos);
+    }
+
+    @Operation(
+            summary = "Todo 라벨 변경",
+            description = "개인 Todo의 labelIds 전체를 새로운 목록으로 교체합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "변경 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 labelId 포함 또는 라벨 개수 초과"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않거나 권한이 없는 Todo ID")
+    })
+    @PatchMapping("/{id}/labels")
+    ResponseEntity<TodoResponse> updateLabels(
+            @PathVariable Long id,
+            @Valid @RequestBody UpdateTodoLabelsRequest request
+    ) {
+        Long userId = currentUserId();
+        Todo updated = labelService.updateTodoLabels(userId, id, request.labelIds());
+        return ResponseEntity.ok(toResponse(updated));
+    }
+
+    @Operation(
+            summary = "라벨 조합으로 Todo 필터링",
+            description = "라벨 이름과 AND / OR / NOT, 괄호로 만든 조건식에 맞는 개인 Todo를 orderIndex 순으로 반환합니다. "
+                    + "예) work AND urgent AND NOT waiting"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 조건식")
+    })
+    @GetMapping("/filter")
+    ResponseEntity<List<TodoResponse>> filterByLabels(@RequestParam String labels) {
+        Long userId = currentUserId();
+        List<TodoResponse> todos = labelService.filterTodos(userId, labels)
+                .stream()
+                .map(this::toResponse)
+                .toList();
+        return ResponseEntity.ok(todos);
+    }
+
+    @Operation(
+            summary = "Todo 검색",
+            description = "개인 Todo의 title/content를 검색해 관련도 순으로 반환합니다. "
+                    + "모든 검색어가 단어의 앞부분과 일치해야 하며, title 일치가 content 일치보다 앞에 옵니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "검색 성공"),
+            @ApiResponse(responseCode = "400", description = "검색어 길이 또는 size 범위 초과")
+    })
+    @GetMapping("/search")
+    ResponseEntity<List<TodoResponse>> search(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        Long userId = currentUserId();
+        List<TodoResponse> todos = todoSearchService.search(userId, q, size)
+                .stream()
+                .map(this::toResponse)
+                .toList();
+        return ResponseEntity.ok(todos);
+    }
+
+    @Operation(
+            summary = "보드 컬럼 조회",
+            description = "개인 Todo 보드에서 한 컬럼(status)의 카드를 순서대로 커서 기반 조회합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 페이지 크기")
+    })
+    @GetMapping("/board")
+    ResponseEntity<BoardColumnResponse> getBoardColumn(
+            @RequestParam TodoStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        Long userId = currentUserId();
+        BoardColumnPage page = todoBoardService.getPersonalColumn(userId, status, cursor, size);
+        return ResponseEntity.ok(toColumnResponse(page));
+    }
+
+    @Operation(
+            summary = "보드 카드 이동",
+            description = "카드를 지정한 컬럼의 afterTodoId 뒤(없으면 맨 앞)로 이동합니다. 이동한 카드만 변경됩니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "이동 성공"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않거나 권한이 없는 Todo ID")
+    })
+    @PatchMapping("/{id}/board")
+    ResponseEntity<TodoResponse> moveBoardCard(
+            @PathVariable Long id,
+            @Valid @RequestBody MoveBoardCardRequest request
+    ) {
+        Long userId = currentUserId();
+        Todo moved = todoBoardService.movePersonalCard(userId, id, request.status(), request.afterTodoId());
+        return ResponseEntity.ok(toResponse(moved));
+    }
+
+    @Operation(
+            summary = "하위 작업 생성",
+            description = "Todo 아래에 하위 작업을 생성합니다. 하위 작업은 부모와 같은 목록의 마지막 순서에 추가됩니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "생성 성공"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않거나 권한이 없는 Todo ID")
+    })
+    @PostMapping("/{id}/subtasks")
+    ResponseEntity<TodoResponse> createSubtask(
+            @PathVariable Long id,
+            @Valid @RequestBody CreateTodoRequest request
+    ) {
+        Long userId = currentUserId();
+        Todo created = todoHierarchyService.createSubtask(userId, id, request);
+
+        URI location = ServletUriComponentsBuilder
+                .fromCurrentContextPath()
+                .path("/api/todos/{id}")
+                .buildAndExpand(created.getId())
+                .toUri();
+
+        return ResponseEntity.created(location).body(toResponse(created));
+    }
+
+    @Operation(
+            summary = "하위 작업 트리 조회",
+            description = "Todo와 모든 하위 작업을 트리 형태로 반환합니다. 깊이와 관계없이 한 번의 쿼리로 조회합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않거나 권한이 없는 Todo ID")
+    })
+    @GetMapping("/{id}/subtree")
+    ResponseEntity<TodoTreeResponse> getSubtree(@PathVariable Long id) {
+        Long userId = currentUserId();
+        TodoTree tree = todoHierarchyService.getSubtree(userId, id);
+        return ResponseEntity.ok(toTreeResponse(tree));
+    }
+
+    @Operation(
+            summary = "하위 작업 트리 이동",
+            description = "Todo와 그 하위 작업 전체를 다른 상위 작업 아래로 옮깁니다. parentId가 null이면 최상위로 옮깁니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "이동 성공"),
+            @ApiResponse(responseCode = "400", description = "자기 자신의 하위로 이동하거나 다른 목록으로 이동"),
+            @ApiResponse(responseCode = "404", description = "존재하지 않거나 권한이 없는 Todo ID")
+    })
+    @PatchMapping("/{id}/parent")
+    ResponseEntity<TodoResponse> moveSubtree(
+            @PathVariable Long id,
+            @RequestBody MoveSubtreeRequest request
+    ) {
+        Long userId = currentUserId();
+        Todo moved = todoHierarchyService.moveSubtree(userId, id, request.parentId());
+        return ResponseEntity.ok(toResponse(moved));
+    }
+
+    // 평평한 (depth, orderIndex) 정렬 목록을 아래에서부터 조립한다.
+    private TodoTreeResponse toTreeResponse(TodoTree tree) {
+        Map<Long, LinkedList<TodoTreeResponse>> childrenByParent = new HashMap<>();
+        List<TodoTreeNode> nodes = tree.descendants();
+        for (int i = nodes.size() - 1; i >= 0; i--) {
+            TodoTreeNode node = nodes.get(i);
+            TodoTreeResponse response = new TodoTreeResponse(
+                    node.id(),
+                    node.title(),
+                    node.completed(),
+                    node.status(),
+                    childrenOf(childrenByParent, node.id())
+            );
+            childrenByParent.computeIfAbsent(node.parentId(), key -> new LinkedList<>()).addFirst(response);
+        }
+
+        Todo root = tree.root();
+        return new TodoTreeResponse(
+                root.getId(),
+                root.getTitle(),
+                root.isCompleted(),
+                root.getStatus(),
+                childrenOf(childrenByParent, root.getId())
+        );
+    }
+
+    private List<TodoTreeResponse> childrenOf(Map<Long, LinkedList<TodoTreeResponse>> childrenByParent, Long id) {
+        LinkedList<TodoTreeResponse> children = childrenByParent.remove(id);
+        return children == null ? List.of() : List.copyOf(children);
+    }
+
+    private BoardColumnResponse toColumnResponse(BoardColumnPage page) {
+        return new BoardColumnResponse(
+                page.status(),
+                page.todos().stream().map(this::toResponse).toList(),
+                page.nextCursor()
+        );
+    }
+
     private TodoResponse toResponse(Todo todo) {
         return new TodoResponse(
                 todo.getId(),
                 todo.getTitle(),
                 todo.getContent(),
                 todo.isCompleted(),
+                todo.getStatus(),
                 todo.getOrderIndex(),
                 todo.getDueDate(),
                 todo.getAssignees().stream()
                         .map(assignee -> assignee.getUser().getId())
-                        .toList()
+                        .toList(),
+                todo.getProject() == null ? null : todo.getProject().getId(),
+                todo.getParent() == null ? null : todo.getParent().getId(),
+                todo.getLabels().stream()
+                        .map(label -> label.getId())
+                        .toList(),
+                todo.getPriority()
         );
     }
 }
@@ -1,12 +1,23 @@
 package com.chep.demo.todo.controller.workspace;
 
+import com.chep.demo.todo.domain.workspace.BulkMemberPlan;
 import com.chep.demo.todo.domain.workspace.Workspace;
 import com.chep.demo.todo.domain.workspace.WorkspaceMember;
+import com.chep.demo.todo.domain.workspace.WorkspaceMemberView;
+import com.chep.demo.todo.domain.workspace.WorkspaceMembership;
+import com.chep.demo.todo.domain.workspace.WorkspaceSummary;
 import com.chep.demo.todo.dto.workspace.CreateWorkspaceRequest;
 import com.chep.demo.todo.dto.workspace.AddWorkspaceMemberRequest;
+import com.chep.demo.todo.dto.workspace.BulkAddWorkspaceMembersResponse;
+import com.chep.demo.todo.dto.workspace.BulkKickWorkspaceMembersResponse;
+import com.chep.demo.todo.dto.workspace.BulkWorkspaceMembersRequest;
 import com.chep.demo.todo.dto.workspace.UpdateWorkspaceRequest;
 import com.chep.demo.todo.dto.workspace.WorkspaceResponse;
+import com.chep.demo.todo.dto.workspace.WorkspaceMemberPageResponse;
 import com.chep.demo.todo.dto.workspace.WorkspaceMemberResponse;
+import com.chep.demo.todo.dto.workspace.WorkspaceMemberSummaryResponse;
+import com.chep.demo.todo.dto.workspace.WorkspaceSummaryResponse;
+import com.chep.demo.todo.service.workspace.WorkspaceMemberPage;
 import com.chep.demo.todo.service.workspace.WorkspaceService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -35,13 +46,13 @@ public class WorkspaceController {
                 .getPrincipal();
     }
 
-    @Operation(summary = "워크스페이스 목록", description = "현재 사용자에게 속한 모든 워크스페이스를 반환합니다.")
+    @Operation(summary = "워크스페이스 목록", description = "현재 사용자에게 속한 모든 워크스페이스와 내 역할, 활성 멤버 수를 반환합니다.")
     @GetMapping
-    ResponseEntity<List<WorkspaceResponse>> getWorkspaces() {
+    ResponseEntity<List<WorkspaceSummaryResponse>> getWorkspaces() {
         Long userId = currentUserId();
-        List<WorkspaceResponse> responses = workspaceService.getMyWorkspaces(userId)
+        List<WorkspaceSummaryResponse> responses = workspaceService.getMyWorkspaces(userId)
                 .stream()
-                .map(this::toResponse)
+                .map(this::toSummaryResponse)
                 .toList();
         return ResponseEntity.ok(responses);
     }
@@ -98,22 +109,42 @@ public class WorkspaceController {
         );
     }
 
-    @Operation(summary = "워크스페이스 멤버 목록", description = "해당 워크스페이스의 활성 멤버 목록을 반환합니다.")
+    private WorkspaceSummaryResponse toSummaryResponse(WorkspaceSummary summary) {
+        return new WorkspaceSummaryResponse(
+                summary.id(),
+                summary.name(),
+                summary.description(),
+                summary.personal(),
+                summary.ownerId(),
+                summary.myRole(),
+                summary.activeMemberCount()
+        );
+    }
+
+    @Operation(summary = "워크스페이스 멤버 목록",
+            description = "해당 워크스페이스의 활성 멤버 목록을 커서 기반으로 반환합니다. q를 지정하면 이름/이메일 앞부분으로 검색하며, "
+                    + "이름이 일치하는 멤버(이름순) 다음에 이메일만 일치하는 멤버(이메일순)가 옵니다. cursor에는 이전 응답의 nextCursor를 그대로 넘깁니다.")
     @GetMapping("/{workspaceId}/members")
-    ResponseEntity<List<WorkspaceMemberResponse>> getMembers(@PathVariable Long workspaceId) {
+    ResponseEntity<WorkspaceMemberPageResponse> getMembers(
+            @PathVariable Long workspaceId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(required = false) String q
+    ) {
         Long userId = currentUserId();
-        List<WorkspaceMemberResponse> responses = workspaceService.getMembers(workspaceId, userId)
+        WorkspaceMemberPage page = workspaceService.getMembers(workspaceId, userId, cursor, size, q);
+        List<WorkspaceMemberSummaryResponse> items = page.members()
                 .stream()
-                .map(this::toMemberResponse)
+                .map(this::toMemberSummaryResponse)
                 .toList();
-        return ResponseEntity.ok(responses);
+        return ResponseEntity.ok(new WorkspaceMemberPageResponse(items, page.nextCursor()));
     }
 
     @Operation(summary = "내 멤버십 정보", description = "해당 워크스페이스에서 내 역할과 상태를 조회합니다.")
     @GetMapping("/{workspaceId}/members/me")
     ResponseEntity<WorkspaceMemberResponse> getMyMembership(@PathVariable Long workspaceId) {
         Long userId = currentUserId();
-        WorkspaceMember me = workspaceService.getMyMembership(workspaceId, userId);
+        WorkspaceMembership me = workspaceService.getMyMembership(workspaceId, userId);
         return ResponseEntity.ok(toMemberResponse(me));
     }
 
@@ -128,6 +159,32 @@ public class WorkspaceController {
         return ResponseEntity.ok(toMemberResponse(member));
     }
 
+    @Operation(summary = "멤버 일괄 추가", description = "Owner가 여러 사용자를 한 번에 추가합니다. 탈퇴/강퇴했던 멤버는 복구됩니다.")
+    @PostMapping("/{workspaceId}/members/bulk")
+    ResponseEntity<BulkAddWorkspaceMembersResponse> addMembers(
+            @PathVariable Long workspaceId,
+            @Valid @RequestBody BulkWorkspaceMembersRequest request
+    ) {
+        Long userId = currentUserId();
+        BulkMemberPlan result = workspaceService.addMembers(workspaceId, userId, request.userIds());
+        return ResponseEntity.ok(new BulkAddWorkspaceMembersResponse(
+                result.insertUserIds(),
+                result.restoreUserIds(),
+                result.alreadyActiveUserIds()
+        ));
+    }
+
+    @Operation(summary = "멤버 일괄 제거", description = "Owner가 여러 멤버를 한 번에 강퇴합니다. 활성 멤버가 아닌 사용자는 무시됩니다.")
+    @PostMapping("/{workspaceId}/members/bulk-kick")
+    ResponseEntity<BulkKickWorkspaceMembersResponse> kickMembers(
+            @PathVariable Long workspaceId,
+            @Valid @RequestBody BulkWorkspaceMembersRequest request
+    ) {
+        Long userId = currentUserId();
+        int kicked = workspaceService.kickMembers(workspaceId, userId, request.userIds());
+        return ResponseEntity.ok(new BulkKickWorkspaceMembersResponse(kicked));
+    }
+
     @Operation(summary = "멤버 제거", description = "Owner가 특정 멤버를 제거합니다.")
     @DeleteMapping("/{workspaceId}/members/{memberId}")
     ResponseEntity<Void> removeMember(@PathVariable Long workspaceId, @PathVariable Long workspaceMemberId) {
@@ -155,4 +212,27 @@ public class WorkspaceController {
         );
     }
 
+    private WorkspaceMemberSummaryResponse toMemberSummaryResponse(WorkspaceMemberView member) {
+        return new WorkspaceMemberSummaryResponse(
+                member.memberId(),
+                member.userId(),
+                member.name(),
+                member.email(),
+                member.role(),
+                member.status(),
+                member.joinedAt()
+        );
+    }
+
+    private WorkspaceMemberResponse toMemberResponse(WorkspaceMembership membership) {
+        return new WorkspaceMemberResponse(
+                membership.memberId(),
+                membership.userId(),
+                membership.role(),
+                membership.status(),
+                membership.joinedAt(),
+                membership.statusChangedAt()
+        );
+    }
+
 }
@@ -0,0 +1,54 @@
+package com.chep.demo.todo.domain.dependency;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Pearce–Kelly 방식의 위상 순서 보정.
+ *
+ * 각 Todo는 목록 안에서 유일한 rank를 가지며 blocker의 rank는 항상 todo보다 작다.
+ * blocker → todo 간선을 넣을 때 rank(blocker) < rank(todo)이면 그대로 둔다.
+ * 아니면 영향 구간만 계산한다.
+ * - forward: todo에서 후행 방향으로 도달하고 rank ≤ rank(blocker)인 노드. blocker가 포함되면 사이클이다.
+ * - backward: blocker에서 선행 방향으로 도달하고 rank ≥ rank(todo)인 노드.
+ * 두 집합이 쓰던 rank 값만 모아 backward 전체를 forward 앞에 다시 배정한다.
+ * 각 집합 내부의 기존 순서는 유지되고, 구간 밖 노드의 rank는 바뀌지 않는다.
+ */
+public final class DependencyOrder {
+
+    private DependencyOrder() {
+    }
+
+    // todoId → rank. 값이 바뀐 노드만 반환한다.
+    public static Map<Long, Long> reorder(Map<Long, Long> backward, Map<Long, Long> forward) {
+        List<Long> pool = new ArrayList<>(backward.size() + forward.size());
+        pool.addAll(backward.values());
+        pool.addAll(forward.values());
+        pool.sort(Comparator.naturalOrder());
+
+        List<Long> nodes = new ArrayList<>(pool.size());
+        nodes.addAll(byRank(backward));
+        nodes.addAll(byRank(forward));
+
+        Map<Long, Long> changed = new HashMap<>();
+        for (int i = 0; i < nodes.size(); i++) {
+            Long node = nodes.get(i);
+            Long rank = pool.get(i);
+            Long previous = backward.containsKey(node) ? backward.get(node) : forward.get(node);
+            if (!rank.equals(previous)) {
+                changed.put(node, rank);
+            }
+        }
+        return changed;
+    }
+
+    private static List<Long> byRank(Map<Long, Long> ranks) {
+        return ranks.entrySet().stream()
+                .sorted(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+}
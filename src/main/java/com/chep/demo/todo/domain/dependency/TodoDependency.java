@@ -0,0 +1,44 @@
+package com.chep.demo.todo.domain.dependency;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.Instant;
+
+/**
+ * "todo는 blocker가 끝나야 시작할 수 있다" 관계. blocker → todo 방향의 DAG이며
+ * 두 Todo는 같은 목록(개인 또는 같은 프로젝트)에 있어야 한다.
+ * PK (todo_id, blocker_id)로 선행 작업을, (blocker_id) 인덱스로 후행 작업을 찾는다.
+ * 삭제된 Todo의 행은 남겨 두고 조회에서 제외한다.
+ */
+@Entity
+@Table(
+        name = "todo_dependencies",
+        indexes = @Index(name = "idx_todo_dependencies_blocker", columnList = "blocker_id, todo_id")
+)
+public class TodoDependency {
+    @EmbeddedId
+    private TodoDependencyId id;
+
+    @NotNull
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    protected TodoDependency() {}
+
+    public TodoDependency(Long todoId, Long blockerId) {
+        if (todoId == null || blockerId == null) {
+            throw new IllegalArgumentException("todoId and blockerId must not be null");
+        }
+        this.id = new TodoDependencyId(todoId, blockerId);
+        this.createdAt = Instant.now();
+    }
+
+    public TodoDependencyId getId() {
+        return id;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
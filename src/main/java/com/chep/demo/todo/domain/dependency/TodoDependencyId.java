@@ -0,0 +1,47 @@
+package com.chep.demo.todo.domain.dependency;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+@Embeddable
+public class TodoDependencyId implements Serializable {
+    @Column(name = "todo_id", nullable = false)
+    private Long todoId;
+
+    @Column(name = "blocker_id", nullable = false)
+    private Long blockerId;
+
+    protected TodoDependencyId() {}
+
+    public TodoDependencyId(Long todoId, Long blockerId) {
+        this.todoId = todoId;
+        this.blockerId = blockerId;
+    }
+
+    public Long getTodoId() {
+        return todoId;
+    }
+
+    public Long getBlockerId() {
+        return blockerId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TodoDependencyId other)) {
+            return false;
+        }
+        return Objects.equals(todoId, other.todoId) && Objects.equals(blockerId, other.blockerId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(todoId, blockerId);
+    }
+}
@@ -0,0 +1,25 @@
+package com.chep.demo.todo.domain.dependency;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 의존 그래프의 구간 조회와 rank 갱신. rank가 없는 Todo는 id를 rank로 쓴다. (COALESCE(dependency_rank, id))
+ * 이렇게 하면 rank는 항상 같은 목록의 id 값들의 순열이라 유일하고, 새 Todo에 rank를 따로 배정할 필요가 없다.
+ * 삭제된 Todo와 그 간선은 모두 무시한다.
+ */
+public interface TodoDependencyQueries {
+    Map<Long, Long> findRanks(Collection<Long> todoIds);
+
+    // startId에서 후행(blocker → todo) 방향으로 도달하는 노드 중 rank ≤ maxRank (startId 포함)
+    Map<Long, Long> findForwardRegion(Long startId, long maxRank);
+
+    // startId에서 선행(todo → blocker) 방향으로 도달하는 노드 중 rank ≥ minRank (startId 포함)
+    Map<Long, Long> findBackwardRegion(Long startId, long minRank);
+
+    void updateRanks(Map<Long, Long> ranks);
+
+    // 아직 끝나지 않은 선행 작업 전체를 rank(위상) 순서로. 완료된 선행 작업 너머는 따라가지 않는다.
+    List<Long> findOpenBlockerChain(Long todoId, int limit);
+}
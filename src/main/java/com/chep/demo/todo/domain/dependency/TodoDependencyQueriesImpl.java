@@ -0,0 +1,111 @@
+package com.chep.demo.todo.domain.dependency;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+class TodoDependencyQueriesImpl implements TodoDependencyQueries {
+    private static final String RANK = "COALESCE(t.dependency_rank, t.id)";
+    private static final String FIND_RANKS =
+            "SELECT t.id, " + RANK + " AS rank FROM todos t WHERE t.id IN (:ids) AND t.deleted_at IS NULL";
+    private static final String FORWARD_REGION = """
+            WITH RECURSIVE region(id) AS (
+                SELECT CAST(:startId AS bigint)
+                UNION
+                SELECT d.todo_id
+                FROM region r
+                JOIN todo_dependencies d ON d.blocker_id = r.id
+                JOIN todos t ON t.id = d.todo_id
+                WHERE t.deleted_at IS NULL AND %1$s <= :bound
+            )
+            SELECT t.id, %1$s AS rank FROM region r JOIN todos t ON t.id = r.id
+            """.formatted(RANK);
+    private static final String BACKWARD_REGION = """
+            WITH RECURSIVE region(id) AS (
+                SELECT CAST(:startId AS bigint)
+                UNION
+                SELECT d.blocker_id
+                FROM region r
+                JOIN todo_dependencies d ON d.todo_id = r.id
+                JOIN todos t ON t.id = d.blocker_id
+                WHERE t.deleted_at IS NULL AND %1$s >= :bound
+            )
+            SELECT t.id, %1$s AS rank FROM region r JOIN todos t ON t.id = r.id
+            """.formatted(RANK);
+    private static final String OPEN_BLOCKER_CHAIN = """
+            WITH RECURSIVE chain(id) AS (
+                SELECT d.blocker_id
+                FROM todo_dependencies d
+                JOIN todos t ON t.id = d.blocker_id
+                WHERE d.todo_id = :todoId AND t.completed = false AND t.deleted_at IS NULL
+                UNION
+                SELECT d.blocker_id
+                FROM chain c
+                JOIN todo_dependencies d ON d.todo_id = c.id
+                JOIN todos t ON t.id = d.blocker_id
+                WHERE t.completed = false AND t.deleted_at IS NULL
+            )
+            SELECT t.id FROM chain c JOIN todos t ON t.id = c.id
+            ORDER BY %s
+            LIMIT :limit
+            """.formatted(RANK);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    TodoDependencyQueriesImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    @Override
+    public Map<Long, Long> findRanks(Collection<Long> todoIds) {
+        return queryRanks(FIND_RANKS, new MapSqlParameterSource("ids", todoIds));
+    }
+
+    @Override
+    public Map<Long, Long> findForwardRegion(Long startId, long maxRank) {
+        return queryRanks(FORWARD_REGION, new MapSqlParameterSource()
+                .addValue("startId", startId)
+                .addValue("bound", maxRank));
+    }
+
+    @Override
+    public Map<Long, Long> findBackwardRegion(Long startId, long minRank) {
+        return queryRanks(BACKWARD_REGION, new MapSqlParameterSource()
+                .addValue("startId", startId)
+                .addValue("bound", minRank));
+    }
+
+    @Override
+    public void updateRanks(Map<Long, Long> ranks) {
+        if (ranks.isEmpty()) {
+            return;
+        }
+        MapSqlParameterSource[] batch = ranks.entrySet().stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("id", entry.getKey())
+                        .addValue("rank", entry.getValue()))
+                .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate("UPDATE todos SET dependency_rank = :rank WHERE id = :id", batch);
+    }
+
+    @Override
+    public List<Long> findOpenBlockerChain(Long todoId, int limit) {
+        return new ArrayList<>(jdbcTemplate.queryForList(OPEN_BLOCKER_CHAIN, new MapSqlParameterSource()
+                .addValue("todoId", todoId)
+                .addValue("limit", limit), Long.class));
+    }
+
+    private Map<Long, Long> queryRanks(String sql, MapSqlParameterSource params) {
+        Map<Long, Long> ranks = new HashMap<>();
+        jdbcTemplate.query(sql, params, rs -> {
+            ranks.put(rs.getLong("id"), rs.getLong("rank"));
+        });
+        return ranks;
+    }
+}
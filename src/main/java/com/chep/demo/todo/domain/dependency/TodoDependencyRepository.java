@@ -0,0 +1,38 @@
+package com.chep.demo.todo.domain.dependency;
+
+import com.chep.demo.todo.domain.todo.Todo;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface TodoDependencyRepository extends JpaRepository<TodoDependency, TodoDependencyId>, TodoDependencyQueries {
+
+    // 시작 가능: 미완료이고 끝나지 않은 선행 작업이 없는 Todo
+    @Query("""
+            SELECT t FROM Todo t
+            WHERE t.user.id = :userId
+              AND t.project IS NULL
+              AND t.completed = false
+              AND NOT EXISTS (
+                  SELECT 1 FROM TodoDependency d JOIN Todo b ON b.id = d.id.blockerId
+                  WHERE d.id.todoId = t.id AND b.completed = false
+              )
+            ORDER BY t.orderIndex
+            """)
+    List<Todo> findPersonalReady(@Param("userId") Long userId, Limit limit);
+
+    @Query("""
+            SELECT t FROM Todo t
+            WHERE t.project.id = :projectId
+              AND t.completed = false
+              AND NOT EXISTS (
+                  SELECT 1 FROM TodoDependency d JOIN Todo b ON b.id = d.id.blockerId
+                  WHERE d.id.todoId = t.id AND b.completed = false
+              )
+            ORDER BY t.orderIndex
+            """)
+    List<Todo> findProjectReady(@Param("projectId") Long projectId, Limit limit);
+}
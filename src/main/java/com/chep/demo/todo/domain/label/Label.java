@@ -0,0 +1,92 @@
+package com.chep.demo.todo.domain.label;
+
+import com.chep.demo.todo.domain.user.User;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.Instant;
+
+@Entity
+@Table(
+        name = "labels",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_labels_user_name",
+                columnNames = {"user_id", "name"}
+        )
+)
+public class Label {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "labels_id_gen")
+    @SequenceGenerator(name = "labels_id_gen", sequenceName = "label_id_seq", allocationSize = 1)
+    private Long id;
+
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Size(max = 50)
+    @NotNull
+    @Column(name = "name", nullable = false, length = 50)
+    private String name;
+
+    @NotNull
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    protected Label() {}
+
+    private Label(User user, String name) {
+        if (user == null) {
+            throw new IllegalArgumentException("user must not be null");
+        }
+
+        if (name == null || name.isBlank()) {
+            throw new IllegalArgumentException("name must not be blank");
+        }
+
+        this.user = user;
+        this.name = name;
+        this.createdAt = Instant.now();
+    }
+
+    public static class Builder {
+        private User user;
+        private String name;
+
+        public Builder user(User user) {
+            this.user = user;
+            return this;
+        }
+
+        public Builder name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        public Label build() {
+            return new Label(user, name);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
@@ -0,0 +1,251 @@
+package com.chep.demo.todo.domain.label;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * 라벨 조합 필터식. 예) {@code work AND urgent AND NOT waiting}, {@code (home | errand) !someday}
+ *
+ * <pre>
+ * expr  := and (("OR" | "|") and)*
+ * and   := unary (("AND" | "&")? unary)*      // 연산자를 생략하면 AND
+ * unary := ("NOT" | "!") unary | "(" expr ")" | 라벨명 | "따옴표로 감싼 라벨명"
+ * </pre>
+ *
+ * 키워드는 대소문자를 구분하지 않는다. 평가는 라벨별 비트맵의 and / or / andNot 으로만 이루어진다.
+ */
+public final class LabelExpression {
+    public static final int MAX_LENGTH = 500;
+
+    // 비트맵 제공자. 반환된 BitSet은 읽기만 하며 변경하지 않는다.
+    public interface Bitmaps {
+        // 없는 라벨이면 null
+        BitSet label(String name);
+
+        BitSet universe();
+    }
+
+    private final Node root;
+
+    private LabelExpression(Node root) {
+        this.root = root;
+    }
+
+    public static LabelExpression parse(String source) {
+        if (source == null || source.isBlank()) {
+            throw new IllegalArgumentException("label expression must not be blank");
+        }
+        if (source.length() > MAX_LENGTH) {
+            throw new IllegalArgumentException("label expression is too long (max " + MAX_LENGTH + ")");
+        }
+        Parser parser = new Parser(tokenize(source));
+        Node root = parser.expression();
+        if (!parser.atEnd()) {
+            throw new IllegalArgumentException("unexpected token in label expression: " + parser.peek().text());
+        }
+        return new LabelExpression(root);
+    }
+
+    // 결과는 호출자가 소유하는 새 BitSet이다.
+    public BitSet evaluate(Bitmaps bitmaps) {
+        return root.evaluate(bitmaps);
+    }
+
+    private sealed interface Node permits Name, Not, And, Or {
+        BitSet evaluate(Bitmaps bitmaps);
+    }
+
+    private record Name(String name) implements Node {
+        @Override
+        public BitSet evaluate(Bitmaps bitmaps) {
+            BitSet bits = bitmaps.label(name);
+            return bits == null ? new BitSet() : (BitSet) bits.clone();
+        }
+    }
+
+    private record Not(Node operand) implements Node {
+        @Override
+        public BitSet evaluate(Bitmaps bitmaps) {
+            BitSet result = (BitSet) bitmaps.universe().clone();
+            result.andNot(operand.evaluate(bitmaps));
+            return result;
+        }
+    }
+
+    // NOT 항은 여집합을 만들지 않고 andNot으로 처리한다.
+    private record And(List<Node> operands) implements Node {
+        @Override
+        public BitSet evaluate(Bitmaps bitmaps) {
+            BitSet result = null;
+            for (Node operand : operands) {
+                if (operand instanceof Not) {
+                    continue;
+                }
+                BitSet bits = operand.evaluate(bitmaps);
+                if (result == null) {
+                    result = bits;
+                } else {
+                    result.and(bits);
+                }
+                if (result.isEmpty()) {
+                    return result;
+                }
+            }
+            if (result == null) {
+                result = (BitSet) bitmaps.universe().clone();
+            }
+            for (Node operand : operands) {
+                if (operand instanceof Not not) {
+                    result.andNot(not.operand().evaluate(bitmaps));
+                }
+            }
+            return result;
+        }
+    }
+
+    private record Or(List<Node> operands) implements Node {
+        @Override
+        public BitSet evaluate(Bitmaps bitmaps) {
+            BitSet result = new BitSet();
+            for (Node operand : operands) {
+                result.or(operand.evaluate(bitmaps));
+            }
+            return result;
+        }
+    }
+
+    private enum TokenType { NAME, AND, OR, NOT, LEFT, RIGHT }
+
+    private record Token(TokenType type, String text) {}
+
+    private static List<Token> tokenize(String source) {
+        List<Token> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < source.length()) {
+            char c = source.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '(') {
+                tokens.add(new Token(TokenType.LEFT, "("));
+                i++;
+            } else if (c == ')') {
+                tokens.add(new Token(TokenType.RIGHT, ")"));
+                i++;
+            } else if (c == '&') {
+                tokens.add(new Token(TokenType.AND, "&"));
+                i++;
+            } else if (c == '|') {
+                tokens.add(new Token(TokenType.OR, "|"));
+                i++;
+            } else if (c == '!') {
+                tokens.add(new Token(TokenType.NOT, "!"));
+                i++;
+            } else if (c == '"') {
+                int end = source.indexOf('"', i + 1);
+                if (end < 0) {
+                    throw new IllegalArgumentException("unterminated quote in label expression");
+                }
+                tokens.add(new Token(TokenType.NAME, source.substring(i + 1, end)));
+                i = end + 1;
+            } else {
+                int start = i;
+                while (i < source.length() && !isDelimiter(source.charAt(i))) {
+                    i++;
+                }
+                String word = source.substring(start, i);
+                tokens.add(switch (word.toUpperCase()) {
+                    case "AND" -> new Token(TokenType.AND, word);
+                    case "OR" -> new Token(TokenType.OR, word);
+                    case "NOT" -> new Token(TokenType.NOT, word);
+                    default -> new Token(TokenType.NAME, word);
+                });
+            }
+        }
+        return tokens;
+    }
+
+    private static boolean isDelimiter(char c) {
+        return Character.isWhitespace(c) || c == '(' || c == ')' || c == '&' || c == '|' || c == '!' || c == '"';
+    }
+
+    private static final class Parser {
+        private final List<Token> tokens;
+        private int position;
+
+        private Parser(List<Token> tokens) {
+            this.tokens = tokens;
+        }
+
+        Node expression() {
+            List<Node> operands = new ArrayList<>();
+            operands.add(and());
+            while (accept(TokenType.OR)) {
+                operands.add(and());
+            }
+            return operands.size() == 1 ? operands.get(0) : new Or(List.copyOf(operands));
+        }
+
+        private Node and() {
+            List<Node> operands = new ArrayList<>();
+            operands.add(unary());
+            while (true) {
+                if (accept(TokenType.AND)) {
+                    operands.add(unary());
+                } else if (startsUnary()) {
+                    operands.add(unary());
+                } else {
+                    break;
+                }
+            }
+            return operands.size() == 1 ? operands.get(0) : new And(List.copyOf(operands));
+        }
+
+        private Node unary() {
+            if (atEnd()) {
+                throw new IllegalArgumentException("label expression ended unexpectedly");
+            }
+            Token token = tokens.get(position++);
+            return switch (token.type()) {
+                case NOT -> {
+                    Node operand = unary();
+                    // NOT NOT x == x
+                    yield operand instanceof Not not ? not.operand() : new Not(operand);
+                }
+                case LEFT -> {
+                    Node inner = expression();
+                    if (!accept(TokenType.RIGHT)) {
+                        throw new IllegalArgumentException("missing ')' in label expression");
+                    }
+                    yield inner;
+                }
+                case NAME -> new Name(token.text());
+                default -> throw new IllegalArgumentException("unexpected token in label expression: " + token.text());
+            };
+        }
+
+        private boolean startsUnary() {
+            if (atEnd()) {
+                return false;
+            }
+            TokenType type = peek().type();
+            return type == TokenType.NAME || type == TokenType.NOT || type == TokenType.LEFT;
+        }
+
+        private boolean accept(TokenType type) {
+            if (!atEnd() && peek().type() == type) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        boolean atEnd() {
+            return position >= tokens.size();
+        }
+
+        Token peek() {
+            return tokens.get(position);
+        }
+    }
+}
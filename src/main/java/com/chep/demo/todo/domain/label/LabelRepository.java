@@ -0,0 +1,30 @@
+package com.chep.demo.todo.domain.label;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface LabelRepository extends JpaRepository<Label, Long> {
+    List<Label> findAllByUserIdOrderByNameAsc(Long userId);
+    Optional<Label> findByIdAndUserId(Long id, Long userId);
+    boolean existsByUserIdAndName(Long userId, String name);
+    List<Label> findAllByUserIdAndIdIn(Long userId, Collection<Long> ids);
+
+    // 개인 Todo에 붙은 라벨 전체. (삭제된 Todo는 @SQLRestriction으로 제외된다)
+    @Query("""
+            SELECT new com.chep.demo.todo.domain.label.TodoLabelLink(t.id, l.id)
+            FROM Todo t JOIN t.labels l
+            WHERE t.user.id = :userId
+              AND t.project IS NULL
+            """)
+    List<TodoLabelLink> findPersonalLinks(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "DELETE FROM todo_labels WHERE label_id = :labelId", nativeQuery = true)
+    int deleteTodoLinks(@Param("labelId") Long labelId);
+}
@@ -0,0 +1,5 @@
+package com.chep.demo.todo.domain.label;
+
+// todo_labels 한 행. 라벨 인덱스를 적재할 때만 사용한다.
+public record TodoLabelLink(Long todoId, Long labelId) {
+}
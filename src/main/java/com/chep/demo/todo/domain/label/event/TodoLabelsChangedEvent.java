@@ -0,0 +1,7 @@
+package com.chep.demo.todo.domain.label.event;
+
+import java.util.Set;
+
+// labelIds는 변경 후 Todo에 붙어 있는 라벨 전체이다.
+public record TodoLabelsChangedEvent(Long userId, Long todoId, Set<Long> labelIds) {
+}
@@ -0,0 +1,5 @@
+package com.chep.demo.todo.domain.label.event;
+
+// 사용자의 라벨이 생성/삭제되었을 때 발행한다.
+public record UserLabelsChangedEvent(Long userId) {
+}
@@ -11,7 +11,10 @@ import org.hibernate.annotations.SQLRestriction;
 import java.time.Instant;
 
 @Entity
-@Table(name = "projects")
+@Table(
+        name = "projects",
+        indexes = @Index(name = "idx_projects_workspace_id", columnList = "workspace_id, id")
+)
 @SQLRestriction("deleted_at IS NULL")
 public class Project {
     @Id
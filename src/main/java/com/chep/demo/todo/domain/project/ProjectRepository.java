@@ -1,11 +1,39 @@
 package com.chep.demo.todo.domain.project;
 
+import org.springframework.data.domain.Limit;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface ProjectRepository extends JpaRepository<Project, Long> {
-    List<Project> findAllByWorkspaceId(Long workspaceId);
     Optional<Project> findByIdAndWorkspaceId(Long id, Long workspaceId);
+
+    @Query("""
+            SELECT new com.chep.demo.todo.domain.project.ProjectSummary(
+                p.id, p.name, p.description, p.workspace.id, u.id, u.name, p.defaultProject,
+                (SELECT COUNT(t) FROM Todo t WHERE t.project = p))
+            FROM Project p
+            JOIN p.createdBy u
+            WHERE p.workspace.id = :workspaceId
+              AND p.id > :afterId
+            ORDER BY p.id
+            """)
+    List<ProjectSummary> findPage(@Param("workspaceId") Long workspaceId,
+                                  @Param("afterId") Long afterId,
+                                  Limit limit);
+
+    // 프로젝트 Todo의 순서를 바꾸는 작업은 프로젝트 행을 잠가 직렬화한다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            SELECT p FROM Project p
+            WHERE p.id = :id
+              AND p.workspace.id = :workspaceId
+            """)
+    Optional<Project> findByIdAndWorkspaceIdForUpdate(@Param("id") Long id,
+                                                      @Param("workspaceId") Long workspaceId);
 }
@@ -0,0 +1,13 @@
+package com.chep.demo.todo.domain.project;
+
+// 프로젝트 목록용 조회 결과. 생성자 이름과 Todo 수를 한 번의 쿼리로 함께 읽는다.
+public record ProjectSummary(
+        Long id,
+        String name,
+        String description,
+        Long workspaceId,
+        Long createdById,
+        String createdByName,
+        boolean defaultProject,
+        Long todoCount
+) {}
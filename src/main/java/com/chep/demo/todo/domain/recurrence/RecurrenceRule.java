@@ -0,0 +1,293 @@
+package com.chep.demo.todo.domain.recurrence;
+
+import org.springframework.scheduling.support.CronExpression;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 반복 규칙. 발생 시각은 저장하지 않고 요청한 구간에 대해서만 계산한다.
+ *
+ * - DAILY: startDate부터 interval일마다
+ * - WEEKLY: startDate가 속한 주부터 interval주마다 daysOfWeek 요일 (비어 있으면 startDate의 요일)
+ * - MONTHLY: interval개월마다 startDate의 일자 (없는 날짜는 그 달의 마지막 날)
+ * - CRON: Spring cron 식 (초 분 시 일 월 요일). time, interval은 사용하지 않는다.
+ *
+ * 구간의 시작 위치는 startDate부터 하나씩 세지 않고 바로 계산하므로, 오래된 규칙도 비용이 같다.
+ */
+public final class RecurrenceRule {
+    public static final int MAX_INTERVAL = 365;
+
+    public enum Frequency {
+        DAILY,
+        WEEKLY,
+        MONTHLY,
+        CRON
+    }
+
+    private final Frequency frequency;
+    private final int interval;
+    private final EnumSet<DayOfWeek> daysOfWeek;
+    private final String cronExpression;
+    private final CronExpression cron;
+    private final LocalDate startDate;
+    private final LocalTime time;
+    private final ZoneId zone;
+    private final LocalDate untilDate;
+
+    private RecurrenceRule(Frequency frequency, int interval, Collection<DayOfWeek> daysOfWeek, String cronExpression,
+                           LocalDate startDate, LocalTime time, ZoneId zone, LocalDate untilDate) {
+        if (frequency == null) {
+            throw new IllegalArgumentException("frequency must not be null");
+        }
+        if (startDate == null) {
+            throw new IllegalArgumentException("startDate must not be null");
+        }
+        if (zone == null) {
+            throw new IllegalArgumentException("zone must not be null");
+        }
+        if (untilDate != null && untilDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("untilDate must not be before startDate");
+        }
+
+        if (frequency == Frequency.CRON) {
+            if (cronExpression == null || cronExpression.isBlank()) {
+                throw new IllegalArgumentException("cron expression must not be blank");
+            }
+            this.cron = CronExpression.parse(cronExpression);
+            this.interval = 1;
+            this.time = null;
+        } else {
+            if (interval < 1 || interval > MAX_INTERVAL) {
+                throw new IllegalArgumentException("interval must be between 1 and " + MAX_INTERVAL);
+            }
+            if (time == null) {
+                throw new IllegalArgumentException("time must not be null");
+            }
+            this.cron = null;
+            this.interval = interval;
+            this.time = time;
+        }
+
+        this.frequency = frequency;
+        this.cronExpression = frequency == Frequency.CRON ? cronExpression : null;
+        this.daysOfWeek = frequency != Frequency.WEEKLY
+                ? EnumSet.noneOf(DayOfWeek.class)
+                : daysOfWeek == null || daysOfWeek.isEmpty()
+                        ? EnumSet.of(startDate.getDayOfWeek())
+                        : EnumSet.copyOf(daysOfWeek);
+        this.startDate = startDate;
+        this.zone = zone;
+        this.untilDate = untilDate;
+    }
+
+    public static class Builder {
+        private Frequency frequency;
+        private int interval = 1;
+        private Collection<DayOfWeek> daysOfWeek;
+        private String cronExpression;
+        private LocalDate startDate;
+        private LocalTime time;
+        private ZoneId zone;
+        private LocalDate untilDate;
+
+        public Builder frequency(Frequency frequency) {
+            this.frequency = frequency;
+            return this;
+        }
+
+        public Builder interval(int interval) {
+            this.interval = interval;
+            return this;
+        }
+
+        public Builder daysOfWeek(Collection<DayOfWeek> daysOfWeek) {
+            this.daysOfWeek = daysOfWeek;
+            return this;
+        }
+
+        public Builder cronExpression(String cronExpression) {
+            this.cronExpression = cronExpression;
+            return this;
+        }
+
+        public Builder startDate(LocalDate startDate) {
+            this.startDate = startDate;
+            return this;
+        }
+
+        public Builder time(LocalTime time) {
+            this.time = time;
+            return this;
+        }
+
+        public Builder zone(ZoneId zone) {
+            this.zone = zone;
+            return this;
+        }
+
+        public Builder untilDate(LocalDate untilDate) {
+            this.untilDate = untilDate;
+            return this;
+        }
+
+        public RecurrenceRule build() {
+            return new RecurrenceRule(frequency, interval, daysOfWeek, cronExpression, startDate, time, zone, untilDate);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // [from, to) 구간의 발생 시각을 오름차순으로 최대 limit개
+    public List<Instant> occurrencesBetween(Instant from, Instant to, int limit) {
+        List<Instant> occurrences = new ArrayList<>();
+        if (!from.isBefore(to) || limit <= 0) {
+            return occurrences;
+        }
+
+        if (frequency == Frequency.CRON) {
+            collectCron(from, to, limit, occurrences);
+            return occurrences;
+        }
+
+        // 시간대 차이로 경계 날짜가 밀릴 수 있어 하루씩 여유를 두고 Instant로 다시 거른다.
+        LocalDate low = max(startDate, LocalDate.ofInstant(from, zone).minusDays(1));
+        LocalDate high = LocalDate.ofInstant(to, zone).plusDays(1);
+        if (untilDate != null && untilDate.isBefore(high)) {
+            high = untilDate;
+        }
+        if (low.isAfter(high)) {
+            return occurrences;
+        }
+
+        switch (frequency) {
+            case DAILY -> collectDaily(low, high, from, to, limit, occurrences);
+            case WEEKLY -> collectWeekly(low, high, from, to, limit, occurrences);
+            case MONTHLY -> collectMonthly(low, high, from, to, limit, occurrences);
+            default -> throw new IllegalStateException("unexpected frequency: " + frequency);
+        }
+        return occurrences;
+    }
+
+    public boolean occursAt(Instant instant) {
+        return !occurrencesBetween(instant, instant.plusNanos(1), 1).isEmpty();
+    }
+
+    private void collectDaily(LocalDate low, LocalDate high, Instant from, Instant to, int limit, List<Instant> out) {
+        long offset = ChronoUnit.DAYS.between(startDate, low);
+        long step = ceilDiv(offset, interval);
+        for (LocalDate date = startDate.plusDays(step * interval); !date.isAfter(high); date = date.plusDays(interval)) {
+            if (!add(date, from, to, limit, out)) {
+                return;
+            }
+        }
+    }
+
+    private void collectWeekly(LocalDate low, LocalDate high, Instant from, Instant to, int limit, List<Instant> out) {
+        LocalDate firstWeek = startDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        long weeks = ChronoUnit.WEEKS.between(firstWeek, low.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)));
+        long step = weeks / interval;
+        for (LocalDate week = firstWeek.plusWeeks(step * interval); !week.isAfter(high); week = week.plusWeeks(interval)) {
+            for (DayOfWeek day : daysOfWeek) {
+                LocalDate date = week.plusDays(day.getValue() - 1L);
+                if (date.isBefore(startDate) || date.isBefore(low)) {
+                    continue;
+                }
+                if (date.isAfter(high) || !add(date, from, to, limit, out)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void collectMonthly(LocalDate low, LocalDate high, Instant from, Instant to, int limit, List<Instant> out) {
+        long months = ChronoUnit.MONTHS.between(startDate.withDayOfMonth(1), low.withDayOfMonth(1));
+        long step = Math.max(0, months / interval);
+        for (long k = step * interval; ; k += interval) {
+            // 항상 startDate에서 더해야 31일 같은 일자가 짧은 달 이후에도 유지된다.
+            LocalDate date = startDate.plusMonths(k);
+            if (date.isAfter(high)) {
+                return;
+            }
+            if (!date.isBefore(low) && !add(date, from, to, limit, out)) {
+                return;
+            }
+        }
+    }
+
+    private void collectCron(Instant from, Instant to, int limit, List<Instant> out) {
+        ZonedDateTime start = startDate.atStartOfDay(zone);
+        ZonedDateTime cursor = from.isAfter(start.toInstant()) ? from.atZone(zone) : start;
+        // next()는 주어진 시각 이후만 반환하므로 from 자체도 포함되도록 조금 당긴다.
+        ZonedDateTime next = cron.next(cursor.minusNanos(1));
+        while (next != null && next.toInstant().isBefore(to) && out.size() < limit) {
+            if (untilDate != null && next.toLocalDate().isAfter(untilDate)) {
+                return;
+            }
+            out.add(next.toInstant());
+            next = cron.next(next);
+        }
+    }
+
+    // limit에 도달하면 false
+    private boolean add(LocalDate date, Instant from, Instant to, int limit, List<Instant> out) {
+        Instant occurrence = ZonedDateTime.of(date, time, zone).toInstant();
+        if (!occurrence.isBefore(from) && occurrence.isBefore(to)) {
+            out.add(occurrence);
+        }
+        return out.size() < limit;
+    }
+
+    private static long ceilDiv(long value, long divisor) {
+        return value <= 0 ? 0 : (value + divisor - 1) / divisor;
+    }
+
+    private static LocalDate max(LocalDate a, LocalDate b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    public Frequency getFrequency() {
+        return frequency;
+    }
+
+    public int getInterval() {
+        return interval;
+    }
+
+    public Set<DayOfWeek> getDaysOfWeek() {
+        return EnumSet.copyOf(daysOfWeek);
+    }
+
+    public String getCronExpression() {
+        return cronExpression;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalTime getTime() {
+        return time;
+    }
+
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    public LocalDate getUntilDate() {
+        return untilDate;
+    }
+}
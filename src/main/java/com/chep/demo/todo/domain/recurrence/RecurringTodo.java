@@ -0,0 +1,199 @@
+package com.chep.demo.todo.domain.recurrence;
+
+import com.chep.demo.todo.domain.user.User;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 반복 Todo. 규칙만 저장하며 발생(occurrence)은 조회 구간에 대해 계산한다.
+ * 수정/완료/건너뛴 발생만 {@link RecurringTodoOccurrence} 행으로 저장된다.
+ * todos 테이블과 orderIndex 정렬에는 참여하지 않는다.
+ */
+@Entity
+@Table(
+        name = "recurring_todos",
+        indexes = @Index(name = "idx_recurring_todos_user", columnList = "user_id, start_date")
+)
+public class RecurringTodo {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recurring_todos_id_gen")
+    @SequenceGenerator(name = "recurring_todos_id_gen", sequenceName = "recurring_todo_id_seq", allocationSize = 1)
+    private Long id;
+
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Size(max = 200)
+    @NotNull
+    @Column(name = "title", nullable = false, length = 200)
+    private String title;
+
+    @Size(max = 500)
+    @Column(name = "content", length = 500)
+    private String content;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "frequency", nullable = false, length = 20)
+    private RecurrenceRule.Frequency frequency;
+
+    @Column(name = "interval_count", nullable = false)
+    private int interval;
+
+    // 월요일 = 1 << 0 ... 일요일 = 1 << 6 (WEEKLY 에서만 사용)
+    @Column(name = "days_of_week", nullable = false)
+    private int daysOfWeekMask;
+
+    @Size(max = 120)
+    @Column(name = "cron_expression", length = 120)
+    private String cronExpression;
+
+    @NotNull
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "time_of_day")
+    private LocalTime time;
+
+    @NotNull
+    @Column(name = "zone_id", nullable = false, length = 64)
+    private String zoneId;
+
+    @Column(name = "until_date")
+    private LocalDate untilDate;
+
+    @NotNull
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Transient
+    private transient RecurrenceRule rule;
+
+    protected RecurringTodo() {}
+
+    private RecurringTodo(User user, String title, String content, RecurrenceRule rule) {
+        if (user == null) {
+            throw new IllegalArgumentException("user must not be null");
+        }
+        if (title == null) {
+            throw new IllegalArgumentException("title must not be null");
+        }
+        if (rule == null) {
+            throw new IllegalArgumentException("rule must not be null");
+        }
+
+        this.user = user;
+        this.title = title;
+        this.content = content;
+        this.frequency = rule.getFrequency();
+        this.interval = rule.getInterval();
+        this.daysOfWeekMask = toMask(rule.getDaysOfWeek());
+        this.cronExpression = rule.getCronExpression();
+        this.startDate = rule.getStartDate();
+        this.time = rule.getTime();
+        this.zoneId = rule.getZone().getId();
+        this.untilDate = rule.getUntilDate();
+        this.createdAt = Instant.now();
+        this.rule = rule;
+    }
+
+    public static class Builder {
+        private User user;
+        private String title;
+        private String content;
+        private RecurrenceRule rule;
+
+        public Builder user(User user) {
+            this.user = user;
+            return this;
+        }
+
+        public Builder title(String title) {
+            this.title = title;
+            return this;
+        }
+
+        public Builder content(String content) {
+            this.content = content;
+            return this;
+        }
+
+        public Builder rule(RecurrenceRule rule) {
+            this.rule = rule;
+            return this;
+        }
+
+        public RecurringTodo build() {
+            return new RecurringTodo(user, title, content, rule);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public RecurrenceRule rule() {
+        if (rule == null) {
+            rule = RecurrenceRule.builder()
+                    .frequency(frequency)
+                    .interval(interval)
+                    .daysOfWeek(fromMask(daysOfWeekMask))
+                    .cronExpression(cronExpression)
+                    .startDate(startDate)
+                    .time(time)
+                    .zone(ZoneId.of(zoneId))
+                    .untilDate(untilDate)
+                    .build();
+        }
+        return rule;
+    }
+
+    private static int toMask(Set<DayOfWeek> days) {
+        int mask = 0;
+        for (DayOfWeek day : days) {
+            mask |= 1 << (day.getValue() - 1);
+        }
+        return mask;
+    }
+
+    private static Set<DayOfWeek> fromMask(int mask) {
+        Set<DayOfWeek> days = EnumSet.noneOf(DayOfWeek.class);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if ((mask & (1 << (day.getValue() - 1))) != 0) {
+                days.add(day);
+            }
+        }
+        return days;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
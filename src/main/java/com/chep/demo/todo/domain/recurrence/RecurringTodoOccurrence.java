@@ -0,0 +1,114 @@
+package com.chep.demo.todo.domain.recurrence;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.Instant;
+
+/**
+ * 수정/완료/건너뛰기가 일어난 반복 Todo의 한 발생. 나머지 발생은 저장하지 않는다.
+ * title/content가 null이면 RecurringTodo의 값을 그대로 쓴다.
+ */
+@Entity
+@Table(
+        name = "recurring_todo_occurrences",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_recurring_todo_occurrence",
+                columnNames = {"recurring_todo_id", "occurs_at"}
+        )
+)
+public class RecurringTodoOccurrence {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "recurring_todo_occurrences_id_gen")
+    @SequenceGenerator(name = "recurring_todo_occurrences_id_gen", sequenceName = "recurring_todo_occurrence_id_seq", allocationSize = 1)
+    private Long id;
+
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "recurring_todo_id", nullable = false)
+    private RecurringTodo recurringTodo;
+
+    @NotNull
+    @Column(name = "occurs_at", nullable = false)
+    private Instant occursAt;
+
+    @Size(max = 200)
+    @Column(name = "title", length = 200)
+    private String title;
+
+    @Size(max = 500)
+    @Column(name = "content", length = 500)
+    private String content;
+
+    @Column(name = "completed", nullable = false)
+    private boolean completed;
+
+    @Column(name = "skipped", nullable = false)
+    private boolean skipped;
+
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+    protected RecurringTodoOccurrence() {}
+
+    public RecurringTodoOccurrence(RecurringTodo recurringTodo, Instant occursAt) {
+        if (recurringTodo == null) {
+            throw new IllegalArgumentException("recurringTodo must not be null");
+        }
+        if (occursAt == null) {
+            throw new IllegalArgumentException("occursAt must not be null");
+        }
+        this.recurringTodo = recurringTodo;
+        this.occursAt = occursAt;
+        this.updatedAt = Instant.now();
+    }
+
+    public void changeTitleAndContent(String title, String content) {
+        this.title = title;
+        this.content = content;
+        this.updatedAt = Instant.now();
+    }
+
+    public void changeCompleted(boolean completed) {
+        this.completed = completed;
+        this.updatedAt = Instant.now();
+    }
+
+    public void changeSkipped(boolean skipped) {
+        this.skipped = skipped;
+        this.updatedAt = Instant.now();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public RecurringTodo getRecurringTodo() {
+        return recurringTodo;
+    }
+
+    public Instant getOccursAt() {
+        return occursAt;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    public boolean isSkipped() {
+        return skipped;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+}
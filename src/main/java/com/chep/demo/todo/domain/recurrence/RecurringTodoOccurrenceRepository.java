@@ -0,0 +1,29 @@
+package com.chep.demo.todo.domain.recurrence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface RecurringTodoOccurrenceRepository extends JpaRepository<RecurringTodoOccurrence, Long> {
+    Optional<RecurringTodoOccurrence> findByRecurringTodoIdAndOccursAt(Long recurringTodoId, Instant occursAt);
+
+    @Query("""
+            SELECT o FROM RecurringTodoOccurrence o
+            WHERE o.recurringTodo.id IN :recurringTodoIds
+              AND o.occursAt >= :from
+              AND o.occursAt < :to
+            """)
+    List<RecurringTodoOccurrence> findBetween(@Param("recurringTodoIds") Collection<Long> recurringTodoIds,
+                                              @Param("from") Instant from,
+                                              @Param("to") Instant to);
+
+    @Modifying
+    @Query("DELETE FROM RecurringTodoOccurrence o WHERE o.recurringTodo.id = :recurringTodoId")
+    int deleteAllByRecurringTodo(@Param("recurringTodoId") Long recurringTodoId);
+}
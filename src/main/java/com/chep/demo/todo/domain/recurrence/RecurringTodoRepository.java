@@ -0,0 +1,25 @@
+package com.chep.demo.todo.domain.recurrence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface RecurringTodoRepository extends JpaRepository<RecurringTodo, Long> {
+    List<RecurringTodo> findAllByUserIdOrderByIdAsc(Long userId);
+    Optional<RecurringTodo> findByIdAndUserId(Long id, Long userId);
+
+    // [fromDate, toDate] 와 겹칠 수 있는 규칙
+    @Query("""
+            SELECT r FROM RecurringTodo r
+            WHERE r.user.id = :userId
+              AND r.startDate <= :toDate
+              AND (r.untilDate IS NULL OR r.untilDate >= :fromDate)
+            """)
+    List<RecurringTodo> findActiveBetween(@Param("userId") Long userId,
+                                          @Param("fromDate") LocalDate fromDate,
+                                          @Param("toDate") LocalDate toDate);
+}
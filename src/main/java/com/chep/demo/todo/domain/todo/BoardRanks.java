@@ -0,0 +1,39 @@
+package com.chep.demo.todo.domain.todo;
+
+import java.util.OptionalLong;
+
+/**
+ * 보드 컬럼 안의 카드 순서를 위한 희소(sparse) rank 계산.
+ * 카드 사이에 간격을 두므로 이동한 카드 한 장의 rank만 바꾸면 된다.
+ * 간격이 모두 소진된 경우에만 컬럼 전체를 다시 매긴다.
+ */
+public final class BoardRanks {
+    public static final long GAP = 1L << 16;
+
+    private BoardRanks() {}
+
+    public static long after(Long previous) {
+        return previous == null ? 0L : previous + GAP;
+    }
+
+    // previous와 next 사이의 rank. 둘 사이에 남은 값이 없으면 비어 있다.
+    public static OptionalLong between(Long previous, Long next) {
+        if (previous == null && next == null) {
+            return OptionalLong.of(0L);
+        }
+        if (previous == null) {
+            return OptionalLong.of(next - GAP);
+        }
+        if (next == null) {
+            return OptionalLong.of(previous + GAP);
+        }
+        if (next - previous < 2) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(previous + (next - previous) / 2);
+    }
+
+    public static long ofPosition(int position) {
+        return (long) position * GAP;
+    }
+}
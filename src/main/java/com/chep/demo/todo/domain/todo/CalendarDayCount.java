@@ -0,0 +1,6 @@
+package com.chep.demo.todo.domain.todo;
+
+import java.time.LocalDate;
+
+public record CalendarDayCount(LocalDate date, long total, long completed) {
+}
@@ -0,0 +1,7 @@
+package com.chep.demo.todo.domain.todo;
+
+import java.time.Instant;
+
+// 캘린더 한 칸에 필요한 최소 필드
+public record CalendarEntry(Long id, String title, boolean completed, TodoStatus status, Instant dueDate, Long projectId) {
+}
@@ -0,0 +1,7 @@
+package com.chep.demo.todo.domain.todo;
+
+import java.time.Instant;
+
+// "다음 할 일" 순위 계산에 필요한 값만 담은 projection (완료되지 않은 Todo)
+public record NextUpCandidate(Long id, TodoPriority priority, Instant dueDate, Instant createdAt) {
+}
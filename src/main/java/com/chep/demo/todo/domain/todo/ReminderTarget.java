@@ -0,0 +1,7 @@
+package com.chep.demo.todo.domain.todo;
+
+import java.time.Instant;
+
+// 마감 알림 대상 projection (완료되지 않았고 dueDate가 있는 Todo)
+public record ReminderTarget(Long id, Long userId, String title, Instant dueDate) {
+}
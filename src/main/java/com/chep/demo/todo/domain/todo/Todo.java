@@ -1,9 +1,12 @@
 package com.chep.demo.todo.domain.todo;
 
+import com.chep.demo.todo.domain.label.Label;
+import com.chep.demo.todo.domain.project.Project;
 import com.chep.demo.todo.domain.user.User;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.SQLRestriction;
 
@@ -14,7 +17,17 @@ import java.util.List;
 import java.util.Set;
 
 @Entity
-@Table(name = "todos")
+@Table(
+        name = "todos",
+        indexes = {
+                @Index(name = "idx_todos_user_order", columnList = "user_id, order_index"),
+                @Index(name = "idx_todos_project_order", columnList = "project_id, order_index"),
+                @Index(name = "idx_todos_user_board", columnList = "user_id, status, board_rank, id"),
+                @Index(name = "idx_todos_project_board", columnList = "project_id, status, board_rank, id"),
+                @Index(name = "idx_todos_due_date", columnList = "due_date, id"),
+                @Index(name = "idx_todos_user_due", columnList = "user_id, due_date")
+        }
+)
 @SQLRestriction("deleted_at IS NULL")
 public class Todo {
     @Id
@@ -36,6 +49,19 @@ public class Todo {
     @Column(name = "completed", nullable = false)
     private boolean completed = false;
 
+    // 보드 컬럼. completed와 함께 유지되며 DONE이면 completed = true 이다.
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @ColumnDefault("'TODO'")
+    @Column(name = "status", nullable = false, length = 20)
+    private TodoStatus status = TodoStatus.TODO;
+
+    // 같은 (소유자 또는 프로젝트, status) 컬럼 안에서의 순서. 연속일 필요는 없다. (BoardRanks 참고)
+    @NotNull
+    @ColumnDefault("0")
+    @Column(name = "board_rank", nullable = false)
+    private long boardRank;
+
     @NotNull
     @Column(name = "created_at", nullable = false)
     private Instant createdAt;
@@ -47,6 +73,16 @@ public class Todo {
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
+    // 상위 작업. 전체 계층 경로는 todo_closures에 있다.
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "parent_id")
+    private Todo parent;
+
+    // null이면 개인 Todo. orderIndex는 프로젝트별(또는 사용자의 개인 Todo 목록별)로 0부터 연속이다.
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "project_id")
+    private Project project;
+
     @NotNull
     @Column(name = "order_index", nullable = false)
     private Integer orderIndex;
@@ -54,9 +90,20 @@ public class Todo {
     @Column(name = "due_date")
     private Instant dueDate;
 
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @ColumnDefault("'MEDIUM'")
+    @Column(name = "priority", nullable = false, length = 20)
+    private TodoPriority priority = TodoPriority.MEDIUM;
+
+    // 의존 그래프의 위상 순서. null이면 id를 쓴다. TodoDependencyQueries에서만 갱신한다.
+    @Column(name = "dependency_rank", insertable = false, updatable = false)
+    private Long dependencyRank;
+
     protected Todo() {}
 
-    private Todo(User user, String title, String content, Integer orderIndex, Instant dueDate) {
+    private Todo(User user, Project project, String title, String content, Integer orderIndex, Instant dueDate,
+                 TodoPriority priority) {
         if (user == null) {
             throw new IllegalArgumentException("user must not be null");
         }
@@ -70,27 +117,36 @@ public class Todo {
         }
 
         this.user = user;
+        this.project = project;
         this.title = title;
         this.content = content;
         this.orderIndex = orderIndex;
         this.completed = false;
         this.createdAt = Instant.now();
         this.dueDate = dueDate;
+        this.priority = priority == null ? TodoPriority.MEDIUM : priority;
         this.updatedAt = null;
     }
 
     public static class Builder {
         private User user;
+        private Project project;
         private String title;
         private String content;
         private Integer orderIndex;
         private Instant dueDate;
+        private TodoPriority priority;
 
         public Builder user(User user) {
             this.user = user;
             return this;
         }
 
+        public Builder project(Project project) {
+            this.project = project;
+            return this;
+        }
+
         public Builder title(String title) {
             this.title = title;
             return this;
@@ -111,8 +167,13 @@ public class Todo {
             return this;
         }
 
+        public Builder priority(TodoPriority priority) {
+            this.priority = priority;
+            return this;
+        }
+
         public Todo build() {
-            return new Todo(user, title, content, orderIndex, dueDate);
+            return new Todo(user, project, title, content, orderIndex, dueDate, priority);
         }
     }
 
@@ -120,17 +181,47 @@ public class Todo {
         return new Builder();
     }
 
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "todo", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<TodoAssignee> assignees = new HashSet<>();
 
+    @BatchSize(size = 100)
+    @ManyToMany
+    @JoinTable(
+            name = "todo_labels",
+            joinColumns = @JoinColumn(name = "todo_id"),
+            inverseJoinColumns = @JoinColumn(name = "label_id"),
+            indexes = @Index(name = "idx_todo_labels_label", columnList = "label_id")
+    )
+    private Set<Label> labels = new HashSet<>();
+
     @Column(name = "deleted_at")
     private Instant deletedAt;
 
-    public void toggleComplete() {
-        this.completed = !this.completed;
+    // 완료 토글은 DONE 또는 TODO 컬럼으로의 이동이다. boardRank는 toggledStatus() 컬럼 기준으로 구한다.
+    public void toggleComplete(long boardRank) {
+        moveOnBoard(toggledStatus(), boardRank);
+    }
+
+    public TodoStatus toggledStatus() {
+        return this.completed ? TodoStatus.TODO : TodoStatus.DONE;
+    }
+
+    public void moveOnBoard(TodoStatus status, long boardRank) {
+        if (status == null) {
+            throw new IllegalArgumentException("status must not be null");
+        }
+        this.status = status;
+        this.boardRank = boardRank;
+        this.completed = status == TodoStatus.DONE;
         this.updatedAt = Instant.now();
     }
 
+    // 컬럼의 rank 간격이 소진되었을 때 재배치용. 상태는 바꾸지 않는다.
+    public void changeBoardRank(long boardRank) {
+        this.boardRank = boardRank;
+    }
+
     public void changeAssignees(Set<User> users) {
         this.assignees.clear();
 
@@ -149,6 +240,15 @@ public class Todo {
         this.updatedAt = Instant.now();
     }
 
+    // 라벨은 Todo 소유자의 것이어야 한다. (LabelService에서 확인)
+    public void changeLabels(Set<Label> labels) {
+        this.labels.clear();
+        if (labels != null) {
+            this.labels.addAll(labels);
+        }
+        this.updatedAt = Instant.now();
+    }
+
     public void changeTitleAndContent(String title, String content) {
         if (title == null) {
             throw new IllegalArgumentException("title must not be null");
@@ -187,6 +287,28 @@ public class Todo {
         return changed;
     }
 
+    // 같은 목록(개인 또는 같은 프로젝트)의 Todo만 상위 작업이 될 수 있다.
+    public void changeParent(Todo parent) {
+        if (parent != null) {
+            if (parent == this || (parent.getId() != null && parent.getId().equals(this.id))) {
+                throw new IllegalArgumentException("todo cannot be its own parent");
+            }
+            if (!isInSameListAs(parent)) {
+                throw new IllegalArgumentException("parent must belong to the same list");
+            }
+        }
+        this.parent = parent;
+        this.updatedAt = Instant.now();
+    }
+
+    public boolean isInSameListAs(Todo other) {
+        if (this.project != null || other.project != null) {
+            return this.project != null && other.project != null
+                    && this.project.getId().equals(other.project.getId());
+        }
+        return this.user.getId().equals(other.user.getId());
+    }
+
     public void changeOrderIndex(Integer orderIndex) {
         if (orderIndex < 0) {
             throw new IllegalArgumentException("orderIndex must be more 0");
@@ -201,6 +323,14 @@ public class Todo {
         this.updatedAt = Instant.now();
     }
 
+    public void changePriority(TodoPriority priority) {
+        if (priority == null) {
+            throw new IllegalArgumentException("priority must not be null");
+        }
+        this.priority = priority;
+        this.updatedAt = Instant.now();
+    }
+
     public void markDeleted() {
         this.deletedAt = Instant.now();
     }
@@ -233,6 +363,22 @@ public class Todo {
         return user;
     }
 
+    public Todo getParent() {
+        return parent;
+    }
+
+    public Project getProject() {
+        return project;
+    }
+
+    public TodoStatus getStatus() {
+        return status;
+    }
+
+    public long getBoardRank() {
+        return boardRank;
+    }
+
     public Integer getOrderIndex() {
         return orderIndex;
     }
@@ -241,10 +387,18 @@ public class Todo {
         return dueDate;
     }
 
+    public TodoPriority getPriority() {
+        return priority;
+    }
+
     public Set<TodoAssignee> getAssignees() {
         return assignees;
     }
 
+    public Set<Label> getLabels() {
+        return labels;
+    }
+
     public Instant getDeletedAt() {
         return deletedAt;
     }
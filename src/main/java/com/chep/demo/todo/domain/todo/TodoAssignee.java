@@ -13,7 +13,8 @@ uniqueConstraints = {
                 name = "uk_todo_assignee_todo_user",
                 columnNames = {"todo_id", "user_id"}
         )
-    }
+    },
+indexes = @Index(name = "idx_todo_assignees_user", columnList = "user_id, todo_id")
 )
 public class TodoAssignee {
     @Id
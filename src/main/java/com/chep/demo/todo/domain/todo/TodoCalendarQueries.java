@@ -0,0 +1,17 @@
+package com.chep.demo.todo.domain.todo;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 캘린더 조회. 내가 만든 Todo와 담당자로 지정된 Todo를 합쳐 [from, to) 구간의 dueDate로 읽는다.
+ * 두 경로 모두 (user_id, due_date) / (user_id, todo_id) 인덱스 범위 조회가 되도록 UNION으로 나누어 둔다.
+ */
+public interface TodoCalendarQueries {
+    // (dueDate, id) 순서. 트랜잭션 안에서 호출해야 커서로 나누어 읽는다.
+    void streamCalendar(Long userId, Instant from, Instant to, Consumer<CalendarEntry> consumer);
+
+    List<CalendarDayCount> countCalendarDays(Long userId, Instant from, Instant to, ZoneId zone);
+}
@@ -0,0 +1,87 @@
+package com.chep.demo.todo.domain.todo;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.function.Consumer;
+
+class TodoCalendarQueriesImpl implements TodoCalendarQueries {
+    private static final int FETCH_SIZE = 500;
+    private static final String OWNED_OR_ASSIGNED = """
+            SELECT t.id, t.title, t.completed, t.status, t.due_date, t.project_id
+            FROM todos t
+            WHERE t.user_id = ? AND t.due_date >= ? AND t.due_date < ? AND t.deleted_at IS NULL
+            UNION
+            SELECT t.id, t.title, t.completed, t.status, t.due_date, t.project_id
+            FROM todo_assignees a
+            JOIN todos t ON t.id = a.todo_id
+            WHERE a.user_id = ? AND t.due_date >= ? AND t.due_date < ? AND t.deleted_at IS NULL
+            """;
+    private static final String SELECT_ENTRIES = OWNED_OR_ASSIGNED + "ORDER BY due_date, id";
+    private static final String COUNT_DAYS = """
+            SELECT CAST(u.due_date AT TIME ZONE ? AS date) AS day,
+                   COUNT(*) AS total,
+                   COUNT(*) FILTER (WHERE u.completed) AS completed
+            FROM (
+            """ + OWNED_OR_ASSIGNED + """
+            ) u
+            GROUP BY day
+            ORDER BY day
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    TodoCalendarQueriesImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void streamCalendar(Long userId, Instant from, Instant to, Consumer<CalendarEntry> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(SELECT_ENTRIES);
+            ps.setFetchSize(FETCH_SIZE);
+            bindRange(ps, 1, userId, from, to);
+            return ps;
+        }, rs -> {
+            consumer.accept(new CalendarEntry(
+                    rs.getLong("id"),
+                    rs.getString("title"),
+                    rs.getBoolean("completed"),
+                    TodoStatus.valueOf(rs.getString("status")),
+                    rs.getTimestamp("due_date").toInstant(),
+                    rs.getObject("project_id", Long.class)
+            ));
+        });
+    }
+
+    @Override
+    public List<CalendarDayCount> countCalendarDays(Long userId, Instant from, Instant to, ZoneId zone) {
+        return jdbcTemplate.query(connection -> {
+            PreparedStatement ps = connection.prepareStatement(COUNT_DAYS);
+            ps.setString(1, zone.getId());
+            bindRange(ps, 2, userId, from, to);
+            return ps;
+        }, (rs, rowNum) -> new CalendarDayCount(
+                rs.getDate("day").toLocalDate(),
+                rs.getLong("total"),
+                rs.getLong("completed")
+        ));
+    }
+
+    // 소유 경로와 담당자 경로에 같은 값을 바인딩한다.
+    private static void bindRange(PreparedStatement ps, int start, Long userId, Instant from, Instant to)
+            throws SQLException {
+        Timestamp fromTimestamp = Timestamp.from(from);
+        Timestamp toTimestamp = Timestamp.from(to);
+        for (int offset : new int[]{0, 3}) {
+            ps.setLong(start + offset, userId);
+            ps.setTimestamp(start + offset + 1, fromTimestamp);
+            ps.setTimestamp(start + offset + 2, toTimestamp);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.chep.demo.todo.domain.todo;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * 하위 작업 트리의 closure table. 조상-자손 쌍마다 한 행을 두며 depth는 1 이상이다. (자기 자신 행은 두지 않는다)
+ * PK (ancestor_id, descendant_id)로 서브트리를, (descendant_id) 인덱스로 조상 경로를 한 번에 조회한다.
+ * 행은 TodoClosureRepository의 집합 단위 SQL로만 추가/삭제한다.
+ */
+@Entity
+@Table(
+        name = "todo_closures",
+        indexes = @Index(name = "idx_todo_closures_descendant", columnList = "descendant_id, depth")
+)
+public class TodoClosure {
+    @EmbeddedId
+    private TodoClosureId id;
+
+    @NotNull
+    @Column(name = "depth", nullable = false)
+    private int depth;
+
+    protected TodoClosure() {}
+
+    public TodoClosureId getId() {
+        return id;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+}
@@ -0,0 +1,93 @@
+package com.chep.demo.todo.domain.todo;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface TodoClosureRepository extends JpaRepository<TodoClosure, TodoClosureId> {
+
+    boolean existsByIdAncestorIdAndIdDescendantId(Long ancestorId, Long descendantId);
+
+    @Query("""
+            SELECT new com.chep.demo.todo.domain.todo.TodoTreeNode(
+                t.id, t.parent.id, c.depth, t.title, t.completed, t.status, t.orderIndex)
+            FROM TodoClosure c
+            JOIN Todo t ON t.id = c.id.descendantId
+            WHERE c.id.ancestorId = :rootId
+            ORDER BY c.depth, t.orderIndex, t.id
+            """)
+    List<TodoTreeNode> findSubtree(@Param("rootId") Long rootId);
+
+    // 새 자식: 부모의 모든 조상 + 부모 자신과 연결한다.
+    @Modifying
+    @Query(value = """
+            INSERT INTO todo_closures (ancestor_id, descendant_id, depth)
+            SELECT ancestor_id, :childId, depth + 1 FROM todo_closures WHERE descendant_id = :parentId
+            UNION ALL
+            SELECT :parentId, :childId, 1
+            """, nativeQuery = true)
+    int insertChild(@Param("childId") Long childId, @Param("parentId") Long parentId);
+
+    // 서브트리 바깥 조상과의 연결을 끊는다. 서브트리 내부 경로는 그대로 둔다.
+    @Modifying
+    @Query(value = """
+            DELETE FROM todo_closures
+            WHERE descendant_id IN (SELECT descendant_id FROM todo_closures WHERE ancestor_id = :rootId
+                                    UNION SELECT :rootId)
+              AND ancestor_id NOT IN (SELECT descendant_id FROM todo_closures WHERE ancestor_id = :rootId
+                                      UNION SELECT :rootId)
+            """, nativeQuery = true)
+    int detachSubtree(@Param("rootId") Long rootId);
+
+    // 새 부모의 (조상 + 자신) x 서브트리의 (자손 + 루트) 조합을 한 번에 넣는다.
+    @Modifying
+    @Query(value = """
+            INSERT INTO todo_closures (ancestor_id, descendant_id, depth)
+            SELECT a.ancestor_id, d.descendant_id, a.depth + d.depth + 1
+            FROM (SELECT ancestor_id, depth FROM todo_closures WHERE descendant_id = :parentId
+                  UNION ALL SELECT :parentId, 0) a
+            CROSS JOIN (SELECT descendant_id, depth FROM todo_closures WHERE ancestor_id = :rootId
+                        UNION ALL SELECT :rootId, 0) d
+            """, nativeQuery = true)
+    int attachSubtree(@Param("rootId") Long rootId, @Param("parentId") Long parentId);
+
+    @Query(value = """
+            SELECT t.id
+            FROM todo_closures c
+            JOIN todos t ON t.id = c.descendant_id
+            WHERE c.ancestor_id = :rootId
+              AND t.deleted_at IS NULL
+              AND t.completed = false
+            """, nativeQuery = true)
+    List<Long> findIncompleteDescendantIds(@Param("rootId") Long rootId);
+
+    // 완료된 Todo는 firstRank부터 gap 간격으로 DONE 컬럼에 들어간다. (목록 순서 유지)
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            UPDATE todos t
+            SET completed = true, status = 'DONE',
+                board_rank = :firstRank + (r.position - 1) * :gap,
+                updated_at = :now
+            FROM (SELECT id, ROW_NUMBER() OVER (ORDER BY order_index, id) AS position
+                  FROM todos
+                  WHERE id IN (:ids)) r
+            WHERE t.id = r.id
+            """, nativeQuery = true)
+    int completeTodos(@Param("ids") List<Long> ids,
+                      @Param("firstRank") long firstRank,
+                      @Param("gap") long gap,
+                      @Param("now") Instant now);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            UPDATE todos
+            SET deleted_at = :now
+            WHERE id IN (SELECT descendant_id FROM todo_closures WHERE ancestor_id = :rootId)
+              AND deleted_at IS NULL
+            """, nativeQuery = true)
+    int softDeleteDescendants(@Param("rootId") Long rootId, @Param("now") Instant now);
+}
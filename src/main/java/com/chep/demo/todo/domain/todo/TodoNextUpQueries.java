@@ -0,0 +1,12 @@
+package com.chep.demo.todo.domain.todo;
+
+import java.util.List;
+
+/**
+ * "다음 할 일" 후보 조회. 내가 만든 Todo와 담당자로 지정된 Todo를 UNION으로 나누어
+ * 각각 todos(user_id, ...) / todo_assignees(user_id, todo_id) 인덱스로 읽는다.
+ * (한 WHERE 안의 OR EXISTS는 두 인덱스를 함께 쓰지 못해 todos 전체를 훑는다)
+ */
+public interface TodoNextUpQueries {
+    List<NextUpCandidate> findNextUpCandidates(Long userId);
+}
@@ -0,0 +1,38 @@
+package com.chep.demo.todo.domain.todo;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+class TodoNextUpQueriesImpl implements TodoNextUpQueries {
+    private static final String OWNED_OR_ASSIGNED = """
+            SELECT t.id, t.priority, t.due_date, t.created_at
+            FROM todos t
+            WHERE t.user_id = ? AND t.completed = false AND t.deleted_at IS NULL
+            UNION
+            SELECT t.id, t.priority, t.due_date, t.created_at
+            FROM todo_assignees a
+            JOIN todos t ON t.id = a.todo_id
+            WHERE a.user_id = ? AND t.completed = false AND t.deleted_at IS NULL
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    TodoNextUpQueriesImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<NextUpCandidate> findNextUpCandidates(Long userId) {
+        return jdbcTemplate.query(OWNED_OR_ASSIGNED, (rs, rowNum) -> {
+            Timestamp dueDate = rs.getTimestamp("due_date");
+            return new NextUpCandidate(
+                    rs.getLong("id"),
+                    TodoPriority.valueOf(rs.getString("priority")),
+                    dueDate == null ? null : dueDate.toInstant(),
+                    rs.getTimestamp("created_at").toInstant()
+            );
+        }, userId, userId);
+    }
+}
@@ -1,16 +1,192 @@
 package com.chep.demo.todo.domain.todo;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface TodoRepository extends JpaRepository<Todo, Long> {
-    List<Todo> findAllByUserIdOrderByOrderIndexAsc(Long userId);
+public interface TodoRepository extends JpaRepository<Todo, Long>, TodoCalendarQueries, TodoNextUpQueries {
     Optional<Todo> findByIdAndUserId(Long id, Long userId);
-    Long countByUserId(Long userId);
-    List<Todo> findByUserIdAndOrderIndexBetween(Long userId, int start, int end);
-    List<Todo> findByUserIdAndOrderIndexGreaterThan(Long userId, int start);
+
+    // 개인 Todo (project 없음). 응답에 쓰는 담당자/라벨을 함께 읽는다.
+    @EntityGraph(attributePaths = {"assignees", "labels"})
+    List<Todo> findAllByUserIdAndProjectIsNullOrderByOrderIndexAsc(Long userId);
+    Optional<Todo> findByIdAndUserIdAndProjectIsNull(Long id, Long userId);
+    Long countByUserIdAndProjectIsNull(Long userId);
+    List<Todo> findByUserIdAndProjectIsNullAndOrderIndexBetween(Long userId, int start, int end);
+    List<Todo> findByUserIdAndProjectIsNullAndOrderIndexGreaterThan(Long userId, int start);
+
+    @Query("SELECT t.id FROM Todo t WHERE t.user.id = :userId AND t.project IS NULL")
+    List<Long> findPersonalIds(@Param("userId") Long userId);
+
+    @Query("""
+            SELECT new com.chep.demo.todo.domain.todo.TodoSearchDocument(t.id, t.title, t.content)
+            FROM Todo t
+            WHERE t.user.id = :userId
+              AND t.project IS NULL
+            """)
+    List<TodoSearchDocument> findPersonalSearchDocuments(@Param("userId") Long userId);
+
+    @Query("""
+            SELECT new com.chep.demo.todo.domain.todo.TodoSearchDocument(t.id, t.title, t.content)
+            FROM Todo t
+            WHERE t.id = :id
+              AND t.project IS NULL
+            """)
+    Optional<TodoSearchDocument> findPersonalSearchDocument(@Param("id") Long id);
+
+    // 마감 알림: (dueDate, id) 키셋 순서로 [after, until) 구간을 읽는다.
+    @Query("""
+            SELECT new com.chep.demo.todo.domain.todo.ReminderTarget(t.id, t.user.id, t.title, t.dueDate)
+            FROM Todo t
+            WHERE t.completed = false
+              AND t.dueDate < :until
+              AND (t.dueDate > :afterDue OR (t.dueDate = :afterDue AND t.id > :afterId))
+            ORDER BY t.dueDate, t.id
+            """)
+    List<ReminderTarget> findReminderWindow(@Param("afterDue") Instant afterDue,
+                                            @Param("afterId") long afterId,
+                                            @Param("until") Instant until,
+                                            Limit limit);
+
+    @Query("""
+            SELECT new com.chep.demo.todo.domain.todo.ReminderTarget(t.id, t.user.id, t.title, t.dueDate)
+            FROM Todo t
+            WHERE t.id IN :ids
+              AND t.completed = false
+              AND t.dueDate IS NOT NULL
+            """)
+    List<ReminderTarget> findReminderTargets(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+            SELECT new com.chep.demo.todo.domain.todo.NextUpCandidate(t.id, t.priority, t.dueDate, t.createdAt)
+            FROM Todo t
+            WHERE t.id = :id
+              AND t.completed = false
+            """)
+    Optional<NextUpCandidate> findNextUpCandidate(@Param("id") Long id);
+
+    @Query("""
+            SELECT t FROM Todo t
+            WHERE t.id IN :ids
+              AND t.completed = false
+              AND (t.user.id = :userId
+                   OR EXISTS (SELECT 1 FROM TodoAssignee a WHERE a.todo = t AND a.user.id = :userId))
+            """)
+    List<Todo> findNextUpTodos(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    // 소유자 + 담당자. 삭제된 Todo도 포함한다.
+    @Query(value = """
+            SELECT user_id FROM todos WHERE id = :todoId
+            UNION
+            SELECT user_id FROM todo_assignees WHERE todo_id = :todoId
+            """, nativeQuery = true)
+    List<Long> findAudienceUserIds(@Param("todoId") Long todoId);
+
+    // 프로젝트 Todo
+    List<Todo> findByProjectIdAndOrderIndexGreaterThanOrderByOrderIndexAsc(Long projectId, int after, Limit limit);
+    Optional<Todo> findByIdAndProjectId(Long id, Long projectId);
+    Long countByProjectId(Long projectId);
+    List<Todo> findByProjectIdAndOrderIndexBetween(Long projectId, int start, int end);
+    List<Todo> findByProjectIdAndOrderIndexGreaterThan(Long projectId, int start);
+
+    // 보드 컬럼: (rank, id) 키셋 순서로 읽는다.
+    @Query("""
+            SELECT t FROM Todo t
+            WHERE t.user.id = :userId
+              AND t.project IS NULL
+              AND t.status = :status
+              AND (t.boardRank > :afterRank OR (t.boardRank = :afterRank AND t.id > :afterId))
+            ORDER BY t.boardRank, t.id
+            """)
+    List<Todo> findPersonalColumn(@Param("userId") Long userId,
+                                  @Param("status") TodoStatus status,
+                                  @Param("afterRank") long afterRank,
+                                  @Param("afterId") long afterId,
+                                  Limit limit);
+
+    @Query("""
+            SELECT t FROM Todo t
+            WHERE t.project.id = :projectId
+              AND t.status = :status
+              AND (t.boardRank > :afterRank OR (t.boardRank = :afterRank AND t.id > :afterId))
+            ORDER BY t.boardRank, t.id
+            """)
+    List<Todo> findProjectColumn(@Param("projectId") Long projectId,
+                                 @Param("status") TodoStatus status,
+                                 @Param("afterRank") long afterRank,
+                                 @Param("afterId") long afterId,
+                                 Limit limit);
+
+    @Query("""
+            SELECT MAX(t.boardRank) FROM Todo t
+            WHERE t.user.id = :userId
+              AND t.project IS NULL
+              AND t.status = :status
+            """)
+    Long findMaxPersonalBoardRank(@Param("userId") Long userId, @Param("status") TodoStatus status);
+
+    @Query("""
+            SELECT MAX(t.boardRank) FROM Todo t
+            WHERE t.project.id = :projectId
+              AND t.status = :status
+            """)
+    Long findMaxProjectBoardRank(@Param("projectId") Long projectId, @Param("status") TodoStatus status);
+
+    // status 컬럼이 생기기 전에 완료된 행은 TODO로 남아 있다.
+    // 목록(개인 소유자 또는 프로젝트)별로 DONE 컬럼 맨 뒤에 orderIndex 순서로 붙인다.
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            UPDATE todos t
+            SET status = 'DONE',
+                board_rank = COALESCE(d.max_rank + :gap, 0) + (r.position - 1) * :gap
+            FROM (SELECT id, project_id, CASE WHEN project_id IS NULL THEN user_id END AS owner_id,
+                         ROW_NUMBER() OVER (PARTITION BY project_id, CASE WHEN project_id IS NULL THEN user_id END
+                                            ORDER BY order_index, id) AS position
+                  FROM todos
+                  WHERE completed = true AND status <> 'DONE') r
+            LEFT JOIN (SELECT project_id, CASE WHEN project_id IS NULL THEN user_id END AS owner_id,
+                              MAX(board_rank) AS max_rank
+                       FROM todos
+                       WHERE status = 'DONE'
+                       GROUP BY project_id, CASE WHEN project_id IS NULL THEN user_id END) d
+                   ON d.project_id IS NOT DISTINCT FROM r.project_id
+                  AND d.owner_id IS NOT DISTINCT FROM r.owner_id
+            WHERE t.id = r.id
+            """, nativeQuery = true)
+    int backfillDoneStatus(@Param("gap") long gap);
+
+    // 하위 작업이 함께 삭제되어 생긴 orderIndex 빈칸을 한 번의 UPDATE로 메운다.
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            UPDATE todos t
+            SET order_index = r.position
+            FROM (SELECT id, ROW_NUMBER() OVER (ORDER BY order_index, id) - 1 AS position
+                  FROM todos
+                  WHERE user_id = :userId AND project_id IS NULL AND deleted_at IS NULL) r
+            WHERE t.id = r.id
+              AND t.order_index <> r.position
+            """, nativeQuery = true)
+    int compactPersonalOrder(@Param("userId") Long userId);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            UPDATE todos t
+            SET order_index = r.position
+            FROM (SELECT id, ROW_NUMBER() OVER (ORDER BY order_index, id) - 1 AS position
+                  FROM todos
+                  WHERE project_id = :projectId AND deleted_at IS NULL) r
+            WHERE t.id = r.id
+              AND t.order_index <> r.position
+            """, nativeQuery = true)
+    int compactProjectOrder(@Param("projectId") Long projectId);
 
     default void softDelete(Todo todo) {
         todo.markDeleted();
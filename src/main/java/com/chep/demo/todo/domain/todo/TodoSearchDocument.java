@@ -0,0 +1,5 @@
+package com.chep.demo.todo.domain.todo;
+
+// 검색 인덱스 적재용 projection
+public record TodoSearchDocument(Long id, String title, String content) {
+}
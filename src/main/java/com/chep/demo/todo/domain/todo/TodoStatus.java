@@ -0,0 +1,5 @@
+package com.chep.demo.todo.domain.todo;
+
+public enum TodoStatus {
+    TODO, IN_PROGRESS, DONE
+}
@@ -0,0 +1,12 @@
+package com.chep.demo.todo.domain.todo;
+
+// 서브트리 조회 결과의 한 행. depth는 조회 기준 Todo로부터의 거리다.
+public record TodoTreeNode(
+        Long id,
+        Long parentId,
+        int depth,
+        String title,
+        boolean completed,
+        TodoStatus status,
+        Integer orderIndex
+) {}
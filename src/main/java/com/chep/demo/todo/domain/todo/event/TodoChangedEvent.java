@@ -0,0 +1,27 @@
+package com.chep.demo.todo.domain.todo.event;
+
+/**
+ * Todo 생성/수정/삭제. 메모리에 Todo 파생 데이터를 들고 있는 컴포넌트가 커밋 이후 갱신하는 데 사용한다.
+ * projectId가 null이면 개인 Todo이다.
+ */
+public record TodoChangedEvent(Long todoId, Long userId, Long projectId, Type type) {
+
+    public enum Type {
+        CREATED,
+        // title/content 변경
+        UPDATED,
+        COMPLETION_CHANGED,
+        DUE_DATE_CHANGED,
+        PRIORITY_CHANGED,
+        ASSIGNEES_CHANGED,
+        // orderIndex 또는 보드 컬럼/순서 변경
+        MOVED,
+        DELETED,
+        // 하위 작업까지 함께 삭제되었다. 삭제된 하위 작업의 id는 포함하지 않는다.
+        SUBTREE_DELETED
+    }
+
+    public boolean isPersonal() {
+        return projectId == null;
+    }
+}
@@ -1,15 +1,10 @@
 package com.chep.demo.todo.domain.user;
 
-import com.chep.demo.todo.domain.user.event.UserRegisteredEvent;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
-import org.springframework.data.domain.AfterDomainEventPublication;
-import org.springframework.data.domain.DomainEvents;
-
-import java.util.ArrayList;
-import java.util.List;
 
+// 멤버 검색용 lower(name), lower(email) text_pattern_ops 식 인덱스는 스키마에 직접 둔다. (WorkspaceMemberSearchQueriesImpl 참고)
 @Entity
 @Table(name = "users")
 public class User {
@@ -72,28 +67,19 @@ public class User {
         return new Builder();
     }
 
-    @Transient
-    private final List<UserRegisteredEvent> domainEvents = new ArrayList<>();
-
     public static User register(String name, String email, String encodedPassword) {
-        User user = User.builder()
+        return User.builder()
                 .name(name)
                 .email(email)
                 .password(encodedPassword)
                 .build();
-
-        user.domainEvents.add(new UserRegisteredEvent(user));
-        return user;
     }
 
-    @DomainEvents
-    public List<UserRegisteredEvent> getDomainEvents() {
-        return domainEvents;
-    }
-
-    @AfterDomainEventPublication
-    public void clearDomainEvents() {
-        domainEvents.clear();
+    void assignId(Long id) {
+        if (this.id != null) {
+            throw new IllegalStateException("id is already assigned");
+        }
+        this.id = id;
     }
 
     public Long getId() { return id; }
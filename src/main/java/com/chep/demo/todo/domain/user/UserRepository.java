@@ -1,11 +1,39 @@
 package com.chep.demo.todo.domain.user;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
-    Boolean existsByEmail(String email);
-
     Optional<User> findByEmail(String email);
+
+    // 개인 Todo 목록 단위로 직렬화해야 하는 작업(의존 관계 추가 등)은 사용자 행을 잠근다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id = :id")
+    Optional<User> findByIdForUpdate(@Param("id") Long id);
+
+    @Transactional
+    @Query(value = """
+            INSERT INTO users (id, name, email, password)
+            VALUES (nextval('user_id_seq'), :name, :email, :password)
+            ON CONFLICT (email) DO NOTHING
+            RETURNING id
+            """, nativeQuery = true)
+    Optional<Long> insertIgnoringDuplicateEmail(@Param("name") String name,
+                                                @Param("email") String email,
+                                                @Param("password") String password);
+
+    // 이메일 unique 제약에 걸리면 empty를 반환한다. (사전 중복 조회 없이 INSERT 한 번)
+    default Optional<User> insertIfAbsent(User user) {
+        return insertIgnoringDuplicateEmail(user.getName(), user.getEmail(), user.getPassword())
+                .map(id -> {
+                    user.assignId(id);
+                    return user;
+                });
+    }
 }
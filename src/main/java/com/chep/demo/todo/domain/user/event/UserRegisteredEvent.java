@@ -1,6 +1,4 @@
 package com.chep.demo.todo.domain.user.event;
 
-import com.chep.demo.todo.domain.user.User;
-
-public record UserRegisteredEvent(User user) {
+public record UserRegisteredEvent(Long userId) {
 }
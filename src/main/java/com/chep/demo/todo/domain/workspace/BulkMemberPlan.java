@@ -0,0 +1,10 @@
+package com.chep.demo.todo.domain.workspace;
+
+import java.util.List;
+
+// 대량 멤버 추가 시 사용자별 처리 방법. (신규 추가 / 탈퇴·강퇴 멤버 복구 / 이미 활성 멤버)
+public record BulkMemberPlan(
+        List<Long> insertUserIds,
+        List<Long> restoreUserIds,
+        List<Long> alreadyActiveUserIds
+) {}
@@ -11,12 +11,17 @@ import org.hibernate.annotations.SQLRestriction;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
+// 사용자당 Personal Workspace는 하나다. JPA로 표현할 수 없는 부분 unique 인덱스로 보장한다:
+//   CREATE UNIQUE INDEX uq_workspaces_personal_owner ON workspaces (owner_user_id) WHERE is_personal = true;
 @Entity
 @Table(name = "workspaces")
 @SQLRestriction("deleted_at IS NULL")
@@ -57,6 +62,10 @@ public class Workspace {
     @OneToMany(mappedBy = "workspace", cascade = CascadeType.ALL, orphanRemoval = true)
     private final Set<WorkspaceMember> members = new HashSet<>();
 
+    // 멤버 조회를 O(1)로 하기 위한 인덱스. 영속 상태가 아니며 처음 접근할 때 만든다.
+    @Transient
+    private transient WorkspaceMemberIndex memberIndex;
+
     protected Workspace() {}
 
     private Workspace(User owner, String name, String description, boolean personal) {
@@ -158,17 +167,43 @@ public class Workspace {
         return addOrRestoreMember(user);
     }
 
+    /**
+     * 대량 추가용. addOrRestoreMember와 같은 규칙을 한 번의 순회로 적용하되, 멤버 컬렉션 전체를 읽지 않도록
+     * 대상 사용자의 기존 멤버 행만 받아서 처리 방법만 결정한다. 실제 반영은 서비스가 일괄 쿼리로 수행한다.
+     */
+    public BulkMemberPlan planAddMembers(Collection<Long> userIds, Collection<WorkspaceMember> existingMembers) {
+        if (personal) {
+            throw new WorkspacePolicyViolationException("Cannot modify members of a personal workspace");
+        }
+
+        Map<Long, WorkspaceMember> existingByUserId = HashMap.newHashMap(existingMembers.size());
+        for (WorkspaceMember member : existingMembers) {
+            existingByUserId.put(member.getUser().getId(), member);
+        }
+
+        List<Long> insert = new ArrayList<>();
+        List<Long> restore = new ArrayList<>();
+        List<Long> alreadyActive = new ArrayList<>();
+        for (Long userId : new LinkedHashSet<>(userIds)) {
+            WorkspaceMember existing = existingByUserId.get(userId);
+            if (existing == null) {
+                insert.add(userId);
+            } else if (existing.isActive()) {
+                alreadyActive.add(userId);
+            } else {
+                restore.add(userId);
+            }
+        }
+        return new BulkMemberPlan(insert, restore, alreadyActive);
+    }
+
     public WorkspaceMember requireActiveMember(Long userId) {
-        return members.stream()
-                .filter(member -> member.hasUser(userId) && member.isActive())
-                .findFirst()
+        return Optional.ofNullable(memberIndex().findActiveByUserId(userId))
                 .orElseThrow(() -> new WorkspaceMemberNotFoundException("Workspace member not found."));
     }
 
     public WorkspaceMember requireMember(Long memberId) {
-        return members.stream()
-                .filter(member -> Objects.equals(member.getId(), memberId))
-                .findFirst()
+        return Optional.ofNullable(memberIndex().findByMemberId(memberId))
                 .orElseThrow(() -> new WorkspaceMemberNotFoundException("Workspace member not found."));
     }
 
@@ -186,17 +221,18 @@ public class Workspace {
     }
 
     public long countActiveMembers() {
-        return members.stream()
-                .filter(WorkspaceMember::isActive)
-                .count();
+        return memberIndex().activeCount();
     }
 
-    public void kickMember(Long memberId) {
+    public WorkspaceMember kickMember(Long memberId) {
         WorkspaceMember member = requireMember(memberId);
         if (member.isOwner()) {
             throw new WorkspacePolicyViolationException("workspace owner cannot be removed");
         }
+        boolean wasActive = member.isActive();
         member.kick();
+        memberIndex().statusChanged(wasActive, false);
+        return member;
     }
 
     public void leave(Long userId) {
@@ -205,11 +241,11 @@ public class Workspace {
             throw new WorkspacePolicyViolationException("workspace owner cannot leave directly");
         }
         member.leave();
+        memberIndex().statusChanged(true, false);
     }
 
     public boolean hasActiveMember(Long userId) {
-        return members.stream()
-                .anyMatch(member -> member.hasUser(userId) && member.isActive());
+        return memberIndex().findActiveByUserId(userId) != null;
     }
 
     public boolean isPersonal() {
@@ -225,24 +261,31 @@ public class Workspace {
             throw new IllegalArgumentException("user must not be null");
         }
 
-        Optional<WorkspaceMember> existing = members.stream()
-                .filter(member -> member.hasUser(user.getId()))
-                .findFirst();
+        WorkspaceMemberIndex index = memberIndex();
+        WorkspaceMember existing = index.findByUserId(user.getId());
 
-        if (existing.isPresent()) {
-            WorkspaceMember member = existing.get();
-            if (member.isActive()) {
+        if (existing != null) {
+            if (existing.isActive()) {
                 throw new IllegalStateException("user is already an active member");
             }
-            member.restoreActive();
-            return member;
+            existing.restoreActive();
+            index.statusChanged(false, true);
+            return existing;
         }
 
         WorkspaceMember member = WorkspaceMember.member(this, user);
         members.add(member);
+        index.add(member);
         return member;
     }
 
+    private WorkspaceMemberIndex memberIndex() {
+        if (memberIndex == null) {
+            memberIndex = new WorkspaceMemberIndex(members);
+        }
+        return memberIndex;
+    }
+
     public Long getId() {
         return id;
     }
@@ -5,10 +5,16 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
 
 import java.time.Instant;
+import java.util.Objects;
 @Entity
 @Table(
         name = "workspace_members",
-        uniqueConstraints = @UniqueConstraint(name = "uq_wm_workspace_user", columnNames = {"workspace_id", "user_id"})
+        uniqueConstraints = @UniqueConstraint(name = "uq_wm_workspace_user", columnNames = {"workspace_id", "user_id"}),
+        indexes = {
+                @Index(name = "idx_wm_workspace_user_status", columnList = "workspace_id, user_id, status"),
+                @Index(name = "idx_wm_user_status", columnList = "user_id, status"),
+                @Index(name = "idx_wm_workspace_status_id", columnList = "workspace_id, status, id")
+        }
 )
 public class WorkspaceMember {
     @Id
@@ -140,7 +146,7 @@ public class WorkspaceMember {
     }
 
     public boolean hasUser(Long userId) {
-        return this.user != null && this.user.getId().equals(userId);
+        return this.user != null && Objects.equals(this.user.getId(), userId);
     }
 
     public Long getId() {
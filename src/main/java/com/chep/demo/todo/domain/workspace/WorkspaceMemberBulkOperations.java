@@ -0,0 +1,9 @@
+package com.chep.demo.todo.domain.workspace;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface WorkspaceMemberBulkOperations {
+
+    int insertMembers(Long workspaceId, List<Long> userIds, Instant joinedAt);
+}
@@ -0,0 +1,41 @@
+package com.chep.demo.todo.domain.workspace;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+class WorkspaceMemberBulkOperationsImpl implements WorkspaceMemberBulkOperations {
+    private static final int BATCH_SIZE = 500;
+    private static final String INSERT_MEMBER = """
+            INSERT INTO workspace_members (id, workspace_id, user_id, role, status, joined_at, status_changed_at)
+            VALUES (nextval('workspace_member_id_seq'), ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (workspace_id, user_id) DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    WorkspaceMemberBulkOperationsImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // 같은 트랜잭션의 커넥션을 사용하므로 JPA 쪽 변경과 함께 커밋/롤백된다.
+    @Override
+    public int insertMembers(Long workspaceId, List<Long> userIds, Instant joinedAt) {
+        Timestamp timestamp = Timestamp.from(joinedAt);
+        int[][] results = jdbcTemplate.batchUpdate(INSERT_MEMBER, userIds, BATCH_SIZE, (ps, userId) -> {
+            ps.setLong(1, workspaceId);
+            ps.setLong(2, userId);
+            ps.setString(3, WorkspaceMember.Role.MEMBER.name());
+            ps.setString(4, WorkspaceMember.Status.ACTIVE.name());
+            ps.setTimestamp(5, timestamp);
+            ps.setTimestamp(6, timestamp);
+        });
+        return Arrays.stream(results)
+                .flatMapToInt(Arrays::stream)
+                .map(count -> Math.max(count, 0))
+                .sum();
+    }
+}
@@ -0,0 +1,80 @@
+package com.chep.demo.todo.domain.workspace;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Workspace 애그리거트 내부에서만 쓰는 멤버 인덱스. 로딩 후 처음 접근할 때 만들어지고
+ * Workspace의 멤버 변경 메서드가 함께 갱신한다. 아직 flush되지 않아 id가 없는 멤버는
+ * member id로 찾을 때 다시 확인한다.
+ */
+final class WorkspaceMemberIndex {
+    private final Map<Long, WorkspaceMember> byUserId;
+    private final Map<Long, WorkspaceMember> byMemberId;
+    private final List<WorkspaceMember> withoutId = new ArrayList<>();
+    private int activeCount;
+
+    WorkspaceMemberIndex(Collection<WorkspaceMember> members) {
+        this.byUserId = HashMap.newHashMap(members.size());
+        this.byMemberId = HashMap.newHashMap(members.size());
+        for (WorkspaceMember member : members) {
+            add(member);
+        }
+    }
+
+    void add(WorkspaceMember member) {
+        byUserId.put(member.getUser().getId(), member);
+        Long memberId = member.getId();
+        if (memberId == null) {
+            withoutId.add(member);
+        } else {
+            byMemberId.put(memberId, member);
+        }
+        if (member.isActive()) {
+            activeCount++;
+        }
+    }
+
+    WorkspaceMember findByUserId(Long userId) {
+        return byUserId.get(userId);
+    }
+
+    WorkspaceMember findActiveByUserId(Long userId) {
+        WorkspaceMember member = byUserId.get(userId);
+        return member != null && member.isActive() ? member : null;
+    }
+
+    WorkspaceMember findByMemberId(Long memberId) {
+        WorkspaceMember member = byMemberId.get(memberId);
+        if (member == null && !withoutId.isEmpty()) {
+            indexAssignedIds();
+            member = byMemberId.get(memberId);
+        }
+        return member;
+    }
+
+    void statusChanged(boolean wasActive, boolean active) {
+        if (wasActive != active) {
+            activeCount += active ? 1 : -1;
+        }
+    }
+
+    int activeCount() {
+        return activeCount;
+    }
+
+    private void indexAssignedIds() {
+        Iterator<WorkspaceMember> iterator = withoutId.iterator();
+        while (iterator.hasNext()) {
+            WorkspaceMember member = iterator.next();
+            if (member.getId() != null) {
+                byMemberId.put(member.getId(), member);
+                iterator.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.chep.demo.todo.domain.workspace;
+
+// 멤버 검색 결과와 정렬 기준 값(lower(name) 또는 lower(email)). 다음 페이지 커서를 만들 때 쓴다.
+public record WorkspaceMemberMatch(
+        WorkspaceMemberView member,
+        String sortKey
+) {}
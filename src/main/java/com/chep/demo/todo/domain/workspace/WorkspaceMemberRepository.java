@@ -0,0 +1,84 @@
+package com.chep.demo.todo.domain.workspace;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface WorkspaceMemberRepository extends JpaRepository<WorkspaceMember, Long>, WorkspaceMemberBulkOperations,
+        WorkspaceMemberSearchQueries {
+
+    @Query("""
+            SELECT new com.chep.demo.todo.domain.workspace.WorkspaceMembership(
+                m.id, w.id, m.user.id, m.role, m.status, m.joinedAt, m.statusChangedAt)
+            FROM WorkspaceMember m
+            JOIN m.workspace w
+            WHERE w.id = :workspaceId
+              AND m.user.id = :userId
+              AND m.status = :status
+              AND w.deletedAt IS NULL
+            """)
+    Optional<WorkspaceMembership> findMembership(@Param("workspaceId") Long workspaceId,
+                                                 @Param("userId") Long userId,
+                                                 @Param("status") WorkspaceMember.Status status);
+
+    // (workspace_id, status, id) 인덱스 순서로 읽으므로 멤버 수와 관계없이 페이지 크기만큼만 조회한다.
+    // 검색어가 있으면 WorkspaceMemberSearchQueries를 쓴다.
+    @Query("""
+            SELECT new com.chep.demo.todo.domain.workspace.WorkspaceMemberView(
+                m.id, u.id, u.name, u.email, m.role, m.status, m.joinedAt)
+            FROM WorkspaceMember m
+            JOIN m.user u
+            WHERE m.workspace.id = :workspaceId
+              AND m.status = :status
+              AND m.id > :afterId
+            ORDER BY m.id
+            """)
+    List<WorkspaceMemberView> findPage(@Param("workspaceId") Long workspaceId,
+                                       @Param("status") WorkspaceMember.Status status,
+                                       @Param("afterId") Long afterId,
+                                       Limit limit);
+
+    @Query("""
+            SELECT m FROM WorkspaceMember m
+            WHERE m.workspace.id = :workspaceId
+              AND m.user.id IN :userIds
+            """)
+    List<WorkspaceMember> findAllByWorkspaceIdAndUserIdIn(@Param("workspaceId") Long workspaceId,
+                                                          @Param("userIds") Collection<Long> userIds);
+
+    // 소유자 행은 대량 상태 변경 대상에서 제외한다.
+    @Modifying
+    @Query("""
+            UPDATE WorkspaceMember m
+            SET m.status = :to, m.statusChangedAt = :changedAt
+            WHERE m.workspace.id = :workspaceId
+              AND m.user.id IN :userIds
+              AND m.status IN :from
+              AND m.role <> :protectedRole
+            """)
+    int transitionStatus(@Param("workspaceId") Long workspaceId,
+                         @Param("userIds") Collection<Long> userIds,
+                         @Param("from") Collection<WorkspaceMember.Status> from,
+                         @Param("to") WorkspaceMember.Status to,
+                         @Param("protectedRole") WorkspaceMember.Role protectedRole,
+                         @Param("changedAt") Instant changedAt);
+
+    default int restoreMembers(Long workspaceId, Collection<Long> userIds, Instant changedAt) {
+        return transitionStatus(workspaceId, userIds,
+                List.of(WorkspaceMember.Status.LEFT, WorkspaceMember.Status.KICKED),
+                WorkspaceMember.Status.ACTIVE, WorkspaceMember.Role.OWNER, changedAt);
+    }
+
+    default int kickActiveMembers(Long workspaceId, Collection<Long> userIds, Instant changedAt) {
+        return transitionStatus(workspaceId, userIds,
+                List.of(WorkspaceMember.Status.ACTIVE),
+                WorkspaceMember.Status.KICKED, WorkspaceMember.Role.OWNER, changedAt);
+    }
+}
@@ -0,0 +1,17 @@
+package com.chep.demo.todo.domain.workspace;
+
+import java.util.List;
+
+/**
+ * 활성 멤버를 이름/이메일 앞부분으로 검색한다. 검색한 컬럼의 (lower(값), user id) 순서로 keyset 페이지를 읽는다.
+ * users의 lower(name), lower(email) text_pattern_ops 인덱스를 범위 스캔하도록 정렬도 같은 연산자(~<~)를 쓴다.
+ */
+public interface WorkspaceMemberSearchQueries {
+
+    List<WorkspaceMemberMatch> searchActiveByNamePrefix(Long workspaceId, String prefix,
+                                                        String afterKey, Long afterUserId, int limit);
+
+    // 이름으로 이미 찾은 멤버는 제외한다.
+    List<WorkspaceMemberMatch> searchActiveByEmailPrefix(Long workspaceId, String prefix,
+                                                         String afterKey, Long afterUserId, int limit);
+}
@@ -0,0 +1,67 @@
+package com.chep.demo.todo.domain.workspace;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.List;
+
+// 필요한 인덱스 (JPA @Index로 표현할 수 없는 식 인덱스라 스키마에 직접 만든다):
+//   CREATE INDEX idx_users_lower_name_pattern ON users (lower(name) text_pattern_ops, id);
+//   CREATE INDEX idx_users_lower_email_pattern ON users (lower(email) text_pattern_ops, id);
+// 일치하는 사용자를 인덱스 순서로 읽으면서 uq_wm_workspace_user로 멤버 여부를 확인하고, limit개에서 멈춘다.
+class WorkspaceMemberSearchQueriesImpl implements WorkspaceMemberSearchQueries {
+    private static final String BY_NAME = """
+            SELECT m.id AS member_id, u.id AS user_id, u.name, u.email, m.role, m.status, m.joined_at,
+                   lower(u.name) AS sort_key
+            FROM users u
+            JOIN workspace_members m ON m.user_id = u.id AND m.workspace_id = ?
+            WHERE m.status = 'ACTIVE'
+              AND lower(u.name) LIKE ? ESCAPE '\\'
+              AND (lower(u.name) ~>~ ? OR (lower(u.name) = ? AND u.id > ?))
+            ORDER BY lower(u.name) USING ~<~, u.id
+            LIMIT ?
+            """;
+    private static final String BY_EMAIL = """
+            SELECT m.id AS member_id, u.id AS user_id, u.name, u.email, m.role, m.status, m.joined_at,
+                   lower(u.email) AS sort_key
+            FROM users u
+            JOIN workspace_members m ON m.user_id = u.id AND m.workspace_id = ?
+            WHERE m.status = 'ACTIVE'
+              AND lower(u.email) LIKE ? ESCAPE '\\'
+              AND lower(u.name) NOT LIKE ? ESCAPE '\\'
+              AND (lower(u.email) ~>~ ? OR (lower(u.email) = ? AND u.id > ?))
+            ORDER BY lower(u.email) USING ~<~, u.id
+            LIMIT ?
+            """;
+
+    private static final RowMapper<WorkspaceMemberMatch> MATCH = (rs, rowNum) -> new WorkspaceMemberMatch(
+            new WorkspaceMemberView(
+                    rs.getLong("member_id"),
+                    rs.getLong("user_id"),
+                    rs.getString("name"),
+                    rs.getString("email"),
+                    WorkspaceMember.Role.valueOf(rs.getString("role")),
+                    WorkspaceMember.Status.valueOf(rs.getString("status")),
+                    rs.getTimestamp("joined_at").toInstant()
+            ),
+            rs.getString("sort_key")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    WorkspaceMemberSearchQueriesImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<WorkspaceMemberMatch> searchActiveByNamePrefix(Long workspaceId, String prefix,
+                                                               String afterKey, Long afterUserId, int limit) {
+        return jdbcTemplate.query(BY_NAME, MATCH, workspaceId, prefix, afterKey, afterKey, afterUserId, limit);
+    }
+
+    @Override
+    public List<WorkspaceMemberMatch> searchActiveByEmailPrefix(Long workspaceId, String prefix,
+                                                                String afterKey, Long afterUserId, int limit) {
+        return jdbcTemplate.query(BY_EMAIL, MATCH, workspaceId, prefix, prefix, afterKey, afterKey, afterUserId, limit);
+    }
+}
@@ -0,0 +1,14 @@
+package com.chep.demo.todo.domain.workspace;
+
+import java.time.Instant;
+
+// 멤버 목록/검색용 조회 결과. users 테이블과 조인해 이름과 이메일을 함께 읽는다.
+public record WorkspaceMemberView(
+        Long memberId,
+        Long userId,
+        String name,
+        String email,
+        WorkspaceMember.Role role,
+        WorkspaceMember.Status status,
+        Instant joinedAt
+) {}
@@ -0,0 +1,22 @@
+package com.chep.demo.todo.domain.workspace;
+
+import java.time.Instant;
+
+// 권한 확인용 멤버십 조회 결과. Workspace 애그리거트 전체를 읽지 않는다.
+public record WorkspaceMembership(
+        Long memberId,
+        Long workspaceId,
+        Long userId,
+        WorkspaceMember.Role role,
+        WorkspaceMember.Status status,
+        Instant joinedAt,
+        Instant statusChangedAt
+) {
+    public boolean isOwner() {
+        return role == WorkspaceMember.Role.OWNER;
+    }
+
+    public boolean isActive() {
+        return status == WorkspaceMember.Status.ACTIVE;
+    }
+}
@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.Optional;
 
 public interface WorkspaceRepository extends JpaRepository<Workspace, Long> {
+    boolean existsByOwnerIdAndPersonalTrue(Long ownerId);
 
     @Query("""
             SELECT DISTINCT w FROM Workspace w
@@ -18,12 +19,18 @@ public interface WorkspaceRepository extends JpaRepository<Workspace, Long> {
     Optional<Workspace> findByIdWithMembers(@Param("workspaceId") Long workspaceId);
 
     @Query("""
-            SELECT DISTINCT w FROM Workspace w
-            LEFT JOIN FETCH w.members m
+            SELECT new com.chep.demo.todo.domain.workspace.WorkspaceSummary(
+                w.id, w.name, w.description, w.personal, w.owner.id, m.role,
+                (SELECT COUNT(am) FROM WorkspaceMember am
+                 WHERE am.workspace = w
+                   AND am.status = :status))
+            FROM WorkspaceMember m
+            JOIN m.workspace w
             WHERE m.user.id = :userId
               AND m.status = :status
               AND w.deletedAt IS NULL
+            ORDER BY w.id
             """)
-    List<Workspace> findAllByMemberUserIdAndStatus(@Param("userId") Long userId,
-                                                   @Param("status") WorkspaceMember.Status status);
+    List<WorkspaceSummary> findSummariesByMemberUserIdAndStatus(@Param("userId") Long userId,
+                                                                @Param("status") WorkspaceMember.Status status);
 }
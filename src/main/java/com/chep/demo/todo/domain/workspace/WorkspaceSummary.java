@@ -0,0 +1,12 @@
+package com.chep.demo.todo.domain.workspace;
+
+// 워크스페이스 목록(스위처)용 조회 결과. 멤버 컬렉션을 읽지 않고 집계 쿼리로 만든다.
+public record WorkspaceSummary(
+        Long id,
+        String name,
+        String description,
+        boolean personal,
+        Long ownerId,
+        WorkspaceMember.Role myRole,
+        Long activeMemberCount
+) {}
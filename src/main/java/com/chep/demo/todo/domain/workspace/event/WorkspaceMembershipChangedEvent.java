@@ -0,0 +1,17 @@
+package com.chep.demo.todo.domain.workspace.event;
+
+// userId가 null이면 workspace 전체 멤버십이 바뀐 것으로 본다. (예: workspace 삭제)
+public record WorkspaceMembershipChangedEvent(Long workspaceId, Long userId) {
+
+    public static WorkspaceMembershipChangedEvent member(Long workspaceId, Long userId) {
+        return new WorkspaceMembershipChangedEvent(workspaceId, userId);
+    }
+
+    public static WorkspaceMembershipChangedEvent workspace(Long workspaceId) {
+        return new WorkspaceMembershipChangedEvent(workspaceId, null);
+    }
+
+    public boolean isWholeWorkspace() {
+        return userId == null;
+    }
+}
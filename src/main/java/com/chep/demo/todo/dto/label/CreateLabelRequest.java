@@ -0,0 +1,10 @@
+package com.chep.demo.todo.dto.label;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record CreateLabelRequest(
+        @NotBlank(message = "name is required")
+        @Size(max = 50)
+        String name
+) {}
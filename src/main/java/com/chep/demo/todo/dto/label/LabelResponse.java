@@ -0,0 +1,6 @@
+package com.chep.demo.todo.dto.label;
+
+public record LabelResponse(
+        Long id,
+        String name
+) {}
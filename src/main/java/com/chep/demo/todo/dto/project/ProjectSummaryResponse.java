@@ -0,0 +1,12 @@
+package com.chep.demo.todo.dto.project;
+
+public record ProjectSummaryResponse(
+        Long id,
+        String name,
+        String description,
+        Long workspaceId,
+        Long createdBy,
+        String createdByName,
+        boolean defaultProject,
+        long todoCount
+) {}
@@ -0,0 +1,31 @@
+package com.chep.demo.todo.dto.recurrence;
+
+import com.chep.demo.todo.domain.recurrence.RecurrenceRule;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+
+public record CreateRecurringTodoRequest(
+        @NotBlank(message = "title is required")
+        @Size(max = 200)
+        String title,
+        @Size(max = 500)
+        String content,
+        @NotNull(message = "frequency is required")
+        RecurrenceRule.Frequency frequency,
+        Integer interval,
+        Set<DayOfWeek> daysOfWeek,
+        @Size(max = 120)
+        String cronExpression,
+        @NotNull(message = "startDate is required")
+        LocalDate startDate,
+        LocalTime time,
+        @Size(max = 64)
+        String zone,
+        LocalDate untilDate
+) {}
@@ -0,0 +1,22 @@
+package com.chep.demo.todo.dto.recurrence;
+
+import com.chep.demo.todo.domain.recurrence.RecurrenceRule;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+
+public record RecurringTodoResponse(
+        Long id,
+        String title,
+        String content,
+        RecurrenceRule.Frequency frequency,
+        int interval,
+        Set<DayOfWeek> daysOfWeek,
+        String cronExpression,
+        LocalDate startDate,
+        LocalTime time,
+        String zone,
+        LocalDate untilDate
+) {}
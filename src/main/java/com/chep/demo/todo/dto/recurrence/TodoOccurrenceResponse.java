@@ -0,0 +1,12 @@
+package com.chep.demo.todo.dto.recurrence;
+
+import java.time.Instant;
+
+public record TodoOccurrenceResponse(
+        Long recurringTodoId,
+        Instant occursAt,
+        String title,
+        String content,
+        boolean completed,
+        boolean materialized
+) {}
@@ -0,0 +1,17 @@
+package com.chep.demo.todo.dto.recurrence;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.Instant;
+
+public record UpdateOccurrenceRequest(
+        @NotNull(message = "occursAt is required")
+        Instant occursAt,
+        @Size(max = 200)
+        String title,
+        @Size(max = 500)
+        String content,
+        Boolean completed,
+        Boolean skipped
+) {}
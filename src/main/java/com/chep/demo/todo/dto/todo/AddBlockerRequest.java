@@ -0,0 +1,9 @@
+package com.chep.demo.todo.dto.todo;
+
+import jakarta.validation.constraints.NotNull;
+
+public record AddBlockerRequest(
+        @NotNull(message = "BlockerId is required")
+        Long blockerId
+) {
+}
@@ -0,0 +1,12 @@
+package com.chep.demo.todo.dto.todo;
+
+import com.chep.demo.todo.domain.todo.TodoStatus;
+
+import java.util.List;
+
+public record BoardColumnResponse(
+        TodoStatus status,
+        List<TodoResponse> items,
+        String nextCursor
+) {
+}
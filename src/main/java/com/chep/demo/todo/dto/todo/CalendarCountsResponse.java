@@ -0,0 +1,13 @@
+package com.chep.demo.todo.dto.todo;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// Todo가 없는 날은 포함하지 않는다.
+public record CalendarCountsResponse(
+        LocalDate from,
+        LocalDate to,
+        String zone,
+        List<CalendarDayCountResponse> days
+) {
+}
@@ -0,0 +1,10 @@
+package com.chep.demo.todo.dto.todo;
+
+import java.time.LocalDate;
+
+public record CalendarDayCountResponse(
+        LocalDate date,
+        long total,
+        long completed
+) {
+}
@@ -0,0 +1,15 @@
+package com.chep.demo.todo.dto.todo;
+
+import com.chep.demo.todo.domain.todo.TodoStatus;
+
+import java.time.Instant;
+
+public record CalendarItemResponse(
+        Long id,
+        String title,
+        boolean completed,
+        TodoStatus status,
+        Instant dueDate,
+        Long projectId
+) {
+}
@@ -1,5 +1,6 @@
 package com.chep.demo.todo.dto.todo;
 
+import com.chep.demo.todo.domain.todo.TodoPriority;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 
@@ -12,5 +13,6 @@ public record CreateTodoRequest(
         String content,
         Integer orderIndex,
         Instant dueDate,
-        List<Long> assigneeIds
+        List<Long> assigneeIds,
+        TodoPriority priority
 ) {}
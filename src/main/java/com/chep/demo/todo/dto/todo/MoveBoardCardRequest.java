@@ -0,0 +1,12 @@
+package com.chep.demo.todo.dto.todo;
+
+import com.chep.demo.todo.domain.todo.TodoStatus;
+import jakarta.validation.constraints.NotNull;
+
+// afterTodoId: 이 카드 바로 뒤에 놓는다. null이면 컬럼 맨 앞.
+public record MoveBoardCardRequest(
+        @NotNull(message = "status is required")
+        TodoStatus status,
+        Long afterTodoId
+) {
+}
@@ -0,0 +1,7 @@
+package com.chep.demo.todo.dto.todo;
+
+// parentId가 null이면 최상위 작업으로 옮긴다.
+public record MoveSubtreeRequest(
+        Long parentId
+) {
+}
@@ -0,0 +1,10 @@
+package com.chep.demo.todo.dto.todo;
+
+import java.util.List;
+
+// nextCursor가 null이면 마지막 페이지다.
+public record TodoPageResponse(
+        List<TodoResponse> items,
+        Long nextCursor
+) {
+}
@@ -1,5 +1,8 @@
 package com.chep.demo.todo.dto.todo;
 
+import com.chep.demo.todo.domain.todo.TodoPriority;
+import com.chep.demo.todo.domain.todo.TodoStatus;
+
 import java.time.Instant;
 import java.util.List;
 
@@ -8,8 +11,13 @@ public record TodoResponse(
         String title,
         String content,
         boolean completed,
+        TodoStatus status,
         Integer orderIndex,
         Instant dueDate,
-        List<Long> assigneeIds
+        List<Long> assigneeIds,
+        Long projectId,
+        Long parentId,
+        List<Long> labelIds,
+        TodoPriority priority
 ) {
 }
@@ -0,0 +1,14 @@
+package com.chep.demo.todo.dto.todo;
+
+import com.chep.demo.todo.domain.todo.TodoStatus;
+
+import java.util.List;
+
+public record TodoTreeResponse(
+        Long id,
+        String title,
+        boolean completed,
+        TodoStatus status,
+        List<TodoTreeResponse> children
+) {
+}
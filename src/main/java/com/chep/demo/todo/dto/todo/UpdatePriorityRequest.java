@@ -0,0 +1,10 @@
+package com.chep.demo.todo.dto.todo;
+
+import com.chep.demo.todo.domain.todo.TodoPriority;
+import jakarta.validation.constraints.NotNull;
+
+public record UpdatePriorityRequest(
+        @NotNull(message = "Priority is required")
+        TodoPriority priority
+) {
+}
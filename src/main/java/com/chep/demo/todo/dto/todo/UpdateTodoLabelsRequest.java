@@ -0,0 +1,11 @@
+package com.chep.demo.todo.dto.todo;
+
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+
+public record UpdateTodoLabelsRequest(
+        @NotNull(message = "labelIds is required")
+        List<Long> labelIds
+) {
+}
@@ -0,0 +1,9 @@
+package com.chep.demo.todo.dto.workspace;
+
+import java.util.List;
+
+public record BulkAddWorkspaceMembersResponse(
+        List<Long> addedUserIds,
+        List<Long> restoredUserIds,
+        List<Long> alreadyMemberUserIds
+) {}
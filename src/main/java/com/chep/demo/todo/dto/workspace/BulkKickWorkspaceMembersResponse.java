@@ -0,0 +1,5 @@
+package com.chep.demo.todo.dto.workspace;
+
+public record BulkKickWorkspaceMembersResponse(
+        int kickedCount
+) {}
@@ -0,0 +1,13 @@
+package com.chep.demo.todo.dto.workspace;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BulkWorkspaceMembersRequest(
+        @NotEmpty(message = "userIds is required")
+        @Size(max = 5000, message = "userIds must contain at most 5000 ids")
+        List<@NotNull Long> userIds
+) {}
@@ -0,0 +1,9 @@
+package com.chep.demo.todo.dto.workspace;
+
+import java.util.List;
+
+// nextCursor가 null이면 마지막 페이지다.
+public record WorkspaceMemberPageResponse(
+        List<WorkspaceMemberSummaryResponse> items,
+        String nextCursor
+) {}
@@ -0,0 +1,15 @@
+package com.chep.demo.todo.dto.workspace;
+
+import com.chep.demo.todo.domain.workspace.WorkspaceMember;
+
+import java.time.Instant;
+
+public record WorkspaceMemberSummaryResponse(
+        Long id,
+        Long userId,
+        String name,
+        String email,
+        WorkspaceMember.Role role,
+        WorkspaceMember.Status status,
+        Instant joinedAt
+) {}
@@ -0,0 +1,13 @@
+package com.chep.demo.todo.dto.workspace;
+
+import com.chep.demo.todo.domain.workspace.WorkspaceMember;
+
+public record WorkspaceSummaryResponse(
+        Long id,
+        String name,
+        String description,
+        boolean personal,
+        Long ownerId,
+        WorkspaceMember.Role myRole,
+        long memberCount
+) {}
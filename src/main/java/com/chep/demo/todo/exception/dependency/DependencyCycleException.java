@@ -0,0 +1,11 @@
+package com.chep.demo.todo.exception.dependency;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class DependencyCycleException extends RuntimeException {
+    public DependencyCycleException(String message) {
+        super(message);
+    }
+}
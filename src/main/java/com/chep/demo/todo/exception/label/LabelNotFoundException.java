@@ -0,0 +1,11 @@
+package com.chep.demo.todo.exception.label;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class LabelNotFoundException extends RuntimeException {
+    public LabelNotFoundException(String message) {
+        super(message);
+    }
+}
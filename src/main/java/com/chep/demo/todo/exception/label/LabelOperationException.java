@@ -0,0 +1,11 @@
+package com.chep.demo.todo.exception.label;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class LabelOperationException extends RuntimeException {
+    public LabelOperationException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.chep.demo.todo.exception.recurrence;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+public class RecurringTodoNotFoundException extends RuntimeException {
+    public RecurringTodoNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,20 @@
+package com.chep.demo.todo.infrastructure.coalesce;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 같은 사용자가 같은 인자로 동시에 호출하면 먼저 들어온 호출 하나만 실행하고 나머지는 그 결과를 함께 받는다.
+ * 실행이 끝나면 결과를 남기지 않는다. (캐시가 아니다)
+ *
+ * 결과가 여러 요청 스레드에 공유되므로, 호출한 쪽에서 바꾸지 않는 값(projection, 연관관계까지 초기화된 엔티티)을
+ * 돌려주는 읽기 전용 메서드에만 붙인다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Coalesced {
+}
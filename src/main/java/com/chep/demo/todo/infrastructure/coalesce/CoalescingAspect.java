@@ -0,0 +1,62 @@
+package com.chep.demo.todo.infrastructure.coalesce;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@link Coalesced} 메서드의 동시 호출을 (메서드, 사용자, 인자) 단위로 합친다.
+ *
+ * 트랜잭션 바깥에서 감싸므로 기다리는 호출은 커넥션을 잡지 않는다.
+ * 호출한 쪽에 쓰기 트랜잭션이 열려 있으면 아직 커밋하지 않은 변경을 봐야 하므로 합치지 않는다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class CoalescingAspect {
+    private final SingleFlight<Key> singleFlight = new SingleFlight<>();
+    private final Counter executedCounter;
+    private final Counter sharedCounter;
+
+    public CoalescingAspect(MeterRegistry meterRegistry) {
+        this.executedCounter = Counter.builder("coalesced.calls").tag("result", "executed").register(meterRegistry);
+        this.sharedCounter = Counter.builder("coalesced.calls").tag("result", "shared").register(meterRegistry);
+        Gauge.builder("coalesced.in-flight", singleFlight, SingleFlight::inFlightCount).register(meterRegistry);
+    }
+
+    @Around("@annotation(com.chep.demo.todo.infrastructure.coalesce.Coalesced)")
+    public Object coalesce(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return joinPoint.proceed();
+        }
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Key key = new Key(method, currentPrincipal(), Arrays.asList(joinPoint.getArgs()));
+        return singleFlight.execute(key, () -> {
+            executedCounter.increment();
+            return joinPoint.proceed();
+        }, sharedCounter::increment);
+    }
+
+    private Object currentPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null ? null : authentication.getPrincipal();
+    }
+
+    private record Key(Method method, Object principal, List<Object> args) {
+    }
+}
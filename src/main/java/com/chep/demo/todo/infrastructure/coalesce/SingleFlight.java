@@ -0,0 +1,61 @@
+package com.chep.demo.todo.infrastructure.coalesce;
+
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 키별로 진행 중인 호출 하나를 공유한다.
+ * 호출한 스레드가 직접 실행하므로 별도 스레드 풀이 없고, 끝난 호출은 곧바로 지워진다.
+ */
+public class SingleFlight<K> {
+    @FunctionalInterface
+    public interface Call<T> {
+        T call() throws Throwable;
+    }
+
+    private final Map<K, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @param shared 다른 호출의 결과를 받았을 때 true로 호출된다. (측정용)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(K key, Call<T> call, Runnable shared) throws Throwable {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            shared.run();
+            return (T) await(existing);
+        }
+
+        T result;
+        try {
+            result = call.call();
+        } catch (Throwable e) {
+            // 완료 전에 지워야 이후 호출이 끝난 결과를 재사용하지 않는다.
+            inFlight.remove(key, mine);
+            mine.completeExceptionally(e);
+            throw e;
+        }
+        inFlight.remove(key, mine);
+        mine.complete(result);
+        return result;
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private static Object await(CompletableFuture<Object> future) throws Throwable {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw e.getCause();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Interrupted while waiting for a coalesced call");
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.chep.demo.todo.infrastructure.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * datasource.routing.enabled=true일 때 primary/replica 두 풀을 만들고 readOnly 트랜잭션을 replica로 보낸다.
+ * 끄면 Spring Boot 기본 DataSource(spring.datasource.*) 하나만 쓴다.
+ * 풀 지표는 hikaricp.connections{pool=primary|replica}로 나온다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean(destroyMethod = "close")
+    HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties, MeterRegistry meterRegistry) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        dataSource.setMetricRegistry(meterRegistry);
+        return dataSource;
+    }
+
+    @Bean(destroyMethod = "close")
+    HikariDataSource replicaDataSource(DataSourceProperties dataSourceProperties,
+                                       DataSourceRoutingProperties routingProperties,
+                                       MeterRegistry meterRegistry) {
+        DataSourceRoutingProperties.Replica replica = routingProperties.replica();
+        if (replica.url() == null) {
+            throw new IllegalStateException("datasource.routing.replica.url must be set when routing is enabled");
+        }
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(replica.url())
+                .username(replica.username() == null ? dataSourceProperties.determineUsername() : replica.username())
+                .password(replica.password() == null ? dataSourceProperties.determinePassword() : replica.password())
+                .build();
+        dataSource.setPoolName("replica");
+        dataSource.setMaximumPoolSize(replica.maximumPoolSize());
+        dataSource.setReadOnly(true);
+        dataSource.setMetricRegistry(meterRegistry);
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(@Qualifier("primaryDataSource") HikariDataSource primaryDataSource,
+                          @Qualifier("replicaDataSource") HikariDataSource replicaDataSource,
+                          DataSourceRoutingProperties routingProperties,
+                          MeterRegistry meterRegistry) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(
+                primaryDataSource, replicaDataSource,
+                routingProperties.stickiness(), routingProperties.maximumPinnedUsers(), meterRegistry);
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
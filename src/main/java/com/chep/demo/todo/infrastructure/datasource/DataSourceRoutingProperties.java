@@ -0,0 +1,26 @@
+package com.chep.demo.todo.infrastructure.datasource;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 읽기 전용 트랜잭션을 replica로 보내는 설정. primary는 spring.datasource.*를 그대로 쓴다.
+ */
+@ConfigurationProperties(prefix = "datasource.routing")
+public record DataSourceRoutingProperties(
+        @DefaultValue("false") boolean enabled,
+        // 쓰기 트랜잭션을 커밋한 사용자는 이 시간 동안 읽기도 primary에서 한다. (replica 지연 대비)
+        @DefaultValue("5s") Duration stickiness,
+        @DefaultValue("100000") long maximumPinnedUsers,
+        @DefaultValue Replica replica
+) {
+    public record Replica(
+            String url,
+            // 비어 있으면 spring.datasource의 값을 쓴다.
+            String username,
+            String password,
+            @DefaultValue("10") int maximumPoolSize
+    ) {}
+}
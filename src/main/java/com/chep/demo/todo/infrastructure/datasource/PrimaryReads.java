@@ -0,0 +1,39 @@
+package com.chep.demo.todo.infrastructure.datasource;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * replica 지연으로 오래된 값을 읽으면 안 되는 조회(권한 캐시 적재 등)를 primary에서 실행한다.
+ * readOnly 트랜잭션 안에서는 이미 replica 커넥션을 잡았을 수 있으므로 새 readOnly 트랜잭션을 열어 읽는다.
+ * 라우팅이 꺼져 있으면 그대로 실행한다.
+ */
+@Component
+public class PrimaryReads {
+    private final boolean routingEnabled;
+    private final TransactionTemplate separateTransaction;
+
+    public PrimaryReads(DataSourceRoutingProperties routingProperties,
+                        PlatformTransactionManager transactionManager) {
+        this.routingEnabled = routingProperties.enabled();
+        this.separateTransaction = new TransactionTemplate(transactionManager);
+        this.separateTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.separateTransaction.setReadOnly(true);
+    }
+
+    public <T> T read(Supplier<T> reader) {
+        if (!routingEnabled) {
+            return reader.get();
+        }
+        // 트랜잭션 밖이면 repository가 여는 readOnly 트랜잭션도 primary로 간다. 쓰기 트랜잭션은 원래 primary이다.
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return ReadWriteRoutingDataSource.onPrimary(reader);
+        }
+        return separateTransaction.execute(status -> ReadWriteRoutingDataSource.onPrimary(reader));
+    }
+}
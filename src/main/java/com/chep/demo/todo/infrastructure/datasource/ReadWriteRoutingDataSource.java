@@ -0,0 +1,128 @@
+package com.chep.demo.todo.infrastructure.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션은 replica로, 나머지는 primary로 보낸다.
+ *
+ * 트랜잭션 시작 시점에는 readOnly 여부가 아직 설정되지 않으므로
+ * 반드시 LazyConnectionDataSourceProxy로 감싸 첫 쿼리에서 커넥션을 고르게 한다.
+ * 쓰기 트랜잭션을 커밋한 사용자는 stickiness 동안 primary에 고정해 자기 변경을 바로 읽게 한다.
+ * 고정 정보는 인스턴스 메모리에만 있다.
+ * 지연된 값을 읽으면 안 되는 조회는 {@link #onPrimary}(보통 {@link PrimaryReads})로 감싸 primary에서 읽는다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+    enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    // onPrimary 안에서 새로 가져오는 커넥션은 readOnly 트랜잭션이어도 primary를 쓴다.
+    private static final ThreadLocal<Boolean> PRIMARY_READS = new ThreadLocal<>();
+
+    private final Cache<Long, Boolean> pinnedUsers;
+    private final Counter primaryCounter;
+    private final Counter replicaCounter;
+    private final Counter pinnedCounter;
+
+    public ReadWriteRoutingDataSource(DataSource primary,
+                                      DataSource replica,
+                                      Duration stickiness,
+                                      long maximumPinnedUsers,
+                                      MeterRegistry meterRegistry) {
+        this(primary, replica, stickiness, maximumPinnedUsers, meterRegistry, Ticker.systemTicker());
+    }
+
+    ReadWriteRoutingDataSource(DataSource primary,
+                               DataSource replica,
+                               Duration stickiness,
+                               long maximumPinnedUsers,
+                               MeterRegistry meterRegistry,
+                               Ticker ticker) {
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+        this.pinnedUsers = Caffeine.newBuilder()
+                .maximumSize(maximumPinnedUsers)
+                .expireAfterWrite(stickiness)
+                .ticker(ticker)
+                .build();
+        this.primaryCounter = Counter.builder("datasource.routing")
+                .tag("target", "primary").register(meterRegistry);
+        this.replicaCounter = Counter.builder("datasource.routing")
+                .tag("target", "replica").register(meterRegistry);
+        this.pinnedCounter = Counter.builder("datasource.routing.pinned").register(meterRegistry);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Long userId = currentUserId();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            pinAfterCommit(userId);
+            primaryCounter.increment();
+            return Target.PRIMARY;
+        }
+        if (PRIMARY_READS.get() != null) {
+            primaryCounter.increment();
+            return Target.PRIMARY;
+        }
+        if (userId != null && pinnedUsers.getIfPresent(userId) != null) {
+            pinnedCounter.increment();
+            primaryCounter.increment();
+            return Target.PRIMARY;
+        }
+        replicaCounter.increment();
+        return Target.REPLICA;
+    }
+
+    // 이미 커넥션을 잡은 트랜잭션 안에서는 효과가 없다. 그런 경우는 PrimaryReads가 새 트랜잭션을 연다.
+    public static <T> T onPrimary(Supplier<T> reader) {
+        if (PRIMARY_READS.get() != null) {
+            return reader.get();
+        }
+        PRIMARY_READS.set(Boolean.TRUE);
+        try {
+            return reader.get();
+        } finally {
+            PRIMARY_READS.remove();
+        }
+    }
+
+    boolean isPinned(Long userId) {
+        return pinnedUsers.getIfPresent(userId) != null;
+    }
+
+    private void pinAfterCommit(Long userId) {
+        if (userId == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                pinnedUsers.put(userId, Boolean.TRUE);
+            }
+        });
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof Long userId) {
+            return userId;
+        }
+        return null;
+    }
+}
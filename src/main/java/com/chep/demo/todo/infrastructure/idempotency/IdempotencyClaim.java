@@ -0,0 +1,25 @@
+package com.chep.demo.todo.infrastructure.idempotency;
+
+/**
+ * Idempotency-Key 확인 결과. REPLAY일 때만 response가 있다.
+ */
+public record IdempotencyClaim(Outcome outcome, RecordedResponse response) {
+    public enum Outcome {
+        // 처음 보는 키: 요청을 실행하고 결과를 기록한다.
+        ACQUIRED,
+        // 이미 끝난 요청: 기록된 응답을 돌려준다.
+        REPLAY,
+        // 같은 키의 요청이 아직 처리 중이다.
+        IN_PROGRESS,
+        // 같은 키로 다른 요청이 왔다.
+        MISMATCH
+    }
+
+    static IdempotencyClaim of(Outcome outcome) {
+        return new IdempotencyClaim(outcome, null);
+    }
+
+    static IdempotencyClaim replay(RecordedResponse response) {
+        return new IdempotencyClaim(Outcome.REPLAY, response);
+    }
+}
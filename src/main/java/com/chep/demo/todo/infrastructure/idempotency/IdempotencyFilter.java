@@ -0,0 +1,183 @@
+package com.chep.demo.todo.infrastructure.idempotency;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Set;
+
+/**
+ * Idempotency-Key 헤더가 있는 변경 요청(POST/PUT/PATCH/DELETE)을 한 번만 실행한다.
+ * 같은 키로 다시 오면 컨트롤러를 거치지 않고 기록된 응답을 돌려준다.
+ * 키는 사용자별이며, 인증되지 않은 요청과 헤더가 없는 요청은 그대로 통과시킨다.
+ */
+@Component
+public class IdempotencyFilter extends OncePerRequestFilter {
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyFilter.class);
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final Set<String> MUTATING_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+    private static final byte[] INVALID_KEY_BODY =
+            "{\"message\":\"Invalid Idempotency-Key.\"}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] BODY_TOO_LARGE_BODY =
+            "{\"message\":\"Request body is too large for Idempotency-Key.\"}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] IN_PROGRESS_BODY =
+            "{\"message\":\"A request with this Idempotency-Key is in progress.\"}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] MISMATCH_BODY =
+            "{\"message\":\"Idempotency-Key was used with a different request.\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final IdempotencyStore idempotencyStore;
+    private final IdempotencyProperties properties;
+    private final PathMatcher pathMatcher = new AntPathMatcher();
+
+    public IdempotencyFilter(IdempotencyStore idempotencyStore, IdempotencyProperties properties) {
+        this.idempotencyStore = idempotencyStore;
+        this.properties = properties;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!properties.enabled()
+                || request.getHeader(HEADER) == null
+                || !MUTATING_METHODS.contains(request.getMethod())) {
+            return true;
+        }
+        String path = request.getRequestURI();
+        return properties.paths().stream().noneMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        Long userId = currentUserId();
+        if (userId == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String key = request.getHeader(HEADER);
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST, INVALID_KEY_BODY);
+            return;
+        }
+        byte[] body = request.getInputStream().readNBytes(properties.maxBodySize() + 1);
+        if (body.length > properties.maxBodySize()) {
+            writeError(response, HttpStatus.PAYLOAD_TOO_LARGE, BODY_TOO_LARGE_BODY);
+            return;
+        }
+        String fingerprint = fingerprint(request, body);
+
+        IdempotencyClaim claim = idempotencyStore.claim(userId, key, fingerprint);
+        switch (claim.outcome()) {
+            case REPLAY -> replay(response, claim.response());
+            case IN_PROGRESS -> {
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                writeError(response, HttpStatus.CONFLICT, IN_PROGRESS_BODY);
+            }
+            case MISMATCH -> writeError(response, HttpStatus.UNPROCESSABLE_ENTITY, MISMATCH_BODY);
+            case ACQUIRED -> execute(new CachedBodyRequestWrapper(request, body), response, filterChain,
+                    userId, key, fingerprint);
+        }
+    }
+
+    private void execute(HttpServletRequest request,
+                         HttpServletResponse response,
+                         FilterChain filterChain,
+                         Long userId,
+                         String key,
+                         String fingerprint) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            filterChain.doFilter(request, wrapper);
+        } catch (IOException | ServletException | RuntimeException e) {
+            idempotencyStore.release(userId, key);
+            throw e;
+        }
+
+        int status = wrapper.getStatus();
+        try {
+            // 4xx는 같은 요청이면 같은 결과이므로 기록하고, 5xx는 다시 실행할 수 있게 둔다.
+            if (status < 500) {
+                idempotencyStore.complete(userId, key, fingerprint, new RecordedResponse(
+                        status, wrapper.getContentType(), wrapper.getHeader(HttpHeaders.LOCATION),
+                        wrapper.getContentAsByteArray()));
+            } else {
+                idempotencyStore.release(userId, key);
+            }
+        } catch (RuntimeException e) {
+            // 요청은 이미 커밋되었다. 기록하지 못한 키는 lockTimeout 뒤에 다시 실행될 수 있다.
+            log.warn("Failed to record idempotent response userId={} key={}", userId, key, e);
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    private void replay(HttpServletResponse response, RecordedResponse recorded) throws IOException {
+        response.setStatus(recorded.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (recorded.contentType() != null) {
+            response.setContentType(recorded.contentType());
+        }
+        if (recorded.location() != null) {
+            response.setHeader(HttpHeaders.LOCATION, recorded.location());
+        }
+        if (recorded.body().length > 0) {
+            response.setContentLength(recorded.body().length);
+            response.getOutputStream().write(recorded.body());
+        }
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, byte[] body) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getOutputStream().write(body);
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof Long userId) {
+            return userId;
+        }
+        return null;
+    }
+
+    static String fingerprint(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(request.getMethod().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) ' ');
+            digest.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+            if (request.getQueryString() != null) {
+                digest.update((byte) '?');
+                digest.update(request.getQueryString().getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) '\n');
+            digest.update(body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.chep.demo.todo.infrastructure.idempotency;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("/api/todos/**") List<String> paths,
+        @DefaultValue("24h") Duration ttl,
+        // 이 시간이 지나도록 IN_PROGRESS인 키는 처리하던 노드가 죽은 것으로 보고 다시 실행한다.
+        @DefaultValue("1m") Duration lockTimeout,
+        @DefaultValue("10000") long localMaximumSize,
+        @DefaultValue("65536") int maxBodySize
+) {
+}
@@ -0,0 +1,106 @@
+package com.chep.demo.todo.infrastructure.idempotency;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.Instant;
+
+/**
+ * Idempotency-Key로 처리한 요청과 그 응답. 행은 IdempotencyStore의 네이티브 쿼리로만 만들고 갱신한다.
+ */
+@Entity
+@Table(
+        name = "idempotency_keys",
+        uniqueConstraints = @UniqueConstraint(name = "uk_idempotency_keys_user_key",
+                columnNames = {"user_id", "idempotency_key"}),
+        indexes = @Index(name = "idx_idempotency_keys_expires_at", columnList = "expires_at")
+)
+public class IdempotencyRecord {
+    public enum Status {
+        IN_PROGRESS,
+        COMPLETED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "idempotency_keys_id_gen")
+    @SequenceGenerator(name = "idempotency_keys_id_gen", sequenceName = "idempotency_key_id_seq", allocationSize = 1)
+    private Long id;
+
+    @NotNull
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Size(max = 255)
+    @NotNull
+    @Column(name = "idempotency_key", nullable = false, length = 255)
+    private String idempotencyKey;
+
+    // 메서드 + 경로 + 본문 해시. 같은 키로 다른 요청을 보내면 거절한다.
+    @Size(max = 64)
+    @NotNull
+    @Column(name = "fingerprint", nullable = false, length = 64)
+    private String fingerprint;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status;
+
+    @Column(name = "response_status")
+    private Integer responseStatus;
+
+    @Size(max = 255)
+    @Column(name = "response_content_type", length = 255)
+    private String responseContentType;
+
+    @Size(max = 2048)
+    @Column(name = "response_location", length = 2048)
+    private String responseLocation;
+
+    @Column(name = "response_body")
+    private byte[] responseBody;
+
+    @NotNull
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @NotNull
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    protected IdempotencyRecord() {}
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public RecordedResponse toResponse() {
+        return new RecordedResponse(responseStatus, responseContentType, responseLocation,
+                responseBody == null ? new byte[0] : responseBody);
+    }
+}
@@ -0,0 +1,82 @@
+package com.chep.demo.todo.infrastructure.idempotency;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, Long> {
+
+    Optional<IdempotencyRecord> findByUserIdAndIdempotencyKey(Long userId, String idempotencyKey);
+
+    // 여러 노드가 같은 키를 동시에 받아도 한 요청만 행을 만든다.
+    @Modifying
+    @Query(value = """
+            INSERT INTO idempotency_keys (id, user_id, idempotency_key, fingerprint, status, created_at, expires_at)
+            VALUES (nextval('idempotency_key_id_seq'), :userId, :key, :fingerprint, 'IN_PROGRESS', :now, :expiresAt)
+            ON CONFLICT (user_id, idempotency_key) DO NOTHING
+            """, nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId,
+                       @Param("key") String key,
+                       @Param("fingerprint") String fingerprint,
+                       @Param("now") Instant now,
+                       @Param("expiresAt") Instant expiresAt);
+
+    // 만료된 행이나, 처리하던 노드가 죽어 오래 남은 IN_PROGRESS 행을 다시 가져온다.
+    @Modifying
+    @Query(value = """
+            UPDATE idempotency_keys
+            SET fingerprint = :fingerprint,
+                status = 'IN_PROGRESS',
+                response_status = NULL,
+                response_content_type = NULL,
+                response_location = NULL,
+                response_body = NULL,
+                created_at = :now,
+                expires_at = :expiresAt
+            WHERE user_id = :userId
+              AND idempotency_key = :key
+              AND (expires_at <= :now OR (status = 'IN_PROGRESS' AND created_at < :staleBefore))
+            """, nativeQuery = true)
+    int reclaim(@Param("userId") Long userId,
+                @Param("key") String key,
+                @Param("fingerprint") String fingerprint,
+                @Param("now") Instant now,
+                @Param("expiresAt") Instant expiresAt,
+                @Param("staleBefore") Instant staleBefore);
+
+    @Modifying
+    @Query(value = """
+            UPDATE idempotency_keys
+            SET status = 'COMPLETED',
+                response_status = :status,
+                response_content_type = :contentType,
+                response_location = :location,
+                response_body = :body
+            WHERE user_id = :userId
+              AND idempotency_key = :key
+              AND status = 'IN_PROGRESS'
+            """, nativeQuery = true)
+    int complete(@Param("userId") Long userId,
+                 @Param("key") String key,
+                 @Param("status") int status,
+                 @Param("contentType") String contentType,
+                 @Param("location") String location,
+                 @Param("body") byte[] body);
+
+    @Modifying
+    @Query(value = """
+            DELETE FROM idempotency_keys
+            WHERE user_id = :userId
+              AND idempotency_key = :key
+              AND status = 'IN_PROGRESS'
+            """, nativeQuery = true)
+    int release(@Param("userId") Long userId, @Param("key") String key);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") Instant now);
+}
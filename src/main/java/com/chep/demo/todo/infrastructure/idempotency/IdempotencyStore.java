@@ -0,0 +1,103 @@
+package com.chep.demo.todo.infrastructure.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Idempotency-Key별 처리 상태와 응답.
+ *
+ * 여러 노드가 같은 키를 받아도 DB 행(user_id, idempotency_key 유니크)으로 한 요청만 실행한다.
+ * 완료된 응답은 로컬 캐시에도 두어, 같은 노드로 온 재시도는 DB를 거치지 않고 돌려준다.
+ * 로컬 캐시 항목은 DB 행과 같은 시각에 만료된다.
+ */
+@Component
+public class IdempotencyStore {
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final IdempotencyProperties properties;
+    private final Cache<CacheKey, CachedResponse> completed;
+
+    public IdempotencyStore(IdempotencyRecordRepository idempotencyRecordRepository,
+                            IdempotencyProperties properties,
+                            MeterRegistry meterRegistry) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.properties = properties;
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(properties.localMaximumSize())
+                .expireAfter(Expiry.creating((CacheKey key, CachedResponse value) ->
+                        Duration.between(Instant.now(), value.expiresAt())))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, completed, "idempotency.responses");
+    }
+
+    @Transactional
+    public IdempotencyClaim claim(Long userId, String key, String fingerprint) {
+        CachedResponse cached = completed.getIfPresent(new CacheKey(userId, key));
+        if (cached != null) {
+            return cached.fingerprint().equals(fingerprint)
+                    ? IdempotencyClaim.replay(cached.response())
+                    : IdempotencyClaim.of(IdempotencyClaim.Outcome.MISMATCH);
+        }
+
+        Instant now = Instant.now();
+        Instant expiresAt = now.plus(properties.ttl());
+        if (idempotencyRecordRepository.insertIfAbsent(userId, key, fingerprint, now, expiresAt) == 1
+                || idempotencyRecordRepository.reclaim(userId, key, fingerprint, now, expiresAt,
+                now.minus(properties.lockTimeout())) == 1) {
+            return IdempotencyClaim.of(IdempotencyClaim.Outcome.ACQUIRED);
+        }
+
+        Optional<IdempotencyRecord> found = idempotencyRecordRepository.findByUserIdAndIdempotencyKey(userId, key);
+        if (found.isEmpty()) {
+            // 그 사이 실패한 요청이 키를 내려놓았다. 클라이언트가 다시 시도하면 된다.
+            return IdempotencyClaim.of(IdempotencyClaim.Outcome.IN_PROGRESS);
+        }
+        IdempotencyRecord record = found.get();
+        if (!record.getFingerprint().equals(fingerprint)) {
+            return IdempotencyClaim.of(IdempotencyClaim.Outcome.MISMATCH);
+        }
+        if (record.getStatus() == IdempotencyRecord.Status.IN_PROGRESS) {
+            return IdempotencyClaim.of(IdempotencyClaim.Outcome.IN_PROGRESS);
+        }
+        RecordedResponse response = record.toResponse();
+        completed.put(new CacheKey(userId, key),
+                new CachedResponse(record.getFingerprint(), response, record.getExpiresAt()));
+        return IdempotencyClaim.replay(response);
+    }
+
+    @Transactional
+    public void complete(Long userId, String key, String fingerprint, RecordedResponse response) {
+        idempotencyRecordRepository.complete(userId, key, response.status(),
+                response.contentType(), response.location(), response.body());
+        completed.put(new CacheKey(userId, key),
+                new CachedResponse(fingerprint, response, Instant.now().plus(properties.ttl())));
+    }
+
+    // 실행하지 못했거나 서버 오류로 끝난 요청은 키를 내려놓아 같은 키로 다시 시도할 수 있게 한다.
+    @Transactional
+    public void release(Long userId, String key) {
+        idempotencyRecordRepository.release(userId, key);
+    }
+
+    @Transactional
+    @Scheduled(cron = "${idempotency.cleanup.cron:0 30 4 * * *}")
+    public void deleteExpired() {
+        idempotencyRecordRepository.deleteExpired(Instant.now());
+    }
+
+    private record CacheKey(Long userId, String key) {
+    }
+
+    private record CachedResponse(String fingerprint, RecordedResponse response, Instant expiresAt) {
+    }
+}
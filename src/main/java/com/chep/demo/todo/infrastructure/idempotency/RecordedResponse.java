@@ -0,0 +1,12 @@
+package com.chep.demo.todo.infrastructure.idempotency;
+
+/**
+ * 재시도 요청에 그대로 돌려줄 응답. 본문은 컨트롤러가 쓴 바이트 그대로이다.
+ */
+public record RecordedResponse(
+        int status,
+        String contentType,
+        String location,
+        byte[] body
+) {
+}
@@ -0,0 +1,6 @@
+package com.chep.demo.todo.infrastructure.outbox;
+
+import java.time.Instant;
+
+public record OutboxBacklog(long pending, Instant oldestCreatedAt) {
+}
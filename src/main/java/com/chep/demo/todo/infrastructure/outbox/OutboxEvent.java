@@ -0,0 +1,152 @@
+package com.chep.demo.todo.infrastructure.outbox;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.Instant;
+
+@Entity
+@Table(
+        name = "outbox_events",
+        indexes = @Index(name = "idx_outbox_events_pending", columnList = "published_at, available_at, id")
+)
+public class OutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_id_gen")
+    @SequenceGenerator(name = "outbox_events_id_gen", sequenceName = "outbox_event_id_seq", allocationSize = 1)
+    private Long id;
+
+    @Size(max = 200)
+    @NotNull
+    @Column(name = "event_type", nullable = false, length = 200)
+    private String eventType;
+
+    @NotNull
+    @Column(name = "payload", nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @NotNull
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @NotNull
+    @Column(name = "available_at", nullable = false)
+    private Instant availableAt;
+
+    @Column(name = "published_at")
+    private Instant publishedAt;
+
+    // 더 이상 재시도하지 않는 이벤트(dead letter). 원인은 last_error에 남는다.
+    @Column(name = "dead_at")
+    private Instant deadAt;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Size(max = 1000)
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    protected OutboxEvent() {}
+
+    private OutboxEvent(String eventType, String payload) {
+        if (eventType == null) {
+            throw new IllegalArgumentException("eventType must not be null");
+        }
+
+        if (payload == null) {
+            throw new IllegalArgumentException("payload must not be null");
+        }
+
+        this.eventType = eventType;
+        this.payload = payload;
+        this.createdAt = Instant.now();
+        this.availableAt = this.createdAt;
+        this.attempts = 0;
+    }
+
+    public static class Builder {
+        private String eventType;
+        private String payload;
+
+        public Builder eventType(String eventType) {
+            this.eventType = eventType;
+            return this;
+        }
+
+        public Builder payload(String payload) {
+            this.payload = payload;
+            return this;
+        }
+
+        public OutboxEvent build() {
+            return new OutboxEvent(eventType, payload);
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public static OutboxEvent of(String eventType, String payload) {
+        return OutboxEvent.builder()
+                .eventType(eventType)
+                .payload(payload)
+                .build();
+    }
+
+    public void markPublished(Instant publishedAt) {
+        this.attempts++;
+        this.publishedAt = publishedAt;
+        this.lastError = null;
+    }
+
+    public void markFailed(String error, Instant retryAt) {
+        this.attempts++;
+        this.availableAt = retryAt;
+        this.lastError = error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+    }
+
+    public void markDead(String error, Instant deadAt) {
+        this.attempts++;
+        this.deadAt = deadAt;
+        this.lastError = error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getAvailableAt() {
+        return availableAt;
+    }
+
+    public Instant getPublishedAt() {
+        return publishedAt;
+    }
+
+    public Instant getDeadAt() {
+        return deadAt;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+}
@@ -0,0 +1,41 @@
+package com.chep.demo.todo.infrastructure.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 도메인 이벤트를 애그리거트와 같은 트랜잭션에서 outbox 테이블에 기록한다.
+ * 실제 리스너 호출은 커밋 이후 {@link OutboxRelay}가 담당한다.
+ */
+@Component
+public class OutboxEventPublisher {
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxEventTypes eventTypes;
+    private final ObjectMapper objectMapper;
+
+    public OutboxEventPublisher(OutboxEventRepository outboxEventRepository,
+                                OutboxEventTypes eventTypes,
+                                ObjectMapper objectMapper) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.eventTypes = eventTypes;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(Object event) {
+        if (event == null) {
+            throw new IllegalArgumentException("event must not be null");
+        }
+
+        String eventType = eventTypes.nameOf(event);
+        try {
+            String payload = objectMapper.writeValueAsString(event);
+            outboxEventRepository.save(OutboxEvent.of(eventType, payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize outbox event: " + event.getClass().getName(), e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.chep.demo.todo.infrastructure.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 여러 노드의 relay가 동시에 돌아도 서로 다른 행을 가져가도록 SKIP LOCKED를 사용한다.
+    @Query(value = """
+            SELECT * FROM outbox_events
+            WHERE published_at IS NULL
+              AND dead_at IS NULL
+              AND available_at <= :now
+            ORDER BY id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OutboxEvent> lockNextBatch(@Param("now") Instant now, @Param("limit") int limit);
+
+    @Query("""
+            SELECT new com.chep.demo.todo.infrastructure.outbox.OutboxBacklog(COUNT(e), MIN(e.createdAt))
+            FROM OutboxEvent e
+            WHERE e.publishedAt IS NULL
+              AND e.deadAt IS NULL
+            """)
+    OutboxBacklog findBacklog();
+
+    @Query("SELECT COUNT(e) FROM OutboxEvent e WHERE e.deadAt IS NOT NULL")
+    long countDead();
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") Instant before);
+}
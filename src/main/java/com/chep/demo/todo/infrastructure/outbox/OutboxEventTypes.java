@@ -0,0 +1,41 @@
+package com.chep.demo.todo.infrastructure.outbox;
+
+import com.chep.demo.todo.domain.user.event.UserRegisteredEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * outbox로 보낼 수 있는 이벤트 타입 목록. event_type 값으로 임의의 클래스를 로딩하지 않도록
+ * 릴레이는 여기 등록된 타입으로만 역직렬화하고, 등록되지 않은 타입은 기록 단계에서 거절한다.
+ * 새 이벤트를 outbox로 보내려면 이 목록에 추가한다. event_type은 클래스 이름이므로 이름을 바꾸면 기존 행을 읽지 못한다.
+ */
+@Component
+public class OutboxEventTypes {
+    private final Map<String, Class<?>> types = new LinkedHashMap<>();
+
+    public OutboxEventTypes() {
+        this(List.of(UserRegisteredEvent.class));
+    }
+
+    OutboxEventTypes(List<Class<?>> types) {
+        for (Class<?> type : types) {
+            this.types.put(type.getName(), type);
+        }
+    }
+
+    public String nameOf(Object event) {
+        String name = event.getClass().getName();
+        if (!types.containsKey(name)) {
+            throw new IllegalArgumentException("Unregistered outbox event type: " + name);
+        }
+        return name;
+    }
+
+    public Optional<Class<?>> find(String name) {
+        return Optional.ofNullable(types.get(name));
+    }
+}
@@ -0,0 +1,167 @@
+package com.chep.demo.todo.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * outbox 테이블을 배치 단위로 읽어 로컬 리스너에게 전달한다.
+ * 리스너 처리와 published 표시는 서로 다른 트랜잭션이므로 최소 한 번(at-least-once) 전달되며,
+ * 리스너는 같은 이벤트를 여러 번 받아도 안전하도록 작성해야 한다.
+ * 이벤트 타입은 {@link OutboxEventTypes}에 등록된 것만 역직렬화한다.
+ * 등록되지 않았거나 역직렬화할 수 없거나 max-attempts번 실패한 이벤트는 dead_at을 기록하고 더 이상 가져오지 않는다.
+ */
+@Component
+public class OutboxRelay {
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(5);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxEventTypes eventTypes;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate batchTransaction;
+    private final TransactionTemplate dispatchTransaction;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final int maxAttempts;
+    private final Duration retention;
+
+    private final Counter dispatchedCounter;
+    private final Counter failedCounter;
+    private final Counter deadCounter;
+    private final Timer batchTimer;
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final AtomicLong dead = new AtomicLong();
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       OutboxEventTypes eventTypes,
+                       ApplicationEventPublisher eventPublisher,
+                       ObjectMapper objectMapper,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       @Value("${outbox.relay.batch-size:100}") int batchSize,
+                       @Value("${outbox.relay.max-batches-per-run:10}") int maxBatchesPerRun,
+                       @Value("${outbox.relay.max-attempts:10}") int maxAttempts,
+                       @Value("${outbox.retention:7d}") Duration retention) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.eventTypes = eventTypes;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.dispatchTransaction = new TransactionTemplate(transactionManager);
+        this.dispatchTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.maxAttempts = maxAttempts;
+        this.retention = retention;
+
+        this.dispatchedCounter = Counter.builder("outbox.events.dispatched").register(meterRegistry);
+        this.failedCounter = Counter.builder("outbox.events.failed").register(meterRegistry);
+        this.deadCounter = Counter.builder("outbox.events.dead-lettered").register(meterRegistry);
+        this.batchTimer = Timer.builder("outbox.relay.batch").register(meterRegistry);
+        Gauge.builder("outbox.events.pending", pending, AtomicLong::get).register(meterRegistry);
+        Gauge.builder("outbox.lag.seconds", lagMillis, value -> value.get() / 1000.0).register(meterRegistry);
+        Gauge.builder("outbox.events.dead", dead, AtomicLong::get).register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.fixed-delay:500}")
+    public void relay() {
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            Integer processed = batchTimer.record(() -> batchTransaction.execute(status -> relayBatch()));
+            if (processed == null || processed < batchSize) {
+                break;
+            }
+        }
+        refreshBacklog();
+    }
+
+    @Scheduled(cron = "${outbox.cleanup.cron:0 0 4 * * *}")
+    public void deletePublishedEvents() {
+        Instant before = Instant.now().minus(retention);
+        batchTransaction.executeWithoutResult(status -> outboxEventRepository.deletePublishedBefore(before));
+    }
+
+    private int relayBatch() {
+        List<OutboxEvent> batch = outboxEventRepository.lockNextBatch(Instant.now(), batchSize);
+        for (OutboxEvent event : batch) {
+            dispatch(event);
+        }
+        return batch.size();
+    }
+
+    private void dispatch(OutboxEvent event) {
+        Object payload;
+        try {
+            payload = deserialize(event);
+        } catch (IllegalStateException e) {
+            // 등록되지 않은 타입이거나 페이로드가 맞지 않으면 다시 시도해도 실패하므로 바로 dead letter로 둔다.
+            markDead(event, e);
+            return;
+        }
+
+        try {
+            dispatchTransaction.executeWithoutResult(status -> eventPublisher.publishEvent(payload));
+            event.markPublished(Instant.now());
+            dispatchedCounter.increment();
+        } catch (RuntimeException e) {
+            if (event.getAttempts() + 1 >= maxAttempts) {
+                markDead(event, e);
+                return;
+            }
+            event.markFailed(e.toString(), Instant.now().plus(backoff(event.getAttempts())));
+            failedCounter.increment();
+            log.warn("Failed to dispatch outbox event id={} type={} attempts={}",
+                    event.getId(), event.getEventType(), event.getAttempts(), e);
+        }
+    }
+
+    private void markDead(OutboxEvent event, RuntimeException e) {
+        event.markDead(e.toString(), Instant.now());
+        deadCounter.increment();
+        log.error("Outbox event moved to dead letter id={} type={} attempts={}",
+                event.getId(), event.getEventType(), event.getAttempts(), e);
+    }
+
+    private Object deserialize(OutboxEvent event) {
+        Class<?> type = eventTypes.find(event.getEventType())
+                .orElseThrow(() -> new IllegalStateException("Unregistered outbox event type: " + event.getEventType()));
+        try {
+            return objectMapper.readValue(event.getPayload(), type);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot deserialize outbox event: " + event.getEventType(), e);
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        Duration delay = Duration.ofSeconds(1L << Math.min(attempts, 9));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+
+    private void refreshBacklog() {
+        OutboxBacklog backlog = outboxEventRepository.findBacklog();
+        dead.set(outboxEventRepository.countDead());
+        pending.set(backlog.pending());
+        lagMillis.set(backlog.oldestCreatedAt() == null
+                ? 0
+                : Math.max(0, Duration.between(backlog.oldestCreatedAt(), Instant.now()).toMillis()));
+    }
+}
@@ -0,0 +1,82 @@
+package com.chep.demo.todo.security;
+
+import com.chep.demo.todo.security.ratelimit.RateLimitPolicy;
+import com.chep.demo.todo.security.ratelimit.RateLimitProperties;
+import com.chep.demo.todo.security.ratelimit.RateLimitRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final byte[] TOO_MANY_REQUESTS_BODY =
+            "{\"message\":\"Too many requests.\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final RateLimitRegistry rateLimitRegistry;
+
+    public RateLimitFilter(RateLimitRegistry rateLimitRegistry) {
+        this.rateLimitRegistry = rateLimitRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        RateLimitPolicy policy = rateLimitRegistry.match(request.getRequestURI());
+        if (policy == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Object key = resolveKey(policy, request);
+        long now = System.nanoTime();
+        long result = policy.getLimiter().tryAcquire(key, now);
+
+        response.setHeader("RateLimit-Policy", policy.getPolicyHeader());
+        response.setHeader("RateLimit-Limit", policy.getLimitHeader());
+
+        if (result < 0) {
+            long retryAfterSeconds = toSecondsCeil(-result);
+            response.setHeader("RateLimit-Remaining", "0");
+            response.setHeader("RateLimit-Reset", Long.toString(retryAfterSeconds));
+            response.setHeader("Retry-After", Long.toString(retryAfterSeconds));
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getOutputStream().write(TOO_MANY_REQUESTS_BODY);
+            return;
+        }
+
+        response.setHeader("RateLimit-Remaining", Long.toString(result));
+        response.setHeader("RateLimit-Reset",
+                Long.toString(toSecondsCeil(policy.getLimiter().nanosUntilFull(key, now))));
+        filterChain.doFilter(request, response);
+    }
+
+    // USER 정책이라도 인증 정보가 없으면 IP 기준으로 제한한다.
+    private Object resolveKey(RateLimitPolicy policy, HttpServletRequest request) {
+        if (policy.getKeyType() == RateLimitProperties.KeyType.USER) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.getPrincipal() instanceof Long userId) {
+                return userId;
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private long toSecondsCeil(long nanos) {
+        return (nanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND;
+    }
+}
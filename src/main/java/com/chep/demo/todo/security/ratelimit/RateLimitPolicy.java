@@ -0,0 +1,59 @@
+package com.chep.demo.todo.security.ratelimit;
+
+/**
+ * 경로 패턴은 정확히 일치하거나 "/**"로 끝나는 prefix 형태만 지원한다.
+ * 매 요청마다 패턴을 파싱하지 않도록 단순 문자열 비교로 매칭한다.
+ */
+public class RateLimitPolicy {
+    private final String name;
+    private final String path;
+    private final boolean prefix;
+    private final RateLimitProperties.KeyType keyType;
+    private final RateLimiter limiter;
+    private final String limitHeader;
+    private final String policyHeader;
+
+    public RateLimitPolicy(RateLimitProperties.Policy policy, int stripes) {
+        if (policy.pattern() == null || policy.pattern().isBlank()) {
+            throw new IllegalArgumentException("rate-limit pattern must not be blank");
+        }
+
+        this.name = policy.name();
+        this.prefix = policy.pattern().endsWith("/**");
+        this.path = prefix
+                ? policy.pattern().substring(0, policy.pattern().length() - 2)
+                : policy.pattern();
+        this.keyType = policy.key() == null ? RateLimitProperties.KeyType.USER : policy.key();
+        this.limiter = new RateLimiter(policy.capacity(), policy.period(), stripes);
+        this.limitHeader = Integer.toString(policy.capacity());
+        this.policyHeader = policy.capacity() + ";w=" + policy.period().toSeconds();
+    }
+
+    public boolean matches(String requestUri) {
+        if (prefix) {
+            return requestUri.startsWith(path)
+                    || (requestUri.length() == path.length() - 1 && path.startsWith(requestUri));
+        }
+        return requestUri.equals(path);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public RateLimitProperties.KeyType getKeyType() {
+        return keyType;
+    }
+
+    public RateLimiter getLimiter() {
+        return limiter;
+    }
+
+    public String getLimitHeader() {
+        return limitHeader;
+    }
+
+    public String getPolicyHeader() {
+        return policyHeader;
+    }
+}
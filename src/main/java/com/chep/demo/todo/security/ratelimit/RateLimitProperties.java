@@ -0,0 +1,27 @@
+package com.chep.demo.todo.security.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("10m") Duration idleTimeout,
+        @DefaultValue("16") int stripes,
+        List<Policy> policies
+) {
+    public record Policy(
+            String name,
+            String pattern,
+            KeyType key,
+            int capacity,
+            Duration period
+    ) {}
+
+    public enum KeyType {
+        USER, IP
+    }
+}
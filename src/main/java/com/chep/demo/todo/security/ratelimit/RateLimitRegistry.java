@@ -0,0 +1,44 @@
+package com.chep.demo.todo.security.ratelimit;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+public class RateLimitRegistry {
+    private final List<RateLimitPolicy> policies;
+    private final long idleNanos;
+
+    public RateLimitRegistry(RateLimitProperties properties) {
+        this.idleNanos = properties.idleTimeout().toNanos();
+
+        if (!properties.enabled() || properties.policies() == null) {
+            this.policies = List.of();
+            return;
+        }
+
+        this.policies = properties.policies().stream()
+                .map(policy -> new RateLimitPolicy(policy, properties.stripes()))
+                .toList();
+    }
+
+    // 설정 순서대로 처음 일치하는 정책을 사용한다.
+    public RateLimitPolicy match(String requestUri) {
+        for (int i = 0; i < policies.size(); i++) {
+            RateLimitPolicy policy = policies.get(i);
+            if (policy.matches(requestUri)) {
+                return policy;
+            }
+        }
+        return null;
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        for (RateLimitPolicy policy : policies) {
+            policy.getLimiter().evictIdle(now, idleNanos);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.chep.demo.todo.security.ratelimit;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 키별 토큰 버킷을 stripe 단위로 나눠 보관한다.
+ * 키는 이미 요청에 존재하는 객체(principal의 userId, remoteAddr)를 그대로 사용해
+ * 정상 상태에서는 조회 시 새 객체를 만들지 않는다.
+ */
+public class RateLimiter {
+    private final ConcurrentHashMap<Object, TokenBucket>[] stripes;
+    private final int stripeMask;
+    private final int capacity;
+    private final long intervalNanos;
+    private final long burstNanos;
+
+    @SuppressWarnings("unchecked")
+    public RateLimiter(int capacity, Duration period, int stripeCount) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+
+        if (period == null || period.isZero() || period.isNegative()) {
+            throw new IllegalArgumentException("period must be positive");
+        }
+
+        int size = Integer.highestOneBit(Math.max(1, stripeCount - 1)) << 1;
+        this.stripes = new ConcurrentHashMap[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+        this.stripeMask = size - 1;
+        this.capacity = capacity;
+        this.intervalNanos = Math.max(1, period.toNanos() / capacity);
+        this.burstNanos = intervalNanos * capacity;
+    }
+
+    public long tryAcquire(Object key, long nowNanos) {
+        return bucket(key, nowNanos).tryConsume(nowNanos, intervalNanos, burstNanos);
+    }
+
+    public long nanosUntilFull(Object key, long nowNanos) {
+        TokenBucket bucket = stripeOf(key).get(key);
+        return bucket == null ? 0 : bucket.nanosUntilFull(nowNanos);
+    }
+
+    public int evictIdle(long nowNanos, long idleNanos) {
+        int evicted = 0;
+        for (ConcurrentHashMap<Object, TokenBucket> stripe : stripes) {
+            for (Map.Entry<Object, TokenBucket> entry : stripe.entrySet()) {
+                if (entry.getValue().isIdleSince(nowNanos, idleNanos)
+                        && stripe.remove(entry.getKey(), entry.getValue())) {
+                    evicted++;
+                }
+            }
+        }
+        return evicted;
+    }
+
+    public int size() {
+        int size = 0;
+        for (ConcurrentHashMap<Object, TokenBucket> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private TokenBucket bucket(Object key, long nowNanos) {
+        ConcurrentHashMap<Object, TokenBucket> stripe = stripeOf(key);
+        TokenBucket bucket = stripe.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        return stripe.computeIfAbsent(key, k -> new TokenBucket(nowNanos));
+    }
+
+    private ConcurrentHashMap<Object, TokenBucket> stripeOf(Object key) {
+        int h = key.hashCode();
+        return stripes[(h ^ (h >>> 16)) & stripeMask];
+    }
+}
@@ -0,0 +1,43 @@
+package com.chep.demo.todo.security.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GCRA(Generic Cell Rate Algorithm) 방식의 토큰 버킷.
+ * 남은 토큰 수 대신 "다음 토큰이 이론적으로 도착하는 시각" 하나만 저장하므로
+ * CAS 한 번으로 갱신할 수 있고 요청마다 객체를 만들지 않는다.
+ */
+public final class TokenBucket {
+    private final AtomicLong theoreticalArrivalNanos;
+
+    public TokenBucket(long nowNanos) {
+        this.theoreticalArrivalNanos = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * @return 허용되면 남은 토큰 수(0 이상), 거부되면 다음 토큰까지 기다려야 하는 나노초의 음수 값
+     */
+    public long tryConsume(long nowNanos, long intervalNanos, long burstNanos) {
+        while (true) {
+            long current = theoreticalArrivalNanos.get();
+            long next = Math.max(current, nowNanos) + intervalNanos;
+            long ahead = next - nowNanos;
+
+            if (ahead > burstNanos) {
+                return -(ahead - burstNanos);
+            }
+
+            if (theoreticalArrivalNanos.compareAndSet(current, next)) {
+                return (burstNanos - ahead) / intervalNanos;
+            }
+        }
+    }
+
+    public long nanosUntilFull(long nowNanos) {
+        return Math.max(0, theoreticalArrivalNanos.get() - nowNanos);
+    }
+
+    public boolean isIdleSince(long nowNanos, long idleNanos) {
+        return nowNanos - theoreticalArrivalNanos.get() > idleNanos;
+    }
+}
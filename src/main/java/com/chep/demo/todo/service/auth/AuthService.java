@@ -2,7 +2,10 @@ package com.chep.demo.todo.service.auth;
 
 import com.chep.demo.todo.domain.user.User;
 import com.chep.demo.todo.domain.user.UserRepository;
+import com.chep.demo.todo.domain.user.event.UserRegisteredEvent;
 import com.chep.demo.todo.exception.auth.AuthenticationException;
+import com.chep.demo.todo.infrastructure.coalesce.Coalesced;
+import com.chep.demo.todo.infrastructure.outbox.OutboxEventPublisher;
 import com.chep.demo.todo.security.JwtTokenProvider;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -14,29 +17,31 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final OutboxEventPublisher outboxEventPublisher;
 
     public AuthService(
             UserRepository userRepository,
             PasswordEncoder passwordEncoder,
-            JwtTokenProvider jwtTokenProvider
+            JwtTokenProvider jwtTokenProvider,
+            OutboxEventPublisher outboxEventPublisher
     ) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.outboxEventPublisher = outboxEventPublisher;
     }
 
     public AuthResult register(String email, String password, String name) {
-        // 이메일 중복 체크
-        if (userRepository.existsByEmail(email)) {
-            throw new IllegalArgumentException("This email address is already registered.");
-        }
-
         // password 해시
         String encodedPassword = passwordEncoder.encode(password);
 
-        // user 생성
+        // user 생성 (이메일 중복은 unique 제약으로 판단)
         User user = User.register(name, email, encodedPassword);
-        User saved = userRepository.save(user);
+        User saved = userRepository.insertIfAbsent(user)
+                .orElseThrow(() -> new IllegalArgumentException("This email address is already registered."));
+
+        // 같은 트랜잭션에서 outbox에 기록하고, 후속 처리는 OutboxRelay가 커밋 이후 전달한다.
+        outboxEventPublisher.append(new UserRegisteredEvent(saved.getId()));
 
         String accessToken = jwtTokenProvider.generateAccessToken(saved.getId());
         String refreshToken = jwtTokenProvider.generateRefreshToken(saved.getId());
@@ -63,6 +68,8 @@ public class AuthService {
 
     }
 
+    @Coalesced
+    @Transactional(readOnly = true)
     public User getUserById(Long userId) {
         return userRepository.findById(userId)
                 .orElseThrow(() -> new AuthenticationException("User not found"));
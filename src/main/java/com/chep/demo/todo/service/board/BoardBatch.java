@@ -0,0 +1,72 @@
+package com.chep.demo.todo.service.board;
+
+import com.chep.demo.todo.domain.todo.event.TodoChangedEvent;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 한 보드에서 묶음 시간 동안 모인 변경. Todo마다 마지막 상태 하나만 남긴다.
+ * 클라이언트는 Todo id로 다시 조회하므로 중간 변경은 필요 없다.
+ * 스레드 안전하지 않으며, 호출하는 쪽에서 동기화한다.
+ */
+class BoardBatch {
+    private final int maxSize;
+    private final Map<Long, TodoChangedEvent.Type> changes = new LinkedHashMap<>();
+    private boolean overflowed;
+
+    BoardBatch(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    void add(Long todoId, TodoChangedEvent.Type type) {
+        if (overflowed) {
+            return;
+        }
+        TodoChangedEvent.Type previous = changes.get(todoId);
+        if (previous == TodoChangedEvent.Type.CREATED && isDeletion(type)) {
+            // 같은 묶음에서 생겼다 지워진 Todo는 다른 사용자가 본 적이 없다.
+            changes.remove(todoId);
+            return;
+        }
+        changes.put(todoId, merge(previous, type));
+        if (changes.size() > maxSize) {
+            overflowed = true;
+            changes.clear();
+        }
+    }
+
+    boolean isEmpty() {
+        return !overflowed && changes.isEmpty();
+    }
+
+    BoardMessage toMessage(Long projectId, Instant at) {
+        if (overflowed) {
+            return new BoardMessage(BoardMessage.RESYNC, projectId, List.of(), at);
+        }
+        List<BoardMessage.Change> list = new ArrayList<>(changes.size());
+        changes.forEach((todoId, type) -> list.add(new BoardMessage.Change(todoId, type.name())));
+        return new BoardMessage(BoardMessage.BATCH, projectId, list, at);
+    }
+
+    private static TodoChangedEvent.Type merge(TodoChangedEvent.Type previous, TodoChangedEvent.Type next) {
+        if (previous == null) {
+            return next;
+        }
+        // 삭제는 이후 변경보다 우선하고, 아직 전달되지 않은 생성은 생성으로 남긴다.
+        if (isDeletion(previous)) {
+            return previous;
+        }
+        if (previous == TodoChangedEvent.Type.CREATED && !isDeletion(next)) {
+            return previous;
+        }
+        return next;
+    }
+
+    private static boolean isDeletion(TodoChangedEvent.Type type) {
+        return type == TodoChangedEvent.Type.DELETED || type == TodoChangedEvent.Type.SUBTREE_DELETED;
+    }
+}
@@ -0,0 +1,179 @@
+package com.chep.demo.todo.service.board;
+
+import com.chep.demo.todo.domain.todo.event.TodoChangedEvent;
+import com.chep.demo.todo.service.workspace.WorkspaceAuthorization;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PingMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 프로젝트 보드 WebSocket 구독자에게 커밋된 Todo 변경을 묶어서 보낸다.
+ *
+ * 보드마다 첫 변경이 들어오면 coalesceWindow 뒤에 한 번 보내고, 그동안 들어온 변경은 같은 묶음에 합친다.
+ * 메시지는 보드당 한 번만 직렬화하고 연결마다 가상 스레드에서 보낸다.
+ * 세션은 전송 버퍼 한도가 있는 데코레이터로 감싸져 있어 느린 연결은 한도를 넘으면 끊긴다.
+ * 이 인스턴스에 연결된 세션에만 보낸다. (여러 인스턴스 간 전파는 하지 않는다)
+ */
+@Component
+public class BoardBroadcaster {
+    private static final Logger log = LoggerFactory.getLogger(BoardBroadcaster.class);
+
+    private final WorkspaceAuthorization workspaceAuthorization;
+    private final ObjectMapper objectMapper;
+    private final BoardSocketProperties properties;
+    private final Map<Long, Set<BoardSession>> sessionsByProject = new ConcurrentHashMap<>();
+    private final Map<String, BoardSession> sessionsById = new ConcurrentHashMap<>();
+    private final Map<Long, BoardBatch> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("board-flush").daemon().factory());
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Counter batchCounter;
+    private final Counter resyncCounter;
+    private final Counter droppedCounter;
+
+    public BoardBroadcaster(WorkspaceAuthorization workspaceAuthorization,
+                            ObjectMapper objectMapper,
+                            BoardSocketProperties properties,
+                            MeterRegistry meterRegistry) {
+        this.workspaceAuthorization = workspaceAuthorization;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.batchCounter = Counter.builder("todo.board.batches").register(meterRegistry);
+        this.resyncCounter = Counter.builder("todo.board.resync").register(meterRegistry);
+        this.droppedCounter = Counter.builder("todo.board.dropped").register(meterRegistry);
+        Gauge.builder("todo.board.connections", sessionsById, Map::size).register(meterRegistry);
+    }
+
+    public void register(BoardSession session) {
+        sessionsById.put(session.session().getId(), session);
+        sessionsByProject.computeIfAbsent(session.projectId(), key -> ConcurrentHashMap.newKeySet())
+                .add(session);
+    }
+
+    public void unregister(String sessionId) {
+        BoardSession session = sessionsById.remove(sessionId);
+        if (session == null) {
+            return;
+        }
+        sessionsByProject.computeIfPresent(session.projectId(), (key, set) -> {
+            set.remove(session);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTodoChanged(TodoChangedEvent event) {
+        Long projectId = event.projectId();
+        if (projectId == null || !sessionsByProject.containsKey(projectId)) {
+            return;
+        }
+        pending.compute(projectId, (key, batch) -> {
+            if (batch == null) {
+                batch = new BoardBatch(properties.maxBatchSize());
+                flusher.schedule(() -> flush(key),
+                        properties.coalesceWindow().toMillis(), TimeUnit.MILLISECONDS);
+            }
+            batch.add(event.todoId(), event.type());
+            return batch;
+        });
+    }
+
+    // 연결이 프록시에서 끊기지 않도록 ping을 보내고, 그 사이 멤버십이 해제된 사용자의 연결은 닫는다.
+    @Scheduled(fixedDelayString = "${todo.board-socket.heartbeat:30000}")
+    public void heartbeat() {
+        PingMessage ping = new PingMessage();
+        for (BoardSession session : sessionsById.values()) {
+            if (workspaceAuthorization.findActiveMember(session.workspaceId(), session.userId()).isEmpty()) {
+                close(session, CloseStatus.POLICY_VIOLATION);
+            } else {
+                send(session, ping);
+            }
+        }
+    }
+
+    public int connectionCount() {
+        return sessionsById.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdownNow();
+        for (BoardSession session : sessionsById.values()) {
+            close(session, CloseStatus.GOING_AWAY);
+        }
+        sender.shutdownNow();
+    }
+
+    void flush(Long projectId) {
+        // 묶음은 pending.compute 안에서만 바뀌므로 remove 이후에는 이 스레드만 본다.
+        // remove 이후에 들어온 변경은 새 묶음을 만들고 다시 예약된다.
+        BoardBatch batch = pending.remove(projectId);
+        Set<BoardSession> sessions = sessionsByProject.get(projectId);
+        if (batch == null || sessions == null) {
+            return;
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        BoardMessage message = batch.toMessage(projectId, Instant.now());
+        if (BoardMessage.RESYNC.equals(message.type())) {
+            resyncCounter.increment();
+        }
+        batchCounter.increment();
+
+        TextMessage text;
+        try {
+            text = new TextMessage(objectMapper.writeValueAsString(message));
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize board message projectId={}", projectId, e);
+            return;
+        }
+        for (BoardSession session : sessions) {
+            sender.execute(() -> send(session, text));
+        }
+    }
+
+    private void send(BoardSession session, WebSocketMessage<?> message) {
+        try {
+            session.session().sendMessage(message);
+        } catch (IOException | RuntimeException e) {
+            // 전송 버퍼나 시간 한도를 넘으면 데코레이터가 세션을 닫는다.
+            droppedCounter.increment();
+            close(session, CloseStatus.SESSION_NOT_RELIABLE);
+        }
+    }
+
+    private void close(BoardSession session, CloseStatus status) {
+        unregister(session.session().getId());
+        try {
+            session.session().close(status);
+        } catch (IOException | RuntimeException e) {
+            log.debug("Failed to close board session id={}", session.session().getId(), e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.chep.demo.todo.service.board;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 보드 소켓으로 보내는 메시지.
+ * BATCH는 묶음 동안 바뀐 Todo 목록이고, RESYNC는 변경이 너무 많아 보드를 다시 조회해야 한다는 뜻이다.
+ */
+public record BoardMessage(
+        String type,
+        Long projectId,
+        List<Change> changes,
+        Instant at
+) {
+    public static final String BATCH = "BATCH";
+    public static final String RESYNC = "RESYNC";
+
+    public record Change(Long todoId, String type) {
+    }
+}
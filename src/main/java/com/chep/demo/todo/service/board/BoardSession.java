@@ -0,0 +1,11 @@
+package com.chep.demo.todo.service.board;
+
+import org.springframework.web.socket.WebSocketSession;
+
+public record BoardSession(
+        WebSocketSession session,
+        Long userId,
+        Long workspaceId,
+        Long projectId
+) {
+}
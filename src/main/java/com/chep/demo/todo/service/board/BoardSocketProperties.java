@@ -0,0 +1,17 @@
+package com.chep.demo.todo.service.board;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "todo.board-socket")
+public record BoardSocketProperties(
+        @DefaultValue("100ms") Duration coalesceWindow,
+        @DefaultValue("200") int maxBatchSize,
+        @DefaultValue("5s") Duration sendTimeLimit,
+        @DefaultValue("65536") int sendBufferSize,
+        @DefaultValue("*") List<String> allowedOriginPatterns
+) {
+}
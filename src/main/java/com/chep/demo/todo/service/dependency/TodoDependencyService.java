@@ -0,0 +1,148 @@
+package com.chep.demo.todo.service.dependency;
+
+import com.chep.demo.todo.domain.dependency.DependencyOrder;
+import com.chep.demo.todo.domain.dependency.TodoDependency;
+import com.chep.demo.todo.domain.dependency.TodoDependencyId;
+import com.chep.demo.todo.domain.dependency.TodoDependencyRepository;
+import com.chep.demo.todo.domain.project.ProjectRepository;
+import com.chep.demo.todo.domain.todo.Todo;
+import com.chep.demo.todo.domain.todo.TodoRepository;
+import com.chep.demo.todo.domain.user.UserRepository;
+import com.chep.demo.todo.exception.auth.AuthenticationException;
+import com.chep.demo.todo.exception.dependency.DependencyCycleException;
+import com.chep.demo.todo.exception.project.ProjectNotFoundException;
+import com.chep.demo.todo.service.todo.TodoAccess;
+import com.chep.demo.todo.service.workspace.WorkspaceAuthorization;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Todo 사이의 "선행 작업(blocked by)" 관계.
+ * 간선을 넣을 때 전체 그래프를 DFS하지 않고, 목록별 위상 순서(rank)를 유지하면서
+ * 순서가 어긋나는 구간만 찾아 사이클을 검사하고 다시 배정한다. ({@link DependencyOrder})
+ * 같은 목록의 간선 추가는 목록 잠금(프로젝트 행 또는 사용자 행)으로 직렬화한다.
+ */
+@Service
+@Transactional
+public class TodoDependencyService {
+    public static final int MAX_LIMIT = 200;
+
+    private final TodoDependencyRepository todoDependencyRepository;
+    private final TodoRepository todoRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final TodoAccess todoAccess;
+    private final WorkspaceAuthorization workspaceAuthorization;
+
+    public TodoDependencyService(TodoDependencyRepository todoDependencyRepository,
+                                 TodoRepository todoRepository,
+                                 ProjectRepository projectRepository,
+                                 UserRepository userRepository,
+                                 TodoAccess todoAccess,
+                                 WorkspaceAuthorization workspaceAuthorization) {
+        this.todoDependencyRepository = todoDependencyRepository;
+        this.todoRepository = todoRepository;
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.todoAccess = todoAccess;
+        this.workspaceAuthorization = workspaceAuthorization;
+    }
+
+    // todo는 blocker가 끝나야 시작할 수 있다. 이미 있으면 아무것도 하지 않는다.
+    public void addBlocker(Long userId, Long todoId, Long blockerId) {
+        if (todoId.equals(blockerId)) {
+            throw new IllegalArgumentException("todo cannot block itself");
+        }
+        Todo todo = todoAccess.requireAccessible(userId, todoId);
+        Todo blocker = todoAccess.requireAccessible(userId, blockerId);
+        if (!todo.isInSameListAs(blocker)) {
+            throw new IllegalArgumentException("blocker must be in the same list");
+        }
+
+        lockList(todo);
+        TodoDependencyId id = new TodoDependencyId(todoId, blockerId);
+        if (todoDependencyRepository.existsById(id)) {
+            return;
+        }
+
+        Map<Long, Long> ranks = todoDependencyRepository.findRanks(List.of(todoId, blockerId));
+        long todoRank = ranks.get(todoId);
+        long blockerRank = ranks.get(blockerId);
+        if (blockerRank > todoRank) {
+            Map<Long, Long> forward = todoDependencyRepository.findForwardRegion(todoId, blockerRank);
+            if (forward.containsKey(blockerId)) {
+                throw new DependencyCycleException("Dependency would create a cycle");
+            }
+            Map<Long, Long> backward = todoDependencyRepository.findBackwardRegion(blockerId, todoRank);
+            todoDependencyRepository.updateRanks(DependencyOrder.reorder(backward, forward));
+        }
+
+        todoDependencyRepository.save(new TodoDependency(todoId, blockerId));
+    }
+
+    public void removeBlocker(Long userId, Long todoId, Long blockerId) {
+        todoAccess.requireAccessible(userId, todoId);
+        // 간선을 지워도 기존 위상 순서는 유효하다.
+        todoDependencyRepository.deleteById(new TodoDependencyId(todoId, blockerId));
+    }
+
+    // 아직 끝나지 않은 선행 작업 전체. 먼저 해야 하는 것부터.
+    @Transactional(readOnly = true)
+    public List<Todo> getBlockedChain(Long userId, Long todoId) {
+        todoAccess.requireAccessible(userId, todoId);
+        List<Long> ids = todoDependencyRepository.findOpenBlockerChain(todoId, MAX_LIMIT);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Todo> todos = todoRepository.findAllById(ids)
+                .stream()
+                .collect(Collectors.toMap(Todo::getId, Function.identity()));
+        List<Todo> chain = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Todo blocker = todos.get(id);
+            if (blocker != null) {
+                chain.add(blocker);
+            }
+        }
+        return chain;
+    }
+
+    @Transactional(readOnly = true)
+    public List<Todo> getPersonalReady(Long userId, int limit) {
+        requireLimit(limit);
+        return todoDependencyRepository.findPersonalReady(userId, Limit.of(limit));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Todo> getProjectReady(Long workspaceId, Long projectId, Long userId, int limit) {
+        requireLimit(limit);
+        workspaceAuthorization.requireActiveMember(workspaceId, userId);
+        projectRepository.findByIdAndWorkspaceId(projectId, workspaceId)
+                .orElseThrow(() -> new ProjectNotFoundException("Project not found"));
+        return todoDependencyRepository.findProjectReady(projectId, Limit.of(limit));
+    }
+
+    private void lockList(Todo todo) {
+        if (todo.getProject() == null) {
+            userRepository.findByIdForUpdate(todo.getUser().getId())
+                    .orElseThrow(() -> new AuthenticationException("User not found"));
+        } else {
+            projectRepository.findByIdAndWorkspaceIdForUpdate(todo.getProject().getId(), todo.getProject().getWorkspace().getId())
+                    .orElseThrow(() -> new ProjectNotFoundException("Project not found"));
+        }
+    }
+
+    private static void requireLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.chep.demo.todo.service.label;
+
+import com.chep.demo.todo.domain.label.Label;
+import com.chep.demo.todo.domain.label.LabelExpression;
+import com.chep.demo.todo.domain.label.LabelRepository;
+import com.chep.demo.todo.domain.label.TodoLabelLink;
+import com.chep.demo.todo.domain.label.event.TodoLabelsChangedEvent;
+import com.chep.demo.todo.domain.label.event.UserLabelsChangedEvent;
+import com.chep.demo.todo.domain.todo.TodoRepository;
+import com.chep.demo.todo.domain.todo.event.TodoChangedEvent;
+import com.chep.demo.todo.infrastructure.datasource.PrimaryReads;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.function.Consumer;
+
+/**
+ * 사용자별 라벨 비트맵 인덱스. 처음 필터링할 때 DB에서 적재하고, 이후에는 커밋된 변경 이벤트로 갱신한다.
+ * 오래 쓰지 않은 사용자의 인덱스는 내려놓는다.
+ *
+ * 이벤트는 computeIfPresent로 적용한다. 적재 중인 사용자에 대한 이벤트는 적재가 끝날 때까지 기다렸다가
+ * 적용되므로 적재 시점 이후의 변경을 놓치지 않는다. (갱신은 모두 멱등이다)
+ * 적재는 replica 지연으로 방금 커밋된 변경을 빠뜨리지 않도록 primary에서 읽는다.
+ */
+@Component
+public class LabelIndex {
+    private final LabelRepository labelRepository;
+    private final TodoRepository todoRepository;
+    private final PrimaryReads primaryReads;
+    private final Cache<Long, UserLabelIndex> indexes;
+
+    public LabelIndex(LabelRepository labelRepository,
+                      TodoRepository todoRepository,
+                      PrimaryReads primaryReads,
+                      LabelIndexProperties properties,
+                      MeterRegistry meterRegistry) {
+        this.labelRepository = labelRepository;
+        this.todoRepository = todoRepository;
+        this.primaryReads = primaryReads;
+        this.indexes = Caffeine.newBuilder()
+                .maximumSize(properties.maximumUsers())
+                .expireAfterAccess(properties.idleTimeout())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, indexes, "todo.label.index");
+    }
+
+    // 조건에 맞는 개인 Todo id. 순서는 보장하지 않는다.
+    public long[] filter(Long userId, LabelExpression expression) {
+        return indexes.get(userId, this::load).evaluate(expression);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTodoChanged(TodoChangedEvent event) {
+        if (!event.isPersonal()) {
+            return;
+        }
+        switch (event.type()) {
+            case CREATED -> apply(event.userId(), index -> index.addTodo(event.todoId()));
+            case DELETED -> apply(event.userId(), index -> index.removeTodo(event.todoId()));
+            // 함께 삭제된 하위 작업 id를 알 수 없으므로 다시 적재한다.
+            case SUBTREE_DELETED -> indexes.invalidate(event.userId());
+            case UPDATED, COMPLETION_CHANGED, DUE_DATE_CHANGED, PRIORITY_CHANGED, ASSIGNEES_CHANGED, MOVED -> {
+            }
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTodoLabelsChanged(TodoLabelsChangedEvent event) {
+        apply(event.userId(), index -> index.setLabels(event.todoId(), event.labelIds()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserLabelsChanged(UserLabelsChangedEvent event) {
+        indexes.invalidate(event.userId());
+    }
+
+    public void invalidateAll() {
+        indexes.invalidateAll();
+    }
+
+    private void apply(Long userId, Consumer<UserLabelIndex> change) {
+        indexes.asMap().computeIfPresent(userId, (key, index) -> {
+            change.accept(index);
+            return index;
+        });
+    }
+
+    private UserLabelIndex load(Long userId) {
+        return primaryReads.read(() -> build(userId));
+    }
+
+    private UserLabelIndex build(Long userId) {
+        UserLabelIndex index = new UserLabelIndex();
+        for (Label label : labelRepository.findAllByUserIdOrderByNameAsc(userId)) {
+            index.putLabel(label.getId(), label.getName());
+        }
+        for (Long todoId : todoRepository.findPersonalIds(userId)) {
+            index.addTodo(todoId);
+        }
+        for (TodoLabelLink link : labelRepository.findPersonalLinks(userId)) {
+            index.link(link.todoId(), link.labelId());
+        }
+        return index;
+    }
+}
@@ -0,0 +1,116 @@
+package com.chep.demo.todo.service.label;
+
+import com.chep.demo.todo.domain.label.Label;
+import com.chep.demo.todo.domain.label.LabelExpression;
+import com.chep.demo.todo.domain.label.LabelRepository;
+import com.chep.demo.todo.domain.label.event.TodoLabelsChangedEvent;
+import com.chep.demo.todo.domain.label.event.UserLabelsChangedEvent;
+import com.chep.demo.todo.domain.todo.Todo;
+import com.chep.demo.todo.domain.todo.TodoRepository;
+import com.chep.demo.todo.domain.user.UserRepository;
+import com.chep.demo.todo.exception.label.LabelNotFoundException;
+import com.chep.demo.todo.exception.label.LabelOperationException;
+import com.chep.demo.todo.exception.todo.TodoNotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 라벨과 개인 Todo 라벨 필터.
+ * 필터는 {@link LabelIndex}의 비트맵으로 id를 구한 뒤 해당 Todo만 읽는다.
+ */
+@Service
+@Transactional
+public class LabelService {
+    public static final int MAX_LABELS_PER_TODO = 20;
+
+    private final LabelRepository labelRepository;
+    private final TodoRepository todoRepository;
+    private final UserRepository userRepository;
+    private final LabelIndex labelIndex;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public LabelService(LabelRepository labelRepository,
+                        TodoRepository todoRepository,
+                        UserRepository userRepository,
+                        LabelIndex labelIndex,
+                        ApplicationEventPublisher eventPublisher) {
+        this.labelRepository = labelRepository;
+        this.todoRepository = todoRepository;
+        this.userRepository = userRepository;
+        this.labelIndex = labelIndex;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional(readOnly = true)
+    public List<Label> getLabels(Long userId) {
+        return labelRepository.findAllByUserIdOrderByNameAsc(userId);
+    }
+
+    public Label createLabel(Long userId, String name) {
+        String trimmed = name.strip();
+        if (labelRepository.existsByUserIdAndName(userId, trimmed)) {
+            throw new LabelOperationException("Label already exists: " + trimmed);
+        }
+
+        Label label = Label.builder()
+                .user(userRepository.getReferenceById(userId))
+                .name(trimmed)
+                .build();
+        Label saved = labelRepository.save(label);
+        eventPublisher.publishEvent(new UserLabelsChangedEvent(userId));
+        return saved;
+    }
+
+    public void deleteLabel(Long userId, Long labelId) {
+        Label label = labelRepository.findByIdAndUserId(labelId, userId)
+                .orElseThrow(() -> new LabelNotFoundException("Label not found"));
+
+        labelRepository.deleteTodoLinks(label.getId());
+        labelRepository.delete(label);
+        eventPublisher.publishEvent(new UserLabelsChangedEvent(userId));
+    }
+
+    public Todo updateTodoLabels(Long userId, Long todoId, List<Long> labelIds) {
+        Todo todo = todoRepository.findByIdAndUserIdAndProjectIsNull(todoId, userId)
+                .orElseThrow(() -> new TodoNotFoundException("Todo not found"));
+
+        Set<Long> requested = new HashSet<>(labelIds);
+        if (requested.size() > MAX_LABELS_PER_TODO) {
+            throw new LabelOperationException("Too many labels (max " + MAX_LABELS_PER_TODO + ")");
+        }
+
+        List<Label> labels = requested.isEmpty() ? List.of() : labelRepository.findAllByUserIdAndIdIn(userId, requested);
+        if (labels.size() != requested.size()) {
+            throw new IllegalArgumentException("Invalid label id provided");
+        }
+
+        todo.changeLabels(new HashSet<>(labels));
+        Todo saved = todoRepository.save(todo);
+        eventPublisher.publishEvent(new TodoLabelsChangedEvent(userId, todoId, Set.copyOf(requested)));
+        return saved;
+    }
+
+    // 결과는 orderIndex 순이다.
+    @Transactional(readOnly = true)
+    public List<Todo> filterTodos(Long userId, String expression) {
+        long[] todoIds = labelIndex.filter(userId, LabelExpression.parse(expression));
+        if (todoIds.length == 0) {
+            return List.of();
+        }
+
+        Set<Long> ids = Arrays.stream(todoIds).boxed().collect(Collectors.toSet());
+        return todoRepository.findAllById(ids)
+                .stream()
+                .filter(todo -> todo.getProject() == null && todo.getUser().getId().equals(userId))
+                .sorted(Comparator.comparing(Todo::getOrderIndex))
+                .toList();
+    }
+}
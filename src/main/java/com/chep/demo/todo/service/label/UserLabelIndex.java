@@ -0,0 +1,149 @@
+package com.chep.demo.todo.service.label;
+
+import com.chep.demo.todo.domain.label.LabelExpression;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 한 사용자의 라벨 비트맵. 개인 Todo마다 0부터 촘촘한 ordinal을 부여하고(삭제된 자리는 재사용),
+ * 라벨별로 ordinal 집합을 BitSet으로 들고 있는다. ordinal이 촘촘하므로 BitSet 크기는 Todo 수에 비례한다.
+ */
+final class UserLabelIndex implements LabelExpression.Bitmaps {
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> ordinalByTodoId = new HashMap<>();
+    private long[] todoIdByOrdinal = new long[64];
+    private final BitSet live = new BitSet();
+    private final Map<Long, BitSet> todosByLabelId = new HashMap<>();
+    private final Map<String, Long> labelIdByName = new HashMap<>();
+
+    void putLabel(Long labelId, String name) {
+        lock.writeLock().lock();
+        try {
+            labelIdByName.put(name, labelId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void addTodo(Long todoId) {
+        lock.writeLock().lock();
+        try {
+            ordinalOf(todoId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void removeTodo(Long todoId) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinalByTodoId.remove(todoId);
+            if (ordinal == null) {
+                return;
+            }
+            live.clear(ordinal);
+            Iterator<BitSet> iterator = todosByLabelId.values().iterator();
+            while (iterator.hasNext()) {
+                BitSet bits = iterator.next();
+                bits.clear(ordinal);
+                if (bits.isEmpty()) {
+                    iterator.remove();
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Todo에 붙은 라벨 전체를 교체한다.
+    void setLabels(Long todoId, Set<Long> labelIds) {
+        lock.writeLock().lock();
+        try {
+            int ordinal = ordinalOf(todoId);
+            Iterator<Map.Entry<Long, BitSet>> iterator = todosByLabelId.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Long, BitSet> entry = iterator.next();
+                if (!labelIds.contains(entry.getKey())) {
+                    entry.getValue().clear(ordinal);
+                    if (entry.getValue().isEmpty()) {
+                        iterator.remove();
+                    }
+                }
+            }
+            for (Long labelId : labelIds) {
+                todosByLabelId.computeIfAbsent(labelId, id -> new BitSet()).set(ordinal);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void link(Long todoId, Long labelId) {
+        lock.writeLock().lock();
+        try {
+            todosByLabelId.computeIfAbsent(labelId, id -> new BitSet()).set(ordinalOf(todoId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ordinal 순서(생성 순서와 다를 수 있다)의 Todo id
+    long[] evaluate(LabelExpression expression) {
+        lock.readLock().lock();
+        try {
+            BitSet result = expression.evaluate(this);
+            result.and(live);
+            long[] todoIds = new long[result.cardinality()];
+            int i = 0;
+            for (int ordinal = result.nextSetBit(0); ordinal >= 0; ordinal = result.nextSetBit(ordinal + 1)) {
+                todoIds[i++] = todoIdByOrdinal[ordinal];
+            }
+            return todoIds;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return ordinalByTodoId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // evaluate()의 읽기 잠금 안에서만 호출된다.
+    @Override
+    public BitSet label(String name) {
+        Long labelId = labelIdByName.get(name);
+        return labelId == null ? null : todosByLabelId.get(labelId);
+    }
+
+    @Override
+    public BitSet universe() {
+        return live;
+    }
+
+    private int ordinalOf(Long todoId) {
+        Integer existing = ordinalByTodoId.get(todoId);
+        if (existing != null) {
+            return existing;
+        }
+        int ordinal = live.nextClearBit(0);
+        if (ordinal >= todoIdByOrdinal.length) {
+            todoIdByOrdinal = Arrays.copyOf(todoIdByOrdinal, todoIdByOrdinal.length * 2);
+        }
+        todoIdByOrdinal[ordinal] = todoId;
+        live.set(ordinal);
+        ordinalByTodoId.put(todoId, ordinal);
+        return ordinal;
+    }
+}
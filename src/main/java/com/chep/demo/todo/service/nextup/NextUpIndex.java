@@ -0,0 +1,103 @@
+package com.chep.demo.todo.service.nextup;
+
+import com.chep.demo.todo.domain.todo.NextUpCandidate;
+import com.chep.demo.todo.domain.todo.TodoRepository;
+import com.chep.demo.todo.domain.todo.event.TodoChangedEvent;
+import com.chep.demo.todo.infrastructure.datasource.PrimaryReads;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 사용자별 "다음 할 일" 순위. 처음 조회할 때 DB에서 만들고, 이후에는 커밋된 {@link TodoChangedEvent}로 갱신한다.
+ * 이벤트는 소유자와 현재 담당자의 인덱스에만 반영한다. 담당자에서 빠진 경우처럼 놓친 변경은
+ * 조회 시 DB 확인({@link NextUpService})에서 걸러지고 인덱스에서도 지워진다.
+ * 적재와 이벤트 반영은 방금 커밋된 값을 읽어야 하므로 primary에서 읽는다.
+ */
+@Component
+public class NextUpIndex {
+    private final TodoRepository todoRepository;
+    private final PrimaryReads primaryReads;
+    private final Cache<Long, UserNextUpIndex> indexes;
+
+    public NextUpIndex(TodoRepository todoRepository,
+                       PrimaryReads primaryReads,
+                       NextUpProperties properties,
+                       MeterRegistry meterRegistry) {
+        this.todoRepository = todoRepository;
+        this.primaryReads = primaryReads;
+        this.indexes = Caffeine.newBuilder()
+                .maximumSize(properties.maximumUsers())
+                .expireAfterAccess(properties.idleTimeout())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, indexes, "todo.next-up.index");
+    }
+
+    public List<Long> top(Long userId, int limit) {
+        return indexes.get(userId, this::load).top(limit);
+    }
+
+    public void update(Long userId, Long todoId, long rank) {
+        indexes.asMap().computeIfPresent(userId, (key, index) -> {
+            index.put(todoId, rank);
+            return index;
+        });
+    }
+
+    public void remove(Long userId, Collection<Long> todoIds) {
+        indexes.asMap().computeIfPresent(userId, (key, index) -> {
+            todoIds.forEach(index::remove);
+            return index;
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTodoChanged(TodoChangedEvent event) {
+        switch (event.type()) {
+            case CREATED, COMPLETION_CHANGED, DUE_DATE_CHANGED, PRIORITY_CHANGED, ASSIGNEES_CHANGED,
+                 DELETED, SUBTREE_DELETED -> refresh(event);
+            case UPDATED, MOVED -> {
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        indexes.invalidateAll();
+    }
+
+    // 삭제/완료된 Todo는 candidate가 없으므로 제거된다. 삭제된 하위 작업은 조회 시 확인에서 정리된다.
+    // 적재 중인 인덱스도 놓치지 않도록 candidate는 항상 읽고 computeIfPresent로 적용한다. (적재가 끝난 뒤 반영된다)
+    private void refresh(TodoChangedEvent event) {
+        Set<Long> audience = new HashSet<>(primaryReads.read(() -> todoRepository.findAudienceUserIds(event.todoId())));
+        audience.add(event.userId());
+
+        Optional<NextUpCandidate> candidate = primaryReads.read(() -> todoRepository.findNextUpCandidate(event.todoId()));
+        for (Long userId : audience) {
+            indexes.asMap().computeIfPresent(userId, (key, index) -> {
+                candidate.ifPresentOrElse(
+                        found -> index.put(found.id(), NextUpRanking.rank(found)),
+                        () -> index.remove(event.todoId()));
+                return index;
+            });
+        }
+    }
+
+    private UserNextUpIndex load(Long userId) {
+        UserNextUpIndex index = new UserNextUpIndex();
+        for (NextUpCandidate candidate : primaryReads.read(() -> todoRepository.findNextUpCandidates(userId))) {
+            index.put(candidate.id(), NextUpRanking.rank(candidate));
+        }
+        return index;
+    }
+}
@@ -0,0 +1,13 @@
+package com.chep.demo.todo.service.nextup;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "todo.next-up")
+public record NextUpProperties(
+        @DefaultValue("10000") long maximumUsers,
+        @DefaultValue("30m") Duration idleTimeout
+) {
+}
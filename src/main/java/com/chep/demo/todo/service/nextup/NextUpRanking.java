@@ -0,0 +1,50 @@
+package com.chep.demo.todo.service.nextup;
+
+import com.chep.demo.todo.domain.todo.NextUpCandidate;
+import com.chep.demo.todo.domain.todo.TodoPriority;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * "다음 할 일" 순위. 각 Todo에 가상 마감 시각을 매기고 빠른 순서로 정렬한다.
+ *
+ * - dueDate가 있으면 dueDate에서 우선순위만큼 앞당긴다. (URGENT 3일, HIGH 1일, LOW는 1일 늦춤)
+ * - 없으면 생성 시각 + 우선순위별 유예 기간. 오래 방치될수록 새 Todo보다 앞에 온다.
+ *
+ * 현재 시각에 의존하지 않으므로 값이 바뀌는 변경이 있을 때만 다시 계산하면 된다.
+ */
+final class NextUpRanking {
+
+    private NextUpRanking() {
+    }
+
+    static long rank(NextUpCandidate candidate) {
+        return rank(candidate.priority(), candidate.dueDate(), candidate.createdAt());
+    }
+
+    static long rank(TodoPriority priority, Instant dueDate, Instant createdAt) {
+        if (dueDate != null) {
+            return dueDate.minus(lead(priority)).toEpochMilli();
+        }
+        return createdAt.plus(grace(priority)).toEpochMilli();
+    }
+
+    private static Duration lead(TodoPriority priority) {
+        return switch (priority) {
+            case URGENT -> Duration.ofDays(3);
+            case HIGH -> Duration.ofDays(1);
+            case MEDIUM -> Duration.ZERO;
+            case LOW -> Duration.ofDays(-1);
+        };
+    }
+
+    private static Duration grace(TodoPriority priority) {
+        return switch (priority) {
+            case URGENT -> Duration.ofDays(1);
+            case HIGH -> Duration.ofDays(3);
+            case MEDIUM -> Duration.ofDays(7);
+            case LOW -> Duration.ofDays(14);
+        };
+    }
+}
@@ -0,0 +1,77 @@
+package com.chep.demo.todo.service.nextup;
+
+import com.chep.demo.todo.domain.todo.Todo;
+import com.chep.demo.todo.domain.todo.TodoRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Transactional(readOnly = true)
+public class NextUpService {
+    public static final int MAX_LIMIT = 50;
+    // 인덱스가 오래된 항목을 돌려줘도 이 횟수 안에 정리된다.
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final NextUpIndex nextUpIndex;
+    private final TodoRepository todoRepository;
+
+    public NextUpService(NextUpIndex nextUpIndex, TodoRepository todoRepository) {
+        this.nextUpIndex = nextUpIndex;
+        this.todoRepository = todoRepository;
+    }
+
+    // 내가 만들었거나 담당자로 지정된 미완료 Todo를 순위대로 limit개. 전체를 정렬하지 않는다.
+    public List<Todo> next(Long userId, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        Map<Long, Todo> found = new HashMap<>();
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            List<Long> ids = nextUpIndex.top(userId, limit);
+            List<Long> missing = new ArrayList<>();
+            List<Long> toLoad = ids.stream().filter(id -> !found.containsKey(id)).toList();
+            if (!toLoad.isEmpty()) {
+                for (Todo todo : todoRepository.findNextUpTodos(userId, toLoad)) {
+                    found.put(todo.getId(), todo);
+                }
+                for (Long id : toLoad) {
+                    if (!found.containsKey(id)) {
+                        missing.add(id);
+                    }
+                }
+            }
+            if (missing.isEmpty()) {
+                return rank(userId, ids, found);
+            }
+            // 완료/삭제되었거나 더 이상 내 Todo가 아닌 항목. 지우고 다시 읽는다.
+            nextUpIndex.remove(userId, missing);
+        }
+        return rank(userId, nextUpIndex.top(userId, limit), found);
+    }
+
+    private List<Todo> rank(Long userId, List<Long> ids, Map<Long, Todo> found) {
+        List<Todo> todos = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Todo todo = found.get(id);
+            if (todo == null) {
+                continue;
+            }
+            // 이벤트 없이 바뀐 값이 있으면 여기서 인덱스를 맞춘다.
+            nextUpIndex.update(userId, id, rankOf(todo));
+            todos.add(todo);
+        }
+        todos.sort(Comparator.comparingLong(NextUpService::rankOf).thenComparing(Todo::getId));
+        return todos;
+    }
+
+    private static long rankOf(Todo todo) {
+        return NextUpRanking.rank(todo.getPriority(), todo.getDueDate(), todo.getCreatedAt());
+    }
+}
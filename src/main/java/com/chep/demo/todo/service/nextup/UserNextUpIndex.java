@@ -0,0 +1,63 @@
+package com.chep.demo.todo.service.nextup;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 한 사용자의 "다음 할 일" 순위. (rank, todoId) 순서의 skip list라서
+ * 추가/삭제는 O(log n), 상위 k개는 앞에서부터 k개만 읽으면 된다.
+ * 쓰기는 한 번에 하나씩, 읽기는 잠금 없이 한다.
+ */
+final class UserNextUpIndex {
+    private static final Comparator<Entry> ORDER = Comparator
+            .comparingLong(Entry::rank)
+            .thenComparingLong(Entry::todoId);
+
+    private final NavigableSet<Entry> ranked = new ConcurrentSkipListSet<>(ORDER);
+    private final Map<Long, Entry> byId = new ConcurrentHashMap<>();
+
+    synchronized void put(long todoId, long rank) {
+        Entry entry = new Entry(todoId, rank);
+        Entry previous = byId.put(todoId, entry);
+        if (entry.equals(previous)) {
+            return;
+        }
+        // 새 항목을 먼저 넣으므로 읽는 쪽은 잠깐 두 항목을 볼 수 있다. top()에서 걸러낸다.
+        ranked.add(entry);
+        if (previous != null) {
+            ranked.remove(previous);
+        }
+    }
+
+    synchronized void remove(long todoId) {
+        Entry previous = byId.remove(todoId);
+        if (previous != null) {
+            ranked.remove(previous);
+        }
+    }
+
+    List<Long> top(int limit) {
+        List<Long> ids = new ArrayList<>(limit);
+        for (Entry entry : ranked) {
+            if (ids.size() >= limit) {
+                break;
+            }
+            if (entry.equals(byId.get(entry.todoId()))) {
+                ids.add(entry.todoId());
+            }
+        }
+        return ids;
+    }
+
+    int size() {
+        return byId.size();
+    }
+
+    private record Entry(long todoId, long rank) {
+    }
+}
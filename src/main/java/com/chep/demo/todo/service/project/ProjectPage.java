@@ -0,0 +1,8 @@
+package com.chep.demo.todo.service.project;
+
+import com.chep.demo.todo.domain.project.ProjectSummary;
+
+import java.util.List;
+
+public record ProjectPage(List<ProjectSummary> projects, Long nextCursor) {
+}
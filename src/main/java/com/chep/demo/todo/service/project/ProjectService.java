@@ -2,12 +2,14 @@ package com.chep.demo.todo.service.project;
 
 import com.chep.demo.todo.domain.project.Project;
 import com.chep.demo.todo.domain.project.ProjectRepository;
-import com.chep.demo.todo.domain.workspace.Workspace;
-import com.chep.demo.todo.domain.workspace.WorkspaceMember;
+import com.chep.demo.todo.domain.project.ProjectSummary;
+import com.chep.demo.todo.domain.user.UserRepository;
+import com.chep.demo.todo.domain.workspace.WorkspaceMembership;
 import com.chep.demo.todo.domain.workspace.WorkspaceRepository;
 import com.chep.demo.todo.exception.project.ProjectNotFoundException;
 import com.chep.demo.todo.exception.workspace.WorkspaceAccessDeniedException;
-import com.chep.demo.todo.exception.workspace.WorkspaceNotFoundException;
+import com.chep.demo.todo.service.workspace.WorkspaceAuthorization;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,35 +18,61 @@ import java.util.List;
 @Service
 @Transactional
 public class ProjectService {
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ProjectRepository projectRepository;
     private final WorkspaceRepository workspaceRepository;
+    private final UserRepository userRepository;
+    private final WorkspaceAuthorization workspaceAuthorization;
 
     public ProjectService(ProjectRepository projectRepository,
-                          WorkspaceRepository workspaceRepository) {
+                          WorkspaceRepository workspaceRepository,
+                          UserRepository userRepository,
+                          WorkspaceAuthorization workspaceAuthorization) {
         this.projectRepository = projectRepository;
         this.workspaceRepository = workspaceRepository;
+        this.userRepository = userRepository;
+        this.workspaceAuthorization = workspaceAuthorization;
     }
 
     @Transactional(readOnly = true)
-    public List<Project> getProjects(Long workspaceId, Long userId) {
-        loadWorkspaceMember(workspaceId, userId);
-        return projectRepository.findAllByWorkspaceId(workspaceId);
+    public ProjectPage getProjects(Long workspaceId, Long userId, Long cursor, int size) {
+        workspaceAuthorization.requireActiveMember(workspaceId, userId);
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        List<ProjectSummary> rows = projectRepository.findPage(
+                workspaceId,
+                cursor == null ? 0L : cursor,
+                Limit.of(size + 1)
+        );
+        if (rows.size() <= size) {
+            return new ProjectPage(rows, null);
+        }
+        List<ProjectSummary> page = rows.subList(0, size);
+        return new ProjectPage(page, page.get(size - 1).id());
     }
 
     public Project createProject(Long workspaceId, Long userId, String name, String description) {
-        WorkspaceMember member = loadWorkspaceMember(workspaceId, userId);
-        Project project = Project.of(member.getWorkspace(), member.getUser(), name, description);
+        workspaceAuthorization.requireActiveMember(workspaceId, userId);
+        Project project = Project.of(
+                workspaceRepository.getReferenceById(workspaceId),
+                userRepository.getReferenceById(userId),
+                name,
+                description
+        );
         return projectRepository.save(project);
     }
 
     @Transactional(readOnly = true)
     public Project getProject(Long workspaceId, Long projectId, Long userId) {
-        loadWorkspaceMember(workspaceId, userId);
+        workspaceAuthorization.requireActiveMember(workspaceId, userId);
         return findProject(workspaceId, projectId);
     }
 
     public Project updateProject(Long workspaceId, Long projectId, Long userId, String name, String description) {
-        WorkspaceMember member = loadWorkspaceMember(workspaceId, userId);
+        WorkspaceMembership member = workspaceAuthorization.requireActiveMember(workspaceId, userId);
         Project project = findProject(workspaceId, projectId);
         ensureCanModifyProject(member, project);
         project.changeNameAndDescription(name, description);
@@ -52,28 +80,21 @@ public class ProjectService {
     }
 
     public void deleteProject(Long workspaceId, Long projectId, Long userId) {
-        WorkspaceMember member = loadWorkspaceMember(workspaceId, userId);
+        WorkspaceMembership member = workspaceAuthorization.requireActiveMember(workspaceId, userId);
         Project project = findProject(workspaceId, projectId);
         ensureCanModifyProject(member, project);
         project.markDeleted();
         projectRepository.save(project);
     }
 
-    private WorkspaceMember loadWorkspaceMember(Long workspaceId, Long userId) {
-        Workspace workspace = workspaceRepository.findByIdWithMembers(workspaceId)
-                .orElseThrow(() -> new WorkspaceNotFoundException("Workspace not found."));
-
-        return workspace.requireActiveMember(userId);
-    }
-
     private Project findProject(Long workspaceId, Long projectId) {
         return projectRepository.findByIdAndWorkspaceId(projectId, workspaceId)
                 .orElseThrow(() -> new ProjectNotFoundException("Project not found"));
     }
 
-    private void ensureCanModifyProject(WorkspaceMember member, Project project) {
-        boolean isOwner = member.getRole() == WorkspaceMember.Role.OWNER;
-        boolean isCreator = project.getCreatedBy().getId().equals(member.getUser().getId());
+    private void ensureCanModifyProject(WorkspaceMembership member, Project project) {
+        boolean isOwner = member.isOwner();
+        boolean isCreator = project.getCreatedBy().getId().equals(member.userId());
         if (!isOwner && !isCreator) {
             throw new WorkspaceAccessDeniedException("You do not have permission to modify this project.");
         }
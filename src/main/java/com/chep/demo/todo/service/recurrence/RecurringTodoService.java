@@ -0,0 +1,180 @@
+package com.chep.demo.todo.service.recurrence;
+
+import com.chep.demo.todo.domain.recurrence.RecurrenceRule;
+import com.chep.demo.todo.domain.recurrence.RecurringTodo;
+import com.chep.demo.todo.domain.recurrence.RecurringTodoOccurrence;
+import com.chep.demo.todo.domain.recurrence.RecurringTodoOccurrenceRepository;
+import com.chep.demo.todo.domain.recurrence.RecurringTodoRepository;
+import com.chep.demo.todo.domain.user.UserRepository;
+import com.chep.demo.todo.dto.recurrence.CreateRecurringTodoRequest;
+import com.chep.demo.todo.dto.recurrence.UpdateOccurrenceRequest;
+import com.chep.demo.todo.exception.recurrence.RecurringTodoNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 반복 Todo. 발생은 조회 구간에 대해서만 규칙으로 계산하고,
+ * 저장된 발생(수정/완료/건너뛰기)을 덮어써서 돌려준다.
+ * 발생은 todos 테이블에 들어가지 않으므로 orderIndex 재정렬과 무관하다.
+ */
+@Service
+@Transactional
+public class RecurringTodoService {
+    public static final int MAX_RANGE_DAYS = 92;
+    public static final int MAX_OCCURRENCES_PER_RULE = 500;
+
+    private final RecurringTodoRepository recurringTodoRepository;
+    private final RecurringTodoOccurrenceRepository occurrenceRepository;
+    private final UserRepository userRepository;
+
+    public RecurringTodoService(RecurringTodoRepository recurringTodoRepository,
+                                RecurringTodoOccurrenceRepository occurrenceRepository,
+                                UserRepository userRepository) {
+        this.recurringTodoRepository = recurringTodoRepository;
+        this.occurrenceRepository = occurrenceRepository;
+        this.userRepository = userRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public List<RecurringTodo> getRecurringTodos(Long userId) {
+        return recurringTodoRepository.findAllByUserIdOrderByIdAsc(userId);
+    }
+
+    public RecurringTodo createRecurringTodo(Long userId, CreateRecurringTodoRequest request) {
+        RecurrenceRule rule = RecurrenceRule.builder()
+                .frequency(request.frequency())
+                .interval(request.interval() == null ? 1 : request.interval())
+                .daysOfWeek(request.daysOfWeek())
+                .cronExpression(request.cronExpression())
+                .startDate(request.startDate())
+                .time(request.time())
+                .zone(zone(request.zone()))
+                .untilDate(request.untilDate())
+                .build();
+
+        RecurringTodo recurringTodo = RecurringTodo.builder()
+                .user(userRepository.getReferenceById(userId))
+                .title(request.title())
+                .content(request.content())
+                .rule(rule)
+                .build();
+        return recurringTodoRepository.save(recurringTodo);
+    }
+
+    public void deleteRecurringTodo(Long userId, Long recurringTodoId) {
+        RecurringTodo recurringTodo = findOwned(userId, recurringTodoId);
+        occurrenceRepository.deleteAllByRecurringTodo(recurringTodo.getId());
+        recurringTodoRepository.delete(recurringTodo);
+    }
+
+    // [from, to) 날짜 구간의 발생. 건너뛴 발생은 빠진다.
+    @Transactional(readOnly = true)
+    public List<TodoOccurrence> getOccurrences(Long userId, LocalDate from, LocalDate to, String zone) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        if (ChronoUnit.DAYS.between(from, to) > MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("range must be at most " + MAX_RANGE_DAYS + " days");
+        }
+        ZoneId zoneId = zone(zone);
+        Instant start = from.atStartOfDay(zoneId).toInstant();
+        Instant end = to.atStartOfDay(zoneId).toInstant();
+
+        // 규칙마다 시간대가 다를 수 있어 날짜 조건은 하루씩 넓혀서 거른다.
+        List<RecurringTodo> recurringTodos = recurringTodoRepository.findActiveBetween(
+                userId, from.minusDays(1), to.plusDays(1));
+        if (recurringTodos.isEmpty()) {
+            return List.of();
+        }
+
+        Map<OccurrenceKey, RecurringTodoOccurrence> stored = new HashMap<>();
+        List<Long> ids = recurringTodos.stream().map(RecurringTodo::getId).toList();
+        for (RecurringTodoOccurrence occurrence : occurrenceRepository.findBetween(ids, start, end)) {
+            stored.put(new OccurrenceKey(occurrence.getRecurringTodo().getId(), occurrence.getOccursAt()), occurrence);
+        }
+
+        List<TodoOccurrence> result = new ArrayList<>();
+        for (RecurringTodo recurringTodo : recurringTodos) {
+            for (Instant occursAt : recurringTodo.rule().occurrencesBetween(start, end, MAX_OCCURRENCES_PER_RULE)) {
+                RecurringTodoOccurrence occurrence = stored.get(new OccurrenceKey(recurringTodo.getId(), occursAt));
+                if (occurrence != null && occurrence.isSkipped()) {
+                    continue;
+                }
+                result.add(toOccurrence(recurringTodo, occursAt, occurrence));
+            }
+        }
+        result.sort(Comparator.comparing(TodoOccurrence::occursAt)
+                .thenComparing(TodoOccurrence::recurringTodoId));
+        return result;
+    }
+
+    // 한 발생을 수정/완료/건너뛰기. 처음 수정될 때 행이 만들어진다.
+    public TodoOccurrence updateOccurrence(Long userId, Long recurringTodoId, UpdateOccurrenceRequest request) {
+        RecurringTodo recurringTodo = findOwned(userId, recurringTodoId);
+        if (!recurringTodo.rule().occursAt(request.occursAt())) {
+            throw new IllegalArgumentException("No occurrence at " + request.occursAt());
+        }
+
+        RecurringTodoOccurrence occurrence = occurrenceRepository
+                .findByRecurringTodoIdAndOccursAt(recurringTodo.getId(), request.occursAt())
+                .orElseGet(() -> occurrenceRepository.save(
+                        new RecurringTodoOccurrence(recurringTodo, request.occursAt())));
+
+        if (request.title() != null || request.content() != null) {
+            occurrence.changeTitleAndContent(
+                    request.title() != null ? request.title() : occurrence.getTitle(),
+                    request.content() != null ? request.content() : occurrence.getContent());
+        }
+        if (request.completed() != null) {
+            occurrence.changeCompleted(request.completed());
+        }
+        if (request.skipped() != null) {
+            occurrence.changeSkipped(request.skipped());
+        }
+        return toOccurrence(recurringTodo, occurrence.getOccursAt(), occurrence);
+    }
+
+    private RecurringTodo findOwned(Long userId, Long recurringTodoId) {
+        return recurringTodoRepository.findByIdAndUserId(recurringTodoId, userId)
+                .orElseThrow(() -> new RecurringTodoNotFoundException("Recurring todo not found"));
+    }
+
+    private TodoOccurrence toOccurrence(RecurringTodo recurringTodo, Instant occursAt, RecurringTodoOccurrence occurrence) {
+        if (occurrence == null) {
+            return new TodoOccurrence(recurringTodo.getId(), occursAt,
+                    recurringTodo.getTitle(), recurringTodo.getContent(), false, false);
+        }
+        return new TodoOccurrence(
+                recurringTodo.getId(),
+                occursAt,
+                occurrence.getTitle() != null ? occurrence.getTitle() : recurringTodo.getTitle(),
+                occurrence.getContent() != null ? occurrence.getContent() : recurringTodo.getContent(),
+                occurrence.isCompleted(),
+                true
+        );
+    }
+
+    private static ZoneId zone(String zone) {
+        if (zone == null || zone.isBlank()) {
+            return ZoneId.of("UTC");
+        }
+        try {
+            return ZoneId.of(zone);
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Invalid zone: " + zone);
+        }
+    }
+
+    private record OccurrenceKey(Long recurringTodoId, Instant occursAt) {}
+}
@@ -0,0 +1,13 @@
+package com.chep.demo.todo.service.recurrence;
+
+import java.time.Instant;
+
+// 반복 Todo의 한 발생. materialized가 false이면 규칙에서 계산만 된 가상 발생이다.
+public record TodoOccurrence(
+        Long recurringTodoId,
+        Instant occursAt,
+        String title,
+        String content,
+        boolean completed,
+        boolean materialized
+) {}
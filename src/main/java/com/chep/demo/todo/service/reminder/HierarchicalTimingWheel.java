@@ -0,0 +1,201 @@
+package com.chep.demo.todo.service.reminder;
+
+import java.util.function.Consumer;
+
+/**
+ * 계층형 타이밍 휠. 등록/취소는 O(1)이고, tick마다 현재 칸만 처리한다.
+ *
+ * level i 의 한 칸은 wheelSize^i tick 을 담는다. 먼 만료는 상위 level에 두었다가 그 칸의 구간이 시작될 때
+ * 아래 level로 내려보낸다(cascade). 전체 범위(wheelSize^levels tick)를 넘는 만료는 overflow에 두고
+ * 최상위 level이 한 바퀴 돌 때마다 다시 배치한다.
+ *
+ * 스레드 안전하지 않다. 호출자가 동기화한다.
+ */
+public final class HierarchicalTimingWheel<T> {
+    private final long tickMillis;
+    private final int bits;
+    private final int mask;
+    private final int levels;
+    private final Bucket<T>[][] wheels;
+    private final Bucket<T> overflow = new Bucket<>();
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMillis, int wheelSize, int levels, long startMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive");
+        }
+        if (wheelSize < 2 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize must be a power of two");
+        }
+        if (levels < 1 || (long) Integer.numberOfTrailingZeros(wheelSize) * levels >= 62) {
+            throw new IllegalArgumentException("levels out of range");
+        }
+
+        this.tickMillis = tickMillis;
+        this.bits = Integer.numberOfTrailingZeros(wheelSize);
+        this.mask = wheelSize - 1;
+        this.levels = levels;
+        this.wheels = new Bucket[levels][wheelSize];
+        for (int level = 0; level < levels; level++) {
+            for (int slot = 0; slot < wheelSize; slot++) {
+                wheels[level][slot] = new Bucket<>();
+            }
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    // 만료 시각 이후의 첫 tick에 만료된다. 이미 지난 시각이면 다음 tick에 만료된다.
+    public Timeout<T> schedule(long deadlineMillis, T payload) {
+        long deadlineTick = Math.ceilDiv(deadlineMillis, tickMillis);
+        Timeout<T> timeout = new Timeout<>(this, Math.max(deadlineTick, currentTick + 1), payload);
+        place(timeout);
+        size++;
+        return timeout;
+    }
+
+    public boolean cancel(Timeout<T> timeout) {
+        if (timeout.owner != this || timeout.bucket == null) {
+            return false;
+        }
+        timeout.bucket.unlink(timeout);
+        size--;
+        return true;
+    }
+
+    // nowMillis가 속한 tick까지 진행하며 만료된 항목을 순서대로 넘긴다. 만료된 항목 수를 반환한다.
+    public int advanceTo(long nowMillis, Consumer<T> expired) {
+        long targetTick = nowMillis / tickMillis;
+        int fired = 0;
+        while (currentTick < targetTick) {
+            if (size == 0) {
+                // 비어 있으면 빈 칸을 하나씩 돌 필요가 없다.
+                currentTick = targetTick;
+                break;
+            }
+            currentTick++;
+            cascade();
+            Bucket<T> bucket = wheels[0][(int) (currentTick & mask)];
+            for (Timeout<T> timeout = bucket.poll(); timeout != null; timeout = bucket.poll()) {
+                size--;
+                fired++;
+                expired.accept(timeout.payload);
+            }
+        }
+        return fired;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long currentTimeMillis() {
+        return currentTick * tickMillis;
+    }
+
+    private void cascade() {
+        for (int level = 1; level < levels; level++) {
+            if ((currentTick & ((1L << (bits * level)) - 1)) != 0) {
+                return;
+            }
+            replaceAll(wheels[level][(int) ((currentTick >>> (bits * level)) & mask)]);
+        }
+        if ((currentTick & ((1L << (bits * levels)) - 1)) == 0) {
+            replaceAll(overflow);
+        }
+    }
+
+    // overflow 항목은 다시 overflow로 돌아갈 수 있으므로 목록을 먼저 떼어낸 뒤 배치한다.
+    private void replaceAll(Bucket<T> bucket) {
+        Timeout<T> timeout = bucket.detachAll();
+        while (timeout != null) {
+            Timeout<T> next = timeout.next;
+            place(timeout);
+            timeout = next;
+        }
+    }
+
+    private void place(Timeout<T> timeout) {
+        long delta = timeout.deadlineTick - currentTick;
+        for (int level = 0; level < levels; level++) {
+            if (delta < (1L << (bits * (level + 1)))) {
+                int slot = (int) ((timeout.deadlineTick >>> (bits * level)) & mask);
+                wheels[level][slot].add(timeout);
+                return;
+            }
+        }
+        overflow.add(timeout);
+    }
+
+    public static final class Timeout<T> {
+        private final HierarchicalTimingWheel<T> owner;
+        private final long deadlineTick;
+        private final T payload;
+        private Bucket<T> bucket;
+        private Timeout<T> prev;
+        private Timeout<T> next;
+
+        private Timeout(HierarchicalTimingWheel<T> owner, long deadlineTick, T payload) {
+            this.owner = owner;
+            this.deadlineTick = deadlineTick;
+            this.payload = payload;
+        }
+
+        public T payload() {
+            return payload;
+        }
+
+        public long deadlineMillis() {
+            return deadlineTick * owner.tickMillis;
+        }
+
+        // 만료되었거나 취소되었으면 false
+        public boolean isPending() {
+            return bucket != null;
+        }
+    }
+
+    // Timeout을 노드로 쓰는 이중 연결 리스트
+    private static final class Bucket<T> {
+        private Timeout<T> head;
+
+        void add(Timeout<T> timeout) {
+            timeout.bucket = this;
+            timeout.prev = null;
+            timeout.next = head;
+            if (head != null) {
+                head.prev = timeout;
+            }
+            head = timeout;
+        }
+
+        void unlink(Timeout<T> timeout) {
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            timeout.bucket = null;
+            timeout.prev = null;
+            timeout.next = null;
+        }
+
+        Timeout<T> detachAll() {
+            Timeout<T> first = head;
+            head = null;
+            return first;
+        }
+
+        Timeout<T> poll() {
+            Timeout<T> timeout = head;
+            if (timeout != null) {
+                unlink(timeout);
+            }
+            return timeout;
+        }
+    }
+}
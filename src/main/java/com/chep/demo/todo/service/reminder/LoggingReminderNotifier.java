@@ -0,0 +1,40 @@
+package com.chep.demo.todo.service.reminder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+// 로컬용 기본 구현. 로그로 남기고 최근 알림 일부를 메모리에 보관한다.
+@Component
+public class LoggingReminderNotifier implements ReminderNotifier {
+    private static final Logger log = LoggerFactory.getLogger(LoggingReminderNotifier.class);
+    private static final int MAX_RECENT = 1000;
+
+    private final Deque<Reminder> recent = new ArrayDeque<>();
+
+    @Override
+    public void notify(List<Reminder> reminders) {
+        for (Reminder reminder : reminders) {
+            log.info("Todo due: todoId={}, userId={}, dueAt={}", reminder.todoId(), reminder.userId(), reminder.dueAt());
+        }
+        synchronized (recent) {
+            for (Reminder reminder : reminders) {
+                if (recent.size() == MAX_RECENT) {
+                    recent.removeFirst();
+                }
+                recent.addLast(reminder);
+            }
+        }
+    }
+
+    public List<Reminder> recent() {
+        synchronized (recent) {
+            return new ArrayList<>(recent);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.chep.demo.todo.service.reminder;
+
+import java.time.Instant;
+
+public record Reminder(Long todoId, Long userId, String title, Instant dueAt) {
+}
@@ -0,0 +1,11 @@
+package com.chep.demo.todo.service.reminder;
+
+import java.util.List;
+
+/**
+ * 만료된 마감 알림을 전달한다. ReminderScheduler가 batch 단위로 호출한다.
+ * 다른 구현(메일, 푸시 등)을 @Primary 빈으로 등록하면 기본 구현(LoggingReminderNotifier) 대신 사용된다.
+ */
+public interface ReminderNotifier {
+    void notify(List<Reminder> reminders);
+}
@@ -0,0 +1,245 @@
+package com.chep.demo.todo.service.reminder;
+
+import com.chep.demo.todo.domain.todo.ReminderTarget;
+import com.chep.demo.todo.domain.todo.TodoRepository;
+import com.chep.demo.todo.domain.todo.event.TodoChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 마감 알림 스케줄러.
+ *
+ * 지금부터 window 이내에 마감되는 미완료 Todo만 DB에서 구간 단위로 읽어 타이밍 휠에 올리고,
+ * 그 이후의 변경은 커밋된 {@link TodoChangedEvent}로 등록/취소한다. 휠은 힌트일 뿐이며,
+ * 만료된 항목은 batch마다 DB에서 다시 확인해(삭제/완료/마감일 변경) 유효한 것만 {@link ReminderNotifier}로 보낸다.
+ *
+ * 인스턴스마다 독립적으로 동작하므로 여러 인스턴스로 배포하면 한 인스턴스에서만 켜야 한다. (reminder.enabled)
+ * 전달은 최대 한 번이며, notifier가 실패한 batch는 로그만 남긴다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "reminder", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ReminderScheduler {
+    private static final Logger log = LoggerFactory.getLogger(ReminderScheduler.class);
+
+    private final TodoRepository todoRepository;
+    private final ReminderNotifier notifier;
+    private final long tickMillis;
+    private final Duration window;
+    private final int batchSize;
+    private final int loadPageSize;
+
+    // wheel, timeouts 는 this 로 동기화한다.
+    private final HierarchicalTimingWheel<Entry> wheel;
+    private final Map<Long, HierarchicalTimingWheel.Timeout<Entry>> timeouts = new HashMap<>();
+    // todoId -> 진행 중인 가장 최근 reschedule 조회의 순번. 이것도 this 로 동기화한다.
+    private final Map<Long, Long> pendingReads = new HashMap<>();
+    private long readSequence;
+    // 이 시각 이전에 마감되는 Todo는 휠에 올라가 있다.
+    private volatile long loadedUntil;
+
+    private final Timer tickTimer;
+    private final Timer latenessTimer;
+    private final Timer windowLoadTimer;
+    private final Counter dispatchedCounter;
+    private final Counter staleCounter;
+
+    public ReminderScheduler(TodoRepository todoRepository,
+                             ReminderNotifier notifier,
+                             MeterRegistry meterRegistry,
+                             @Value("${reminder.tick:1000}") long tickMillis,
+                             @Value("${reminder.wheel-size:512}") int wheelSize,
+                             @Value("${reminder.levels:4}") int levels,
+                             @Value("${reminder.window:1h}") Duration window,
+                             @Value("${reminder.batch-size:100}") int batchSize,
+                             @Value("${reminder.load-page-size:1000}") int loadPageSize) {
+        this.todoRepository = todoRepository;
+        this.notifier = notifier;
+        this.tickMillis = tickMillis;
+        this.window = window;
+        this.batchSize = batchSize;
+        this.loadPageSize = loadPageSize;
+
+        long now = System.currentTimeMillis();
+        this.wheel = new HierarchicalTimingWheel<>(tickMillis, wheelSize, levels, now);
+        this.loadedUntil = now;
+
+        // 휠 처리 시간(오버헤드)과 마감 시각 대비 전달 지연(정확도)
+        this.tickTimer = Timer.builder("reminder.tick").register(meterRegistry);
+        this.latenessTimer = Timer.builder("reminder.lateness").register(meterRegistry);
+        this.windowLoadTimer = Timer.builder("reminder.window.load").register(meterRegistry);
+        this.dispatchedCounter = Counter.builder("reminder.dispatched").register(meterRegistry);
+        this.staleCounter = Counter.builder("reminder.stale").register(meterRegistry);
+        Gauge.builder("reminder.scheduled", this, ReminderScheduler::scheduledCount).register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${reminder.tick:1000}")
+    public void tick() {
+        List<Entry> expired = new ArrayList<>();
+        long start = System.nanoTime();
+        synchronized (this) {
+            wheel.advanceTo(System.currentTimeMillis(), entry -> {
+                timeouts.remove(entry.todoId());
+                expired.add(entry);
+            });
+        }
+        tickTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        for (int from = 0; from < expired.size(); from += batchSize) {
+            dispatch(expired.subList(from, Math.min(from + batchSize, expired.size())));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${reminder.load-interval:60000}")
+    public void loadWindow() {
+        long from = loadedUntil;
+        long until = System.currentTimeMillis() + window.toMillis();
+        if (until <= from) {
+            return;
+        }
+        // 먼저 넓혀 두어야 적재 중에 들어온 변경 이벤트가 새 구간을 바로 반영한다.
+        loadedUntil = until;
+
+        windowLoadTimer.record(() -> {
+            Instant afterDue = Instant.ofEpochMilli(from);
+            long afterId = 0;
+            while (true) {
+                List<ReminderTarget> page = todoRepository.findReminderWindow(
+                        afterDue, afterId, Instant.ofEpochMilli(until), Limit.of(loadPageSize));
+                synchronized (this) {
+                    for (ReminderTarget target : page) {
+                        // 이벤트로 이미 등록된 항목이 더 최신이다.
+                        if (!timeouts.containsKey(target.id())) {
+                            schedule(target);
+                        }
+                    }
+                }
+                if (page.size() < loadPageSize) {
+                    break;
+                }
+                ReminderTarget last = page.get(page.size() - 1);
+                afterDue = last.dueDate();
+                afterId = last.id();
+            }
+        });
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTodoChanged(TodoChangedEvent event) {
+        switch (event.type()) {
+            case DELETED, SUBTREE_DELETED -> discard(event.todoId());
+            case CREATED, COMPLETION_CHANGED, DUE_DATE_CHANGED -> reschedule(event.todoId());
+            case UPDATED, PRIORITY_CHANGED, ASSIGNEES_CHANGED, MOVED -> {
+            }
+        }
+    }
+
+    public synchronized int scheduledCount() {
+        return wheel.size();
+    }
+
+    // 조회는 락 밖에서 하므로 같은 Todo의 이벤트가 연달아 오면 먼저 시작한 조회가 나중에 끝날 수 있다.
+    // 나중에 시작한 조회가 더 최신 커밋을 보므로, 그보다 먼저 시작한 조회 결과는 버린다.
+    private void reschedule(Long todoId) {
+        long sequence;
+        synchronized (this) {
+            sequence = ++readSequence;
+            pendingReads.put(todoId, sequence);
+        }
+
+        Optional<ReminderTarget> target;
+        try {
+            target = todoRepository.findReminderTargets(List.of(todoId)).stream().findFirst();
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                pendingReads.remove(todoId, sequence);
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            if (!pendingReads.remove(todoId, sequence)) {
+                return;
+            }
+            cancel(todoId);
+            target.filter(this::isWithinWindow).ifPresent(this::schedule);
+        }
+    }
+
+    // 삭제는 진행 중인 조회보다 우선한다.
+    private synchronized void discard(Long todoId) {
+        pendingReads.remove(todoId);
+        cancel(todoId);
+    }
+
+    private boolean isWithinWindow(ReminderTarget target) {
+        long due = target.dueDate().toEpochMilli();
+        return due > System.currentTimeMillis() && due < loadedUntil;
+    }
+
+    private synchronized void cancel(Long todoId) {
+        HierarchicalTimingWheel.Timeout<Entry> timeout = timeouts.remove(todoId);
+        if (timeout != null) {
+            wheel.cancel(timeout);
+        }
+    }
+
+    // this 로 동기화된 상태에서 호출한다.
+    private void schedule(ReminderTarget target) {
+        Entry entry = new Entry(target.id(), target.dueDate());
+        timeouts.put(target.id(), wheel.schedule(target.dueDate().toEpochMilli(), entry));
+    }
+
+    private void dispatch(List<Entry> batch) {
+        Map<Long, ReminderTarget> current = todoRepository.findReminderTargets(
+                        batch.stream().map(Entry::todoId).toList())
+                .stream()
+                .collect(Collectors.toMap(ReminderTarget::id, Function.identity()));
+
+        long now = System.currentTimeMillis();
+        List<Reminder> reminders = new ArrayList<>(batch.size());
+        for (Entry entry : batch) {
+            ReminderTarget target = current.get(entry.todoId());
+            // 그 사이 완료/삭제되었거나 마감일이 바뀌었다. (바뀐 마감일은 이벤트로 다시 등록된다)
+            if (target == null || !target.dueDate().equals(entry.dueAt())) {
+                staleCounter.increment();
+                continue;
+            }
+            latenessTimer.record(Math.max(0, now - entry.dueAt().toEpochMilli()), TimeUnit.MILLISECONDS);
+            reminders.add(new Reminder(target.id(), target.userId(), target.title(), target.dueDate()));
+        }
+        if (reminders.isEmpty()) {
+            return;
+        }
+
+        try {
+            notifier.notify(reminders);
+            dispatchedCounter.increment(reminders.size());
+        } catch (RuntimeException e) {
+            log.warn("Failed to dispatch {} reminders", reminders.size(), e);
+        }
+    }
+
+    private record Entry(Long todoId, Instant dueAt) {}
+}
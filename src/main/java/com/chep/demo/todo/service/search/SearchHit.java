@@ -0,0 +1,4 @@
+package com.chep.demo.todo.service.search;
+
+public record SearchHit(long todoId, double score) {
+}
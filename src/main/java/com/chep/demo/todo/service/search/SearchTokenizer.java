@@ -0,0 +1,36 @@
+package com.chep.demo.todo.service.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 문자/숫자가 아닌 문자로 나누고 NFKC 정규화 + 소문자로 만든다.
+ * 형태소 분석은 하지 않으며, 한국어 조사 등은 prefix 검색으로 보완한다. ("회의" -> "회의록을")
+ */
+final class SearchTokenizer {
+    static final int MAX_TOKEN_LENGTH = 40;
+
+    private SearchTokenizer() {}
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                tokens.add(normalized.substring(start, Math.min(i, start + MAX_TOKEN_LENGTH)));
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+}
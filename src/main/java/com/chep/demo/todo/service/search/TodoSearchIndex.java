@@ -0,0 +1,85 @@
+package com.chep.demo.todo.service.search;
+
+import com.chep.demo.todo.domain.todo.TodoRepository;
+import com.chep.demo.todo.domain.todo.TodoSearchDocument;
+import com.chep.demo.todo.domain.todo.event.TodoChangedEvent;
+import com.chep.demo.todo.infrastructure.datasource.PrimaryReads;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 사용자별 개인 Todo 검색 인덱스. 처음 검색할 때 DB에서 만들고, 이후에는 커밋된 {@link TodoChangedEvent}로 갱신한다.
+ * 사용자 수와 유휴 시간으로 메모리를 제한한다. (LabelIndex와 같은 방식)
+ * 적재와 이벤트 반영은 방금 커밋된 값을 읽어야 하므로 primary에서 읽는다.
+ */
+@Component
+public class TodoSearchIndex {
+    private final TodoRepository todoRepository;
+    private final PrimaryReads primaryReads;
+    private final Cache<Long, UserSearchIndex> indexes;
+
+    public TodoSearchIndex(TodoRepository todoRepository,
+                           PrimaryReads primaryReads,
+                           TodoSearchProperties properties,
+                           MeterRegistry meterRegistry) {
+        this.todoRepository = todoRepository;
+        this.primaryReads = primaryReads;
+        this.indexes = Caffeine.newBuilder()
+                .maximumSize(properties.maximumUsers())
+                .expireAfterAccess(properties.idleTimeout())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, indexes, "todo.search.index");
+    }
+
+    public List<SearchHit> search(Long userId, List<String> queryTerms, int limit) {
+        return indexes.get(userId, this::load).search(queryTerms, limit);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTodoChanged(TodoChangedEvent event) {
+        if (!event.isPersonal()) {
+            return;
+        }
+        switch (event.type()) {
+            case CREATED, UPDATED -> {
+                // 적재 중인 인덱스도 놓치지 않도록 문서는 항상 읽고 computeIfPresent로 적용한다.
+                Optional<TodoSearchDocument> document = primaryReads.read(
+                        () -> todoRepository.findPersonalSearchDocument(event.todoId()));
+                indexes.asMap().computeIfPresent(event.userId(), (key, index) -> {
+                    document.ifPresentOrElse(
+                            doc -> index.put(doc.id(), doc.title(), doc.content()),
+                            () -> index.remove(event.todoId()));
+                    return index;
+                });
+            }
+            case DELETED -> indexes.asMap().computeIfPresent(event.userId(), (key, index) -> {
+                index.remove(event.todoId());
+                return index;
+            });
+            case SUBTREE_DELETED -> indexes.invalidate(event.userId());
+            case COMPLETION_CHANGED, DUE_DATE_CHANGED, PRIORITY_CHANGED, ASSIGNEES_CHANGED, MOVED -> {
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        indexes.invalidateAll();
+    }
+
+    private UserSearchIndex load(Long userId) {
+        UserSearchIndex index = new UserSearchIndex();
+        for (TodoSearchDocument document : primaryReads.read(() -> todoRepository.findPersonalSearchDocuments(userId))) {
+            index.put(document.id(), document.title(), document.content());
+        }
+        return index;
+    }
+}
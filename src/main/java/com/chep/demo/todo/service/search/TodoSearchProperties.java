@@ -0,0 +1,13 @@
+package com.chep.demo.todo.service.search;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "todo.search")
+public record TodoSearchProperties(
+        @DefaultValue("5000") long maximumUsers,
+        @DefaultValue("30m") Duration idleTimeout
+) {
+}
@@ -0,0 +1,66 @@
+package com.chep.demo.todo.service.search;
+
+import com.chep.demo.todo.domain.todo.Todo;
+import com.chep.demo.todo.domain.todo.TodoRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional(readOnly = true)
+public class TodoSearchService {
+    public static final int MAX_QUERY_LENGTH = 100;
+    public static final int MAX_QUERY_TERMS = 8;
+    public static final int MAX_SIZE = 50;
+
+    private final TodoSearchIndex todoSearchIndex;
+    private final TodoRepository todoRepository;
+
+    public TodoSearchService(TodoSearchIndex todoSearchIndex, TodoRepository todoRepository) {
+        this.todoSearchIndex = todoSearchIndex;
+        this.todoRepository = todoRepository;
+    }
+
+    // 관련도 순. 모든 검색어가 title/content의 단어 prefix와 일치해야 한다.
+    public List<Todo> search(Long userId, String query, int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_SIZE);
+        }
+        if (query == null || query.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("q must be at most " + MAX_QUERY_LENGTH + " characters");
+        }
+
+        List<String> terms = SearchTokenizer.tokenize(query).stream()
+                .distinct()
+                .limit(MAX_QUERY_TERMS)
+                .toList();
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        List<SearchHit> hits = todoSearchIndex.search(userId, terms, size);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = hits.stream().map(SearchHit::todoId).toList();
+        Map<Long, Todo> todos = todoRepository.findAllById(ids)
+                .stream()
+                .filter(todo -> todo.getProject() == null && todo.getUser().getId().equals(userId))
+                .collect(Collectors.toMap(Todo::getId, Function.identity()));
+
+        List<Todo> ranked = new ArrayList<>(todos.size());
+        for (Long id : ids) {
+            Todo todo = todos.get(id);
+            if (todo != null) {
+                ranked.add(todo);
+            }
+        }
+        return ranked;
+    }
+}
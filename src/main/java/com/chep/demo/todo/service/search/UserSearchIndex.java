@@ -0,0 +1,151 @@
+package com.chep.demo.todo.service.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 한 사용자의 개인 Todo 역색인. term -> (todoId -> 가중치) 이며, term을 정렬된 TreeMap에 두어
+ * prefix 검색을 subMap 범위 조회로 처리한다.
+ *
+ * 가중치는 title 등장 횟수 * 3 + content 등장 횟수. 질의어는 모두 일치해야 하며(AND),
+ * 완전히 일치한 term은 prefix로만 일치한 term보다 두 배로 계산한다.
+ */
+final class UserSearchIndex {
+    static final int TITLE_WEIGHT = 3;
+    static final int CONTENT_WEIGHT = 1;
+    // 한두 글자 prefix가 너무 많은 term으로 펼쳐지지 않도록 제한한다.
+    static final int MAX_EXPANSIONS = 512;
+
+    private static final Comparator<SearchHit> RANKING = Comparator
+            .comparingDouble(SearchHit::score)
+            .thenComparingLong(SearchHit::todoId);
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    // 갱신/삭제 시 postings에서 지울 term 목록
+    private final Map<Long, Map<String, Integer>> termsByTodoId = new HashMap<>();
+
+    void put(Long todoId, String title, String content) {
+        Map<String, Integer> terms = new HashMap<>();
+        for (String token : SearchTokenizer.tokenize(title)) {
+            terms.merge(token, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String token : SearchTokenizer.tokenize(content)) {
+            terms.merge(token, CONTENT_WEIGHT, Integer::sum);
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(todoId);
+            if (terms.isEmpty()) {
+                return;
+            }
+            termsByTodoId.put(todoId, terms);
+            terms.forEach((term, weight) ->
+                    postings.computeIfAbsent(term, key -> new HashMap<>()).put(todoId, weight));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Long todoId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(todoId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 점수 내림차순, 같으면 최근(id가 큰) Todo 먼저
+    List<SearchHit> search(List<String> queryTerms, int limit) {
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = null;
+            for (String queryTerm : queryTerms) {
+                Map<Long, Double> termScores = scoreTerm(queryTerm);
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    scores.keySet().retainAll(termScores.keySet());
+                    scores.replaceAll((todoId, score) -> score + termScores.get(todoId));
+                }
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+            return topHits(scores, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int documentCount() {
+        lock.readLock().lock();
+        try {
+            return termsByTodoId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Map<Long, Double> scoreTerm(String queryTerm) {
+        Map<Long, Double> termScores = new HashMap<>();
+        int expansions = 0;
+        for (Map.Entry<String, Map<Long, Integer>> entry
+                : postings.subMap(queryTerm, true, queryTerm + Character.MAX_VALUE, false).entrySet()) {
+            if (++expansions > MAX_EXPANSIONS) {
+                break;
+            }
+            double boost = entry.getKey().equals(queryTerm) ? 2.0 : 1.0;
+            entry.getValue().forEach((todoId, weight) ->
+                    termScores.merge(todoId, weight * boost, Math::max));
+        }
+        return termScores;
+    }
+
+    private static List<SearchHit> topHits(Map<Long, Double> scores, int limit) {
+        PriorityQueue<SearchHit> top = new PriorityQueue<>(RANKING);
+        scores.forEach((todoId, score) -> {
+            SearchHit hit = new SearchHit(todoId, score);
+            if (top.size() < limit) {
+                top.add(hit);
+            } else if (RANKING.compare(hit, top.peek()) > 0) {
+                top.poll();
+                top.add(hit);
+            }
+        });
+
+        List<SearchHit> hits = new ArrayList<>(top);
+        hits.sort(RANKING.reversed());
+        return hits;
+    }
+
+    private void removeLocked(Long todoId) {
+        Map<String, Integer> terms = termsByTodoId.remove(todoId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms.keySet()) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(todoId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+}
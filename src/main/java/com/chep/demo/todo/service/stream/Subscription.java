@@ -0,0 +1,86 @@
+package com.chep.demo.todo.service.stream;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+/**
+ * SSE 연결 하나. 보낼 이벤트는 크기가 제한된 큐에 쌓고, 큐가 차면 모두 버리고 RESYNC 하나만 남긴다.
+ * 전송은 한 번에 한 스레드만 하며(draining), 보낼 것이 없을 때는 스레드를 잡고 있지 않는다.
+ */
+final class Subscription {
+    private final Long userId;
+    private final SseEmitter emitter;
+    private final int capacity;
+    private final Queue<TodoStreamEvent> queue = new ArrayDeque<>();
+    private boolean draining;
+    private boolean closed;
+
+    Subscription(Long userId, SseEmitter emitter, int capacity) {
+        this.userId = userId;
+        this.emitter = emitter;
+        this.capacity = capacity;
+    }
+
+    // 호출한 쪽이 drain()을 실행해야 하면 true. 큐가 넘치면 onOverflow를 호출한다.
+    synchronized boolean offer(TodoStreamEvent event, Runnable onOverflow) {
+        if (closed) {
+            return false;
+        }
+        if (queue.size() >= capacity) {
+            queue.clear();
+            queue.add(TodoStreamEvent.resync());
+            onOverflow.run();
+        } else {
+            queue.add(event);
+        }
+        if (draining) {
+            return false;
+        }
+        draining = true;
+        return true;
+    }
+
+    // 큐가 빌 때까지 보내고 보낸 개수를 반환한다. 연결이 끊겼으면 -1.
+    int drain() {
+        int sent = 0;
+        while (true) {
+            TodoStreamEvent next;
+            synchronized (this) {
+                next = queue.poll();
+                if (next == null || closed) {
+                    draining = false;
+                    return closed ? -1 : sent;
+                }
+            }
+            try {
+                // SseEventBuilder는 build할 때마다 내용이 바뀌므로 보낼 때마다 새로 만든다.
+                emitter.send(TodoEventHub.toSse(next));
+                sent++;
+            } catch (IOException | IllegalStateException e) {
+                close();
+                return -1;
+            }
+        }
+    }
+
+    synchronized boolean isIdle() {
+        return queue.isEmpty() && !draining;
+    }
+
+    synchronized void close() {
+        closed = true;
+        queue.clear();
+    }
+
+    void complete() {
+        close();
+        emitter.complete();
+    }
+
+    Long userId() {
+        return userId;
+    }
+}
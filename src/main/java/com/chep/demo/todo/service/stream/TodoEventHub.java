@@ -0,0 +1,171 @@
+package com.chep.demo.todo.service.stream;
+
+import com.chep.demo.todo.domain.label.event.TodoLabelsChangedEvent;
+import com.chep.demo.todo.domain.todo.TodoRepository;
+import com.chep.demo.todo.domain.todo.event.TodoChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 사용자별 SSE 구독. 커밋된 Todo 변경을 소유자와 담당자의 연결로 나누어 보낸다.
+ *
+ * 연결은 비동기 서블릿(SseEmitter)이라 대기 중에는 스레드를 쓰지 않는다.
+ * 전송은 보낼 이벤트가 있을 때만 가상 스레드에서 하며, 느린 연결은 큐가 차면 RESYNC 하나로 바뀐다.
+ * 이 인스턴스에 연결된 사용자에게만 보낸다. (여러 인스턴스 간 전파는 하지 않는다)
+ */
+@Component
+public class TodoEventHub {
+    private final TodoRepository todoRepository;
+    private final TodoEventStreamProperties properties;
+    private final Map<Long, List<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicInteger connections = new AtomicInteger();
+
+    private final Counter sentCounter;
+    private final Counter resyncCounter;
+
+    public TodoEventHub(TodoRepository todoRepository,
+                        TodoEventStreamProperties properties,
+                        MeterRegistry meterRegistry) {
+        this.todoRepository = todoRepository;
+        this.properties = properties;
+        this.sentCounter = Counter.builder("todo.events.sent").register(meterRegistry);
+        this.resyncCounter = Counter.builder("todo.events.resync").register(meterRegistry);
+        Gauge.builder("todo.events.connections", connections, AtomicInteger::get).register(meterRegistry);
+    }
+
+    // 사용자당 연결 수를 넘으면 가장 오래된 연결을 닫는다.
+    public SseEmitter subscribe(Long userId) {
+        SseEmitter emitter = new SseEmitter(properties.timeout().toMillis());
+        Subscription subscription = new Subscription(userId, emitter, properties.queueCapacity());
+
+        List<Subscription> evicted = new ArrayList<>();
+        subscriptions.compute(userId, (key, list) -> {
+            List<Subscription> updated = list == null ? new CopyOnWriteArrayList<>() : list;
+            while (updated.size() >= properties.maxConnectionsPerUser()) {
+                evicted.add(updated.remove(0));
+            }
+            updated.add(subscription);
+            return updated;
+        });
+        connections.incrementAndGet();
+        for (Subscription old : evicted) {
+            connections.decrementAndGet();
+            old.complete();
+        }
+
+        emitter.onCompletion(() -> unsubscribe(subscription));
+        emitter.onTimeout(() -> unsubscribe(subscription));
+        emitter.onError(e -> unsubscribe(subscription));
+
+        // 프록시가 응답 헤더를 바로 내보내도록 첫 주석을 보낸다.
+        enqueue(subscription, TodoStreamEvent.heartbeat());
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTodoChanged(TodoChangedEvent event) {
+        if (subscriptions.isEmpty()) {
+            return;
+        }
+        Set<Long> audience = new HashSet<>(todoRepository.findAudienceUserIds(event.todoId()));
+        audience.add(event.userId());
+        TodoStreamEvent streamEvent = new TodoStreamEvent(
+                event.type().name(), event.todoId(), event.projectId(), Instant.now());
+        for (Long userId : audience) {
+            publish(userId, streamEvent);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTodoLabelsChanged(TodoLabelsChangedEvent event) {
+        publish(event.userId(), new TodoStreamEvent(
+                TodoStreamEvent.LABELS_CHANGED, event.todoId(), null, Instant.now()));
+    }
+
+    public void publish(Long userId, TodoStreamEvent event) {
+        List<Subscription> list = subscriptions.get(userId);
+        if (list == null) {
+            return;
+        }
+        for (Subscription subscription : list) {
+            enqueue(subscription, event);
+        }
+    }
+
+    // 유휴 연결이 프록시/로드밸런서에서 끊기지 않도록 주석 이벤트를 보낸다. 끊긴 연결도 여기서 정리된다.
+    @Scheduled(fixedDelayString = "${todo.events.heartbeat:15000}")
+    public void heartbeat() {
+        for (List<Subscription> list : subscriptions.values()) {
+            for (Subscription subscription : list) {
+                if (subscription.isIdle()) {
+                    enqueue(subscription, TodoStreamEvent.heartbeat());
+                }
+            }
+        }
+    }
+
+    public int connectionCount() {
+        return connections.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (List<Subscription> list : subscriptions.values()) {
+            list.forEach(Subscription::complete);
+        }
+        sender.shutdownNow();
+    }
+
+    static SseEmitter.SseEventBuilder toSse(TodoStreamEvent event) {
+        if (TodoStreamEvent.HEARTBEAT.equals(event.type())) {
+            return SseEmitter.event().comment("heartbeat");
+        }
+        return SseEmitter.event()
+                .name(event.type())
+                .data(event, MediaType.APPLICATION_JSON);
+    }
+
+    private void enqueue(Subscription subscription, TodoStreamEvent event) {
+        if (subscription.offer(event, resyncCounter::increment)) {
+            sender.execute(() -> {
+                int sent = subscription.drain();
+                if (sent < 0) {
+                    unsubscribe(subscription);
+                } else {
+                    sentCounter.increment(sent);
+                }
+            });
+        }
+    }
+
+    private void unsubscribe(Subscription subscription) {
+        subscription.close();
+        subscriptions.computeIfPresent(subscription.userId(), (key, list) -> {
+            if (list.remove(subscription)) {
+                connections.decrementAndGet();
+            }
+            return list.isEmpty() ? null : list;
+        });
+    }
+}
@@ -0,0 +1,14 @@
+package com.chep.demo.todo.service.stream;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "todo.events")
+public record TodoEventStreamProperties(
+        @DefaultValue("256") int queueCapacity,
+        @DefaultValue("5") int maxConnectionsPerUser,
+        @DefaultValue("30m") Duration timeout
+) {
+}
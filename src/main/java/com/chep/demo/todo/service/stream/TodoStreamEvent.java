@@ -0,0 +1,22 @@
+package com.chep.demo.todo.service.stream;
+
+import java.time.Instant;
+
+/**
+ * SSE로 보내는 변경 알림. 내용은 담지 않으며 클라이언트는 todoId로 다시 조회한다.
+ * type이 RESYNC이면 중간 이벤트가 버려졌으므로 목록 전체를 다시 읽어야 한다.
+ */
+public record TodoStreamEvent(String type, Long todoId, Long projectId, Instant at) {
+    public static final String RESYNC = "RESYNC";
+    public static final String LABELS_CHANGED = "LABELS_CHANGED";
+    // 이벤트가 아닌 SSE 주석으로 보낸다.
+    static final String HEARTBEAT = "HEARTBEAT";
+
+    static TodoStreamEvent resync() {
+        return new TodoStreamEvent(RESYNC, null, null, Instant.now());
+    }
+
+    static TodoStreamEvent heartbeat() {
+        return new TodoStreamEvent(HEARTBEAT, null, null, Instant.now());
+    }
+}
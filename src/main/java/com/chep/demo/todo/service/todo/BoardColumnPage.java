@@ -0,0 +1,10 @@
+package com.chep.demo.todo.service.todo;
+
+import com.chep.demo.todo.domain.todo.Todo;
+import com.chep.demo.todo.domain.todo.TodoStatus;
+
+import java.util.List;
+
+// nextCursor는 "boardRank:id" 형식이며 null이면 마지막 페이지다.
+public record BoardColumnPage(TodoStatus status, List<Todo> todos, String nextCursor) {
+}
@@ -0,0 +1,17 @@
+package com.chep.demo.todo.service.todo;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+// [from, to) 날짜 구간. zone 기준 자정으로 Instant 범위를 만든다.
+public record CalendarRange(LocalDate from, LocalDate to, ZoneId zone) {
+
+    public Instant start() {
+        return from.atStartOfDay(zone).toInstant();
+    }
+
+    public Instant end() {
+        return to.atStartOfDay(zone).toInstant();
+    }
+}
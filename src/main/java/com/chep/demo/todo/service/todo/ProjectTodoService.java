@@ -0,0 +1,286 @@
+package com.chep.demo.todo.service.todo;
+
+import com.chep.demo.todo.domain.project.Project;
+import com.chep.demo.todo.domain.project.ProjectRepository;
+import com.chep.demo.todo.domain.todo.BoardRanks;
+import com.chep.demo.todo.domain.todo.Todo;
+import com.chep.demo.todo.domain.todo.TodoPriority;
+import com.chep.demo.todo.domain.todo.TodoRepository;
+import com.chep.demo.todo.domain.todo.TodoStatus;
+import com.chep.demo.todo.domain.todo.event.TodoChangedEvent;
+import com.chep.demo.todo.domain.user.User;
+import com.chep.demo.todo.domain.user.UserRepository;
+import com.chep.demo.todo.dto.todo.CreateTodoRequest;
+import com.chep.demo.todo.dto.todo.MoveTodoRequest;
+import com.chep.demo.todo.dto.todo.UpdateAssigneesRequest;
+import com.chep.demo.todo.dto.todo.UpdateDueDateRequest;
+import com.chep.demo.todo.dto.todo.UpdateTodoRequest;
+import com.chep.demo.todo.exception.project.ProjectNotFoundException;
+import com.chep.demo.todo.exception.todo.TodoNotFoundException;
+import com.chep.demo.todo.service.workspace.WorkspaceAuthorization;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 프로젝트에 속한 Todo 보드. 권한은 워크스페이스 활성 멤버 여부로 확인하고,
+ * 순서(orderIndex)는 프로젝트 안에서만 연속이므로 재정렬 비용은 프로젝트 크기에만 비례한다.
+ */
+@Service
+@Transactional
+public class ProjectTodoService {
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private final TodoRepository todoRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final WorkspaceAuthorization workspaceAuthorization;
+    private final TodoHierarchyService todoHierarchyService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ProjectTodoService(TodoRepository todoRepository,
+                              ProjectRepository projectRepository,
+                              UserRepository userRepository,
+                              WorkspaceAuthorization workspaceAuthorization,
+                              TodoHierarchyService todoHierarchyService,
+                              ApplicationEventPublisher eventPublisher) {
+        this.todoRepository = todoRepository;
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.workspaceAuthorization = workspaceAuthorization;
+        this.todoHierarchyService = todoHierarchyService;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional(readOnly = true)
+    public TodoPage getTodos(Long workspaceId, Long projectId, Long userId, Long cursor, int size) {
+        workspaceAuthorization.requireActiveMember(workspaceId, userId);
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        findProject(workspaceId, projectId);
+
+        // cursor는 마지막으로 받은 Todo의 orderIndex
+        List<Todo> rows = todoRepository.findByProjectIdAndOrderIndexGreaterThanOrderByOrderIndexAsc(
+                projectId,
+                cursor == null ? -1 : Math.toIntExact(cursor),
+                Limit.of(size + 1)
+        );
+        if (rows.size() <= size) {
+            return new TodoPage(rows, null);
+        }
+        List<Todo> page = rows.subList(0, size);
+        return new TodoPage(page, page.get(size - 1).getOrderIndex().longValue());
+    }
+
+    public Todo createTodo(Long workspaceId, Long projectId, Long userId, CreateTodoRequest request) {
+        workspaceAuthorization.requireActiveMember(workspaceId, userId);
+        Project project = lockProject(workspaceId, projectId);
+
+        Integer orderIndex = request.orderIndex();
+        int totalCount = todoRepository.countByProjectId(projectId).intValue();
+
+        if (orderIndex == null) {
+            orderIndex = totalCount;
+        } else {
+            // 0 ~ totalCount 사이만 허용
+            if (orderIndex < 0 || orderIndex > totalCount) {
+                throw new IllegalArgumentException("orderIndex out of range: 0 ~ " + totalCount);
+            }
+
+            if (orderIndex < totalCount) {
+                List<Todo> affectedTodos = todoRepository.findByProjectIdAndOrderIndexBetween(projectId, orderIndex, totalCount - 1);
+                shiftOrderIndexRange(affectedTodos, +1);
+                todoRepository.saveAll(affectedTodos);
+            }
+        }
+
+        Todo todo = Todo.builder()
+                .user(userRepository.getReferenceById(userId))
+                .project(project)
+                .title(request.title())
+                .content(request.content())
+                .orderIndex(orderIndex)
+                .dueDate(request.dueDate())
+                .priority(request.priority())
+                .build();
+
+        todo.changeAssignees(resolveAssignees(workspaceId, request.assigneeIds()));
+        todo.moveOnBoard(TodoStatus.TODO,
+                BoardRanks.after(todoRepository.findMaxProjectBoardRank(projectId, TodoStatus.TODO)));
+
+        Todo saved = todoRepository.save(todo);
+        publishChanged(saved, userId, projectId, TodoChangedEvent.Type.CREATED);
+        return saved;
+    }
+
+    // 프로젝트 Todo는 작성자가 아니어도 워크스페이스 활성 멤버면 수정할 수 있다.
+    public Todo updateTodo(Long workspaceId, Long projectId, Long userId, Long todoId, UpdateTodoRequest request) {
+        workspaceAuthorization.requireActiveMember(workspaceId, userId);
+        findProject(workspaceId, projectId);
+
+        Todo todo = findTodo(projectId, todoId);
+        todo.changeTitleAndContent(request.title(), request.content());
+
+        Todo saved = todoRepository.save(todo);
+        publishChanged(saved, userId, projectId, TodoChangedEvent.Type.UPDATED);
+        return saved;
+    }
+
+    public Todo updateAssignees(Long workspaceId, Long projectId, Long userId, Long todoId,
+                                UpdateAssigneesRequest request) {
+        workspaceAuthorization.requireActiveMember(workspaceId, userId);
+        findProject(workspaceId, projectId);
+
+        Todo todo = findTodo(projectId, todoId);
+        todo.changeAssignees(resolveAssignees(workspaceId, request.assigneeIds()));
+
+        Todo saved = todoRepository.save(todo);
+        publishChanged(saved, userId, projectId, TodoChangedEvent.Type.ASSIGNEES_CHANGED);
+        return saved;
+    }
+
+    public Todo updateDueDate(Long workspaceId, Long projectId, Long userId, Long todoId,
+                              UpdateDueDateRequest request) {
+        workspaceAuthorization.requireActiveMember(workspaceId, userId);
+        findProject(workspaceId, projectId);
+
+        Todo todo = findTodo(projectId, todoId);
+        todo.changeDueDate(request.dueDate());
+
+        Todo saved = todoRepository.save(todo);
+        publishChanged(saved, userId, projectId, TodoChangedEvent.Type.DUE_DATE_CHANGED);
+        return saved;
+    }
+
+    public Todo updatePriority(Long workspaceId, Long projectId, Long userId, Long todoId, TodoPriority priority) {
+        workspaceAuthorization.requireActiveMember(workspaceId, userId);
+        findProject(workspaceId, projectId);
+
+        Todo todo = findTodo(projectId, todoId);
+        todo.changePriority(priority);
+
+        Todo saved = todoRepository.save(todo);
+        publishChanged(saved, userId, projectId, TodoChangedEvent.Type.PRIORITY_CHANGED);
+        return saved;
+    }
+
+    public void toggleTodoComplete(Long workspaceId, Long projectId, Long userId, Long todoId) {
+        workspaceAuthorization.requireActiveMember(workspaceId, userId);
+        lockProject(workspaceId, projectId);
+
+        Todo todo = findTodo(projectId, todoId);
+        TodoStatus status = todo.toggledStatus();
+        todo.toggleComplete(BoardRanks.after(todoRepository.findMaxProjectBoardRank(projectId, status)));
+
+        todoRepository.save(todo);
+        publishChanged(todo, userId, projectId, TodoChangedEvent.Type.COMPLETION_CHANGED);
+        if (todo.isCompleted()) {
+            todoHierarchyService.completeDescendants(todo, userId);
+        }
+    }
+
+    public void move(Long workspaceId, Long projectId, Long userId, Long todoId, MoveTodoRequest request) {
+        workspaceAuthorization.requireActiveMember(workspaceId, userId);
+        lockProject(workspaceId, projectId);
+
+        Todo target = findTodo(projectId, todoId);
+        Integer targetOrderIndex = request.targetOrderIndex();
+        Integer currentOrderIndex = target.getOrderIndex();
+
+        if (targetOrderIndex.equals(currentOrderIndex)) {
+            return;
+        }
+
+        int maxIndex = todoRepository.countByProjectId(projectId).intValue() - 1;
+        if (targetOrderIndex > maxIndex) {
+            throw new IllegalArgumentException("targetIndex exceeds maximum");
+        }
+
+        int start;
+        int end;
+
+        if (targetOrderIndex < currentOrderIndex) {
+            start = targetOrderIndex;
+            end = currentOrderIndex - 1;
+        } else {
+            start = currentOrderIndex + 1;
+            end = targetOrderIndex;
+        }
+
+        List<Todo> affectedTodos = todoRepository.findByProjectIdAndOrderIndexBetween(projectId, start, end);
+        List<Todo> changedTodos = Todo.reorder(target, targetOrderIndex, affectedTodos);
+
+        if (!changedTodos.isEmpty()) {
+            todoRepository.saveAll(changedTodos);
+        }
+        publishChanged(target, userId, projectId, TodoChangedEvent.Type.MOVED);
+    }
+
+    public void deleteTodo(Long workspaceId, Long projectId, Long userId, Long todoId) {
+        workspaceAuthorization.requireActiveMember(workspaceId, userId);
+        lockProject(workspaceId, projectId);
+
+        Todo todo = findTodo(projectId, todoId);
+        int deletedOrderIndex = todo.getOrderIndex();
+
+        todoRepository.softDelete(todo);
+
+        // 하위 작업이 함께 삭제되면 orderIndex는 일괄 재정렬된다.
+        if (todoHierarchyService.deleteDescendants(todo) > 0) {
+            publishChanged(todo, userId, projectId, TodoChangedEvent.Type.SUBTREE_DELETED);
+            return;
+        }
+        publishChanged(todo, userId, projectId, TodoChangedEvent.Type.DELETED);
+
+        List<Todo> affectedTodos = todoRepository.findByProjectIdAndOrderIndexGreaterThan(projectId, deletedOrderIndex);
+        shiftOrderIndexRange(affectedTodos, -1);
+        todoRepository.saveAll(affectedTodos);
+    }
+
+    private void publishChanged(Todo todo, Long userId, Long projectId, TodoChangedEvent.Type type) {
+        eventPublisher.publishEvent(new TodoChangedEvent(todo.getId(), userId, projectId, type));
+    }
+
+    private void shiftOrderIndexRange(List<Todo> affectedTodos, int delta) {
+        for (Todo affected : affectedTodos) {
+            affected.changeOrderIndex(affected.getOrderIndex() + delta);
+        }
+    }
+
+    // 담당자는 같은 워크스페이스의 활성 멤버여야 한다.
+    private Set<User> resolveAssignees(Long workspaceId, List<Long> assigneeIds) {
+        if (assigneeIds == null || assigneeIds.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        Set<User> users = new HashSet<>();
+        for (Long assigneeId : new HashSet<>(assigneeIds)) {
+            if (workspaceAuthorization.findActiveMember(workspaceId, assigneeId).isEmpty()) {
+                throw new IllegalArgumentException("Invalid assignee id provided");
+            }
+            users.add(userRepository.getReferenceById(assigneeId));
+        }
+        return users;
+    }
+
+    private Project findProject(Long workspaceId, Long projectId) {
+        return projectRepository.findByIdAndWorkspaceId(projectId, workspaceId)
+                .orElseThrow(() -> new ProjectNotFoundException("Project not found"));
+    }
+
+    private Project lockProject(Long workspaceId, Long projectId) {
+        return projectRepository.findByIdAndWorkspaceIdForUpdate(projectId, workspaceId)
+                .orElseThrow(() -> new ProjectNotFoundException("Project not found"));
+    }
+
+    private Todo findTodo(Long projectId, Long todoId) {
+        return todoRepository.findByIdAndProjectId(todoId, projectId)
+                .orElseThrow(() -> new TodoNotFoundException("Todo not found"));
+    }
+}
@@ -0,0 +1,39 @@
+package com.chep.demo.todo.service.todo;
+
+import com.chep.demo.todo.domain.todo.Todo;
+import com.chep.demo.todo.domain.todo.TodoRepository;
+import com.chep.demo.todo.exception.todo.TodoNotFoundException;
+import com.chep.demo.todo.service.workspace.WorkspaceAuthorization;
+import org.springframework.stereotype.Component;
+
+/**
+ * 개인/프로젝트 Todo 구분 없이 Todo 단건에 접근할 때의 권한 확인.
+ * 개인 Todo는 소유자만, 프로젝트 Todo는 해당 워크스페이스의 활성 멤버만 접근할 수 있다.
+ */
+@Component
+public class TodoAccess {
+    private final TodoRepository todoRepository;
+    private final WorkspaceAuthorization workspaceAuthorization;
+
+    public TodoAccess(TodoRepository todoRepository, WorkspaceAuthorization workspaceAuthorization) {
+        this.todoRepository = todoRepository;
+        this.workspaceAuthorization = workspaceAuthorization;
+    }
+
+    public Todo requireAccessible(Long userId, Long todoId) {
+        Todo todo = todoRepository.findById(todoId)
+                .orElseThrow(() -> new TodoNotFoundException("Todo not found"));
+        if (!canAccess(userId, todo)) {
+            throw new TodoNotFoundException("Todo not found");
+        }
+        return todo;
+    }
+
+    public boolean canAccess(Long userId, Todo todo) {
+        if (todo.getProject() == null) {
+            return todo.getUser().getId().equals(userId);
+        }
+        Long workspaceId = todo.getProject().getWorkspace().getId();
+        return workspaceAuthorization.findActiveMember(workspaceId, userId).isPresent();
+    }
+}
@@ -0,0 +1,201 @@
+package com.chep.demo.todo.service.todo;
+
+import com.chep.demo.todo.domain.project.ProjectRepository;
+import com.chep.demo.todo.domain.todo.BoardRanks;
+import com.chep.demo.todo.domain.todo.Todo;
+import com.chep.demo.todo.domain.todo.TodoRepository;
+import com.chep.demo.todo.domain.todo.TodoStatus;
+import com.chep.demo.todo.domain.todo.event.TodoChangedEvent;
+import com.chep.demo.todo.exception.project.ProjectNotFoundException;
+import com.chep.demo.todo.exception.todo.TodoNotFoundException;
+import com.chep.demo.todo.service.workspace.WorkspaceAuthorization;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.OptionalLong;
+
+/**
+ * 칸반 보드. 컬럼은 (개인 소유자 또는 프로젝트, status) 단위이며 (boardRank, id) 순서로 페이지 조회한다.
+ * 카드 이동은 이동한 카드의 status/boardRank만 바꾸고, rank 간격이 소진된 경우에만 대상 컬럼을 다시 매긴다.
+ */
+@Service
+@Transactional
+public class TodoBoardService {
+    private static final int MAX_PAGE_SIZE = 200;
+
+    private final TodoRepository todoRepository;
+    private final ProjectRepository projectRepository;
+    private final WorkspaceAuthorization workspaceAuthorization;
+    private final TodoHierarchyService todoHierarchyService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TodoBoardService(TodoRepository todoRepository,
+                            ProjectRepository projectRepository,
+                            WorkspaceAuthorization workspaceAuthorization,
+                            TodoHierarchyService todoHierarchyService,
+                            ApplicationEventPublisher eventPublisher) {
+        this.todoRepository = todoRepository;
+        this.projectRepository = projectRepository;
+        this.workspaceAuthorization = workspaceAuthorization;
+        this.todoHierarchyService = todoHierarchyService;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Transactional(readOnly = true)
+    public BoardColumnPage getPersonalColumn(Long userId, TodoStatus status, String cursor, int size) {
+        return readColumn(Column.personal(userId, status), cursor, size);
+    }
+
+    @Transactional(readOnly = true)
+    public BoardColumnPage getProjectColumn(Long workspaceId, Long projectId, Long userId,
+                                            TodoStatus status, String cursor, int size) {
+        workspaceAuthorization.requireActiveMember(workspaceId, userId);
+        projectRepository.findByIdAndWorkspaceId(projectId, workspaceId)
+                .orElseThrow(() -> new ProjectNotFoundException("Project not found"));
+        return readColumn(Column.project(projectId, status), cursor, size);
+    }
+
+    public Todo movePersonalCard(Long userId, Long todoId, TodoStatus status, Long afterTodoId) {
+        Todo target = todoRepository.findByIdAndUserIdAndProjectIsNull(todoId, userId)
+                .orElseThrow(() -> new TodoNotFoundException("Todo not found"));
+        Todo previous = afterTodoId == null ? null : todoRepository.findByIdAndUserIdAndProjectIsNull(afterTodoId, userId)
+                .orElseThrow(() -> new TodoNotFoundException("Todo not found"));
+        return moveCard(Column.personal(userId, status), userId, target, previous);
+    }
+
+    public Todo moveProjectCard(Long workspaceId, Long projectId, Long userId, Long todoId,
+                                TodoStatus status, Long afterTodoId) {
+        workspaceAuthorization.requireActiveMember(workspaceId, userId);
+        projectRepository.findByIdAndWorkspaceIdForUpdate(projectId, workspaceId)
+                .orElseThrow(() -> new ProjectNotFoundException("Project not found"));
+
+        Todo target = todoRepository.findByIdAndProjectId(todoId, projectId)
+                .orElseThrow(() -> new TodoNotFoundException("Todo not found"));
+        Todo previous = afterTodoId == null ? null : todoRepository.findByIdAndProjectId(afterTodoId, projectId)
+                .orElseThrow(() -> new TodoNotFoundException("Todo not found"));
+        return moveCard(Column.project(projectId, status), userId, target, previous);
+    }
+
+    // previous 바로 뒤(없으면 컬럼 맨 앞)에 target을 놓는다.
+    private Todo moveCard(Column column, Long userId, Todo target, Todo previous) {
+        if (previous != null) {
+            if (previous.getStatus() != column.status()) {
+                throw new IllegalArgumentException("afterTodoId must be in the target column");
+            }
+            if (Objects.equals(previous.getId(), target.getId())) {
+                throw new IllegalArgumentException("afterTodoId must differ from the moved todo");
+            }
+        }
+
+        Todo next = findNext(column, previous, target);
+        OptionalLong rank = BoardRanks.between(
+                previous == null ? null : previous.getBoardRank(),
+                next == null ? null : next.getBoardRank()
+        );
+
+        if (rank.isEmpty()) {
+            rebalance(column, target);
+            next = findNext(column, previous, target);
+            rank = BoardRanks.between(
+                    previous == null ? null : previous.getBoardRank(),
+                    next == null ? null : next.getBoardRank()
+            );
+        }
+
+        boolean wasCompleted = target.isCompleted();
+        target.moveOnBoard(column.status(), rank.orElseThrow());
+        Todo saved = todoRepository.save(target);
+        publishChanged(saved, userId, TodoChangedEvent.Type.MOVED);
+        // DONE 컬럼으로 들어가거나 나오면 완료 상태가 바뀐다. 완료 토글과 같이 하위 작업도 함께 완료한다.
+        if (saved.isCompleted() != wasCompleted) {
+            publishChanged(saved, userId, TodoChangedEvent.Type.COMPLETION_CHANGED);
+            if (saved.isCompleted()) {
+                todoHierarchyService.completeDescendants(saved, userId);
+            }
+        }
+        return saved;
+    }
+
+    private void publishChanged(Todo todo, Long userId, TodoChangedEvent.Type type) {
+        Long projectId = todo.getProject() == null ? null : todo.getProject().getId();
+        eventPublisher.publishEvent(new TodoChangedEvent(todo.getId(), userId, projectId, type));
+    }
+
+    private Todo findNext(Column column, Todo previous, Todo target) {
+        long afterRank = previous == null ? Long.MIN_VALUE : previous.getBoardRank();
+        long afterId = previous == null ? Long.MIN_VALUE : previous.getId();
+        // target이 같은 컬럼에 있으면 바로 뒤 카드가 target일 수 있으므로 두 장을 읽는다.
+        return load(column, afterRank, afterId, Limit.of(2)).stream()
+                .filter(todo -> !Objects.equals(todo.getId(), target.getId()))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private void rebalance(Column column, Todo target) {
+        List<Todo> todos = load(column, Long.MIN_VALUE, Long.MIN_VALUE, Limit.unlimited());
+        int position = 0;
+        for (Todo todo : todos) {
+            if (!Objects.equals(todo.getId(), target.getId())) {
+                todo.changeBoardRank(BoardRanks.ofPosition(position++));
+            }
+        }
+        todoRepository.saveAll(todos);
+    }
+
+    private BoardColumnPage readColumn(Column column, String cursor, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        long afterRank = Long.MIN_VALUE;
+        long afterId = Long.MIN_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = cursor.split(":");
+            try {
+                if (parts.length != 2) {
+                    throw new NumberFormatException();
+                }
+                afterRank = Long.parseLong(parts[0]);
+                afterId = Long.parseLong(parts[1]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("invalid cursor");
+            }
+        }
+
+        List<Todo> rows = load(column, afterRank, afterId, Limit.of(size + 1));
+        if (rows.size() <= size) {
+            return new BoardColumnPage(column.status(), rows, null);
+        }
+        List<Todo> page = rows.subList(0, size);
+        Todo last = page.get(size - 1);
+        return new BoardColumnPage(column.status(), page, last.getBoardRank() + ":" + last.getId());
+    }
+
+    private List<Todo> load(Column column, long afterRank, long afterId, Limit limit) {
+        if (column.projectId() != null) {
+            return todoRepository.findProjectColumn(column.projectId(), column.status(), afterRank, afterId, limit);
+        }
+        return todoRepository.findPersonalColumn(column.userId(), column.status(), afterRank, afterId, limit);
+    }
+
+    private record Column(Long userId, Long projectId, TodoStatus status) {
+        static Column personal(Long userId, TodoStatus status) {
+            return new Column(userId, null, requireStatus(status));
+        }
+
+        static Column project(Long projectId, TodoStatus status) {
+            return new Column(null, projectId, requireStatus(status));
+        }
+
+        private static TodoStatus requireStatus(TodoStatus status) {
+            if (status == null) {
+                throw new IllegalArgumentException("status must not be null");
+            }
+            return status;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.chep.demo.todo.service.todo;
+
+import com.chep.demo.todo.domain.todo.CalendarDayCount;
+import com.chep.demo.todo.domain.todo.CalendarEntry;
+import com.chep.demo.todo.domain.todo.TodoRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+// 내가 만든 Todo + 담당자로 지정된 Todo의 마감일 캘린더
+@Service
+@Transactional(readOnly = true)
+public class TodoCalendarService {
+    public static final int MAX_RANGE_DAYS = 366;
+    // 날짜별 개수는 DB의 AT TIME ZONE으로 묶는다. Postgres는 "+09:00" 같은 오프셋을 POSIX 규칙(부호 반대)으로 해석하므로
+    // tz 데이터베이스의 지역 ID(Asia/Seoul, UTC 등)만 받는다.
+    private static final Set<String> REGION_IDS = Set.copyOf(ZoneId.getAvailableZoneIds());
+
+    private final TodoRepository todoRepository;
+
+    public TodoCalendarService(TodoRepository todoRepository) {
+        this.todoRepository = todoRepository;
+    }
+
+    public CalendarRange range(LocalDate from, LocalDate to, String zone) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("from must be before to");
+        }
+        if (ChronoUnit.DAYS.between(from, to) > MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("range must be at most " + MAX_RANGE_DAYS + " days");
+        }
+        if (!REGION_IDS.contains(zone)) {
+            throw new IllegalArgumentException("Invalid zone: " + zone + " (use a region id such as Asia/Seoul)");
+        }
+        return new CalendarRange(from, to, ZoneId.of(zone));
+    }
+
+    public List<CalendarDayCount> countByDay(Long userId, CalendarRange range) {
+        return todoRepository.countCalendarDays(userId, range.start(), range.end(), range.zone());
+    }
+
+    // (dueDate, id) 순서로 하나씩 넘긴다. 전체를 메모리에 올리지 않는다.
+    public void stream(Long userId, CalendarRange range, Consumer<CalendarEntry> consumer) {
+        todoRepository.streamCalendar(userId, range.start(), range.end(), consumer);
+    }
+}
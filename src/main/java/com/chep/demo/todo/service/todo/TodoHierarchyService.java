@@ -0,0 +1,171 @@
+package com.chep.demo.todo.service.todo;
+
+import com.chep.demo.todo.domain.project.Project;
+import com.chep.demo.todo.domain.project.ProjectRepository;
+import com.chep.demo.todo.domain.todo.BoardRanks;
+import com.chep.demo.todo.domain.todo.Todo;
+import com.chep.demo.todo.domain.todo.TodoClosureRepository;
+import com.chep.demo.todo.domain.todo.TodoRepository;
+import com.chep.demo.todo.domain.todo.TodoStatus;
+import com.chep.demo.todo.domain.todo.TodoTreeNode;
+import com.chep.demo.todo.domain.todo.event.TodoChangedEvent;
+import com.chep.demo.todo.domain.user.UserRepository;
+import com.chep.demo.todo.dto.todo.CreateTodoRequest;
+import com.chep.demo.todo.exception.auth.AuthenticationException;
+import com.chep.demo.todo.exception.project.ProjectNotFoundException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 하위 작업(서브태스크). 계층은 todo_closures에 저장하므로 서브트리 조회, 이동,
+ * 완료/삭제 전파가 트리 깊이와 관계없이 고정된 수의 쿼리로 끝난다.
+ * 하위 작업도 일반 Todo이며 부모와 같은 목록(개인 또는 프로젝트)의 맨 뒤에 추가된다.
+ */
+@Service
+@Transactional
+public class TodoHierarchyService {
+    private final TodoRepository todoRepository;
+    private final TodoClosureRepository todoClosureRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final TodoAccess todoAccess;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public TodoHierarchyService(TodoRepository todoRepository,
+                                TodoClosureRepository todoClosureRepository,
+                                ProjectRepository projectRepository,
+                                UserRepository userRepository,
+                                TodoAccess todoAccess,
+                                ApplicationEventPublisher eventPublisher) {
+        this.todoRepository = todoRepository;
+        this.todoClosureRepository = todoClosureRepository;
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.todoAccess = todoAccess;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public Todo createSubtask(Long userId, Long parentId, CreateTodoRequest request) {
+        Todo parent = todoAccess.requireAccessible(userId, parentId);
+        Project project = parent.getProject();
+        lockList(parent);
+
+        int orderIndex;
+        long boardRank;
+        if (project == null) {
+            orderIndex = todoRepository.countByUserIdAndProjectIsNull(userId).intValue();
+            boardRank = BoardRanks.after(todoRepository.findMaxPersonalBoardRank(userId, TodoStatus.TODO));
+        } else {
+            orderIndex = todoRepository.countByProjectId(project.getId()).intValue();
+            boardRank = BoardRanks.after(todoRepository.findMaxProjectBoardRank(project.getId(), TodoStatus.TODO));
+        }
+
+        Todo subtask = Todo.builder()
+                .user(project == null ? parent.getUser() : userRepository.getReferenceById(userId))
+                .project(project)
+                .title(request.title())
+                .content(request.content())
+                .orderIndex(orderIndex)
+                .dueDate(request.dueDate())
+                .priority(request.priority())
+                .build();
+        subtask.moveOnBoard(TodoStatus.TODO, boardRank);
+        subtask.changeParent(parent);
+
+        Todo saved = todoRepository.saveAndFlush(subtask);
+        todoClosureRepository.insertChild(saved.getId(), parent.getId());
+        eventPublisher.publishEvent(new TodoChangedEvent(
+                saved.getId(), saved.getUser().getId(), project == null ? null : project.getId(), TodoChangedEvent.Type.CREATED));
+        return saved;
+    }
+
+    @Transactional(readOnly = true)
+    public TodoTree getSubtree(Long userId, Long rootId) {
+        Todo root = todoAccess.requireAccessible(userId, rootId);
+        List<TodoTreeNode> descendants = todoClosureRepository.findSubtree(rootId);
+        return new TodoTree(root, descendants);
+    }
+
+    // newParentId가 null이면 최상위 작업으로 만든다.
+    // 하위 작업은 부모와 같은 목록에 있어야 하므로 다른 프로젝트/소유자의 Todo 아래로는 옮길 수 없다.
+    // 목록 단위 잠금을 먼저 잡아 두 이동이 서로 엇갈려 순환을 만드는 것을 막는다.
+    public Todo moveSubtree(Long userId, Long rootId, Long newParentId) {
+        Todo root = todoAccess.requireAccessible(userId, rootId);
+        lockList(root);
+
+        Todo newParent = null;
+        if (newParentId != null) {
+            newParent = todoAccess.requireAccessible(userId, newParentId);
+            if (!root.isInSameListAs(newParent)) {
+                throw new IllegalArgumentException("cannot move a todo under a todo in another list");
+            }
+            if (newParentId.equals(rootId) || todoClosureRepository.existsByIdAncestorIdAndIdDescendantId(rootId, newParentId)) {
+                throw new IllegalArgumentException("cannot move a todo under its own subtree");
+            }
+        }
+
+        root.changeParent(newParent);
+        todoRepository.saveAndFlush(root);
+
+        todoClosureRepository.detachSubtree(rootId);
+        if (newParent != null) {
+            todoClosureRepository.attachSubtree(rootId, newParent.getId());
+        }
+        publishChanged(rootId, userId, root, TodoChangedEvent.Type.MOVED);
+        return root;
+    }
+
+    // 상위 작업이 완료되면 모든 하위 작업도 완료 처리한다. (완료 해제는 전파하지 않는다)
+    // 하위 작업은 상위 작업과 같은 목록에 있으므로 그 목록의 DONE 컬럼 맨 뒤에 순서대로 붙인다.
+    public int completeDescendants(Todo root, Long userId) {
+        todoRepository.flush();
+        List<Long> descendantIds = todoClosureRepository.findIncompleteDescendantIds(root.getId());
+        if (descendantIds.isEmpty()) {
+            return 0;
+        }
+
+        Long lastDoneRank = root.getProject() == null
+                ? todoRepository.findMaxPersonalBoardRank(root.getUser().getId(), TodoStatus.DONE)
+                : todoRepository.findMaxProjectBoardRank(root.getProject().getId(), TodoStatus.DONE);
+        int completed = todoClosureRepository.completeTodos(
+                descendantIds, BoardRanks.after(lastDoneRank), BoardRanks.GAP, Instant.now());
+        for (Long descendantId : descendantIds) {
+            publishChanged(descendantId, userId, root, TodoChangedEvent.Type.COMPLETION_CHANGED);
+        }
+        return completed;
+    }
+
+    // 하위 작업을 함께 soft delete 하고, 빈 orderIndex를 메운다.
+    public int deleteDescendants(Todo root) {
+        todoRepository.flush();
+        int deleted = todoClosureRepository.softDeleteDescendants(root.getId(), Instant.now());
+        if (deleted > 0) {
+            if (root.getProject() == null) {
+                todoRepository.compactPersonalOrder(root.getUser().getId());
+            } else {
+                todoRepository.compactProjectOrder(root.getProject().getId());
+            }
+        }
+        return deleted;
+    }
+
+    private void lockList(Todo todo) {
+        if (todo.getProject() == null) {
+            userRepository.findByIdForUpdate(todo.getUser().getId())
+                    .orElseThrow(() -> new AuthenticationException("User not found"));
+        } else {
+            projectRepository.findByIdAndWorkspaceIdForUpdate(todo.getProject().getId(), todo.getProject().getWorkspace().getId())
+                    .orElseThrow(() -> new ProjectNotFoundException("Project not found"));
+        }
+    }
+
+    // 같은 목록의 Todo이므로 projectId는 기준 Todo(root)에서 가져온다.
+    private void publishChanged(Long todoId, Long userId, Todo root, TodoChangedEvent.Type type) {
+        Long projectId = root.getProject() == null ? null : root.getProject().getId();
+        eventPublisher.publishEvent(new TodoChangedEvent(todoId, userId, projectId, type));
+    }
+}
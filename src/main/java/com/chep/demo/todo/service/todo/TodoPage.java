@@ -0,0 +1,8 @@
+package com.chep.demo.todo.service.todo;
+
+import com.chep.demo.todo.domain.todo.Todo;
+
+import java.util.List;
+
+public record TodoPage(List<Todo> todos, Long nextCursor) {
+}
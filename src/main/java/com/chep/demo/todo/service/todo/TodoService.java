@@ -1,7 +1,11 @@
 package com.chep.demo.todo.service.todo;
 
+import com.chep.demo.todo.domain.todo.BoardRanks;
 import com.chep.demo.todo.domain.todo.Todo;
+import com.chep.demo.todo.domain.todo.TodoPriority;
+import com.chep.demo.todo.domain.todo.TodoStatus;
 import com.chep.demo.todo.domain.todo.TodoRepository;
+import com.chep.demo.todo.domain.todo.event.TodoChangedEvent;
 import com.chep.demo.todo.domain.user.User;
 import com.chep.demo.todo.domain.user.UserRepository;
 import com.chep.demo.todo.dto.todo.CreateTodoRequest;
@@ -11,6 +15,8 @@ import com.chep.demo.todo.dto.todo.UpdateDueDateRequest;
 import com.chep.demo.todo.dto.todo.UpdateTodoRequest;
 import com.chep.demo.todo.exception.auth.AuthenticationException;
 import com.chep.demo.todo.exception.todo.TodoNotFoundException;
+import com.chep.demo.todo.infrastructure.coalesce.Coalesced;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,15 +29,23 @@ import java.util.HashSet;
 public class TodoService {
     private final TodoRepository todoRepository;
     private final UserRepository userRepository;
+    private final TodoHierarchyService todoHierarchyService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public TodoService(TodoRepository todoRepository, UserRepository userRepository) {
+    public TodoService(TodoRepository todoRepository,
+                       UserRepository userRepository,
+                       TodoHierarchyService todoHierarchyService,
+                       ApplicationEventPublisher eventPublisher) {
         this.todoRepository = todoRepository;
         this.userRepository = userRepository;
+        this.todoHierarchyService = todoHierarchyService;
+        this.eventPublisher = eventPublisher;
     }
 
+    @Coalesced
     @Transactional(readOnly = true)
     public List<Todo> getTodos(Long userId) {
-        return todoRepository.findAllByUserIdOrderByOrderIndexAsc(userId);
+        return todoRepository.findAllByUserIdAndProjectIsNullOrderByOrderIndexAsc(userId);
     }
 
     public Todo createTodo(Long userId, CreateTodoRequest request) {
@@ -39,7 +53,7 @@ public class TodoService {
                 .orElseThrow(() -> new AuthenticationException("User not found"));
 
         Integer orderIndex = request.orderIndex();
-        Long totalCounting = todoRepository.countByUserId(userId);
+        Long totalCounting = todoRepository.countByUserIdAndProjectIsNull(userId);
         int totalCount = totalCounting.intValue();
 
         if (orderIndex == null) {
@@ -51,7 +65,7 @@ public class TodoService {
             }
 
             if (orderIndex < totalCount) {
-                List<Todo> affectedTodos = todoRepository.findByUserIdAndOrderIndexBetween(userId, orderIndex, totalCount - 1);
+                List<Todo> affectedTodos = todoRepository.findByUserIdAndProjectIsNullAndOrderIndexBetween(userId, orderIndex, totalCount - 1);
 
                 shiftOrderIndexRange(affectedTodos, + 1);
 
@@ -67,11 +81,21 @@ public class TodoService {
                 .content(request.content())
                 .orderIndex(orderIndex)
                 .dueDate(request.dueDate())
+                .priority(request.priority())
                 .build();
 
         todo.changeAssignees(assignees);
+        todo.moveOnBoard(TodoStatus.TODO,
+                BoardRanks.after(todoRepository.findMaxPersonalBoardRank(userId, TodoStatus.TODO)));
 
-        return todoRepository.save(todo);
+        Todo saved = todoRepository.save(todo);
+        publishChanged(saved, userId, TodoChangedEvent.Type.CREATED);
+        return saved;
+    }
+
+    private void publishChanged(Todo todo, Long userId, TodoChangedEvent.Type type) {
+        Long projectId = todo.getProject() == null ? null : todo.getProject().getId();
+        eventPublisher.publishEvent(new TodoChangedEvent(todo.getId(), userId, projectId, type));
     }
 
     private void shiftOrderIndexRange(List<Todo> affectedTodos, int delta) {
@@ -80,6 +104,7 @@ public class TodoService {
         }
     }
 
+    // 개인 Todo 전용. 프로젝트 Todo의 담당자는 워크스페이스 활성 멤버로 제한된다.
     private Set<User> resolveAssignees(List<Long> assigneeIds) {
         if (assigneeIds == null || assigneeIds.isEmpty()) {
             return new HashSet<>();
@@ -92,24 +117,34 @@ public class TodoService {
         return new HashSet<>(users);
     }
 
+    // 프로젝트 Todo는 ProjectTodoService에서 워크스페이스 멤버 권한으로 수정한다.
     public Todo updateTodo(Long userId, Long todoId, UpdateTodoRequest request) {
-        Todo todo = todoRepository.findByIdAndUserId(todoId, userId)
+        Todo todo = todoRepository.findByIdAndUserIdAndProjectIsNull(todoId, userId)
                 .orElseThrow(() -> new TodoNotFoundException("Todo not found"));
 
         todo.changeTitleAndContent(request.title(), request.content());
 
-        return todoRepository.save(todo);
+        Todo saved = todoRepository.save(todo);
+        publishChanged(saved, userId, TodoChangedEvent.Type.UPDATED);
+        return saved;
     }
 
     public void deleteTodo(Long userId, Long todoId) {
-        Todo todo = todoRepository.findByIdAndUserId(todoId, userId)
+        Todo todo = todoRepository.findByIdAndUserIdAndProjectIsNull(todoId, userId)
                 .orElseThrow(() -> new TodoNotFoundException("Todo not found"));
 
         int deletedOrderIndex = todo.getOrderIndex();
 
         todoRepository.softDelete(todo);
 
-        List<Todo> affectedTodos = todoRepository.findByUserIdAndOrderIndexGreaterThan(userId, deletedOrderIndex);
+        // 하위 작업이 함께 삭제되면 orderIndex는 일괄 재정렬된다.
+        if (todoHierarchyService.deleteDescendants(todo) > 0) {
+            publishChanged(todo, userId, TodoChangedEvent.Type.SUBTREE_DELETED);
+            return;
+        }
+        publishChanged(todo, userId, TodoChangedEvent.Type.DELETED);
+
+        List<Todo> affectedTodos = todoRepository.findByUserIdAndProjectIsNullAndOrderIndexGreaterThan(userId, deletedOrderIndex);
 
         shiftOrderIndexRange(affectedTodos, - 1);
 
@@ -117,15 +152,20 @@ public class TodoService {
     }
 
     public void toggleTodoComplete(Long userId, Long todoId) {
-        Todo todo = todoRepository.findByIdAndUserId(todoId, userId)
+        Todo todo = todoRepository.findByIdAndUserIdAndProjectIsNull(todoId, userId)
                 .orElseThrow(() -> new TodoNotFoundException("Todo not found"));
-        todo.toggleComplete();
+        TodoStatus status = todo.toggledStatus();
+        todo.toggleComplete(BoardRanks.after(todoRepository.findMaxPersonalBoardRank(userId, status)));
 
         todoRepository.save(todo);
+        publishChanged(todo, userId, TodoChangedEvent.Type.COMPLETION_CHANGED);
+        if (todo.isCompleted()) {
+            todoHierarchyService.completeDescendants(todo, userId);
+        }
     }
 
     public void move(Long userId, Long todoId, MoveTodoRequest request) {
-        Todo target = todoRepository.findByIdAndUserId(todoId, userId)
+        Todo target = todoRepository.findByIdAndUserIdAndProjectIsNull(todoId, userId)
                 .orElseThrow(() -> new TodoNotFoundException("Todo not found"));
 
         Integer targetOrderIndex = request.targetOrderIndex();
@@ -135,7 +175,7 @@ public class TodoService {
             return;
         }
 
-        int maxIndex = todoRepository.countByUserId(userId).intValue() - 1;
+        int maxIndex = todoRepository.countByUserIdAndProjectIsNull(userId).intValue() - 1;
         if (targetOrderIndex > maxIndex) {
             throw new IllegalArgumentException("targetIndex exceeds maximum");
         }
@@ -151,28 +191,44 @@ public class TodoService {
             end = targetOrderIndex;
         }
 
-        List<Todo> affectedTodos = todoRepository.findByUserIdAndOrderIndexBetween(userId, start, end);
+        List<Todo> affectedTodos = todoRepository.findByUserIdAndProjectIsNullAndOrderIndexBetween(userId, start, end);
 
         List<Todo> changedTodos = Todo.reorder(target, targetOrderIndex, affectedTodos);
 
         if (!changedTodos.isEmpty()) {
             todoRepository.saveAll(changedTodos);
         }
+        publishChanged(target, userId, TodoChangedEvent.Type.MOVED);
     }
 
+    // 프로젝트 Todo의 담당자, 마감일, 우선순위는 ProjectTodoService에서 멤버십을 확인한 뒤 바꾼다.
     public Todo updateAssignees(Long userId, Long todoId, UpdateAssigneesRequest request) {
-        Todo todo = todoRepository.findByIdAndUserId(todoId, userId)
+        Todo todo = todoRepository.findByIdAndUserIdAndProjectIsNull(todoId, userId)
                 .orElseThrow(() -> new TodoNotFoundException("Todo not found"));
 
         todo.changeAssignees(resolveAssignees(request.assigneeIds()));
-        return  todoRepository.save(todo);
+        Todo saved = todoRepository.save(todo);
+        publishChanged(saved, userId, TodoChangedEvent.Type.ASSIGNEES_CHANGED);
+        return saved;
     }
 
     public Todo updateDueDate(Long userId, Long todoId, UpdateDueDateRequest request) {
-        Todo todo = todoRepository.findByIdAndUserId(todoId, userId)
+        Todo todo = todoRepository.findByIdAndUserIdAndProjectIsNull(todoId, userId)
                 .orElseThrow(() -> new TodoNotFoundException("Todo not found"));
 
         todo.changeDueDate((request.dueDate()));
-        return todoRepository.save(todo);
+        Todo saved = todoRepository.save(todo);
+        publishChanged(saved, userId, TodoChangedEvent.Type.DUE_DATE_CHANGED);
+        return saved;
+    }
+
+    public Todo updatePriority(Long userId, Long todoId, TodoPriority priority) {
+        Todo todo = todoRepository.findByIdAndUserIdAndProjectIsNull(todoId, userId)
+                .orElseThrow(() -> new TodoNotFoundException("Todo not found"));
+
+        todo.changePriority(priority);
+        Todo saved = todoRepository.save(todo);
+        publishChanged(saved, userId, TodoChangedEvent.Type.PRIORITY_CHANGED);
+        return saved;
     }
 }
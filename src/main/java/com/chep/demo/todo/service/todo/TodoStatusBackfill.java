@@ -0,0 +1,34 @@
+package com.chep.demo.todo.service.todo;
+
+import com.chep.demo.todo.domain.todo.BoardRanks;
+import com.chep.demo.todo.domain.todo.TodoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * completed = true 인데 status가 DONE이 아닌 기존 행을 보드의 DONE 컬럼으로 옮긴다.
+ * 한 번 맞춰진 뒤에는 대상 행이 없으므로 매 기동 시 실행해도 아무것도 바꾸지 않는다.
+ */
+@Component
+public class TodoStatusBackfill {
+    private static final Logger log = LoggerFactory.getLogger(TodoStatusBackfill.class);
+
+    private final TodoRepository todoRepository;
+
+    public TodoStatusBackfill(TodoRepository todoRepository) {
+        this.todoRepository = todoRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillDoneStatus() {
+        int updated = todoRepository.backfillDoneStatus(BoardRanks.GAP);
+        if (updated > 0) {
+            log.info("Backfilled DONE status for {} completed todos", updated);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.chep.demo.todo.service.todo;
+
+import com.chep.demo.todo.domain.todo.Todo;
+import com.chep.demo.todo.domain.todo.TodoTreeNode;
+
+import java.util.List;
+
+// descendants는 depth, orderIndex 순으로 정렬되어 있다.
+public record TodoTree(Todo root, List<TodoTreeNode> descendants) {
+}
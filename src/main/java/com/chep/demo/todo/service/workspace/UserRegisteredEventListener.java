@@ -3,27 +3,41 @@ package com.chep.demo.todo.service.workspace;
 import com.chep.demo.todo.domain.project.Project;
 import com.chep.demo.todo.domain.project.ProjectRepository;
 import com.chep.demo.todo.domain.user.User;
+import com.chep.demo.todo.domain.user.UserRepository;
 import com.chep.demo.todo.domain.user.event.UserRegisteredEvent;
 import com.chep.demo.todo.domain.workspace.Workspace;
 import com.chep.demo.todo.domain.workspace.WorkspaceRepository;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.event.TransactionPhase;
-import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.annotation.Transactional;
 
 @Component
 public class UserRegisteredEventListener {
     private final WorkspaceRepository workspaceRepository;
     private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
 
     public UserRegisteredEventListener(WorkspaceRepository workspaceRepository,
-                                       ProjectRepository projectRepository) {
+                                       ProjectRepository projectRepository,
+                                       UserRepository userRepository) {
         this.workspaceRepository = workspaceRepository;
         this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
     }
 
-    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    // OutboxRelay가 회원가입 커밋 이후 별도 트랜잭션에서 호출한다.
+    // 같은 이벤트가 다시 전달되어도 Personal Workspace는 하나만 생성된다.
+    // 동시에 두 번 전달되어 확인을 함께 통과하면 uq_workspaces_personal_owner 위반으로 한쪽이 롤백되고,
+    // 재시도 때 이미 있는 것을 확인하고 끝난다.
+    @EventListener
+    @Transactional
     public void handleUserRegistered(UserRegisteredEvent event) {
-        User owner = event.user();
+        Long ownerId = event.userId();
+        if (workspaceRepository.existsByOwnerIdAndPersonalTrue(ownerId)) {
+            return;
+        }
+
+        User owner = userRepository.getReferenceById(ownerId);
         Workspace workspace = Workspace.personal(owner);
         Workspace savedWorkspace = workspaceRepository.save(workspace);
         projectRepository.save(Project.defaultProject(savedWorkspace, owner));
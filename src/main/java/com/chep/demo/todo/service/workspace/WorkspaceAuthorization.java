@@ -0,0 +1,64 @@
+package com.chep.demo.todo.service.workspace;
+
+import com.chep.demo.todo.domain.workspace.WorkspaceMember;
+import com.chep.demo.todo.domain.workspace.WorkspaceMemberRepository;
+import com.chep.demo.todo.domain.workspace.WorkspaceMembership;
+import com.chep.demo.todo.domain.workspace.WorkspaceRepository;
+import com.chep.demo.todo.exception.workspace.WorkspaceAccessDeniedException;
+import com.chep.demo.todo.exception.workspace.WorkspaceMemberNotFoundException;
+import com.chep.demo.todo.exception.workspace.WorkspaceNotFoundException;
+import com.chep.demo.todo.infrastructure.datasource.PrimaryReads;
+import com.chep.demo.todo.service.workspace.cache.WorkspaceMembershipCache;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Workspace/Project API의 권한 확인을 (workspace_id, user_id, status) 인덱스 조회 한 번으로 처리한다.
+ * 활성 멤버십은 {@link WorkspaceMembershipCache}에 보관하므로 자주 쓰는 workspace는 메모리에서 확인된다.
+ * 캐시 적재는 {@link PrimaryReads}로 primary에서 읽는다. replica에서 읽으면 제거된 멤버가 TTL 동안 다시 캐시될 수 있다.
+ * 멤버 전체가 필요한 멤버 관리 기능만 {@code findByIdWithMembers}를 사용한다.
+ */
+@Component
+public class WorkspaceAuthorization {
+    private final WorkspaceMemberRepository workspaceMemberRepository;
+    private final WorkspaceRepository workspaceRepository;
+    private final WorkspaceMembershipCache membershipCache;
+    private final PrimaryReads primaryReads;
+
+    public WorkspaceAuthorization(WorkspaceMemberRepository workspaceMemberRepository,
+                                  WorkspaceRepository workspaceRepository,
+                                  WorkspaceMembershipCache membershipCache,
+                                  PrimaryReads primaryReads) {
+        this.workspaceMemberRepository = workspaceMemberRepository;
+        this.workspaceRepository = workspaceRepository;
+        this.membershipCache = membershipCache;
+        this.primaryReads = primaryReads;
+    }
+
+    public Optional<WorkspaceMembership> findActiveMember(Long workspaceId, Long userId) {
+        return membershipCache.get(workspaceId, userId, () -> primaryReads.read(() ->
+                workspaceMemberRepository.findMembership(workspaceId, userId, WorkspaceMember.Status.ACTIVE)));
+    }
+
+    public WorkspaceMembership requireActiveMember(Long workspaceId, Long userId) {
+        return findActiveMember(workspaceId, userId)
+                .orElseThrow(() -> notActiveMember(workspaceId));
+    }
+
+    public WorkspaceMembership requireOwner(Long workspaceId, Long userId) {
+        WorkspaceMembership membership = requireActiveMember(workspaceId, userId);
+        if (!membership.isOwner()) {
+            throw new WorkspaceAccessDeniedException("only owner can perform this action");
+        }
+        return membership;
+    }
+
+    // 실패한 경우에만 workspace 존재 여부를 확인해 404 종류를 구분한다.
+    private RuntimeException notActiveMember(Long workspaceId) {
+        if (!workspaceRepository.existsById(workspaceId)) {
+            return new WorkspaceNotFoundException("Workspace not found.");
+        }
+        return new WorkspaceMemberNotFoundException("Workspace member not found.");
+    }
+}
@@ -0,0 +1,9 @@
+package com.chep.demo.todo.service.workspace;
+
+import com.chep.demo.todo.domain.workspace.WorkspaceMemberView;
+
+import java.util.List;
+
+// nextCursor는 검색어가 없으면 마지막 멤버 id, 있으면 검색 단계와 정렬 키를 담은 문자열이다.
+public record WorkspaceMemberPage(List<WorkspaceMemberView> members, String nextCursor) {
+}
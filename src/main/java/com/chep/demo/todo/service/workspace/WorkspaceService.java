@@ -2,36 +2,65 @@ package com.chep.demo.todo.service.workspace;
 
 import com.chep.demo.todo.domain.user.User;
 import com.chep.demo.todo.domain.user.UserRepository;
+import com.chep.demo.todo.domain.workspace.BulkMemberPlan;
 import com.chep.demo.todo.domain.workspace.Workspace;
 import com.chep.demo.todo.domain.workspace.WorkspaceMember;
+import com.chep.demo.todo.domain.workspace.WorkspaceMemberMatch;
+import com.chep.demo.todo.domain.workspace.WorkspaceMemberRepository;
+import com.chep.demo.todo.domain.workspace.WorkspaceMemberView;
+import com.chep.demo.todo.domain.workspace.WorkspaceMembership;
 import com.chep.demo.todo.domain.workspace.WorkspaceRepository;
+import com.chep.demo.todo.domain.workspace.WorkspaceSummary;
+import com.chep.demo.todo.domain.workspace.event.WorkspaceMembershipChangedEvent;
 import com.chep.demo.todo.exception.workspace.WorkspaceAccessDeniedException;
 import com.chep.demo.todo.exception.workspace.WorkspaceMemberNotFoundException;
 import com.chep.demo.todo.exception.workspace.WorkspaceMemberOperationException;
 import com.chep.demo.todo.exception.workspace.WorkspaceNotFoundException;
 import com.chep.demo.todo.exception.workspace.WorkspaceOwnerNotFoundException;
+import com.chep.demo.todo.exception.workspace.WorkspacePolicyViolationException;
+import com.chep.demo.todo.infrastructure.coalesce.Coalesced;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class WorkspaceService {
+    private static final int MAX_MEMBER_PAGE_SIZE = 200;
+
     private final WorkspaceRepository workspaceRepository;
+    private final WorkspaceMemberRepository workspaceMemberRepository;
     private final UserRepository userRepository;
+    private final WorkspaceAuthorization workspaceAuthorization;
+    private final ApplicationEventPublisher eventPublisher;
 
     public WorkspaceService(
             WorkspaceRepository workspaceRepository,
-            UserRepository userRepository
+            WorkspaceMemberRepository workspaceMemberRepository,
+            UserRepository userRepository,
+            WorkspaceAuthorization workspaceAuthorization,
+            ApplicationEventPublisher eventPublisher
     ) {
         this.workspaceRepository = workspaceRepository;
+        this.workspaceMemberRepository = workspaceMemberRepository;
         this.userRepository = userRepository;
+        this.workspaceAuthorization = workspaceAuthorization;
+        this.eventPublisher = eventPublisher;
     }
 
+    @Coalesced
     @Transactional(readOnly = true)
-    public List<Workspace> getMyWorkspaces(Long userId) {
-        return workspaceRepository.findAllByMemberUserIdAndStatus(userId, WorkspaceMember.Status.ACTIVE);
+    public List<WorkspaceSummary> getMyWorkspaces(Long userId) {
+        return workspaceRepository.findSummariesByMemberUserIdAndStatus(userId, WorkspaceMember.Status.ACTIVE);
     }
 
     public Workspace createWorkspace(Long ownerId, String name, String description) {
@@ -43,21 +72,68 @@ public class WorkspaceService {
     }
 
     @Transactional(readOnly = true)
-    public List<WorkspaceMember> getMembers(Long workspaceId, Long userId) {
-        Workspace workspace = getWorkspaceWithMembers(workspaceId);
-        workspace.requireActiveMember(userId);
-        return workspace.getActiveMembers();
+    public WorkspaceMemberPage getMembers(Long workspaceId, Long userId, String cursor, int size, String query) {
+        workspaceAuthorization.requireActiveMember(workspaceId, userId);
+        if (size < 1 || size > MAX_MEMBER_PAGE_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_MEMBER_PAGE_SIZE);
+        }
+
+        String prefix = toPrefixPattern(query);
+        if (prefix != null) {
+            return searchMembers(workspaceId, SearchCursor.parse(cursor), size, prefix);
+        }
+
+        // 다음 페이지 존재 여부를 알기 위해 한 건 더 읽는다.
+        List<WorkspaceMemberView> rows = workspaceMemberRepository.findPage(
+                workspaceId,
+                WorkspaceMember.Status.ACTIVE,
+                parseMemberCursor(cursor),
+                Limit.of(size + 1)
+        );
+        if (rows.size() <= size) {
+            return new WorkspaceMemberPage(rows, null);
+        }
+        List<WorkspaceMemberView> page = rows.subList(0, size);
+        return new WorkspaceMemberPage(page, String.valueOf(page.get(size - 1).memberId()));
+    }
+
+    // 이름이 일치하는 멤버를 모두 돌려준 뒤 이메일만 일치하는 멤버로 넘어간다. 각 단계는 검색한 컬럼 순서의 keyset 조회이다.
+    private WorkspaceMemberPage searchMembers(Long workspaceId, SearchCursor after, int size, String prefix) {
+        List<WorkspaceMemberMatch> rows = new ArrayList<>();
+        if (!after.byEmail()) {
+            rows.addAll(workspaceMemberRepository.searchActiveByNamePrefix(
+                    workspaceId, prefix, after.key(), after.userId(), size + 1));
+        }
+        int byName = rows.size();
+        if (byName <= size) {
+            rows.addAll(workspaceMemberRepository.searchActiveByEmailPrefix(
+                    workspaceId,
+                    prefix,
+                    after.byEmail() ? after.key() : "",
+                    after.byEmail() ? after.userId() : 0L,
+                    size + 1 - byName
+            ));
+        }
+
+        List<WorkspaceMemberView> members = rows.stream()
+                .limit(size)
+                .map(WorkspaceMemberMatch::member)
+                .toList();
+        if (rows.size() <= size) {
+            return new WorkspaceMemberPage(members, null);
+        }
+        WorkspaceMemberMatch last = rows.get(size - 1);
+        return new WorkspaceMemberPage(members, new SearchCursor(size > byName, last.sortKey(), last.member().userId()).format());
     }
 
     @Transactional(readOnly = true)
-    public WorkspaceMember getMyMembership(Long workspaceId, Long userId) {
-        Workspace workspace = getWorkspaceWithMembers(workspaceId);
-        return workspace.requireActiveMember(userId);
+    public WorkspaceMembership getMyMembership(Long workspaceId, Long userId) {
+        return workspaceAuthorization.requireActiveMember(workspaceId, userId);
     }
 
     public WorkspaceMember addMember(Long workspaceId, Long requesterId, Long targetUserId) {
+        workspaceAuthorization.requireOwner(workspaceId, requesterId);
         Workspace workspace = getWorkspaceWithMembers(workspaceId);
-        workspace.requireOwnerMember(requesterId);
 
         if (workspace.hasActiveMember(targetUserId)) {
             throw new WorkspaceMemberOperationException("User is already a workspace member.");
@@ -68,53 +144,153 @@ public class WorkspaceService {
 
         WorkspaceMember added = workspace.addMember(targetUser);
         workspaceRepository.save(workspace);
+        eventPublisher.publishEvent(WorkspaceMembershipChangedEvent.member(workspaceId, targetUserId));
         return added;
     }
 
+    // 사용자 검증, 기존 행 조회, 일괄 insert, 일괄 복구 update로 끝난다. (멤버 수와 무관하게 쿼리 수 일정)
+    public BulkMemberPlan addMembers(Long workspaceId, Long requesterId, List<Long> userIds) {
+        workspaceAuthorization.requireOwner(workspaceId, requesterId);
+        Workspace workspace = findWorkspace(workspaceId);
+        Set<Long> requested = new LinkedHashSet<>(userIds);
+
+        Set<Long> found = userRepository.findAllById(requested).stream()
+                .map(User::getId)
+                .collect(Collectors.toSet());
+        List<Long> missing = requested.stream()
+                .filter(id -> !found.contains(id))
+                .limit(10)
+                .toList();
+        if (!missing.isEmpty()) {
+            throw new WorkspaceMemberOperationException("User not found: " + missing);
+        }
+
+        BulkMemberPlan plan = workspace.planAddMembers(
+                requested,
+                workspaceMemberRepository.findAllByWorkspaceIdAndUserIdIn(workspaceId, requested)
+        );
+
+        Instant now = Instant.now();
+        if (!plan.insertUserIds().isEmpty()) {
+            workspaceMemberRepository.insertMembers(workspaceId, plan.insertUserIds(), now);
+        }
+        if (!plan.restoreUserIds().isEmpty()) {
+            workspaceMemberRepository.restoreMembers(workspaceId, plan.restoreUserIds(), now);
+        }
+        eventPublisher.publishEvent(WorkspaceMembershipChangedEvent.workspace(workspaceId));
+        return plan;
+    }
+
+    public int kickMembers(Long workspaceId, Long requesterId, List<Long> userIds) {
+        workspaceAuthorization.requireOwner(workspaceId, requesterId);
+        Workspace workspace = findWorkspace(workspaceId);
+        Set<Long> requested = new LinkedHashSet<>(userIds);
+
+        if (requested.contains(workspace.getOwner().getId())) {
+            throw new WorkspacePolicyViolationException("workspace owner cannot be removed");
+        }
+
+        int kicked = workspaceMemberRepository.kickActiveMembers(workspaceId, requested, Instant.now());
+        eventPublisher.publishEvent(WorkspaceMembershipChangedEvent.workspace(workspaceId));
+        return kicked;
+    }
+
     public void removeMember(Long workspaceId, Long requesterId, Long workspaceMemberId) {
-        Workspace workspace = getWorkspaceWithMembers(workspaceId);
-        workspace.requireOwnerMember(requesterId);
+        workspaceAuthorization.requireOwner(workspaceId, requesterId);
 
         if (workspaceMemberId == null) {
             throw new WorkspaceMemberNotFoundException("Workspace member not found.");
         }
 
-        workspace.kickMember(workspaceMemberId);
+        Workspace workspace = getWorkspaceWithMembers(workspaceId);
+        WorkspaceMember kicked = workspace.kickMember(workspaceMemberId);
         workspaceRepository.save(workspace);
+        eventPublisher.publishEvent(WorkspaceMembershipChangedEvent.member(workspaceId, kicked.getUser().getId()));
     }
 
     public void leave(Long workspaceId, Long userId) {
         Workspace workspace = getWorkspaceWithMembers(workspaceId);
         workspace.leave(userId);
         workspaceRepository.save(workspace);
+        eventPublisher.publishEvent(WorkspaceMembershipChangedEvent.member(workspaceId, userId));
     }
 
     public Workspace updateWorkspace(Long workspaceId, Long userId, String name, String description) {
-        Workspace workspace = getWorkspaceWithMembers(workspaceId);
-        workspace.requireOwnerMember(userId);
+        workspaceAuthorization.requireOwner(workspaceId, userId);
+        Workspace workspace = findWorkspace(workspaceId);
         workspace.changeNameAndDescription(name, description);
         return workspaceRepository.save(workspace);
     }
 
     @Transactional(readOnly = true)
     public Workspace getWorkspace(Long workspaceId, Long userId) {
-        Workspace workspace = getWorkspaceWithMembers(workspaceId);
+        Workspace workspace = findWorkspace(workspaceId);
 
-        if (!workspace.hasActiveMember(userId)) {
+        if (workspaceAuthorization.findActiveMember(workspaceId, userId).isEmpty()) {
             throw new WorkspaceAccessDeniedException("Only workspace members can access this resource.");
         }
         return workspace;
     }
 
     public void deleteWorkspace(Long workspaceId, Long userId) {
+        workspaceAuthorization.requireOwner(workspaceId, userId);
         Workspace workspace = getWorkspaceWithMembers(workspaceId);
-        workspace.requireOwnerMember(userId);
         workspace.markDeleted();
         workspaceRepository.save(workspace);
+        eventPublisher.publishEvent(WorkspaceMembershipChangedEvent.workspace(workspaceId));
+    }
+
+    private static long parseMemberCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("invalid cursor");
+        }
+    }
+
+    private static String toPrefixPattern(String query) {
+        if (query == null || query.isBlank()) {
+            return null;
+        }
+        String escaped = query.strip().toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return escaped + "%";
+    }
+
+    private Workspace findWorkspace(Long workspaceId) {
+        return workspaceRepository.findById(workspaceId)
+                .orElseThrow(() -> new WorkspaceNotFoundException("Workspace not found"));
     }
 
     private Workspace getWorkspaceWithMembers(Long workspaceId) {
         return workspaceRepository.findByIdWithMembers(workspaceId)
                 .orElseThrow(() -> new WorkspaceNotFoundException("Workspace not found"));
     }
+
+    // 검색 커서: "n:{userId}:{lower(name)}" 또는 "e:{userId}:{lower(email)}". 정렬 키에 ':'가 있어도 되도록 마지막에 둔다.
+    private record SearchCursor(boolean byEmail, String key, Long userId) {
+        static SearchCursor parse(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return new SearchCursor(false, "", 0L);
+            }
+            String[] parts = cursor.split(":", 3);
+            if (parts.length != 3 || !(parts[0].equals("n") || parts[0].equals("e"))) {
+                throw new IllegalArgumentException("invalid cursor");
+            }
+            try {
+                return new SearchCursor(parts[0].equals("e"), parts[2], Long.parseLong(parts[1]));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("invalid cursor");
+            }
+        }
+
+        String format() {
+            return (byEmail ? "e" : "n") + ":" + userId + ":" + key;
+        }
+    }
 }
@@ -0,0 +1,135 @@
+package com.chep.demo.todo.service.workspace.cache;
+
+import com.chep.demo.todo.domain.workspace.event.WorkspaceMembershipChangedEvent;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.regex.Pattern;
+
+/**
+ * 여러 인스턴스가 떠 있을 때 멤버십 캐시 무효화를 Postgres LISTEN/NOTIFY로 전파한다.
+ * NOTIFY는 변경 트랜잭션 안에서 보내므로 커밋된 경우에만 다른 인스턴스에 전달된다.
+ * LISTEN 용도로 커넥션 하나를 계속 점유한다.
+ */
+@Component
+@ConditionalOnProperty(prefix = "workspace.membership-cache.notify", name = "enabled", havingValue = "true")
+public class MembershipInvalidationChannel implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(MembershipInvalidationChannel.class);
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final String WHOLE_WORKSPACE = "*";
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final WorkspaceMembershipCache cache;
+    private final WorkspaceMembershipCacheProperties.Notify properties;
+
+    private volatile boolean running;
+    private Thread listener;
+
+    public MembershipInvalidationChannel(DataSource dataSource,
+                                         JdbcTemplate jdbcTemplate,
+                                         WorkspaceMembershipCache cache,
+                                         WorkspaceMembershipCacheProperties properties) {
+        if (!CHANNEL_NAME.matcher(properties.notify().channel()).matches()) {
+            throw new IllegalArgumentException("invalid notify channel name: " + properties.notify().channel());
+        }
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.cache = cache;
+        this.properties = properties.notify();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void publish(WorkspaceMembershipChangedEvent event) {
+        String payload = event.workspaceId() + ":" + (event.isWholeWorkspace() ? WHOLE_WORKSPACE : event.userId());
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> null, properties.channel(), payload);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        listener = Thread.ofPlatform()
+                .name("membership-invalidation-listener")
+                .daemon()
+                .start(this::listen);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void listen() {
+        int timeoutMillis = (int) properties.pollTimeout().toMillis();
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + properties.channel());
+                }
+                // 연결이 끊겨 있던 동안의 알림은 알 수 없으므로 전부 비우고 시작한다.
+                cache.invalidateAll();
+
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(timeoutMillis);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        apply(notification.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                log.warn("Membership invalidation listener disconnected, retrying in {}", properties.reconnectDelay(), e);
+                sleepBeforeReconnect();
+            }
+        }
+    }
+
+    private void apply(String payload) {
+        int separator = payload.indexOf(':');
+        if (separator < 0) {
+            log.warn("Ignoring malformed membership invalidation payload: {}", payload);
+            return;
+        }
+        try {
+            Long workspaceId = Long.valueOf(payload.substring(0, separator));
+            String user = payload.substring(separator + 1);
+            cache.invalidate(workspaceId, WHOLE_WORKSPACE.equals(user) ? null : Long.valueOf(user));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed membership invalidation payload: {}", payload);
+        }
+    }
+
+    private void sleepBeforeReconnect() {
+        try {
+            Thread.sleep(properties.reconnectDelay());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
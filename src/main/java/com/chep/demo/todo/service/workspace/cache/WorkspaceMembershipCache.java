@@ -0,0 +1,78 @@
+package com.chep.demo.todo.service.workspace.cache;
+
+import com.chep.demo.todo.domain.workspace.WorkspaceMembership;
+import com.chep.demo.todo.domain.workspace.event.WorkspaceMembershipChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * (workspaceId, userId) -> 활성 멤버십 캐시. 활성 멤버만 저장하고, 실패한 조회는 항상 DB로 확인한다.
+ * 멤버십 변경은 {@link WorkspaceMembershipChangedEvent}로 트랜잭션 종료 후 무효화한다.
+ */
+@Component
+public class WorkspaceMembershipCache {
+    private final boolean enabled;
+    private final Cache<Key, WorkspaceMembership> cache;
+    // 조회 도중 무효화가 일어났는지 확인하기 위한 카운터. 이전 상태를 다시 저장하지 않도록 한다.
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public WorkspaceMembershipCache(WorkspaceMembershipCacheProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.enabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "workspace.membership");
+    }
+
+    public Optional<WorkspaceMembership> get(Long workspaceId, Long userId,
+                                             Supplier<Optional<WorkspaceMembership>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        Key key = new Key(workspaceId, userId);
+        WorkspaceMembership cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long stamp = invalidations.get();
+        Optional<WorkspaceMembership> loaded = loader.get();
+        loaded.ifPresent(membership -> cache.asMap().compute(key,
+                (k, current) -> stamp == invalidations.get() ? membership : current));
+        return loaded;
+    }
+
+    // 커밋/롤백 모두에서 무효화한다. 같은 트랜잭션 안에서 읽은 미확정 상태가 남지 않도록 하기 위함이다.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+    public void onMembershipChanged(WorkspaceMembershipChangedEvent event) {
+        invalidate(event.workspaceId(), event.userId());
+    }
+
+    public void invalidate(Long workspaceId, Long userId) {
+        invalidations.incrementAndGet();
+        if (userId == null) {
+            cache.asMap().keySet().removeIf(key -> key.workspaceId().equals(workspaceId));
+        } else {
+            cache.asMap().remove(new Key(workspaceId, userId));
+        }
+    }
+
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    private record Key(Long workspaceId, Long userId) {}
+}
@@ -0,0 +1,21 @@
+package com.chep.demo.todo.service.workspace.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "workspace.membership-cache")
+public record WorkspaceMembershipCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100000") long maximumSize,
+        @DefaultValue("5m") Duration ttl,
+        @DefaultValue Notify notify
+) {
+    public record Notify(
+            @DefaultValue("false") boolean enabled,
+            @DefaultValue("workspace_membership_changed") String channel,
+            @DefaultValue("5s") Duration pollTimeout,
+            @DefaultValue("5s") Duration reconnectDelay
+    ) {}
+}
@@ -0,0 +1,157 @@
+package com.chep.demo.todo.controller.board;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 보드 소켓 부하 확인용 도구. JUnit 테스트가 아니며 실행 중인 서버에 직접 붙는다.
+ *
+ * 사용법: BoardSocketLoadHarness <ws-base-url> <access-token> <workspaceId> <projectId> [connections] [seconds]
+ * 예: ws://localhost:8080 eyJ... 1 1 5000 60
+ *
+ * 연결하는 동안 다른 클라이언트(또는 REST 호출)로 보드를 변경하면 BATCH 수신 지연을 측정한다.
+ * 연결 수가 많으면 ulimit -n 과 로컬 포트 범위를 먼저 늘린다.
+ */
+public class BoardSocketLoadHarness {
+    private static final Pattern AT = Pattern.compile("\"at\"\\s*:\\s*\"([^\"]+)\"");
+    private static final int MAX_CONCURRENT_HANDSHAKES = 200;
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 4) {
+            System.err.println("usage: <ws-base-url> <access-token> <workspaceId> <projectId> [connections] [seconds]");
+            System.exit(1);
+        }
+        URI uri = URI.create(args[0] + "/ws/workspaces/" + args[2] + "/projects/" + args[3]
+                + "/board?access_token=" + args[1]);
+        int connections = args.length > 4 ? Integer.parseInt(args[4]) : 1000;
+        Duration duration = Duration.ofSeconds(args.length > 5 ? Long.parseLong(args[5]) : 60);
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        Stats stats = new Stats();
+        List<WebSocket> sockets = Collections.synchronizedList(new ArrayList<>());
+        Semaphore handshakes = new Semaphore(MAX_CONCURRENT_HANDSHAKES);
+        CountDownLatch connected = new CountDownLatch(connections);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < connections; i++) {
+                executor.execute(() -> {
+                    long start = System.nanoTime();
+                    try {
+                        handshakes.acquire();
+                        WebSocket socket = client.newWebSocketBuilder()
+                                .buildAsync(uri, new Listener(stats))
+                                .get(30, TimeUnit.SECONDS);
+                        stats.connectNanos.add(System.nanoTime() - start);
+                        sockets.add(socket);
+                    } catch (Exception e) {
+                        stats.failed.incrementAndGet();
+                    } finally {
+                        handshakes.release();
+                        connected.countDown();
+                    }
+                });
+            }
+        }
+        connected.await();
+        System.out.printf("connected=%d failed=%d connect p50=%dms p99=%dms max=%dms%n",
+                sockets.size(), stats.failed.get(),
+                percentileMillis(stats.connectNanos, 50),
+                percentileMillis(stats.connectNanos, 99),
+                percentileMillis(stats.connectNanos, 100));
+
+        long end = System.nanoTime() + duration.toNanos();
+        while (System.nanoTime() < end) {
+            Thread.sleep(5000);
+            System.out.printf("open=%d messages=%d resync=%d closed=%d delivery p50=%dms p99=%dms%n",
+                    sockets.size() - stats.closed.get(), stats.messages.get(), stats.resyncs.get(),
+                    stats.closed.get(),
+                    percentileMillis(stats.deliveryNanos, 50),
+                    percentileMillis(stats.deliveryNanos, 99));
+        }
+
+        for (WebSocket socket : sockets) {
+            socket.sendClose(WebSocket.NORMAL_CLOSURE, "done");
+        }
+    }
+
+    private static long percentileMillis(ConcurrentLinkedQueue<Long> values, int percentile) {
+        List<Long> sorted = new ArrayList<>(values);
+        if (sorted.isEmpty()) {
+            return 0;
+        }
+        Collections.sort(sorted);
+        int index = Math.min(sorted.size() - 1, (int) Math.ceil(sorted.size() * percentile / 100.0) - 1);
+        return TimeUnit.NANOSECONDS.toMillis(sorted.get(Math.max(0, index)));
+    }
+
+    private static final class Stats {
+        final ConcurrentLinkedQueue<Long> connectNanos = new ConcurrentLinkedQueue<>();
+        final ConcurrentLinkedQueue<Long> deliveryNanos = new ConcurrentLinkedQueue<>();
+        final AtomicLong messages = new AtomicLong();
+        final AtomicLong resyncs = new AtomicLong();
+        final AtomicInteger failed = new AtomicInteger();
+        final AtomicInteger closed = new AtomicInteger();
+    }
+
+    private static final class Listener implements WebSocket.Listener {
+        private final Stats stats;
+        private final StringBuilder buffer = new StringBuilder();
+
+        Listener(Stats stats) {
+            this.stats = stats;
+        }
+
+        @Override
+        public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+            buffer.append(data);
+            if (last) {
+                String message = buffer.toString();
+                buffer.setLength(0);
+                stats.messages.incrementAndGet();
+                if (message.contains("\"RESYNC\"")) {
+                    stats.resyncs.incrementAndGet();
+                }
+                // 서버 시계 기준이므로 같은 호스트에서 실행할 때만 의미가 있다.
+                Matcher matcher = AT.matcher(message);
+                if (matcher.find()) {
+                    Duration delay = Duration.between(Instant.parse(matcher.group(1)), Instant.now());
+                    stats.deliveryNanos.add(Math.max(0, delay.toNanos()));
+                }
+            }
+            webSocket.request(1);
+            return null;
+        }
+
+        @Override
+        public CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
+            stats.closed.incrementAndGet();
+            return CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public void onError(WebSocket webSocket, Throwable error) {
+            stats.closed.incrementAndGet();
+        }
+    }
+}
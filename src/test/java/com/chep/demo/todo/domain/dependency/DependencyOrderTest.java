@@ -0,0 +1,116 @@
+package com.chep.demo.todo.domain.dependency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.LongPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DependencyOrderTest {
+
+    @Test
+    void backward_region_moves_before_forward_region_using_same_ranks() {
+        // 간선 5 → 2 추가: forward {2: 20, 3: 30}, backward {5: 50, 4: 40}
+        Map<Long, Long> changed = DependencyOrder.reorder(
+                Map.of(5L, 50L, 4L, 40L),
+                Map.of(2L, 20L, 3L, 30L));
+
+        assertThat(changed).containsExactlyInAnyOrderEntriesOf(Map.of(
+                4L, 20L,
+                5L, 30L,
+                2L, 40L,
+                3L, 50L));
+    }
+
+    @Test
+    void unchanged_ranks_are_not_returned() {
+        Map<Long, Long> changed = DependencyOrder.reorder(
+                Map.of(1L, 10L),
+                Map.of(2L, 20L));
+
+        assertThat(changed).isEmpty();
+    }
+
+    @Test
+    void random_inserts_keep_topological_order_and_reject_only_cycles() {
+        Random random = new Random(42);
+        Graph graph = new Graph(200);
+
+        for (int i = 0; i < 3000; i++) {
+            long blocker = random.nextInt(200);
+            long todo = random.nextInt(200);
+            if (blocker == todo) {
+                continue;
+            }
+            boolean wouldCycle = graph.reachable(todo, blocker);
+            boolean added = graph.addEdge(blocker, todo);
+
+            assertThat(added).isEqualTo(!wouldCycle);
+        }
+
+        for (Map.Entry<Long, Set<Long>> entry : graph.successors.entrySet()) {
+            for (Long successor : entry.getValue()) {
+                assertThat(graph.rank.get(entry.getKey())).isLessThan(graph.rank.get(successor));
+            }
+        }
+        assertThat(new HashSet<>(graph.rank.values())).hasSize(200);
+    }
+
+    // TodoDependencyService와 같은 절차를 메모리에서 수행한다. rank 초기값은 id.
+    private static final class Graph {
+        private final Map<Long, Long> rank = new HashMap<>();
+        private final Map<Long, Set<Long>> successors = new HashMap<>();
+        private final Map<Long, Set<Long>> predecessors = new HashMap<>();
+
+        Graph(int size) {
+            for (long id = 0; id < size; id++) {
+                rank.put(id, id);
+                successors.put(id, new HashSet<>());
+                predecessors.put(id, new HashSet<>());
+            }
+        }
+
+        boolean addEdge(long blocker, long todo) {
+            long blockerRank = rank.get(blocker);
+            long todoRank = rank.get(todo);
+            if (blockerRank > todoRank) {
+                Map<Long, Long> forward = region(todo, successors, r -> r <= blockerRank);
+                if (forward.containsKey(blocker)) {
+                    return false;
+                }
+                Map<Long, Long> backward = region(blocker, predecessors, r -> r >= todoRank);
+                rank.putAll(DependencyOrder.reorder(backward, forward));
+            }
+            successors.get(blocker).add(todo);
+            predecessors.get(todo).add(blocker);
+            return true;
+        }
+
+        boolean reachable(long from, long to) {
+            return region(from, successors, r -> true).containsKey(to);
+        }
+
+        private Map<Long, Long> region(long start, Map<Long, Set<Long>> edges, LongPredicate bound) {
+            Map<Long, Long> visited = new HashMap<>();
+            Deque<Long> queue = new ArrayDeque<>();
+            visited.put(start, rank.get(start));
+            queue.add(start);
+            while (!queue.isEmpty()) {
+                for (Long next : edges.get(queue.poll())) {
+                    if (!visited.containsKey(next) && bound.test(rank.get(next))) {
+                        visited.put(next, rank.get(next));
+                        queue.add(next);
+                    }
+                }
+            }
+            return visited;
+        }
+    }
+}
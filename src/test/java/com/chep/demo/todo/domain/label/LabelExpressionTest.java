@@ -0,0 +1,84 @@
+package com.chep.demo.todo.domain.label;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LabelExpressionTest {
+
+    // ordinal 0..5
+    private final LabelExpression.Bitmaps bitmaps = new LabelExpression.Bitmaps() {
+        private final Map<String, BitSet> labels = Map.of(
+                "work", bits(0, 1, 2, 3),
+                "urgent", bits(1, 2, 4),
+                "waiting", bits(2, 5),
+                "long name", bits(5)
+        );
+
+        @Override
+        public BitSet label(String name) {
+            return labels.get(name);
+        }
+
+        @Override
+        public BitSet universe() {
+            return bits(0, 1, 2, 3, 4, 5);
+        }
+    };
+
+    @Test
+    void combines_labels_with_and_or_not() {
+        assertThat(evaluate("work AND urgent AND NOT waiting")).isEqualTo(bits(1));
+        assertThat(evaluate("urgent OR waiting")).isEqualTo(bits(1, 2, 4, 5));
+        assertThat(evaluate("NOT work")).isEqualTo(bits(4, 5));
+    }
+
+    @Test
+    void and_binds_tighter_than_or() {
+        assertThat(evaluate("waiting | work & urgent")).isEqualTo(bits(1, 2, 5));
+        assertThat(evaluate("(waiting | work) & urgent")).isEqualTo(bits(1, 2));
+    }
+
+    @Test
+    void supports_symbols_implicit_and_and_quoted_names() {
+        assertThat(evaluate("work urgent !waiting")).isEqualTo(bits(1));
+        assertThat(evaluate("\"long name\" | urgent")).isEqualTo(bits(1, 2, 4, 5));
+        assertThat(evaluate("not not work")).isEqualTo(bits(0, 1, 2, 3));
+    }
+
+    @Test
+    void unknown_label_matches_nothing() {
+        assertThat(evaluate("missing")).isEmpty();
+        assertThat(evaluate("work AND NOT missing")).isEqualTo(bits(0, 1, 2, 3));
+    }
+
+    @Test
+    void does_not_modify_source_bitmaps() {
+        evaluate("work AND NOT urgent");
+        assertThat(bitmaps.label("work")).isEqualTo(bits(0, 1, 2, 3));
+    }
+
+    @Test
+    void rejects_malformed_expressions() {
+        assertThatThrownBy(() -> LabelExpression.parse("work AND")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LabelExpression.parse("(work")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LabelExpression.parse("work )")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> LabelExpression.parse(" ")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private BitSet evaluate(String expression) {
+        return LabelExpression.parse(expression).evaluate(bitmaps);
+    }
+
+    private static BitSet bits(int... ordinals) {
+        BitSet bits = new BitSet();
+        for (int ordinal : ordinals) {
+            bits.set(ordinal);
+        }
+        return bits;
+    }
+}
@@ -0,0 +1,157 @@
+package com.chep.demo.todo.domain.recurrence;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RecurrenceRuleTest {
+
+    private static final ZoneId UTC = ZoneOffset.UTC;
+
+    private static Instant at(String dateTime) {
+        return Instant.parse(dateTime + "Z");
+    }
+
+    @Test
+    void daily_with_interval_seeks_to_window_far_after_start() {
+        RecurrenceRule rule = RecurrenceRule.builder()
+                .frequency(RecurrenceRule.Frequency.DAILY)
+                .interval(3)
+                .startDate(LocalDate.of(2000, 1, 1))
+                .time(LocalTime.of(9, 0))
+                .zone(UTC)
+                .build();
+
+        // 2000-01-01 부터 9495일째가 2025-12-30
+        List<Instant> occurrences = rule.occurrencesBetween(at("2025-12-29T00:00:00"), at("2026-01-06T00:00:00"), 10);
+
+        assertThat(occurrences).containsExactly(
+                at("2025-12-30T09:00:00"),
+                at("2026-01-02T09:00:00"),
+                at("2026-01-05T09:00:00"));
+    }
+
+    @Test
+    void weekly_uses_selected_days_every_other_week() {
+        RecurrenceRule rule = RecurrenceRule.builder()
+                .frequency(RecurrenceRule.Frequency.WEEKLY)
+                .interval(2)
+                .daysOfWeek(EnumSet.of(DayOfWeek.MONDAY, DayOfWeek.THURSDAY))
+                .startDate(LocalDate.of(2026, 10, 1)) // 목요일
+                .time(LocalTime.of(18, 30))
+                .zone(UTC)
+                .build();
+
+        List<Instant> occurrences = rule.occurrencesBetween(at("2026-09-28T00:00:00"), at("2026-10-20T00:00:00"), 10);
+
+        // 시작 주의 월요일(9/28)은 startDate 이전이라 제외된다.
+        assertThat(occurrences).containsExactly(
+                at("2026-10-01T18:30:00"),
+                at("2026-10-12T18:30:00"),
+                at("2026-10-15T18:30:00"));
+    }
+
+    @Test
+    void weekly_defaults_to_start_day() {
+        RecurrenceRule rule = RecurrenceRule.builder()
+                .frequency(RecurrenceRule.Frequency.WEEKLY)
+                .startDate(LocalDate.of(2026, 10, 6))
+                .time(LocalTime.NOON)
+                .zone(UTC)
+                .build();
+
+        assertThat(rule.getDaysOfWeek()).containsExactly(DayOfWeek.TUESDAY);
+    }
+
+    @Test
+    void monthly_clamps_to_last_day_without_drifting() {
+        RecurrenceRule rule = RecurrenceRule.builder()
+                .frequency(RecurrenceRule.Frequency.MONTHLY)
+                .startDate(LocalDate.of(2026, 1, 31))
+                .time(LocalTime.of(8, 0))
+                .zone(UTC)
+                .build();
+
+        List<Instant> occurrences = rule.occurrencesBetween(at("2026-02-01T00:00:00"), at("2026-05-01T00:00:00"), 10);
+
+        assertThat(occurrences).containsExactly(
+                at("2026-02-28T08:00:00"),
+                at("2026-03-31T08:00:00"),
+                at("2026-04-30T08:00:00"));
+    }
+
+    @Test
+    void stops_at_until_date_and_limit() {
+        RecurrenceRule rule = RecurrenceRule.builder()
+                .frequency(RecurrenceRule.Frequency.DAILY)
+                .startDate(LocalDate.of(2026, 10, 1))
+                .untilDate(LocalDate.of(2026, 10, 3))
+                .time(LocalTime.of(7, 0))
+                .zone(UTC)
+                .build();
+
+        assertThat(rule.occurrencesBetween(at("2026-09-01T00:00:00"), at("2026-11-01T00:00:00"), 10)).hasSize(3);
+        assertThat(rule.occurrencesBetween(at("2026-09-01T00:00:00"), at("2026-11-01T00:00:00"), 2)).hasSize(2);
+    }
+
+    @Test
+    void time_of_day_is_local_to_zone() {
+        RecurrenceRule rule = RecurrenceRule.builder()
+                .frequency(RecurrenceRule.Frequency.DAILY)
+                .startDate(LocalDate.of(2026, 10, 1))
+                .time(LocalTime.of(9, 0))
+                .zone(ZoneId.of("Asia/Seoul"))
+                .build();
+
+        assertThat(rule.occurrencesBetween(at("2026-10-02T00:00:00"), at("2026-10-03T00:00:00"), 10))
+                .containsExactly(at("2026-10-02T00:00:00"));
+        assertThat(rule.occursAt(at("2026-10-02T00:00:00"))).isTrue();
+        assertThat(rule.occursAt(at("2026-10-02T09:00:00"))).isFalse();
+    }
+
+    @Test
+    void cron_expression_is_evaluated_from_window_start() {
+        RecurrenceRule rule = RecurrenceRule.builder()
+                .frequency(RecurrenceRule.Frequency.CRON)
+                .cronExpression("0 0 10 * * MON-FRI")
+                .startDate(LocalDate.of(2020, 1, 1))
+                .zone(UTC)
+                .build();
+
+        List<Instant> occurrences = rule.occurrencesBetween(at("2026-10-16T10:00:00"), at("2026-10-20T00:00:00"), 10);
+
+        assertThat(occurrences).containsExactly(
+                at("2026-10-16T10:00:00"),
+                at("2026-10-19T10:00:00"));
+    }
+
+    @Test
+    void rejects_invalid_rules() {
+        assertThatThrownBy(() -> RecurrenceRule.builder()
+                .frequency(RecurrenceRule.Frequency.DAILY)
+                .interval(0)
+                .startDate(LocalDate.of(2026, 1, 1))
+                .time(LocalTime.NOON)
+                .zone(UTC)
+                .build())
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThatThrownBy(() -> RecurrenceRule.builder()
+                .frequency(RecurrenceRule.Frequency.CRON)
+                .cronExpression("not a cron")
+                .startDate(LocalDate.of(2026, 1, 1))
+                .zone(UTC)
+                .build())
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,43 @@
+package com.chep.demo.todo.domain.todo;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoardRanksTest {
+
+    @Test
+    void first_card_in_empty_column_gets_zero() {
+        assertThat(BoardRanks.between(null, null)).hasValue(0L);
+        assertThat(BoardRanks.after(null)).isZero();
+    }
+
+    @Test
+    void places_card_at_the_edges_with_a_full_gap() {
+        assertThat(BoardRanks.between(null, 0L)).hasValue(-BoardRanks.GAP);
+        assertThat(BoardRanks.between(0L, null)).hasValue(BoardRanks.GAP);
+    }
+
+    @Test
+    void places_card_in_the_middle_of_its_neighbours() {
+        assertThat(BoardRanks.between(0L, BoardRanks.GAP)).hasValue(BoardRanks.GAP / 2);
+    }
+
+    @Test
+    void reports_exhausted_gap_so_the_column_can_be_rebalanced() {
+        assertThat(BoardRanks.between(10L, 11L)).isEmpty();
+        assertThat(BoardRanks.between(10L, 10L)).isEmpty();
+    }
+
+    @Test
+    void repeated_inserts_at_the_same_spot_fit_before_rebalancing() {
+        long previous = 0L;
+        long next = BoardRanks.GAP;
+        int inserts = 0;
+        while (BoardRanks.between(previous, next).isPresent()) {
+            next = BoardRanks.between(previous, next).getAsLong();
+            inserts++;
+        }
+        assertThat(inserts).isEqualTo(16);
+    }
+}
@@ -0,0 +1,51 @@
+package com.chep.demo.todo.domain.workspace;
+
+import com.chep.demo.todo.domain.user.User;
+import com.chep.demo.todo.exception.workspace.WorkspacePolicyViolationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WorkspaceBulkMemberPlanTest {
+
+    @Test
+    void splits_users_into_insert_restore_and_already_active() {
+        Workspace workspace = Workspace.of(user(1L), "team", null);
+        WorkspaceMember active = WorkspaceMember.member(workspace, user(2L));
+        WorkspaceMember left = WorkspaceMember.member(workspace, user(3L));
+        left.leave();
+        WorkspaceMember kicked = WorkspaceMember.member(workspace, user(4L));
+        kicked.kick();
+
+        BulkMemberPlan plan = workspace.planAddMembers(
+                List.of(2L, 3L, 4L, 5L, 5L, 6L),
+                List.of(active, left, kicked)
+        );
+
+        assertThat(plan.insertUserIds()).containsExactly(5L, 6L);
+        assertThat(plan.restoreUserIds()).containsExactly(3L, 4L);
+        assertThat(plan.alreadyActiveUserIds()).containsExactly(2L);
+    }
+
+    @Test
+    void rejects_bulk_add_to_personal_workspace() {
+        Workspace workspace = Workspace.personal(user(1L));
+
+        assertThatThrownBy(() -> workspace.planAddMembers(List.of(2L), List.of()))
+                .isInstanceOf(WorkspacePolicyViolationException.class);
+    }
+
+    private User user(Long id) {
+        User user = User.builder()
+                .name("user" + id)
+                .email("user" + id + "@example.com")
+                .password("12345678")
+                .build();
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+}
@@ -0,0 +1,81 @@
+package com.chep.demo.todo.domain.workspace;
+
+import com.chep.demo.todo.domain.user.User;
+import com.chep.demo.todo.exception.workspace.WorkspaceMemberNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WorkspaceMemberIndexTest {
+    private Workspace workspace;
+
+    @BeforeEach
+    void setUp() {
+        workspace = Workspace.of(user(1L), "team", null);
+    }
+
+    @Test
+    void finds_added_member_by_user_and_counts_active_members() {
+        WorkspaceMember added = workspace.addMember(user(2L));
+
+        assertThat(workspace.requireActiveMember(2L)).isSameAs(added);
+        assertThat(workspace.hasActiveMember(2L)).isTrue();
+        assertThat(workspace.countActiveMembers()).isEqualTo(2);
+    }
+
+    @Test
+    void finds_member_by_id_assigned_after_it_was_indexed() {
+        WorkspaceMember added = workspace.addMember(user(2L));
+        ReflectionTestUtils.setField(added, "id", 20L);
+
+        assertThat(workspace.requireMember(20L)).isSameAs(added);
+    }
+
+    @Test
+    void kicked_member_is_no_longer_active() {
+        WorkspaceMember added = workspace.addMember(user(2L));
+        ReflectionTestUtils.setField(added, "id", 20L);
+
+        workspace.kickMember(20L);
+
+        assertThat(workspace.hasActiveMember(2L)).isFalse();
+        assertThat(workspace.countActiveMembers()).isEqualTo(1);
+        assertThatThrownBy(() -> workspace.requireActiveMember(2L))
+                .isInstanceOf(WorkspaceMemberNotFoundException.class);
+    }
+
+    @Test
+    void restores_member_who_left_instead_of_adding_a_new_row() {
+        WorkspaceMember added = workspace.addMember(user(2L));
+        workspace.leave(2L);
+
+        WorkspaceMember restored = workspace.addMember(user(2L));
+
+        assertThat(restored).isSameAs(added);
+        assertThat(restored.isActive()).isTrue();
+        assertThat(workspace.getMembers()).hasSize(2);
+        assertThat(workspace.countActiveMembers()).isEqualTo(2);
+    }
+
+    @Test
+    void rejects_adding_an_active_member_twice() {
+        workspace.addMember(user(2L));
+
+        assertThatThrownBy(() -> workspace.addMember(user(2L)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(workspace.countActiveMembers()).isEqualTo(2);
+    }
+
+    private User user(Long id) {
+        User user = User.builder()
+                .name("user" + id)
+                .email("user" + id + "@example.com")
+                .password("12345678")
+                .build();
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+}
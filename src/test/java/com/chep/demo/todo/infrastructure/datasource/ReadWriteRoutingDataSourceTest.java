@@ -0,0 +1,145 @@
+package com.chep.demo.todo.infrastructure.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadWriteRoutingDataSourceTest {
+    private final StandInDataSource primary = new StandInDataSource();
+    private final StandInDataSource replica = new StandInDataSource();
+    private final AtomicLong nanos = new AtomicLong();
+    private ReadWriteRoutingDataSource routing;
+    private DataSource dataSource;
+    private DataSourceTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        routing = new ReadWriteRoutingDataSource(primary, replica, Duration.ofSeconds(5), 100,
+                new SimpleMeterRegistry(), nanos::get);
+        LazyConnectionDataSourceProxy lazy = new LazyConnectionDataSourceProxy(routing);
+        lazy.setDefaultAutoCommit(true);
+        lazy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        dataSource = lazy;
+        transactionManager = new DataSourceTransactionManager(dataSource);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(1L, null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void read_only_transaction_goes_to_replica() {
+        runQuery(true);
+
+        assertThat(replica.connections.get()).isEqualTo(1);
+        assertThat(primary.connections.get()).isZero();
+    }
+
+    @Test
+    void write_transaction_goes_to_primary() {
+        runQuery(false);
+
+        assertThat(primary.connections.get()).isEqualTo(1);
+        assertThat(replica.connections.get()).isZero();
+    }
+
+    @Test
+    void user_reads_from_primary_for_a_while_after_commit() {
+        runQuery(false);
+        assertThat(routing.isPinned(1L)).isTrue();
+
+        runQuery(true);
+        assertThat(primary.connections.get()).isEqualTo(2);
+
+        nanos.addAndGet(Duration.ofSeconds(6).toNanos());
+        runQuery(true);
+        assertThat(replica.connections.get()).isEqualTo(1);
+    }
+
+    @Test
+    void rolled_back_write_does_not_pin() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.executeWithoutResult(status -> {
+            touch();
+            status.setRollbackOnly();
+        });
+
+        assertThat(routing.isPinned(1L)).isFalse();
+    }
+
+    @Test
+    void other_users_are_not_pinned() {
+        runQuery(false);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(2L, null, List.of()));
+
+        runQuery(true);
+
+        assertThat(replica.connections.get()).isEqualTo(1);
+    }
+
+    @Test
+    void primary_reads_inside_a_read_only_transaction_use_a_separate_primary_connection() {
+        PrimaryReads primaryReads = new PrimaryReads(new DataSourceRoutingProperties(
+                true, Duration.ofSeconds(5), 100, new DataSourceRoutingProperties.Replica(null, null, null, 10)),
+                transactionManager);
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+
+        template.executeWithoutResult(status -> {
+            touch();
+            primaryReads.read(() -> {
+                touch();
+                return null;
+            });
+        });
+
+        assertThat(replica.connections.get()).isEqualTo(1);
+        assertThat(primary.connections.get()).isEqualTo(1);
+        assertThat(routing.isPinned(1L)).isFalse();
+    }
+
+    @Test
+    void primary_reads_outside_a_transaction_use_primary() {
+        ReadWriteRoutingDataSource.onPrimary(() -> {
+            runQuery(true);
+            return null;
+        });
+
+        assertThat(primary.connections.get()).isEqualTo(1);
+        assertThat(replica.connections.get()).isZero();
+    }
+
+    private void runQuery(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        template.executeWithoutResult(status -> touch());
+    }
+
+    // 지연 프록시는 실제 문장을 만들 때 대상 커넥션을 가져온다.
+    private void touch() {
+        try {
+            DataSourceUtils.getConnection(dataSource).createStatement();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
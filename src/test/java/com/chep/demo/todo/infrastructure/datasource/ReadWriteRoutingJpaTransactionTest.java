@@ -0,0 +1,133 @@
+package com.chep.demo.todo.infrastructure.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 설정과 같은 JpaTransactionManager + HibernateJpaDialect 경로.
+ * readOnly 트랜잭션이면 HibernateJpaDialect가 시작 시점에 커넥션을 꺼내 setReadOnly(true)를 호출하는데,
+ * 이때는 아직 readOnly 동기화 플래그가 없으므로 지연 프록시가 대상 선택을 첫 문장까지 미뤄야 replica로 간다.
+ */
+class ReadWriteRoutingJpaTransactionTest {
+    private final StandInDataSource primary = new StandInDataSource();
+    private final StandInDataSource replica = new StandInDataSource();
+    private ReadWriteRoutingDataSource routing;
+    private LocalContainerEntityManagerFactoryBean factoryBean;
+    private EntityManagerFactory entityManagerFactory;
+    private JpaTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        routing = new ReadWriteRoutingDataSource(primary, replica, Duration.ofSeconds(5), 100,
+                new SimpleMeterRegistry());
+        LazyConnectionDataSourceProxy lazy = new LazyConnectionDataSourceProxy(routing);
+        lazy.setDefaultAutoCommit(true);
+        lazy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+
+        factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(lazy);
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setPackagesToScan(ReadWriteRoutingJpaTransactionTest.class.getPackageName());
+        factoryBean.setPersistenceUnitName("routing");
+        // 부트스트랩 중에는 DB에 접속하지 않는다.
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.dialect", "org.hibernate.dialect.PostgreSQLDialect",
+                "hibernate.boot.allow_jdbc_metadata_access", "false"
+        ));
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+        transactionManager = new JpaTransactionManager(entityManagerFactory);
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(1L, null, List.of()));
+        primary.connections.set(0);
+        replica.connections.set(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        factoryBean.destroy();
+    }
+
+    @Test
+    void beginning_a_read_only_transaction_does_not_pick_a_pool() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        template.executeWithoutResult(status -> {
+        });
+
+        assertThat(primary.connections.get()).isZero();
+        assertThat(replica.connections.get()).isZero();
+    }
+
+    @Test
+    void read_only_transaction_goes_to_replica() {
+        runStatement(true);
+
+        assertThat(replica.connections.get()).isEqualTo(1);
+        assertThat(primary.connections.get()).isZero();
+    }
+
+    @Test
+    void write_transaction_goes_to_primary_and_pins_the_user() {
+        runStatement(false);
+
+        assertThat(primary.connections.get()).isEqualTo(1);
+        assertThat(replica.connections.get()).isZero();
+        assertThat(routing.isPinned(1L)).isTrue();
+    }
+
+    @Test
+    void primary_reads_inside_a_read_only_jpa_transaction_use_primary() {
+        PrimaryReads primaryReads = new PrimaryReads(new DataSourceRoutingProperties(
+                true, Duration.ofSeconds(5), 100, new DataSourceRoutingProperties.Replica(null, null, null, 10)),
+                transactionManager);
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+
+        template.executeWithoutResult(status -> {
+            touch();
+            primaryReads.read(() -> {
+                touch();
+                return null;
+            });
+        });
+
+        assertThat(replica.connections.get()).isEqualTo(1);
+        assertThat(primary.connections.get()).isEqualTo(1);
+        assertThat(routing.isPinned(1L)).isFalse();
+    }
+
+    private void runStatement(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        template.executeWithoutResult(status -> touch());
+    }
+
+    // Hibernate가 들고 있는 커넥션(지연 프록시)으로 문장을 만들면 그때 대상 커넥션을 가져온다.
+    private void touch() {
+        EntityManager entityManager = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+        entityManager.unwrap(Session.class).doWork(Connection::createStatement);
+    }
+}
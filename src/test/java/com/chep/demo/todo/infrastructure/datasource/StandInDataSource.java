@@ -0,0 +1,35 @@
+package com.chep.demo.todo.infrastructure.datasource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 커넥션을 몇 번 가져갔는지만 세는 DataSource. 커넥션의 메서드는 아무 일도 하지 않는다.
+class StandInDataSource extends AbstractDataSource {
+    final AtomicInteger connections = new AtomicInteger();
+
+    @Override
+    public Connection getConnection() {
+        connections.incrementAndGet();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Class<?> type = method.getReturnType();
+                    if (type == boolean.class) {
+                        return method.getName().equals("getAutoCommit");
+                    }
+                    if (type == int.class) {
+                        return Connection.TRANSACTION_READ_COMMITTED;
+                    }
+                    return null;
+                });
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) {
+        return getConnection();
+    }
+}
@@ -0,0 +1,209 @@
+package com.chep.demo.todo.infrastructure.idempotency;
+
+import com.chep.demo.todo.controller.todo.TodoController;
+import com.chep.demo.todo.domain.todo.Todo;
+import com.chep.demo.todo.domain.user.User;
+import com.chep.demo.todo.dto.todo.CreateTodoRequest;
+import com.chep.demo.todo.dto.todo.MoveTodoRequest;
+import com.chep.demo.todo.service.dependency.TodoDependencyService;
+import com.chep.demo.todo.service.label.LabelService;
+import com.chep.demo.todo.service.nextup.NextUpService;
+import com.chep.demo.todo.service.search.TodoSearchService;
+import com.chep.demo.todo.service.stream.TodoEventHub;
+import com.chep.demo.todo.service.todo.TodoBoardService;
+import com.chep.demo.todo.service.todo.TodoHierarchyService;
+import com.chep.demo.todo.service.todo.TodoService;
+import jakarta.servlet.ReadListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class IdempotencyFilterTest {
+    private static final Long USER_ID = 100L;
+
+    private TodoService todoService;
+    private IdempotencyStore idempotencyStore;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        todoService = mock(TodoService.class);
+        idempotencyStore = inMemoryStore();
+        TodoController controller = new TodoController(todoService, mock(TodoBoardService.class),
+                mock(TodoHierarchyService.class), mock(LabelService.class), mock(TodoSearchService.class),
+                mock(NextUpService.class), mock(TodoDependencyService.class), mock(TodoEventHub.class));
+        IdempotencyProperties properties = new IdempotencyProperties(
+                true, List.of("/api/todos/**"), Duration.ofHours(24), Duration.ofMinutes(1), 100, 65536);
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .addFilters(new IdempotencyFilter(idempotencyStore, properties))
+                .build();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(USER_ID, null, List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void replayed_create_returns_the_recorded_response_without_creating_again() throws Exception {
+        when(todoService.createTodo(eq(USER_ID), any(CreateTodoRequest.class))).thenReturn(createdTodo(7L));
+        MockHttpServletRequestBuilder request = post("/api/todos")
+                .header(IdempotencyFilter.HEADER, "create-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"title\":\"report\"}");
+
+        String first = mockMvc.perform(request)
+                .andExpect(status().isCreated())
+                .andExpect(header().doesNotExist(IdempotencyFilter.REPLAYED_HEADER))
+                .andReturn().getResponse().getContentAsString();
+        mockMvc.perform(request)
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"))
+                .andExpect(header().string("Location", "http://localhost/api/todos/7"))
+                .andExpect(content().string(first));
+
+        verify(todoService, times(1)).createTodo(eq(USER_ID), any(CreateTodoRequest.class));
+    }
+
+    @Test
+    void replayed_move_does_not_shift_the_list_again() throws Exception {
+        MockHttpServletRequestBuilder request = patch("/api/todos/5/move")
+                .header(IdempotencyFilter.HEADER, "move-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"targetOrderIndex\":0}");
+
+        mockMvc.perform(request).andExpect(status().isNoContent());
+        mockMvc.perform(request)
+                .andExpect(status().isNoContent())
+                .andExpect(header().string(IdempotencyFilter.REPLAYED_HEADER, "true"));
+
+        verify(todoService, times(1)).move(eq(USER_ID), eq(5L), any(MoveTodoRequest.class));
+    }
+
+    @Test
+    void same_key_with_a_different_body_is_rejected_without_executing() throws Exception {
+        mockMvc.perform(patch("/api/todos/5/move")
+                        .header(IdempotencyFilter.HEADER, "move-2")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"targetOrderIndex\":0}"))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(patch("/api/todos/5/move")
+                        .header(IdempotencyFilter.HEADER, "move-2")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"targetOrderIndex\":3}"))
+                .andExpect(status().isUnprocessableEntity());
+
+        verify(todoService, times(1)).move(eq(USER_ID), eq(5L), any(MoveTodoRequest.class));
+    }
+
+    @Test
+    void requests_without_a_key_are_not_tracked() throws Exception {
+        MockHttpServletRequestBuilder request = patch("/api/todos/5/move")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"targetOrderIndex\":0}");
+
+        mockMvc.perform(request).andExpect(status().isNoContent());
+        mockMvc.perform(request).andExpect(status().isNoContent());
+
+        verify(todoService, times(2)).move(eq(USER_ID), eq(5L), any(MoveTodoRequest.class));
+        verify(idempotencyStore, never()).claim(any(), anyString(), anyString());
+    }
+
+    @Test
+    void cached_body_notifies_a_read_listener() throws IOException {
+        byte[] body = "{\"title\":\"report\"}".getBytes(StandardCharsets.UTF_8);
+        CachedBodyRequestWrapper wrapper = new CachedBodyRequestWrapper(new MockHttpServletRequest(), body);
+        var input = wrapper.getInputStream();
+        List<String> calls = new ArrayList<>();
+
+        input.setReadListener(new ReadListener() {
+            @Override
+            public void onDataAvailable() throws IOException {
+                calls.add("data:" + new String(input.readAllBytes(), StandardCharsets.UTF_8));
+            }
+
+            @Override
+            public void onAllDataRead() {
+                calls.add("done");
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                calls.add("error");
+            }
+        });
+
+        assertThat(calls).containsExactly("data:{\"title\":\"report\"}", "done");
+    }
+
+    // 키별로 첫 요청의 지문과 기록된 응답만 기억하는 store
+    private static IdempotencyStore inMemoryStore() {
+        IdempotencyStore store = mock(IdempotencyStore.class);
+        AtomicReference<String> claimedFingerprint = new AtomicReference<>();
+        AtomicReference<RecordedResponse> recorded = new AtomicReference<>();
+        when(store.claim(eq(USER_ID), anyString(), anyString())).thenAnswer(invocation -> {
+            String fingerprint = invocation.getArgument(2);
+            if (claimedFingerprint.compareAndSet(null, fingerprint)) {
+                return new IdempotencyClaim(IdempotencyClaim.Outcome.ACQUIRED, null);
+            }
+            if (!claimedFingerprint.get().equals(fingerprint)) {
+                return new IdempotencyClaim(IdempotencyClaim.Outcome.MISMATCH, null);
+            }
+            return new IdempotencyClaim(IdempotencyClaim.Outcome.REPLAY, recorded.get());
+        });
+        doAnswer(invocation -> {
+            recorded.set(invocation.getArgument(3));
+            return null;
+        }).when(store).complete(eq(USER_ID), anyString(), anyString(), any(RecordedResponse.class));
+        return store;
+    }
+
+    private static Todo createdTodo(Long id) {
+        User owner = User.builder()
+                .name("owner")
+                .email("owner@example.com")
+                .password("12345678")
+                .build();
+        ReflectionTestUtils.setField(owner, "id", USER_ID);
+        Todo todo = Todo.builder()
+                .user(owner)
+                .title("report")
+                .orderIndex(0)
+                .build();
+        ReflectionTestUtils.setField(todo, "id", id);
+        return todo;
+    }
+}
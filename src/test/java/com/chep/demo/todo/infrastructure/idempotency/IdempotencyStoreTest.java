@@ -0,0 +1,108 @@
+package com.chep.demo.todo.infrastructure.idempotency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IdempotencyStoreTest {
+    private static final Long USER_ID = 1L;
+    private static final String KEY = "key-1";
+    private static final String FINGERPRINT = "fp-1";
+    private static final RecordedResponse CREATED = new RecordedResponse(
+            201, "application/json", "/api/todos/7", "{\"id\":7}".getBytes(StandardCharsets.UTF_8));
+
+    private IdempotencyRecordRepository repository;
+    private IdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(IdempotencyRecordRepository.class);
+        IdempotencyProperties properties = new IdempotencyProperties(
+                true, List.of("/api/todos/**"), Duration.ofHours(24), Duration.ofMinutes(1), 100, 65536);
+        store = new IdempotencyStore(repository, properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void first_request_acquires_the_key() {
+        when(repository.insertIfAbsent(eq(USER_ID), eq(KEY), eq(FINGERPRINT), any(), any())).thenReturn(1);
+
+        assertThat(store.claim(USER_ID, KEY, FINGERPRINT).outcome()).isEqualTo(IdempotencyClaim.Outcome.ACQUIRED);
+        verify(repository, never()).findByUserIdAndIdempotencyKey(anyLong(), anyString());
+    }
+
+    @Test
+    void expired_or_abandoned_key_is_reclaimed() {
+        when(repository.reclaim(eq(USER_ID), eq(KEY), eq(FINGERPRINT), any(), any(), any())).thenReturn(1);
+
+        assertThat(store.claim(USER_ID, KEY, FINGERPRINT).outcome()).isEqualTo(IdempotencyClaim.Outcome.ACQUIRED);
+    }
+
+    @Test
+    void key_still_being_processed_is_in_progress() {
+        stubExisting(FINGERPRINT, IdempotencyRecord.Status.IN_PROGRESS);
+
+        assertThat(store.claim(USER_ID, KEY, FINGERPRINT).outcome()).isEqualTo(IdempotencyClaim.Outcome.IN_PROGRESS);
+    }
+
+    @Test
+    void key_released_between_insert_and_read_is_in_progress() {
+        when(repository.findByUserIdAndIdempotencyKey(USER_ID, KEY)).thenReturn(Optional.empty());
+
+        assertThat(store.claim(USER_ID, KEY, FINGERPRINT).outcome()).isEqualTo(IdempotencyClaim.Outcome.IN_PROGRESS);
+    }
+
+    @Test
+    void same_key_with_a_different_request_is_a_mismatch() {
+        stubExisting("other", IdempotencyRecord.Status.COMPLETED);
+
+        assertThat(store.claim(USER_ID, KEY, FINGERPRINT).outcome()).isEqualTo(IdempotencyClaim.Outcome.MISMATCH);
+    }
+
+    @Test
+    void completed_key_replays_and_is_then_served_from_the_local_cache() {
+        stubExisting(FINGERPRINT, IdempotencyRecord.Status.COMPLETED);
+
+        IdempotencyClaim first = store.claim(USER_ID, KEY, FINGERPRINT);
+        IdempotencyClaim second = store.claim(USER_ID, KEY, FINGERPRINT);
+
+        assertThat(first.outcome()).isEqualTo(IdempotencyClaim.Outcome.REPLAY);
+        assertThat(first.response()).isSameAs(CREATED);
+        assertThat(second.response()).isSameAs(CREATED);
+        verify(repository, times(1)).findByUserIdAndIdempotencyKey(USER_ID, KEY);
+    }
+
+    @Test
+    void completed_response_is_replayed_locally_and_checked_against_the_fingerprint() {
+        store.complete(USER_ID, KEY, FINGERPRINT, CREATED);
+
+        assertThat(store.claim(USER_ID, KEY, FINGERPRINT).outcome()).isEqualTo(IdempotencyClaim.Outcome.REPLAY);
+        assertThat(store.claim(USER_ID, KEY, "other").outcome()).isEqualTo(IdempotencyClaim.Outcome.MISMATCH);
+        verify(repository, never()).insertIfAbsent(anyLong(), anyString(), anyString(), any(), any());
+    }
+
+    private void stubExisting(String fingerprint, IdempotencyRecord.Status status) {
+        IdempotencyRecord record = mock(IdempotencyRecord.class);
+        when(record.getFingerprint()).thenReturn(fingerprint);
+        when(record.getStatus()).thenReturn(status);
+        when(record.getExpiresAt()).thenReturn(Instant.now().plus(Duration.ofHours(1)));
+        when(record.toResponse()).thenReturn(CREATED);
+        when(repository.findByUserIdAndIdempotencyKey(USER_ID, KEY)).thenReturn(Optional.of(record));
+    }
+}
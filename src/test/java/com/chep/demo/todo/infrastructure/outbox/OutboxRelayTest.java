@@ -0,0 +1,140 @@
+package com.chep.demo.todo.infrastructure.outbox;
+
+import com.chep.demo.todo.domain.user.event.UserRegisteredEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class OutboxRelayTest {
+    private static final int BATCH_SIZE = 2;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final Duration RETENTION = Duration.ofDays(7);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final OutboxEventTypes eventTypes = new OutboxEventTypes();
+
+    private OutboxEventRepository repository;
+    private ApplicationEventPublisher eventPublisher;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(OutboxEventRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        relay = new OutboxRelay(repository, eventTypes, eventPublisher, objectMapper,
+                mock(PlatformTransactionManager.class), new SimpleMeterRegistry(),
+                BATCH_SIZE, 10, MAX_ATTEMPTS, RETENTION);
+        when(repository.findBacklog()).thenReturn(new OutboxBacklog(0, null));
+    }
+
+    @Test
+    void relay_locks_batches_until_a_short_one_comes_back() {
+        OutboxEvent first = registered(1L);
+        OutboxEvent second = registered(2L);
+        OutboxEvent third = registered(3L);
+        when(repository.lockNextBatch(any(Instant.class), eq(BATCH_SIZE)))
+                .thenReturn(List.of(first, second))
+                .thenReturn(List.of(third));
+
+        relay.relay();
+
+        verify(repository, times(2)).lockNextBatch(any(Instant.class), eq(BATCH_SIZE));
+        verify(eventPublisher).publishEvent(new UserRegisteredEvent(1L));
+        verify(eventPublisher).publishEvent(new UserRegisteredEvent(2L));
+        verify(eventPublisher).publishEvent(new UserRegisteredEvent(3L));
+        assertThat(List.of(first, second, third))
+                .allSatisfy(event -> assertThat(event.getPublishedAt()).isNotNull());
+    }
+
+    @Test
+    void failed_dispatch_is_retried_with_exponential_backoff() {
+        OutboxEvent event = registered(1L);
+        when(repository.lockNextBatch(any(Instant.class), anyInt())).thenReturn(List.of(event));
+        doThrow(new IllegalStateException("listener down")).when(eventPublisher).publishEvent(any(Object.class));
+
+        Instant before = Instant.now();
+        relay.relay();
+        assertThat(event.getAttempts()).isEqualTo(1);
+        assertThat(event.getPublishedAt()).isNull();
+        assertThat(event.getAvailableAt()).isBetween(before.plusSeconds(1), Instant.now().plusSeconds(1));
+
+        before = Instant.now();
+        relay.relay();
+        assertThat(event.getAttempts()).isEqualTo(2);
+        assertThat(event.getAvailableAt()).isBetween(before.plusSeconds(2), Instant.now().plusSeconds(2));
+        assertThat(event.getLastError()).contains("listener down");
+        assertThat(event.getDeadAt()).isNull();
+    }
+
+    @Test
+    void event_is_dead_lettered_after_max_attempts() {
+        OutboxEvent event = registered(1L);
+        ReflectionTestUtils.setField(event, "attempts", MAX_ATTEMPTS - 1);
+        when(repository.lockNextBatch(any(Instant.class), anyInt())).thenReturn(List.of(event));
+        doThrow(new IllegalStateException("listener down")).when(eventPublisher).publishEvent(any(Object.class));
+
+        relay.relay();
+
+        assertThat(event.getDeadAt()).isNotNull();
+        assertThat(event.getAttempts()).isEqualTo(MAX_ATTEMPTS);
+        assertThat(event.getPublishedAt()).isNull();
+    }
+
+    @Test
+    void unregistered_event_type_is_dead_lettered_without_loading_the_class() {
+        OutboxEvent event = OutboxEvent.of("java.lang.ProcessBuilder", "{}");
+        when(repository.lockNextBatch(any(Instant.class), anyInt())).thenReturn(List.of(event));
+
+        relay.relay();
+
+        assertThat(event.getDeadAt()).isNotNull();
+        assertThat(event.getLastError()).contains("Unregistered outbox event type");
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void cleanup_deletes_events_published_before_the_retention_window() {
+        Instant before = Instant.now().minus(RETENTION);
+
+        relay.deletePublishedEvents();
+
+        ArgumentCaptor<Instant> cutoff = ArgumentCaptor.forClass(Instant.class);
+        verify(repository).deletePublishedBefore(cutoff.capture());
+        assertThat(cutoff.getValue()).isBetween(before, Instant.now().minus(RETENTION));
+    }
+
+    @Test
+    void publisher_rejects_unregistered_event_types() {
+        OutboxEventPublisher publisher = new OutboxEventPublisher(repository, eventTypes, objectMapper);
+
+        assertThatThrownBy(() -> publisher.append(new Object()))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(repository, never()).save(any(OutboxEvent.class));
+    }
+
+    private OutboxEvent registered(Long userId) {
+        return OutboxEvent.of(UserRegisteredEvent.class.getName(), "{\"userId\":" + userId + "}");
+    }
+}
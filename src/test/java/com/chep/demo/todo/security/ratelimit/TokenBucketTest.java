@@ -0,0 +1,61 @@
+package com.chep.demo.todo.security.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void allows_burst_up_to_capacity_then_rejects() {
+        RateLimiter limiter = new RateLimiter(3, Duration.ofSeconds(3), 4);
+
+        assertThat(limiter.tryAcquire(1L, 0)).isEqualTo(2);
+        assertThat(limiter.tryAcquire(1L, 0)).isEqualTo(1);
+        assertThat(limiter.tryAcquire(1L, 0)).isEqualTo(0);
+        assertThat(limiter.tryAcquire(1L, 0)).isEqualTo(-SECOND);
+    }
+
+    @Test
+    void refills_one_token_per_interval() {
+        RateLimiter limiter = new RateLimiter(2, Duration.ofSeconds(2), 4);
+        limiter.tryAcquire("10.0.0.1", 0);
+        limiter.tryAcquire("10.0.0.1", 0);
+
+        assertThat(limiter.tryAcquire("10.0.0.1", SECOND / 2)).isNegative();
+        assertThat(limiter.tryAcquire("10.0.0.1", SECOND)).isEqualTo(0);
+    }
+
+    @Test
+    void keeps_separate_buckets_per_key() {
+        RateLimiter limiter = new RateLimiter(1, Duration.ofSeconds(1), 4);
+
+        assertThat(limiter.tryAcquire(1L, 0)).isEqualTo(0);
+        assertThat(limiter.tryAcquire(2L, 0)).isEqualTo(0);
+        assertThat(limiter.tryAcquire(1L, 0)).isNegative();
+    }
+
+    @Test
+    void evicts_only_idle_buckets() {
+        RateLimiter limiter = new RateLimiter(1, Duration.ofSeconds(1), 4);
+        limiter.tryAcquire(1L, 0);
+        limiter.tryAcquire(2L, 10 * SECOND);
+
+        int evicted = limiter.evictIdle(11 * SECOND, 5 * SECOND);
+
+        assertThat(evicted).isEqualTo(1);
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+
+    @Test
+    void reports_time_until_bucket_is_full() {
+        RateLimiter limiter = new RateLimiter(2, Duration.ofSeconds(2), 4);
+        limiter.tryAcquire(1L, 0);
+
+        assertThat(limiter.nanosUntilFull(1L, 0)).isEqualTo(SECOND);
+        assertThat(limiter.nanosUntilFull(99L, 0)).isZero();
+    }
+}
@@ -0,0 +1,66 @@
+package com.chep.demo.todo.service.board;
+
+import com.chep.demo.todo.domain.todo.event.TodoChangedEvent.Type;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoardBatchTest {
+
+    @Test
+    void keeps_one_change_per_todo_in_arrival_order() {
+        BoardBatch batch = new BoardBatch(10);
+
+        batch.add(2L, Type.UPDATED);
+        batch.add(1L, Type.MOVED);
+        batch.add(2L, Type.COMPLETION_CHANGED);
+
+        BoardMessage message = batch.toMessage(7L, Instant.now());
+        assertThat(message.type()).isEqualTo(BoardMessage.BATCH);
+        assertThat(message.changes()).containsExactly(
+                new BoardMessage.Change(2L, "COMPLETION_CHANGED"),
+                new BoardMessage.Change(1L, "MOVED"));
+    }
+
+    @Test
+    void created_survives_later_updates_and_deletion_wins() {
+        BoardBatch batch = new BoardBatch(10);
+
+        batch.add(1L, Type.CREATED);
+        batch.add(1L, Type.UPDATED);
+        batch.add(2L, Type.DELETED);
+        batch.add(2L, Type.UPDATED);
+
+        assertThat(batch.toMessage(7L, Instant.now()).changes()).containsExactly(
+                new BoardMessage.Change(1L, "CREATED"),
+                new BoardMessage.Change(2L, "DELETED"));
+    }
+
+    @Test
+    void created_then_deleted_is_dropped() {
+        BoardBatch batch = new BoardBatch(10);
+
+        batch.add(1L, Type.CREATED);
+        batch.add(1L, Type.MOVED);
+        batch.add(1L, Type.SUBTREE_DELETED);
+
+        assertThat(batch.isEmpty()).isTrue();
+    }
+
+    @Test
+    void overflow_turns_into_resync() {
+        BoardBatch batch = new BoardBatch(2);
+
+        for (long id = 1; id <= 3; id++) {
+            batch.add(id, Type.UPDATED);
+        }
+        batch.add(4L, Type.UPDATED);
+
+        BoardMessage message = batch.toMessage(7L, Instant.now());
+        assertThat(batch.isEmpty()).isFalse();
+        assertThat(message.type()).isEqualTo(BoardMessage.RESYNC);
+        assertThat(message.changes()).isEmpty();
+    }
+}
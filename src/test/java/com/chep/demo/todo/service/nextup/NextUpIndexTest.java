@@ -0,0 +1,110 @@
+package com.chep.demo.todo.service.nextup;
+
+import com.chep.demo.todo.domain.todo.NextUpCandidate;
+import com.chep.demo.todo.domain.todo.TodoPriority;
+import com.chep.demo.todo.domain.todo.TodoRepository;
+import com.chep.demo.todo.domain.todo.event.TodoChangedEvent;
+import com.chep.demo.todo.infrastructure.datasource.PrimaryReads;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class NextUpIndexTest {
+    private static final Long USER_ID = 1L;
+    private static final Instant NOW = Instant.parse("2026-10-19T00:00:00Z");
+
+    private TodoRepository todoRepository;
+    private AtomicBoolean onPrimary;
+    private NextUpIndex index;
+
+    @BeforeEach
+    void setUp() {
+        todoRepository = mock(TodoRepository.class);
+        onPrimary = new AtomicBoolean();
+        PrimaryReads primaryReads = mock(PrimaryReads.class);
+        when(primaryReads.read(any())).thenAnswer(invocation -> {
+            onPrimary.set(true);
+            try {
+                return invocation.<Supplier<?>>getArgument(0).get();
+            } finally {
+                onPrimary.set(false);
+            }
+        });
+        index = new NextUpIndex(todoRepository, primaryReads,
+                new NextUpProperties(100, Duration.ofMinutes(30)), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void load_reads_candidates_from_primary() {
+        when(todoRepository.findNextUpCandidates(USER_ID)).thenAnswer(invocation -> {
+            assertThat(onPrimary).isTrue();
+            return List.of(candidate(10L, TodoPriority.MEDIUM), candidate(11L, TodoPriority.URGENT));
+        });
+
+        assertThat(index.top(USER_ID, 10)).containsExactly(11L, 10L);
+    }
+
+    @Test
+    void events_read_the_changed_todo_from_primary() {
+        when(todoRepository.findNextUpCandidates(USER_ID)).thenReturn(List.of());
+        index.top(USER_ID, 10);
+        when(todoRepository.findAudienceUserIds(20L)).thenReturn(List.of());
+        when(todoRepository.findNextUpCandidate(20L)).thenAnswer(invocation -> {
+            assertThat(onPrimary).isTrue();
+            return Optional.of(candidate(20L, TodoPriority.HIGH));
+        });
+
+        index.onTodoChanged(new TodoChangedEvent(20L, USER_ID, null, TodoChangedEvent.Type.CREATED));
+
+        assertThat(index.top(USER_ID, 10)).containsExactly(20L);
+    }
+
+    @Test
+    void event_that_arrives_while_the_index_is_loading_is_applied_after_the_load() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch releaseLoad = new CountDownLatch(1);
+        CountDownLatch eventRead = new CountDownLatch(1);
+        // 적재는 이벤트의 커밋 전 스냅샷을 읽었다고 가정한다.
+        when(todoRepository.findNextUpCandidates(USER_ID)).thenAnswer(invocation -> {
+            loading.countDown();
+            releaseLoad.await(5, TimeUnit.SECONDS);
+            return List.of(candidate(10L, TodoPriority.MEDIUM));
+        });
+        when(todoRepository.findAudienceUserIds(20L)).thenReturn(List.of());
+        when(todoRepository.findNextUpCandidate(20L)).thenAnswer(invocation -> {
+            eventRead.countDown();
+            return Optional.of(candidate(20L, TodoPriority.URGENT));
+        });
+
+        CompletableFuture<List<Long>> load = CompletableFuture.supplyAsync(() -> index.top(USER_ID, 10));
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Void> event = CompletableFuture.runAsync(() -> index.onTodoChanged(
+                new TodoChangedEvent(20L, USER_ID, null, TodoChangedEvent.Type.CREATED)));
+
+        assertThat(eventRead.await(5, TimeUnit.SECONDS)).isTrue();
+        releaseLoad.countDown();
+        load.get(5, TimeUnit.SECONDS);
+        event.get(5, TimeUnit.SECONDS);
+
+        assertThat(index.top(USER_ID, 10)).containsExactly(20L, 10L);
+    }
+
+    private NextUpCandidate candidate(Long id, TodoPriority priority) {
+        return new NextUpCandidate(id, priority, null, NOW);
+    }
+}
@@ -0,0 +1,67 @@
+package com.chep.demo.todo.service.nextup;
+
+import com.chep.demo.todo.domain.todo.TodoPriority;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserNextUpIndexTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-19T00:00:00Z");
+
+    @Test
+    void top_returns_lowest_ranks_first() {
+        UserNextUpIndex index = new UserNextUpIndex();
+        index.put(1, 300);
+        index.put(2, 100);
+        index.put(3, 200);
+        index.put(4, 100);
+
+        assertThat(index.top(3)).containsExactly(2L, 4L, 3L);
+    }
+
+    @Test
+    void put_again_moves_entry() {
+        UserNextUpIndex index = new UserNextUpIndex();
+        index.put(1, 100);
+        index.put(2, 200);
+
+        index.put(1, 300);
+
+        assertThat(index.top(10)).containsExactly(2L, 1L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void remove_drops_entry() {
+        UserNextUpIndex index = new UserNextUpIndex();
+        index.put(1, 100);
+        index.put(2, 200);
+
+        index.remove(1);
+        index.remove(99);
+
+        assertThat(index.top(10)).containsExactly(2L);
+    }
+
+    @Test
+    void higher_priority_pulls_due_date_forward() {
+        Instant due = NOW.plus(Duration.ofDays(2));
+
+        long urgent = NextUpRanking.rank(TodoPriority.URGENT, due, NOW);
+        long medium = NextUpRanking.rank(TodoPriority.MEDIUM, due.minus(Duration.ofDays(1)), NOW);
+
+        assertThat(urgent).isLessThan(medium);
+    }
+
+    @Test
+    void stale_todo_without_due_date_rises_over_new_one() {
+        long stale = NextUpRanking.rank(TodoPriority.LOW, null, NOW.minus(Duration.ofDays(30)));
+        long fresh = NextUpRanking.rank(TodoPriority.HIGH, null, NOW);
+
+        assertThat(stale).isLessThan(fresh);
+    }
+}
@@ -0,0 +1,74 @@
+package com.chep.demo.todo.service.reminder;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HierarchicalTimingWheelTest {
+
+    @Test
+    void fires_on_the_first_tick_at_or_after_the_deadline() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 4, 3, 0);
+        wheel.schedule(25, "a");
+        List<String> fired = new ArrayList<>();
+
+        wheel.advanceTo(29, fired::add);
+        assertThat(fired).isEmpty();
+
+        wheel.advanceTo(30, fired::add);
+        assertThat(fired).containsExactly("a");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void cascades_far_deadlines_down_from_upper_levels() {
+        // 한 칸 10ms, 4칸, 3단 -> 640ms 까지는 휠 안에, 그 이후는 overflow
+        HierarchicalTimingWheel<Long> wheel = new HierarchicalTimingWheel<>(10, 4, 3, 0);
+        long[] deadlines = {15, 45, 170, 630, 1_000, 5_000};
+        for (long deadline : deadlines) {
+            wheel.schedule(deadline, deadline);
+        }
+
+        List<Long> fired = new ArrayList<>();
+        long now = 0;
+        while (now < 6_000) {
+            now += 10;
+            long tickTime = now;
+            wheel.advanceTo(now, deadline -> {
+                assertThat(tickTime).isBetween(deadline, deadline + 10);
+                fired.add(deadline);
+            });
+        }
+        assertThat(fired).containsExactly(15L, 45L, 170L, 630L, 1_000L, 5_000L);
+    }
+
+    @Test
+    void cancelled_timeouts_never_fire() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 8, 2, 0);
+        HierarchicalTimingWheel.Timeout<String> keep = wheel.schedule(100, "keep");
+        HierarchicalTimingWheel.Timeout<String> drop = wheel.schedule(100, "drop");
+
+        assertThat(wheel.cancel(drop)).isTrue();
+        assertThat(wheel.cancel(drop)).isFalse();
+
+        List<String> fired = new ArrayList<>();
+        wheel.advanceTo(1_000, fired::add);
+        assertThat(fired).containsExactly("keep");
+        assertThat(keep.isPending()).isFalse();
+    }
+
+    @Test
+    void past_deadlines_fire_on_the_next_tick() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(10, 4, 2, 1_000);
+        wheel.schedule(500, "late");
+
+        List<String> fired = new ArrayList<>();
+        wheel.advanceTo(1_000, fired::add);
+        assertThat(fired).isEmpty();
+        wheel.advanceTo(1_010, fired::add);
+        assertThat(fired).containsExactly("late");
+    }
+}
@@ -0,0 +1,96 @@
+package com.chep.demo.todo.service.reminder;
+
+import com.chep.demo.todo.domain.todo.ReminderTarget;
+import com.chep.demo.todo.domain.todo.TodoRepository;
+import com.chep.demo.todo.domain.todo.event.TodoChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReminderSchedulerTest {
+    private static final Long TODO_ID = 1L;
+
+    private TodoRepository todoRepository;
+    private ReminderScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        todoRepository = mock(TodoRepository.class);
+        scheduler = new ReminderScheduler(todoRepository, mock(ReminderNotifier.class), new SimpleMeterRegistry(),
+                1000, 512, 4, Duration.ofHours(1), 100, 1000);
+        scheduler.loadWindow();
+    }
+
+    @Test
+    void schedules_a_todo_due_inside_the_window() {
+        when(todoRepository.findReminderTargets(anyCollection())).thenReturn(List.of(target()));
+
+        scheduler.onTodoChanged(event(TodoChangedEvent.Type.DUE_DATE_CHANGED));
+
+        assertThat(scheduler.scheduledCount()).isEqualTo(1);
+    }
+
+    @Test
+    void an_older_read_finishing_last_does_not_overwrite_a_newer_one() throws Exception {
+        CountDownLatch olderReadStarted = new CountDownLatch(1);
+        CountDownLatch newerApplied = new CountDownLatch(1);
+        // 첫 조회(마감일 변경 직후)는 늦게 끝나고, 두 번째 조회(완료 직후)는 대상이 없다.
+        when(todoRepository.findReminderTargets(anyCollection()))
+                .thenAnswer(invocation -> {
+                    olderReadStarted.countDown();
+                    assertThat(newerApplied.await(5, TimeUnit.SECONDS)).isTrue();
+                    return List.of(target());
+                })
+                .thenReturn(List.of());
+
+        CompletableFuture<Void> older = CompletableFuture.runAsync(
+                () -> scheduler.onTodoChanged(event(TodoChangedEvent.Type.DUE_DATE_CHANGED)));
+        assertThat(olderReadStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        scheduler.onTodoChanged(event(TodoChangedEvent.Type.COMPLETION_CHANGED));
+        newerApplied.countDown();
+        older.get(5, TimeUnit.SECONDS);
+
+        assertThat(scheduler.scheduledCount()).isZero();
+    }
+
+    @Test
+    void delete_wins_over_a_read_in_flight() throws Exception {
+        CountDownLatch readStarted = new CountDownLatch(1);
+        CountDownLatch deleted = new CountDownLatch(1);
+        when(todoRepository.findReminderTargets(anyCollection()))
+                .thenAnswer(invocation -> {
+                    readStarted.countDown();
+                    assertThat(deleted.await(5, TimeUnit.SECONDS)).isTrue();
+                    return List.of(target());
+                });
+
+        CompletableFuture<Void> read = CompletableFuture.runAsync(
+                () -> scheduler.onTodoChanged(event(TodoChangedEvent.Type.CREATED)));
+        assertThat(readStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        scheduler.onTodoChanged(event(TodoChangedEvent.Type.DELETED));
+        deleted.countDown();
+        read.get(5, TimeUnit.SECONDS);
+
+        assertThat(scheduler.scheduledCount()).isZero();
+    }
+
+    private static TodoChangedEvent event(TodoChangedEvent.Type type) {
+        return new TodoChangedEvent(TODO_ID, 10L, null, type);
+    }
+
+    private static ReminderTarget target() {
+        return new ReminderTarget(TODO_ID, 10L, "report", Instant.now().plus(Duration.ofMinutes(10)));
+    }
+}
@@ -0,0 +1,72 @@
+package com.chep.demo.todo.service.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserSearchIndexTest {
+
+    @Test
+    void matches_word_prefixes_for_search_as_you_type() {
+        UserSearchIndex index = new UserSearchIndex();
+        index.put(1L, "Quarterly report", null);
+        index.put(2L, "Buy milk", "quarter pounder");
+
+        assertThat(ids(index.search(terms("quar"), 10))).containsExactly(1L, 2L);
+        assertThat(ids(index.search(terms("mil"), 10))).containsExactly(2L);
+    }
+
+    @Test
+    void requires_every_query_term_to_match() {
+        UserSearchIndex index = new UserSearchIndex();
+        index.put(1L, "weekly team meeting", null);
+        index.put(2L, "team lunch", null);
+
+        assertThat(ids(index.search(terms("team meet"), 10))).containsExactly(1L);
+        assertThat(index.search(terms("team dinner"), 10)).isEmpty();
+    }
+
+    @Test
+    void ranks_title_and_exact_matches_higher() {
+        UserSearchIndex index = new UserSearchIndex();
+        index.put(1L, "groceries", "invoice");
+        index.put(2L, "invoice", null);
+        index.put(3L, "invoices", null);
+
+        assertThat(ids(index.search(terms("invoice"), 10))).containsExactly(2L, 3L, 1L);
+        assertThat(ids(index.search(terms("invoice"), 1))).containsExactly(2L);
+    }
+
+    @Test
+    void tokenizes_korean_and_normalizes_case() {
+        UserSearchIndex index = new UserSearchIndex();
+        index.put(1L, "주간 회의록을 정리", "Sprint REVIEW");
+
+        assertThat(ids(index.search(terms("회의"), 10))).containsExactly(1L);
+        assertThat(ids(index.search(terms("review"), 10))).containsExactly(1L);
+    }
+
+    @Test
+    void update_and_remove_replace_previous_terms() {
+        UserSearchIndex index = new UserSearchIndex();
+        index.put(1L, "draft proposal", null);
+        index.put(1L, "final proposal", null);
+
+        assertThat(index.search(terms("draft"), 10)).isEmpty();
+        assertThat(ids(index.search(terms("final"), 10))).containsExactly(1L);
+
+        index.remove(1L);
+        assertThat(index.search(terms("proposal"), 10)).isEmpty();
+        assertThat(index.documentCount()).isZero();
+    }
+
+    private static List<String> terms(String query) {
+        return SearchTokenizer.tokenize(query);
+    }
+
+    private static List<Long> ids(List<SearchHit> hits) {
+        return hits.stream().map(SearchHit::todoId).toList();
+    }
+}
@@ -0,0 +1,78 @@
+package com.chep.demo.todo.service.stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SubscriptionTest {
+
+    private static TodoStreamEvent event(long todoId) {
+        return new TodoStreamEvent("UPDATED", todoId, null, Instant.now());
+    }
+
+    @Test
+    void only_first_offer_schedules_drain() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        Subscription subscription = new Subscription(1L, emitter, 10);
+
+        assertThat(subscription.offer(event(1), () -> {})).isTrue();
+        assertThat(subscription.offer(event(2), () -> {})).isFalse();
+
+        assertThat(subscription.drain()).isEqualTo(2);
+        assertThat(emitter.sent).containsExactly("UPDATED", "UPDATED");
+        assertThat(subscription.isIdle()).isTrue();
+    }
+
+    @Test
+    void overflow_replaces_queue_with_resync() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        Subscription subscription = new Subscription(1L, emitter, 2);
+        AtomicInteger overflows = new AtomicInteger();
+
+        for (long id = 1; id <= 3; id++) {
+            subscription.offer(event(id), overflows::incrementAndGet);
+        }
+        subscription.offer(event(4), overflows::incrementAndGet);
+
+        assertThat(overflows.get()).isEqualTo(1);
+        assertThat(subscription.drain()).isEqualTo(2);
+        assertThat(emitter.sent).containsExactly(TodoStreamEvent.RESYNC, "UPDATED");
+    }
+
+    @Test
+    void failed_send_closes_subscription() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        emitter.fail = true;
+        Subscription subscription = new Subscription(1L, emitter, 10);
+
+        subscription.offer(event(1), () -> {});
+
+        assertThat(subscription.drain()).isEqualTo(-1);
+        assertThat(subscription.offer(event(2), () -> {})).isFalse();
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+        private final List<String> sent = new ArrayList<>();
+        private boolean fail;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (fail) {
+                throw new IOException("closed");
+            }
+            for (ResponseBodyEmitter.DataWithMediaType data : builder.build()) {
+                if (data.getData() instanceof TodoStreamEvent event) {
+                    sent.add(event.type());
+                }
+            }
+        }
+    }
+}
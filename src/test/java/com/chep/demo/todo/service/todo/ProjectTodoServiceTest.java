@@ -0,0 +1,241 @@
+package com.chep.demo.todo.service.todo;
+
+import com.chep.demo.todo.domain.project.Project;
+import com.chep.demo.todo.domain.project.ProjectRepository;
+import com.chep.demo.todo.domain.todo.BoardRanks;
+import com.chep.demo.todo.domain.todo.Todo;
+import com.chep.demo.todo.domain.todo.TodoAssignee;
+import com.chep.demo.todo.domain.todo.TodoPriority;
+import com.chep.demo.todo.domain.todo.TodoRepository;
+import com.chep.demo.todo.domain.todo.TodoStatus;
+import com.chep.demo.todo.domain.todo.event.TodoChangedEvent;
+import com.chep.demo.todo.domain.user.User;
+import com.chep.demo.todo.domain.user.UserRepository;
+import com.chep.demo.todo.domain.workspace.Workspace;
+import com.chep.demo.todo.domain.workspace.WorkspaceMember;
+import com.chep.demo.todo.domain.workspace.WorkspaceMembership;
+import com.chep.demo.todo.dto.todo.CreateTodoRequest;
+import com.chep.demo.todo.dto.todo.MoveTodoRequest;
+import com.chep.demo.todo.dto.todo.UpdateAssigneesRequest;
+import com.chep.demo.todo.dto.todo.UpdateDueDateRequest;
+import com.chep.demo.todo.dto.todo.UpdateTodoRequest;
+import com.chep.demo.todo.exception.workspace.WorkspaceMemberNotFoundException;
+import com.chep.demo.todo.service.workspace.WorkspaceAuthorization;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ProjectTodoServiceTest {
+    private static final Long WORKSPACE_ID = 1L;
+    private static final Long PROJECT_ID = 10L;
+    private static final Long CREATOR_ID = 100L;
+    private static final Long MEMBER_ID = 101L;
+    private static final Long OUTSIDER_ID = 999L;
+
+    private TodoRepository todoRepository;
+    private ProjectRepository projectRepository;
+    private UserRepository userRepository;
+    private WorkspaceAuthorization workspaceAuthorization;
+    private TodoHierarchyService todoHierarchyService;
+    private ApplicationEventPublisher eventPublisher;
+    private ProjectTodoService service;
+
+    private User creator;
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        todoRepository = mock(TodoRepository.class);
+        projectRepository = mock(ProjectRepository.class);
+        userRepository = mock(UserRepository.class);
+        workspaceAuthorization = mock(WorkspaceAuthorization.class);
+        todoHierarchyService = mock(TodoHierarchyService.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        service = new ProjectTodoService(todoRepository, projectRepository, userRepository,
+                workspaceAuthorization, todoHierarchyService, eventPublisher);
+
+        creator = User.builder()
+                .name("creator")
+                .email("creator@example.com")
+                .password("12345678")
+                .build();
+        project = Project.of(Workspace.of(creator, "team", null), creator, "board", null);
+
+        when(projectRepository.findByIdAndWorkspaceId(PROJECT_ID, WORKSPACE_ID)).thenReturn(Optional.of(project));
+        when(projectRepository.findByIdAndWorkspaceIdForUpdate(PROJECT_ID, WORKSPACE_ID)).thenReturn(Optional.of(project));
+        when(todoRepository.save(any(Todo.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        doThrow(new WorkspaceMemberNotFoundException("Workspace member not found."))
+                .when(workspaceAuthorization).requireActiveMember(WORKSPACE_ID, OUTSIDER_ID);
+    }
+
+    @Test
+    void non_member_cannot_touch_project_todos() {
+        assertThatThrownBy(() -> service.move(WORKSPACE_ID, PROJECT_ID, OUTSIDER_ID, 5L, new MoveTodoRequest(0)))
+                .isInstanceOf(WorkspaceMemberNotFoundException.class);
+        assertThatThrownBy(() -> service.updateTodo(WORKSPACE_ID, PROJECT_ID, OUTSIDER_ID, 5L,
+                new UpdateTodoRequest("title", null)))
+                .isInstanceOf(WorkspaceMemberNotFoundException.class);
+        assertThatThrownBy(() -> service.toggleTodoComplete(WORKSPACE_ID, PROJECT_ID, OUTSIDER_ID, 5L))
+                .isInstanceOf(WorkspaceMemberNotFoundException.class);
+        assertThatThrownBy(() -> service.updateAssignees(WORKSPACE_ID, PROJECT_ID, OUTSIDER_ID, 5L,
+                new UpdateAssigneesRequest(List.of())))
+                .isInstanceOf(WorkspaceMemberNotFoundException.class);
+        assertThatThrownBy(() -> service.updateDueDate(WORKSPACE_ID, PROJECT_ID, OUTSIDER_ID, 5L,
+                new UpdateDueDateRequest(Instant.now())))
+                .isInstanceOf(WorkspaceMemberNotFoundException.class);
+        assertThatThrownBy(() -> service.updatePriority(WORKSPACE_ID, PROJECT_ID, OUTSIDER_ID, 5L, TodoPriority.HIGH))
+                .isInstanceOf(WorkspaceMemberNotFoundException.class);
+
+        verifyNoInteractions(todoRepository, eventPublisher);
+    }
+
+    @Test
+    void move_shifts_only_the_range_inside_the_project() {
+        Todo target = todo(3);
+        Todo first = todo(1);
+        Todo second = todo(2);
+        when(todoRepository.findByIdAndProjectId(5L, PROJECT_ID)).thenReturn(Optional.of(target));
+        when(todoRepository.countByProjectId(PROJECT_ID)).thenReturn(4L);
+        when(todoRepository.findByProjectIdAndOrderIndexBetween(PROJECT_ID, 1, 2)).thenReturn(List.of(first, second));
+
+        service.move(WORKSPACE_ID, PROJECT_ID, MEMBER_ID, 5L, new MoveTodoRequest(1));
+
+        assertThat(target.getOrderIndex()).isEqualTo(1);
+        assertThat(first.getOrderIndex()).isEqualTo(2);
+        assertThat(second.getOrderIndex()).isEqualTo(3);
+        verify(projectRepository).findByIdAndWorkspaceIdForUpdate(PROJECT_ID, WORKSPACE_ID);
+        assertThat(publishedType()).isEqualTo(TodoChangedEvent.Type.MOVED);
+    }
+
+    @Test
+    void move_past_the_end_of_the_project_is_rejected() {
+        when(todoRepository.findByIdAndProjectId(5L, PROJECT_ID)).thenReturn(Optional.of(todo(0)));
+        when(todoRepository.countByProjectId(PROJECT_ID)).thenReturn(3L);
+
+        assertThatThrownBy(() -> service.move(WORKSPACE_ID, PROJECT_ID, MEMBER_ID, 5L, new MoveTodoRequest(3)))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(todoRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void any_member_can_edit_a_todo_they_did_not_create() {
+        Todo todo = todo(0);
+        when(todoRepository.findByIdAndProjectId(5L, PROJECT_ID)).thenReturn(Optional.of(todo));
+
+        Todo updated = service.updateTodo(WORKSPACE_ID, PROJECT_ID, MEMBER_ID, 5L, new UpdateTodoRequest("renamed", "body"));
+
+        assertThat(updated.getTitle()).isEqualTo("renamed");
+        assertThat(publishedType()).isEqualTo(TodoChangedEvent.Type.UPDATED);
+    }
+
+    @Test
+    void any_member_can_complete_a_todo_and_its_subtasks() {
+        Todo todo = todo(0);
+        when(todoRepository.findByIdAndProjectId(5L, PROJECT_ID)).thenReturn(Optional.of(todo));
+
+        service.toggleTodoComplete(WORKSPACE_ID, PROJECT_ID, MEMBER_ID, 5L);
+
+        assertThat(todo.isCompleted()).isTrue();
+        verify(todoHierarchyService).completeDescendants(todo, MEMBER_ID);
+    }
+
+    @Test
+    void completing_a_todo_moves_it_to_the_end_of_the_done_column() {
+        Todo todo = todo(0);
+        when(todoRepository.findByIdAndProjectId(5L, PROJECT_ID)).thenReturn(Optional.of(todo));
+        when(todoRepository.findMaxProjectBoardRank(PROJECT_ID, TodoStatus.DONE)).thenReturn(3 * BoardRanks.GAP);
+        when(todoRepository.findMaxProjectBoardRank(PROJECT_ID, TodoStatus.TODO)).thenReturn(7 * BoardRanks.GAP);
+
+        service.toggleTodoComplete(WORKSPACE_ID, PROJECT_ID, MEMBER_ID, 5L);
+        assertThat(todo.getStatus()).isEqualTo(TodoStatus.DONE);
+        assertThat(todo.getBoardRank()).isEqualTo(4 * BoardRanks.GAP);
+
+        service.toggleTodoComplete(WORKSPACE_ID, PROJECT_ID, MEMBER_ID, 5L);
+        assertThat(todo.isCompleted()).isFalse();
+        assertThat(todo.getStatus()).isEqualTo(TodoStatus.TODO);
+        assertThat(todo.getBoardRank()).isEqualTo(8 * BoardRanks.GAP);
+    }
+
+    @Test
+    void assignees_must_be_active_members_of_the_workspace() {
+        when(todoRepository.countByProjectId(PROJECT_ID)).thenReturn(0L);
+        when(workspaceAuthorization.findActiveMember(WORKSPACE_ID, OUTSIDER_ID)).thenReturn(Optional.empty());
+        CreateTodoRequest request = new CreateTodoRequest("title", null, null, null, List.of(OUTSIDER_ID), null);
+
+        assertThatThrownBy(() -> service.createTodo(WORKSPACE_ID, PROJECT_ID, MEMBER_ID, request))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(todoRepository, never()).save(any(Todo.class));
+    }
+
+    @Test
+    void reassigning_a_project_todo_accepts_only_active_members() {
+        Todo todo = todo(0);
+        User member = User.builder()
+                .name("member")
+                .email("member@example.com")
+                .password("12345678")
+                .build();
+        when(todoRepository.findByIdAndProjectId(5L, PROJECT_ID)).thenReturn(Optional.of(todo));
+        when(workspaceAuthorization.findActiveMember(WORKSPACE_ID, OUTSIDER_ID)).thenReturn(Optional.empty());
+        when(workspaceAuthorization.findActiveMember(WORKSPACE_ID, MEMBER_ID)).thenReturn(Optional.of(
+                new WorkspaceMembership(7L, WORKSPACE_ID, MEMBER_ID, WorkspaceMember.Role.MEMBER,
+                        WorkspaceMember.Status.ACTIVE, Instant.now(), Instant.now())));
+        when(userRepository.getReferenceById(MEMBER_ID)).thenReturn(member);
+
+        assertThatThrownBy(() -> service.updateAssignees(WORKSPACE_ID, PROJECT_ID, MEMBER_ID, 5L,
+                new UpdateAssigneesRequest(List.of(MEMBER_ID, OUTSIDER_ID))))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(todoRepository, never()).save(any(Todo.class));
+
+        Todo updated = service.updateAssignees(WORKSPACE_ID, PROJECT_ID, MEMBER_ID, 5L,
+                new UpdateAssigneesRequest(List.of(MEMBER_ID)));
+
+        assertThat(updated.getAssignees()).extracting(TodoAssignee::getUser).containsExactly(member);
+        assertThat(publishedType()).isEqualTo(TodoChangedEvent.Type.ASSIGNEES_CHANGED);
+    }
+
+    @Test
+    void any_member_can_change_due_date_and_priority_of_a_project_todo() {
+        Todo todo = todo(0);
+        Instant dueDate = Instant.parse("2026-11-01T00:00:00Z");
+        when(todoRepository.findByIdAndProjectId(5L, PROJECT_ID)).thenReturn(Optional.of(todo));
+
+        service.updateDueDate(WORKSPACE_ID, PROJECT_ID, MEMBER_ID, 5L, new UpdateDueDateRequest(dueDate));
+        service.updatePriority(WORKSPACE_ID, PROJECT_ID, MEMBER_ID, 5L, TodoPriority.URGENT);
+
+        assertThat(todo.getDueDate()).isEqualTo(dueDate);
+        assertThat(todo.getPriority()).isEqualTo(TodoPriority.URGENT);
+        verify(workspaceAuthorization, times(2)).requireActiveMember(WORKSPACE_ID, MEMBER_ID);
+    }
+
+    private TodoChangedEvent.Type publishedType() {
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        return ((TodoChangedEvent) captor.getValue()).type();
+    }
+
+    private Todo todo(int orderIndex) {
+        return Todo.builder()
+                .user(creator)
+                .project(project)
+                .title("todo " + orderIndex)
+                .orderIndex(orderIndex)
+                .build();
+    }
+}
@@ -0,0 +1,73 @@
+package com.chep.demo.todo.service.todo;
+
+import com.chep.demo.todo.domain.project.ProjectRepository;
+import com.chep.demo.todo.domain.todo.Todo;
+import com.chep.demo.todo.domain.todo.TodoRepository;
+import com.chep.demo.todo.domain.todo.TodoStatus;
+import com.chep.demo.todo.domain.user.User;
+import com.chep.demo.todo.service.workspace.WorkspaceAuthorization;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TodoBoardServiceTest {
+    private static final Long OWNER_ID = 100L;
+    private static final Long TODO_ID = 5L;
+
+    private TodoRepository todoRepository;
+    private TodoHierarchyService todoHierarchyService;
+    private TodoBoardService service;
+
+    private Todo todo;
+
+    @BeforeEach
+    void setUp() {
+        todoRepository = mock(TodoRepository.class);
+        todoHierarchyService = mock(TodoHierarchyService.class);
+        service = new TodoBoardService(todoRepository, mock(ProjectRepository.class), mock(WorkspaceAuthorization.class),
+                todoHierarchyService, mock(ApplicationEventPublisher.class));
+
+        User owner = User.builder()
+                .name("owner")
+                .email("owner@example.com")
+                .password("12345678")
+                .build();
+        ReflectionTestUtils.setField(owner, "id", OWNER_ID);
+        todo = Todo.builder()
+                .user(owner)
+                .title("parent")
+                .orderIndex(0)
+                .build();
+        ReflectionTestUtils.setField(todo, "id", TODO_ID);
+
+        when(todoRepository.findByIdAndUserIdAndProjectIsNull(TODO_ID, OWNER_ID)).thenReturn(Optional.of(todo));
+        when(todoRepository.save(any(Todo.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void moving_a_card_into_done_completes_its_subtasks() {
+        service.movePersonalCard(OWNER_ID, TODO_ID, TodoStatus.DONE, null);
+
+        assertThat(todo.isCompleted()).isTrue();
+        verify(todoHierarchyService).completeDescendants(todo, OWNER_ID);
+    }
+
+    @Test
+    void moving_a_card_between_open_columns_leaves_subtasks_alone() {
+        service.movePersonalCard(OWNER_ID, TODO_ID, TodoStatus.IN_PROGRESS, null);
+
+        assertThat(todo.isCompleted()).isFalse();
+        verify(todoHierarchyService, never()).completeDescendants(any(Todo.class), anyLong());
+    }
+}
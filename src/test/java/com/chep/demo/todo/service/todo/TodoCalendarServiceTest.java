@@ -0,0 +1,46 @@
+package com.chep.demo.todo.service.todo;
+
+import com.chep.demo.todo.domain.todo.TodoRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class TodoCalendarServiceTest {
+    private static final LocalDate FROM = LocalDate.of(2025, 3, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 4, 1);
+
+    private final TodoCalendarService service = new TodoCalendarService(mock(TodoRepository.class));
+
+    @Test
+    void region_ids_set_the_day_boundaries() {
+        CalendarRange range = service.range(FROM, TO, "Asia/Seoul");
+
+        assertThat(range.start()).isEqualTo(Instant.parse("2025-02-28T15:00:00Z"));
+        assertThat(range.end()).isEqualTo(Instant.parse("2025-03-31T15:00:00Z"));
+    }
+
+    @Test
+    void utc_is_accepted() {
+        assertThat(service.range(FROM, TO, "UTC").start()).isEqualTo(Instant.parse("2025-03-01T00:00:00Z"));
+    }
+
+    @Test
+    void offsets_are_rejected_because_the_database_flips_their_sign() {
+        for (String zone : new String[]{"+09:00", "Z", "UTC+09:00", "GMT+9"}) {
+            assertThatThrownBy(() -> service.range(FROM, TO, zone))
+                    .as(zone)
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    void unknown_region_ids_are_rejected() {
+        assertThatThrownBy(() -> service.range(FROM, TO, "Mars/Base"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,173 @@
+package com.chep.demo.todo.service.todo;
+
+import com.chep.demo.todo.domain.project.Project;
+import com.chep.demo.todo.domain.project.ProjectRepository;
+import com.chep.demo.todo.domain.todo.BoardRanks;
+import com.chep.demo.todo.domain.todo.Todo;
+import com.chep.demo.todo.domain.todo.TodoClosureRepository;
+import com.chep.demo.todo.domain.todo.TodoRepository;
+import com.chep.demo.todo.domain.todo.TodoStatus;
+import com.chep.demo.todo.domain.todo.event.TodoChangedEvent;
+import com.chep.demo.todo.domain.user.User;
+import com.chep.demo.todo.domain.user.UserRepository;
+import com.chep.demo.todo.domain.workspace.Workspace;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class TodoHierarchyServiceTest {
+    private static final Long OWNER_ID = 100L;
+
+    private TodoRepository todoRepository;
+    private TodoClosureRepository todoClosureRepository;
+    private UserRepository userRepository;
+    private TodoAccess todoAccess;
+    private ApplicationEventPublisher eventPublisher;
+    private TodoHierarchyService service;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        todoRepository = mock(TodoRepository.class);
+        todoClosureRepository = mock(TodoClosureRepository.class);
+        userRepository = mock(UserRepository.class);
+        todoAccess = mock(TodoAccess.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        service = new TodoHierarchyService(todoRepository, todoClosureRepository, mock(ProjectRepository.class),
+                userRepository, todoAccess, eventPublisher);
+
+        owner = User.builder()
+                .name("owner")
+                .email("owner@example.com")
+                .password("12345678")
+                .build();
+        ReflectionTestUtils.setField(owner, "id", OWNER_ID);
+        when(userRepository.findByIdForUpdate(OWNER_ID)).thenReturn(Optional.of(owner));
+    }
+
+    @Test
+    void move_detaches_the_subtree_then_attaches_it_under_the_new_parent() {
+        Todo root = personalTodo(1L);
+        Todo parent = personalTodo(2L);
+
+        Todo moved = service.moveSubtree(OWNER_ID, 1L, 2L);
+
+        assertThat(moved.getParent()).isSameAs(parent);
+        InOrder order = inOrder(userRepository, todoClosureRepository);
+        order.verify(userRepository).findByIdForUpdate(OWNER_ID);
+        order.verify(todoClosureRepository).existsByIdAncestorIdAndIdDescendantId(1L, 2L);
+        order.verify(todoClosureRepository).detachSubtree(1L);
+        order.verify(todoClosureRepository).attachSubtree(1L, 2L);
+        assertThat(publishedEvents()).containsExactly(
+                new TodoChangedEvent(root.getId(), OWNER_ID, null, TodoChangedEvent.Type.MOVED));
+    }
+
+    @Test
+    void move_to_top_level_only_detaches() {
+        Todo root = personalTodo(1L);
+        root.changeParent(personalTodo(2L));
+
+        service.moveSubtree(OWNER_ID, 1L, null);
+
+        assertThat(root.getParent()).isNull();
+        verify(todoClosureRepository).detachSubtree(1L);
+        verify(todoClosureRepository, never()).attachSubtree(anyLong(), anyLong());
+    }
+
+    @Test
+    void move_under_its_own_descendant_is_rejected() {
+        personalTodo(1L);
+        personalTodo(3L);
+        when(todoClosureRepository.existsByIdAncestorIdAndIdDescendantId(1L, 3L)).thenReturn(true);
+
+        assertThatThrownBy(() -> service.moveSubtree(OWNER_ID, 1L, 3L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.moveSubtree(OWNER_ID, 1L, 1L))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verify(todoClosureRepository, never()).detachSubtree(anyLong());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void move_into_another_list_is_rejected() {
+        personalTodo(1L);
+        Project project = Project.of(Workspace.of(owner, "team", null), owner, "board", null);
+        ReflectionTestUtils.setField(project, "id", 10L);
+        Todo projectTodo = Todo.builder()
+                .user(owner)
+                .project(project)
+                .title("project todo")
+                .orderIndex(0)
+                .build();
+        ReflectionTestUtils.setField(projectTodo, "id", 4L);
+        when(todoAccess.requireAccessible(OWNER_ID, 4L)).thenReturn(projectTodo);
+
+        assertThatThrownBy(() -> service.moveSubtree(OWNER_ID, 1L, 4L))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(todoClosureRepository, never()).detachSubtree(anyLong());
+    }
+
+    @Test
+    void completing_descendants_appends_them_to_the_done_column_and_publishes_each() {
+        Todo root = personalTodo(1L);
+        when(todoClosureRepository.findIncompleteDescendantIds(1L)).thenReturn(List.of(7L, 8L));
+        when(todoRepository.findMaxPersonalBoardRank(OWNER_ID, TodoStatus.DONE)).thenReturn(2 * BoardRanks.GAP);
+        when(todoClosureRepository.completeTodos(eq(List.of(7L, 8L)), anyLong(), anyLong(), any())).thenReturn(2);
+
+        int completed = service.completeDescendants(root, OWNER_ID);
+
+        assertThat(completed).isEqualTo(2);
+        verify(todoClosureRepository).completeTodos(eq(List.of(7L, 8L)), eq(3 * BoardRanks.GAP), eq(BoardRanks.GAP), any());
+        assertThat(publishedEvents()).containsExactly(
+                new TodoChangedEvent(7L, OWNER_ID, null, TodoChangedEvent.Type.COMPLETION_CHANGED),
+                new TodoChangedEvent(8L, OWNER_ID, null, TodoChangedEvent.Type.COMPLETION_CHANGED));
+    }
+
+    @Test
+    void completing_without_open_descendants_does_nothing() {
+        Todo root = personalTodo(1L);
+        when(todoClosureRepository.findIncompleteDescendantIds(1L)).thenReturn(List.of());
+
+        assertThat(service.completeDescendants(root, OWNER_ID)).isZero();
+        verify(todoClosureRepository, never()).completeTodos(any(), anyLong(), anyLong(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private List<Object> publishedEvents() {
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, atLeastOnce()).publishEvent(captor.capture());
+        return captor.getAllValues();
+    }
+
+    private Todo personalTodo(Long id) {
+        Todo todo = Todo.builder()
+                .user(owner)
+                .title("todo " + id)
+                .orderIndex(id.intValue())
+                .build();
+        ReflectionTestUtils.setField(todo, "id", id);
+        when(todoAccess.requireAccessible(OWNER_ID, id)).thenReturn(todo);
+        return todo;
+    }
+}
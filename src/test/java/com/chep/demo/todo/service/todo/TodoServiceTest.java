@@ -0,0 +1,59 @@
+package com.chep.demo.todo.service.todo;
+
+import com.chep.demo.todo.domain.todo.TodoPriority;
+import com.chep.demo.todo.domain.todo.TodoRepository;
+import com.chep.demo.todo.domain.user.UserRepository;
+import com.chep.demo.todo.dto.todo.UpdateAssigneesRequest;
+import com.chep.demo.todo.dto.todo.UpdateDueDateRequest;
+import com.chep.demo.todo.exception.todo.TodoNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class TodoServiceTest {
+    private static final Long USER_ID = 100L;
+    private static final Long PROJECT_TODO_ID = 5L;
+
+    private TodoRepository todoRepository;
+    private UserRepository userRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private TodoService service;
+
+    @BeforeEach
+    void setUp() {
+        todoRepository = mock(TodoRepository.class);
+        userRepository = mock(UserRepository.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        service = new TodoService(todoRepository, userRepository, mock(TodoHierarchyService.class), eventPublisher);
+
+        // 작성자 본인이어도 프로젝트 Todo는 개인 Todo 조회에 걸리지 않는다.
+        when(todoRepository.findByIdAndUserIdAndProjectIsNull(PROJECT_TODO_ID, USER_ID)).thenReturn(Optional.empty());
+    }
+
+    @Test
+    void personal_endpoints_do_not_reach_project_todos() {
+        assertThatThrownBy(() -> service.updateAssignees(USER_ID, PROJECT_TODO_ID,
+                new UpdateAssigneesRequest(List.of(999L))))
+                .isInstanceOf(TodoNotFoundException.class);
+        assertThatThrownBy(() -> service.updateDueDate(USER_ID, PROJECT_TODO_ID,
+                new UpdateDueDateRequest(Instant.now())))
+                .isInstanceOf(TodoNotFoundException.class);
+        assertThatThrownBy(() -> service.updatePriority(USER_ID, PROJECT_TODO_ID, TodoPriority.HIGH))
+                .isInstanceOf(TodoNotFoundException.class);
+
+        verify(todoRepository, never()).findByIdAndUserId(anyLong(), anyLong());
+        verifyNoInteractions(userRepository, eventPublisher);
+    }
+}
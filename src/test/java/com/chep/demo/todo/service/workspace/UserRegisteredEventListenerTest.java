@@ -0,0 +1,54 @@
+package com.chep.demo.todo.service.workspace;
+
+import com.chep.demo.todo.domain.project.Project;
+import com.chep.demo.todo.domain.project.ProjectRepository;
+import com.chep.demo.todo.domain.user.User;
+import com.chep.demo.todo.domain.user.UserRepository;
+import com.chep.demo.todo.domain.user.event.UserRegisteredEvent;
+import com.chep.demo.todo.domain.workspace.Workspace;
+import com.chep.demo.todo.domain.workspace.WorkspaceRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserRegisteredEventListenerTest {
+    private static final Long USER_ID = 1L;
+
+    @Test
+    void redelivered_event_creates_the_personal_workspace_once() {
+        WorkspaceRepository workspaceRepository = mock(WorkspaceRepository.class);
+        ProjectRepository projectRepository = mock(ProjectRepository.class);
+        UserRepository userRepository = mock(UserRepository.class);
+        UserRegisteredEventListener listener =
+                new UserRegisteredEventListener(workspaceRepository, projectRepository, userRepository);
+
+        // 저장된 Personal Workspace 수를 repository 상태로 흉내 낸다.
+        AtomicInteger personalWorkspaces = new AtomicInteger();
+        when(userRepository.getReferenceById(USER_ID)).thenReturn(User.builder()
+                .name("user")
+                .email("user@example.com")
+                .password("12345678")
+                .build());
+        when(workspaceRepository.existsByOwnerIdAndPersonalTrue(USER_ID))
+                .thenAnswer(invocation -> personalWorkspaces.get() > 0);
+        when(workspaceRepository.save(any(Workspace.class))).thenAnswer(invocation -> {
+            personalWorkspaces.incrementAndGet();
+            return invocation.getArgument(0);
+        });
+
+        // OutboxRelay는 최소 한 번 전달하므로 같은 이벤트가 다시 올 수 있다.
+        UserRegisteredEvent event = new UserRegisteredEvent(USER_ID);
+        listener.handleUserRegistered(event);
+        listener.handleUserRegistered(event);
+
+        assertThat(personalWorkspaces).hasValue(1);
+        verify(projectRepository, times(1)).save(any(Project.class));
+    }
+}
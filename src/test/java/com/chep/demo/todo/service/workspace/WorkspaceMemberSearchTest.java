@@ -0,0 +1,90 @@
+package com.chep.demo.todo.service.workspace;
+
+import com.chep.demo.todo.domain.user.UserRepository;
+import com.chep.demo.todo.domain.workspace.WorkspaceMember;
+import com.chep.demo.todo.domain.workspace.WorkspaceMemberMatch;
+import com.chep.demo.todo.domain.workspace.WorkspaceMemberRepository;
+import com.chep.demo.todo.domain.workspace.WorkspaceMemberView;
+import com.chep.demo.todo.domain.workspace.WorkspaceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class WorkspaceMemberSearchTest {
+    private static final Long WORKSPACE_ID = 1L;
+    private static final Long USER_ID = 100L;
+
+    private WorkspaceMemberRepository workspaceMemberRepository;
+    private WorkspaceService service;
+
+    @BeforeEach
+    void setUp() {
+        workspaceMemberRepository = mock(WorkspaceMemberRepository.class);
+        service = new WorkspaceService(mock(WorkspaceRepository.class), workspaceMemberRepository,
+                mock(UserRepository.class), mock(WorkspaceAuthorization.class), mock(ApplicationEventPublisher.class));
+    }
+
+    @Test
+    void search_continues_from_name_matches_into_email_matches() {
+        when(workspaceMemberRepository.searchActiveByNamePrefix(WORKSPACE_ID, "ki%", "", 0L, 3))
+                .thenReturn(List.of(match(11L, "kim")));
+        when(workspaceMemberRepository.searchActiveByEmailPrefix(WORKSPACE_ID, "ki%", "", 0L, 2))
+                .thenReturn(List.of(match(12L, "kiki@example.com"), match(13L, "kite@example.com")));
+
+        WorkspaceMemberPage first = service.getMembers(WORKSPACE_ID, USER_ID, null, 2, "Ki");
+
+        assertThat(first.members()).extracting(WorkspaceMemberView::userId).containsExactly(11L, 12L);
+        assertThat(first.nextCursor()).isEqualTo("e:12:kiki@example.com");
+
+        when(workspaceMemberRepository.searchActiveByEmailPrefix(WORKSPACE_ID, "ki%", "kiki@example.com", 12L, 3))
+                .thenReturn(List.of(match(13L, "kite@example.com")));
+
+        WorkspaceMemberPage second = service.getMembers(WORKSPACE_ID, USER_ID, first.nextCursor(), 2, "Ki");
+
+        assertThat(second.members()).extracting(WorkspaceMemberView::userId).containsExactly(13L);
+        assertThat(second.nextCursor()).isNull();
+        verify(workspaceMemberRepository, never())
+                .searchActiveByNamePrefix(WORKSPACE_ID, "ki%", "kiki@example.com", 12L, 3);
+    }
+
+    @Test
+    void name_page_that_fills_up_does_not_touch_emails() {
+        when(workspaceMemberRepository.searchActiveByNamePrefix(WORKSPACE_ID, "a%", "", 0L, 2))
+                .thenReturn(List.of(match(21L, "ann:x"), match(22L, "anna")));
+
+        WorkspaceMemberPage page = service.getMembers(WORKSPACE_ID, USER_ID, null, 1, "a");
+
+        assertThat(page.nextCursor()).isEqualTo("n:21:ann:x");
+        verify(workspaceMemberRepository, never())
+                .searchActiveByEmailPrefix(anyLong(), anyString(), anyString(), anyLong(), anyInt());
+    }
+
+    @Test
+    void malformed_cursor_is_rejected() {
+        assertThatThrownBy(() -> service.getMembers(WORKSPACE_ID, USER_ID, "x:1:kim", 10, "kim"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.getMembers(WORKSPACE_ID, USER_ID, "n:1:kim", 10, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private WorkspaceMemberMatch match(Long userId, String sortKey) {
+        return new WorkspaceMemberMatch(
+                new WorkspaceMemberView(userId + 1000, userId, sortKey, sortKey, WorkspaceMember.Role.MEMBER,
+                        WorkspaceMember.Status.ACTIVE, Instant.now()),
+                sortKey
+        );
+    }
+}